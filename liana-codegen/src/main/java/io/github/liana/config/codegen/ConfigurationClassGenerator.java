@@ -0,0 +1,327 @@
+package io.github.liana.config.codegen;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.SourceVersion;
+
+/**
+ * Generates the Java source of a class holding a resolved configuration tree.
+ *
+ * <p>The generated class exposes:
+ * <ul>
+ *   <li>a {@code public static final} constant for every string, boolean, and numeric leaf that
+ *       fits a primitive, named after its path ({@code server.port} becomes
+ *       {@code SERVER_PORT}); these are compile-time constants that callers can reference
+ *       directly and the compiler and JIT can fold, and</li>
+ *   <li>a {@code configuration()} method returning the whole tree as a
+ *       {@code PrecompiledConfiguration}, built lazily from the constants on first call.</li>
+ * </ul>
+ *
+ * <p>The generated code depends only on the liana API and the JDK. Every map and list is built
+ * in its own method, and large ones are filled in chunks, so that no generated method approaches
+ * the JVM's code size limit. A string too long for a single class file constant, which holds at
+ * most 65535 bytes of modified UTF-8, is assembled at run time from shorter literals instead;
+ * such a leaf gets no constant. Constant names are cut to 255 characters.
+ *
+ * <p>Instances are stateless and thread-safe.
+ */
+public final class ConfigurationClassGenerator {
+
+  private static final int CHUNK_SIZE = 256;
+  private static final int MAXIMUM_CONSTANT_BYTES = 65535;
+  private static final int TEXT_CHUNK_LENGTH = MAXIMUM_CONSTANT_BYTES / 3;
+  private static final int MAXIMUM_NAME_LENGTH = 255;
+  private static final String INDENT = "  ";
+
+  /**
+   * Generates the source of a class named {@code qualifiedName} holding {@code tree}.
+   *
+   * @param qualifiedName the fully qualified name of the class; must not be {@code null}
+   * @param tree          the resolved configuration tree, as returned by
+   *                      {@code Configuration.getRootAsMap()}; must not be {@code null}
+   * @return the Java source of the class
+   * @throws NullPointerException     if any argument is {@code null}
+   * @throws IllegalArgumentException if {@code qualifiedName} is not a valid class name, for
+   *                                  example because a part of it is a Java keyword, or the
+   *                                  tree contains an unsupported value type
+   */
+  public String generate(String qualifiedName, Map<String, Object> tree) {
+    requireNonNull(qualifiedName, "qualifiedName must not be null");
+    requireNonNull(tree, "tree must not be null");
+    int dot = qualifiedName.lastIndexOf('.');
+    String packageName = dot < 0 ? "" : qualifiedName.substring(0, dot);
+    String simpleName = qualifiedName.substring(dot + 1);
+    if (!isQualifiedIdentifier(qualifiedName)) {
+      throw new IllegalArgumentException("invalid class name: " + qualifiedName);
+    }
+
+    var state = new State();
+    String root = state.container(tree, "");
+
+    var out = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      out.append("package ").append(packageName).append(";\n\n");
+    }
+    out.append("import io.github.liana.config.api.Configuration;\n")
+        .append("import io.github.liana.config.core.PrecompiledConfiguration;\n")
+        .append("import java.util.ArrayList;\n")
+        .append("import java.util.LinkedHashMap;\n")
+        .append("import java.util.List;\n")
+        .append("import java.util.Map;\n\n")
+        .append("/**\n")
+        .append(" * Configuration resolved at build time by liana-codegen. Do not edit.\n")
+        .append(" */\n")
+        .append("@SuppressWarnings(\"all\")\n")
+        .append("public final class ").append(simpleName).append(" {\n\n");
+    for (String constant : state.constants) {
+      out.append(INDENT).append(constant).append('\n');
+    }
+    if (!state.constants.isEmpty()) {
+      out.append('\n');
+    }
+    out.append(INDENT).append("private ").append(simpleName).append("() {\n")
+        .append(INDENT).append("}\n\n")
+        .append(INDENT).append("/**\n")
+        .append(INDENT).append(" * Returns the resolved configuration.\n")
+        .append(INDENT).append(" *\n")
+        .append(INDENT).append(" * @return the configuration; never {@code null}\n")
+        .append(INDENT).append(" */\n")
+        .append(INDENT).append("public static Configuration configuration() {\n")
+        .append(INDENT).append(INDENT).append("return Holder.CONFIGURATION;\n")
+        .append(INDENT).append("}\n\n")
+        .append(INDENT).append("private static final class Holder {\n\n")
+        .append(INDENT).append(INDENT)
+        .append("private static final Configuration CONFIGURATION =\n")
+        .append(INDENT).append(INDENT).append(INDENT).append(INDENT)
+        .append("new PrecompiledConfiguration(").append(root).append(");\n")
+        .append(INDENT).append("}\n");
+    for (String method : state.methods) {
+      out.append('\n').append(method);
+    }
+    out.append("}\n");
+    return out.toString();
+  }
+
+  private static boolean isQualifiedIdentifier(String name) {
+    for (String part : name.split("\\.", -1)) {
+      if (part.isEmpty() || !Character.isJavaIdentifierStart(part.charAt(0))
+          || !part.chars().allMatch(Character::isJavaIdentifierPart)
+          || SourceVersion.isKeyword(part)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static final class State {
+
+    private final List<String> constants = new ArrayList<>();
+    private final List<String> methods = new ArrayList<>();
+    private final Set<String> constantNames = new HashSet<>();
+    private int methodCount;
+
+    /**
+     * Emits the methods building {@code value} and returns the expression that invokes them.
+     */
+    private String container(Object value, String path) {
+      String name = "node" + methodCount++;
+      boolean isMap = value instanceof Map<?, ?>;
+      String type = isMap ? "Map<String, Object>" : "List<Object>";
+      String variable = isMap ? "map" : "list";
+      List<String> statements = new ArrayList<>();
+      if (isMap) {
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+          String key = String.valueOf(entry.getKey());
+          statements.add("map.put(" + text(key) + ", "
+              + expression(entry.getValue(), join(path, key)) + ");");
+        }
+      } else {
+        int index = 0;
+        for (Object element : (List<?>) value) {
+          statements.add("list.add(" + expression(element, path + "_" + index++) + ");");
+        }
+      }
+
+      var method = new StringBuilder();
+      method.append(INDENT).append("private static ").append(type).append(' ').append(name)
+          .append("() {\n")
+          .append(INDENT).append(INDENT).append(type).append(' ').append(variable).append(" = new ")
+          .append(isMap ? "LinkedHashMap<>(" : "ArrayList<>(").append(statements.size())
+          .append(");\n");
+      for (int start = 0; start < statements.size(); start += CHUNK_SIZE) {
+        List<String> chunk =
+            statements.subList(start, Math.min(start + CHUNK_SIZE, statements.size()));
+        if (statements.size() <= CHUNK_SIZE) {
+          chunk.forEach(s -> method.append(INDENT).append(INDENT).append(s).append('\n'));
+        } else {
+          String part = name + "Part" + start / CHUNK_SIZE;
+          method.append(INDENT).append(INDENT).append(part).append('(').append(variable)
+              .append(");\n");
+          var partMethod = new StringBuilder();
+          partMethod.append(INDENT).append("private static void ").append(part).append('(')
+              .append(type).append(' ').append(variable).append(") {\n");
+          chunk.forEach(s -> partMethod.append(INDENT).append(INDENT).append(s).append('\n'));
+          partMethod.append(INDENT).append("}\n");
+          methods.add(partMethod.toString());
+        }
+      }
+      method.append(INDENT).append(INDENT).append("return ").append(variable).append(";\n")
+          .append(INDENT).append("}\n");
+      methods.add(method.toString());
+      return name + "()";
+    }
+
+    private String expression(Object value, String path) {
+      if (value == null) {
+        return "null";
+      }
+      if (value instanceof Map<?, ?> || value instanceof List<?>) {
+        return container(value, path);
+      }
+      if (value instanceof String text) {
+        return fitsConstant(text) ? constant("String", literal(text), path) : text(text);
+      }
+      if (value instanceof Boolean bool) {
+        return constant("boolean", bool.toString(), path);
+      }
+      if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+        return constant("int", value.toString(), path);
+      }
+      if (value instanceof Long number) {
+        return constant("long", number + "L", path);
+      }
+      if (value instanceof Double || value instanceof Float) {
+        return constant("double", doubleLiteral(((Number) value).doubleValue()), path);
+      }
+      if (value instanceof BigInteger number) {
+        return "new java.math.BigInteger(" + literal(number.toString()) + ")";
+      }
+      if (value instanceof BigDecimal number) {
+        return "new java.math.BigDecimal(" + literal(number.toString()) + ")";
+      }
+      throw new IllegalArgumentException(
+          "unsupported value at " + path + ": " + value.getClass().getName());
+    }
+
+    private String constant(String type, String literal, String path) {
+      String base = constantName(path);
+      String name = base;
+      for (int i = 2; !constantNames.add(name); i++) {
+        name = base + "_" + i;
+      }
+      constants.add("public static final " + type + " " + name + " = " + literal + ";");
+      return name;
+    }
+
+    /**
+     * Returns an expression evaluating to {@code value}: a literal if it fits a class file
+     * constant, otherwise a call to a method appending literals short enough that none can
+     * exceed the limit.
+     */
+    private String text(String value) {
+      if (fitsConstant(value)) {
+        return literal(value);
+      }
+      String name = "text" + methodCount++;
+      var method = new StringBuilder();
+      method.append(INDENT).append("private static String ").append(name).append("() {\n")
+          .append(INDENT).append(INDENT).append("return new StringBuilder(")
+          .append(value.length()).append(")\n");
+      for (int start = 0; start < value.length(); start += TEXT_CHUNK_LENGTH) {
+        String chunk = value.substring(start, Math.min(start + TEXT_CHUNK_LENGTH, value.length()));
+        method.append(INDENT).append(INDENT).append(INDENT).append(INDENT)
+            .append(".append(").append(literal(chunk)).append(")\n");
+      }
+      method.append(INDENT).append(INDENT).append(INDENT).append(INDENT)
+          .append(".toString();\n")
+          .append(INDENT).append("}\n");
+      methods.add(method.toString());
+      return name + "()";
+    }
+
+    /**
+     * Tells whether the modified UTF-8 encoding of {@code value}, as stored in a class file,
+     * fits a single constant.
+     */
+    private static boolean fitsConstant(String value) {
+      if (value.length() <= TEXT_CHUNK_LENGTH) {
+        return true;
+      }
+      long bytes = 0;
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        bytes += c != 0 && c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+      }
+      return bytes <= MAXIMUM_CONSTANT_BYTES;
+    }
+
+    private static String join(String path, String key) {
+      return path.isEmpty() ? key : path + "." + key;
+    }
+
+    private static String constantName(String path) {
+      var name = new StringBuilder();
+      char previous = '_';
+      for (int i = 0; i < path.length(); i++) {
+        char c = path.charAt(i);
+        if (Character.isLetterOrDigit(c) && c < 128) {
+          if (Character.isUpperCase(c) && Character.isLowerCase(previous)) {
+            name.append('_');
+          }
+          name.append(Character.toUpperCase(c));
+        } else if (name.length() > 0 && name.charAt(name.length() - 1) != '_') {
+          name.append('_');
+        }
+        previous = c;
+      }
+      name.setLength(Math.min(name.length(), MAXIMUM_NAME_LENGTH));
+      while (name.length() > 0 && name.charAt(name.length() - 1) == '_') {
+        name.setLength(name.length() - 1);
+      }
+      if (name.length() == 0 || Character.isDigit(name.charAt(0))) {
+        name.insert(0, "VALUE_");
+      }
+      return name.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private static String doubleLiteral(double value) {
+      if (Double.isNaN(value)) {
+        return "Double.NaN";
+      }
+      if (Double.isInfinite(value)) {
+        return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+      }
+      return Double.toString(value) + "d";
+    }
+
+    private static String literal(String value) {
+      var out = new StringBuilder("\"");
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        switch (c) {
+          case '"' -> out.append("\\\"");
+          case '\\' -> out.append("\\\\");
+          case '\n' -> out.append("\\n");
+          case '\r' -> out.append("\\r");
+          case '\t' -> out.append("\\t");
+          default -> {
+            if (c < 0x20 || c > 0x7e) {
+              out.append(String.format("\\u%04x", (int) c));
+            } else {
+              out.append(c);
+            }
+          }
+        }
+      }
+      return out.append('"').toString();
+    }
+  }
+}
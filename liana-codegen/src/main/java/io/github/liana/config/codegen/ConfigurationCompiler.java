@@ -0,0 +1,142 @@
+package io.github.liana.config.codegen;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.api.ConfigurationManager;
+import io.github.liana.config.api.ResourceLocation;
+import io.github.liana.config.api.ResourceLocationBuilder;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Build-time entry point that resolves a configuration location and writes it out as a Java
+ * class.
+ *
+ * <p>The location is loaded through the regular pipeline, so resources are looked up on the
+ * classpath of the running JVM and the active profile is taken from the {@code LIANA_PROFILE}
+ * environment variable, exactly as at runtime. The result is handed to
+ * {@link ConfigurationClassGenerator} and written below the output directory according to the
+ * class's package.
+ *
+ * <p>Usage:
+ * <pre>
+ * ConfigurationCompiler --class com.example.AppConfig --output build/generated/liana
+ *     [--base-dir config]... [--resource application.yaml]... [--variable key=value]...
+ * </pre>
+ *
+ * <p>The process exits with status {@code 2} on invalid arguments and {@code 1} if the
+ * configuration cannot be loaded or written.
+ */
+public final class ConfigurationCompiler {
+
+  private static final String USAGE = "usage: ConfigurationCompiler --class <name> "
+      + "--output <dir> [--base-dir <dir>]... [--resource <name>]... [--variable <key=value>]...";
+
+  private final ConfigurationManager manager;
+  private final ConfigurationClassGenerator generator;
+
+  /**
+   * Creates a compiler that loads configurations with {@code manager}.
+   *
+   * @param manager   the manager that resolves locations; must not be {@code null}
+   * @param generator the generator that renders the resolved tree; must not be {@code null}
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  public ConfigurationCompiler(ConfigurationManager manager,
+      ConfigurationClassGenerator generator) {
+    this.manager = requireNonNull(manager, "manager must not be null");
+    this.generator = requireNonNull(generator, "generator must not be null");
+  }
+
+  /**
+   * Resolves {@code location} and writes the generated class below {@code outputDirectory}.
+   *
+   * @param location        the location to resolve; must not be {@code null}
+   * @param qualifiedName   the fully qualified name of the generated class; must not be
+   *                        {@code null}
+   * @param outputDirectory the root directory of generated sources; must not be {@code null}
+   * @return the written source file
+   * @throws NullPointerException if any argument is {@code null}
+   * @throws UncheckedIOException if the source file cannot be written
+   */
+  public Path compile(ResourceLocation location, String qualifiedName, Path outputDirectory) {
+    requireNonNull(location, "location must not be null");
+    requireNonNull(qualifiedName, "qualifiedName must not be null");
+    requireNonNull(outputDirectory, "outputDirectory must not be null");
+    Configuration configuration = manager.load(location);
+    String source = generator.generate(qualifiedName, configuration.getRootAsMap());
+
+    Path file = outputDirectory.resolve(qualifiedName.replace('.', '/') + ".java");
+    try {
+      Files.createDirectories(file.getParent());
+      Files.writeString(file, source, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("cannot write " + file, e);
+    }
+    return file;
+  }
+
+  /**
+   * Runs the compiler from the command line.
+   *
+   * @param args the command line arguments, see the class documentation
+   */
+  public static void main(String[] args) {
+    int status = run(args, System.out, System.err);
+    if (status != 0) {
+      System.exit(status);
+    }
+  }
+
+  static int run(String[] args, PrintStream out, PrintStream err) {
+    ResourceLocationBuilder location = ResourceLocation.builder();
+    String className = null;
+    Path output = null;
+    try {
+      for (int i = 0; i < args.length; i++) {
+        String option = args[i];
+        if (i + 1 >= args.length) {
+          throw new IllegalArgumentException("missing value for " + option);
+        }
+        String value = args[++i];
+        switch (option) {
+          case "--class" -> className = value;
+          case "--output" -> output = Path.of(value);
+          case "--base-dir" -> location.baseDirectories(value);
+          case "--resource" -> location.addResource(value);
+          case "--variable" -> {
+            int separator = value.indexOf('=');
+            if (separator <= 0) {
+              throw new IllegalArgumentException("expected key=value but was " + value);
+            }
+            location.addVariable(value.substring(0, separator), value.substring(separator + 1));
+          }
+          default -> throw new IllegalArgumentException("unknown option " + option);
+        }
+      }
+      if (className == null || output == null) {
+        throw new IllegalArgumentException("--class and --output are required");
+      }
+    } catch (IllegalArgumentException e) {
+      err.println(e.getMessage());
+      err.println(USAGE);
+      return 2;
+    }
+
+    try {
+      var compiler = new ConfigurationCompiler(ConfigurationManager.builder().build(),
+          new ConfigurationClassGenerator());
+      Path file = compiler.compile(location.build(), className, output);
+      out.println("generated " + file);
+      return 0;
+    } catch (RuntimeException e) {
+      err.println("cannot compile configuration: " + e.getMessage());
+      return 1;
+    }
+  }
+}
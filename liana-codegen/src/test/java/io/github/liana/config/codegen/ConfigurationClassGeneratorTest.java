@@ -0,0 +1,147 @@
+package io.github.liana.config.codegen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.liana.config.api.Configuration;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigurationClassGeneratorTest {
+
+  private final ConfigurationClassGenerator generator = new ConfigurationClassGenerator();
+
+  @TempDir
+  Path directory;
+
+  private Class<?> compile(String qualifiedName, String source) throws Exception {
+    Path file = directory.resolve(qualifiedName.replace('.', '/') + ".java");
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, source);
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    int status = compiler.run(null, null, null, "-d", directory.toString(),
+        "-cp", System.getProperty("java.class.path"), file.toString());
+    assertEquals(0, status, source);
+    var loader = new URLClassLoader(new URL[]{directory.toUri().toURL()},
+        getClass().getClassLoader());
+    return loader.loadClass(qualifiedName);
+  }
+
+  private static Map<String, Object> tree() {
+    Map<String, Object> server = new LinkedHashMap<>();
+    server.put("host", "local\"host\"\n");
+    server.put("port", 8080);
+    server.put("maxBytes", 5_000_000_000L);
+    server.put("ratio", 0.5d);
+    server.put("price", new BigDecimal("19.99"));
+    server.put("tags", List.of("a", "b"));
+    server.put("none", null);
+    Map<String, Object> tree = new LinkedHashMap<>();
+    tree.put("server", server);
+    tree.put("enabled", true);
+    tree.put("server-port", 9090);
+    return tree;
+  }
+
+  @Test
+  @DisplayName("should generate a class exposing the tree as a configuration")
+  void shouldGenerateConfiguration() throws Exception {
+    Class<?> type = compile("com.example.AppConfig",
+        generator.generate("com.example.AppConfig", tree()));
+
+    Configuration configuration = (Configuration) type.getMethod("configuration").invoke(null);
+
+    assertEquals(Optional.of("local\"host\"\n"), configuration.get("server.host", String.class));
+    assertEquals(Optional.of(8080), configuration.get("server.port", Integer.class));
+    assertEquals(Optional.of(5_000_000_000L), configuration.get("server.maxBytes", Long.class));
+    assertEquals(Optional.of(new BigDecimal("19.99")),
+        configuration.get("server.price", BigDecimal.class));
+    assertEquals(List.of("a", "b"), configuration.getList("server.tags", String.class));
+    assertTrue(configuration.containsKey("server.none"));
+    assertEquals(Optional.of(9090), configuration.get("server-port", Integer.class));
+  }
+
+  @Test
+  @DisplayName("should expose scalar leaves as constants named after their path")
+  void shouldExposeConstants() throws Exception {
+    Class<?> type = compile("com.example.Constants",
+        generator.generate("com.example.Constants", tree()));
+
+    assertEquals(8080, type.getField("SERVER_PORT").get(null));
+    assertEquals(5_000_000_000L, type.getField("SERVER_MAX_BYTES").get(null));
+    assertEquals(0.5d, type.getField("SERVER_RATIO").get(null));
+    assertEquals("a", type.getField("SERVER_TAGS_0").get(null));
+    assertEquals(true, type.getField("ENABLED").get(null));
+    assertEquals(9090, type.getField("SERVER_PORT_2").get(null));
+  }
+
+  @Test
+  @DisplayName("should split large maps across several methods")
+  void shouldSplitLargeMaps() throws Exception {
+    Map<String, Object> tree = new LinkedHashMap<>();
+    for (int i = 0; i < 3000; i++) {
+      tree.put("key" + i, "value" + i);
+    }
+    List<Object> list = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      list.add(i);
+    }
+    tree.put("list", list);
+
+    Class<?> type = compile("Large", generator.generate("Large", tree));
+    Configuration configuration = (Configuration) type.getMethod("configuration").invoke(null);
+
+    assertEquals(Optional.of("value2999"), configuration.get("key2999", String.class));
+    assertEquals(Optional.of(999), configuration.get("list[999]", Integer.class));
+  }
+
+  @Test
+  @DisplayName("should build strings too long for a class file constant at run time")
+  void shouldBuildLongStringsAtRunTime() throws Exception {
+    String ascii = "a".repeat(70_000);
+    String accented = "\u00e9".repeat(40_000);
+    Map<String, Object> tree = new LinkedHashMap<>();
+    tree.put("ascii", ascii);
+    tree.put("accented", accented);
+    tree.put("k".repeat(70_000), "short");
+
+    Class<?> type = compile("LongStrings", generator.generate("LongStrings", tree));
+    Configuration configuration = (Configuration) type.getMethod("configuration").invoke(null);
+
+    assertEquals(Optional.of(ascii), configuration.get("ascii", String.class));
+    assertEquals(Optional.of(accented), configuration.get("accented", String.class));
+    assertEquals(Optional.of("short"), configuration.get("k".repeat(70_000), String.class));
+    assertThrows(NoSuchFieldException.class, () -> type.getField("ASCII"));
+    assertThrows(NoSuchFieldException.class, () -> type.getField("ACCENTED"));
+    assertEquals("short", type.getField("K".repeat(255)).get(null));
+  }
+
+  @Test
+  @DisplayName("should reject invalid class names and unsupported values")
+  void shouldRejectInvalidInput() {
+    assertThrows(IllegalArgumentException.class, () -> generator.generate("com..Bad", Map.of()));
+    assertThrows(IllegalArgumentException.class, () -> generator.generate("1Bad", Map.of()));
+    assertThrows(IllegalArgumentException.class,
+        () -> generator.generate("com.example.int", Map.of()));
+    assertThrows(IllegalArgumentException.class,
+        () -> generator.generate("class.Config", Map.of()));
+    assertThrows(IllegalArgumentException.class,
+        () -> generator.generate("Bad", Map.of("key", new Object())));
+    assertThrows(NullPointerException.class, () -> generator.generate(null, Map.of()));
+    assertThrows(NullPointerException.class, () -> generator.generate("Good", null));
+  }
+}
@@ -0,0 +1,74 @@
+package io.github.liana.config.codegen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.api.ConfigurationManager;
+import io.github.liana.config.api.ResourceLocation;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigurationCompilerTest {
+
+  @Mock
+  private ConfigurationManager manager;
+
+  @Mock
+  private ResourceLocation location;
+
+  @TempDir
+  Path output;
+
+  @Test
+  @DisplayName("should write the generated class below the output directory")
+  void shouldWriteGeneratedClass() throws Exception {
+    when(manager.load(location)).thenReturn(Configuration.from(Map.of("key", "value")));
+    var compiler = new ConfigurationCompiler(manager, new ConfigurationClassGenerator());
+
+    Path file = compiler.compile(location, "com.example.AppConfig", output);
+
+    assertEquals(output.resolve("com/example/AppConfig.java"), file);
+    assertTrue(Files.readString(file).contains("public static final String KEY = \"value\";"));
+  }
+
+  @Test
+  @DisplayName("should report invalid arguments with the usage")
+  void shouldReportInvalidArguments() {
+    var err = new ByteArrayOutputStream();
+    var stream = new PrintStream(err, true, StandardCharsets.UTF_8);
+
+    assertEquals(2, ConfigurationCompiler.run(new String[]{"--class"}, stream, stream));
+    assertEquals(2, ConfigurationCompiler.run(new String[]{"--unknown", "x"}, stream, stream));
+    assertEquals(2, ConfigurationCompiler.run(
+        new String[]{"--class", "A", "--output", "out", "--variable", "novalue"}, stream, stream));
+    assertEquals(2, ConfigurationCompiler.run(new String[]{"--class", "A"}, stream, stream));
+    assertTrue(err.toString(StandardCharsets.UTF_8).contains("usage: ConfigurationCompiler"));
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException for null arguments")
+  void shouldThrowForNullArguments() {
+    var compiler = new ConfigurationCompiler(manager, new ConfigurationClassGenerator());
+
+    assertThrows(NullPointerException.class,
+        () -> new ConfigurationCompiler(null, new ConfigurationClassGenerator()));
+    assertThrows(NullPointerException.class, () -> new ConfigurationCompiler(manager, null));
+    assertThrows(NullPointerException.class, () -> compiler.compile(null, "A", output));
+    assertThrows(NullPointerException.class, () -> compiler.compile(location, null, output));
+    assertThrows(NullPointerException.class, () -> compiler.compile(location, "A", null));
+  }
+}
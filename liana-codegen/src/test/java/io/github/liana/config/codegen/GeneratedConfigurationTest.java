@@ -0,0 +1,23 @@
+package io.github.liana.config.codegen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.codegen.fixture.FixtureConfig;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeneratedConfigurationTest {
+
+  @Test
+  @DisplayName("should expose the fixture configuration compiled by the build")
+  void shouldExposeCompiledFixture() {
+    Configuration configuration = FixtureConfig.configuration();
+
+    assertEquals("localhost", FixtureConfig.SERVER_HOST);
+    assertEquals(9090, FixtureConfig.SERVER_PORT);
+    assertEquals(Optional.of(9090), configuration.get("server.port", Integer.class));
+    assertEquals(Optional.of("localhost"), configuration.get("server.host", String.class));
+  }
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright 2025 Leonardo Favio Romero Silva
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.liana.config.api;
+
+import io.github.liana.config.core.ResolvedConfigKey;
+import io.github.liana.config.core.exception.ConversionException;
+import io.github.liana.config.core.exception.MissingConfigException;
+
+/**
+ * A configuration key whose value has been looked up and converted ahead of time.
+ *
+ * <p>Keys are obtained from {@link Configuration#key(String, Class)}, which resolves the path and
+ * converts the value once. Reading the value afterwards is a field read: no path is parsed, no
+ * cache is consulted, and nothing is allocated. The primitive accessors return numbers and
+ * booleans without boxing, which makes keys suitable for values read on hot paths, such as
+ * feature toggles and limits.
+ *
+ * <pre>{@code
+ * ConfigKey<Integer> maxConnections = config.key("server.max-connections", Integer.class);
+ * ...
+ * if (active < maxConnections.getInt()) { ... }
+ * }</pre>
+ *
+ * <p>A key obtained from a {@link Configuration} holds the value of that immutable instance. A key
+ * obtained from {@link ReloadableConfiguration#key(String, Class)} follows reloads instead.
+ *
+ * <p>Implementations are thread-safe.
+ *
+ * @param <T> the type of the value
+ */
+public interface ConfigKey<T> {
+
+  /**
+   * Returns the path this key was resolved from.
+   *
+   * @return the configuration key, such as {@code server.port}
+   */
+  String path();
+
+  /**
+   * Tells whether the configuration has a value for this key.
+   *
+   * @return {@code true} if a value is present
+   */
+  boolean isPresent();
+
+  /**
+   * Returns the value of this key.
+   *
+   * @return the value; never {@code null}
+   * @throws MissingConfigException if no value is present
+   */
+  T get();
+
+  /**
+   * Returns the value of this key, or {@code defaultValue} if no value is present.
+   *
+   * @param defaultValue the value to return if no value is present; may be {@code null}
+   * @return the value or {@code defaultValue}
+   */
+  T orElse(T defaultValue);
+
+  /**
+   * Returns the numeric value of this key as an {@code int}.
+   *
+   * @return the value
+   * @throws MissingConfigException if no value is present
+   * @throws ConversionException    if the value is not a number or does not fit an {@code int}
+   */
+  int getInt();
+
+  /**
+   * Returns the numeric value of this key as an {@code int}, or {@code defaultValue} if no value
+   * is present.
+   *
+   * @param defaultValue the value to return if no value is present
+   * @return the value or {@code defaultValue}
+   * @throws ConversionException if the value is not a number or does not fit an {@code int}
+   */
+  int getInt(int defaultValue);
+
+  /**
+   * Returns the numeric value of this key as a {@code long}.
+   *
+   * @return the value
+   * @throws MissingConfigException if no value is present
+   * @throws ConversionException    if the value is not a number
+   */
+  long getLong();
+
+  /**
+   * Returns the numeric value of this key as a {@code long}, or {@code defaultValue} if no value
+   * is present.
+   *
+   * @param defaultValue the value to return if no value is present
+   * @return the value or {@code defaultValue}
+   * @throws ConversionException if the value is not a number
+   */
+  long getLong(long defaultValue);
+
+  /**
+   * Returns the numeric value of this key as a {@code double}.
+   *
+   * @return the value
+   * @throws MissingConfigException if no value is present
+   * @throws ConversionException    if the value is not a number
+   */
+  double getDouble();
+
+  /**
+   * Returns the numeric value of this key as a {@code double}, or {@code defaultValue} if no
+   * value is present.
+   *
+   * @param defaultValue the value to return if no value is present
+   * @return the value or {@code defaultValue}
+   * @throws ConversionException if the value is not a number
+   */
+  double getDouble(double defaultValue);
+
+  /**
+   * Returns the boolean value of this key.
+   *
+   * @return the value
+   * @throws MissingConfigException if no value is present
+   * @throws ConversionException    if the value is not a boolean
+   */
+  boolean getBoolean();
+
+  /**
+   * Returns the boolean value of this key, or {@code defaultValue} if no value is present.
+   *
+   * @param defaultValue the value to return if no value is present
+   * @return the value or {@code defaultValue}
+   * @throws ConversionException if the value is not a boolean
+   */
+  boolean getBoolean(boolean defaultValue);
+
+  /**
+   * Returns a key holding the given, already converted value.
+   *
+   * @param path  the configuration key; must not be {@code null}
+   * @param value the converted value, or {@code null} if the key has no value
+   * @param <T>   the type of the value
+   * @return the resolved key
+   * @throws NullPointerException if {@code path} is {@code null}
+   */
+  static <T> ConfigKey<T> of(String path, T value) {
+    return new ResolvedConfigKey<>(path, value);
+  }
+}
@@ -190,6 +190,39 @@ public interface Configuration {
     return get(key, Duration.class, defaultValue);
   }
 
+  /**
+   * Resolves the given key once and returns a handle that serves its value without further
+   * lookups.
+   *
+   * <p>The value is converted when the handle is created; reading it through the handle does not
+   * allocate. See {@link ConfigKey}.
+   *
+   * @param key   the configuration key to resolve (must not be {@code null})
+   * @param clazz the expected class of the value (must not be {@code null})
+   * @param <T>   the target class
+   * @return the resolved key; its value is absent if the configuration has none
+   * @throws NullPointerException if {@code key} or {@code clazz} is {@code null}
+   * @throws ConversionException  if conversion fails or the key cannot be resolved
+   */
+  default <T> ConfigKey<T> key(String key, Class<T> clazz) {
+    return ConfigKey.of(key, get(key, clazz).orElse(null));
+  }
+
+  /**
+   * Resolves the given key once for a generic type and returns a handle that serves its value
+   * without further lookups.
+   *
+   * @param key  the configuration key to resolve (must not be {@code null})
+   * @param type the {@link TypeOf} describing the target type (must not be {@code null})
+   * @param <T>  the target type
+   * @return the resolved key; its value is absent if the configuration has none
+   * @throws NullPointerException if {@code key} or {@code type} is {@code null}
+   * @throws ConversionException  if conversion fails or the key cannot be resolved
+   */
+  default <T> ConfigKey<T> key(String key, TypeOf<T> type) {
+    return ConfigKey.of(key, get(key, type).orElse(null));
+  }
+
   /**
    * Retrieves a configuration value as a list of elements of the specified type.
    *
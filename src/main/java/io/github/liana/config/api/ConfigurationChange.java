@@ -0,0 +1,89 @@
+/**
+ * Copyright 2025 Leonardo Favio Romero Silva
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.liana.config.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * The differences between two consecutive snapshots of a {@link ReloadableConfiguration}.
+ *
+ * @param previous the snapshot that was replaced; never {@code null}
+ * @param current  the snapshot that replaced it; never {@code null}
+ * @param changes  the changed leaf values; never {@code null}
+ */
+public record ConfigurationChange(
+    ConfigurationSnapshot previous, ConfigurationSnapshot current, List<KeyChange> changes) {
+
+  public ConfigurationChange {
+    requireNonNull(previous, "previous must not be null");
+    requireNonNull(current, "current must not be null");
+    changes = List.copyOf(requireNonNull(changes, "changes must not be null"));
+  }
+
+  /**
+   * Returns the paths that did not exist in the previous snapshot.
+   *
+   * @return the added values
+   */
+  public List<KeyChange> added() {
+    return ofType(KeyChange.Type.ADDED);
+  }
+
+  /**
+   * Returns the paths that no longer exist in the current snapshot.
+   *
+   * @return the removed values
+   */
+  public List<KeyChange> removed() {
+    return ofType(KeyChange.Type.REMOVED);
+  }
+
+  /**
+   * Returns the paths whose value differs between the two snapshots.
+   *
+   * @return the changed values
+   */
+  public List<KeyChange> changed() {
+    return ofType(KeyChange.Type.CHANGED);
+  }
+
+  /**
+   * Returns this change restricted to the given key and the paths nested under it.
+   *
+   * @param key the key or prefix to keep, as defined by {@link KeyChange#isUnder(String)}; must
+   *            not be {@code null}
+   * @return a change holding only the matching values, possibly none
+   * @throws NullPointerException if {@code key} is {@code null}
+   */
+  public ConfigurationChange under(String key) {
+    requireNonNull(key, "key must not be null");
+    return new ConfigurationChange(previous, current,
+        changes.stream().filter(change -> change.isUnder(key)).toList());
+  }
+
+  /**
+   * Returns whether no value changed.
+   *
+   * @return {@code true} if there are no changes
+   */
+  public boolean isEmpty() {
+    return changes.isEmpty();
+  }
+
+  private List<KeyChange> ofType(KeyChange.Type type) {
+    return changes.stream().filter(change -> change.type() == type).toList();
+  }
+}
@@ -14,6 +14,10 @@
 package io.github.liana.config.api;
 
 import io.github.liana.config.core.DefaultConfigurationManagerBuilder;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Loads configuration resources from one or more logical locations.
@@ -37,6 +41,58 @@ public interface ConfigurationManager {
    */
   Configuration load(ResourceLocation location);
 
+  /**
+   * Resolves a configuration resource asynchronously on the implementation's default executor.
+   *
+   * <p>Concurrent requests for the same location share a single in-flight resolution.
+   *
+   * @param location the logical descriptor of the configuration resource
+   * @return a future completed with the resolved configuration, or exceptionally if resolution
+   * fails
+   * @throws NullPointerException if {@code location} is {@code null}
+   */
+  CompletableFuture<Configuration> loadAsync(ResourceLocation location);
+
+  /**
+   * Resolves a configuration resource asynchronously on the given executor.
+   *
+   * <p>Concurrent requests for the same location share a single in-flight resolution; the
+   * executor is only used when this call starts a new resolution.
+   *
+   * @param location the logical descriptor of the configuration resource
+   * @param executor the executor that performs the resolution
+   * @return a future completed with the resolved configuration, or exceptionally if resolution
+   * fails
+   * @throws NullPointerException if {@code location} or {@code executor} is {@code null}
+   */
+  CompletableFuture<Configuration> loadAsync(ResourceLocation location, Executor executor);
+
+  /**
+   * Resolves several configuration resources in one batch.
+   *
+   * <p>Implementations may share work between locations; in particular, a resource included by
+   * many locations can be fetched and parsed only once.
+   *
+   * @param locations the logical descriptors of the configuration resources
+   * @return an unmodifiable map from each distinct location to its configuration, in iteration
+   * order of {@code locations}
+   * @throws NullPointerException if {@code locations} or any of its elements is {@code null}
+   */
+  Map<ResourceLocation, Configuration> loadAll(Collection<ResourceLocation> locations);
+
+  /**
+   * Loads a configuration resource and keeps it up to date while its backing files change.
+   *
+   * <p>Only file-backed resources can be watched; resources read from archives or other sources
+   * keep their initial content. The configuration cached by {@link #load(ResourceLocation)} is not
+   * affected by reloads.
+   *
+   * @param location the logical descriptor of the configuration resource
+   * @return a handle exposing the latest configuration
+   * @throws NullPointerException if {@code location} is {@code null}
+   */
+  ReloadableConfiguration watch(ResourceLocation location);
+
   /**
    * Returns a new {@link ConfigurationManagerBuilder} for constructing custom configuration managers.
    *
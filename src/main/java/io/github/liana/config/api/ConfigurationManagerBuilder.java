@@ -15,6 +15,8 @@ package io.github.liana.config.api;
 
 import io.github.liana.config.spi.ResourceLoader;
 import io.github.liana.config.spi.ResourceProvider;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
 /**
  * Builds and configures a {@link ConfigurationManager} instance.
@@ -46,6 +48,60 @@ public interface ConfigurationManagerBuilder {
    */
   ConfigurationManagerBuilder addLoaders(ResourceLoader... loaders);
 
+  /**
+   * Enables or disables parallel loading of the resources that make up a configuration.
+   *
+   * <p>When enabled, resources are fetched and parsed concurrently on a default executor (virtual
+   * threads where the runtime supports them). Resources are still merged in their declared order,
+   * so override semantics do not change. Disabled by default.
+   *
+   * @param enabled {@code true} to load resources concurrently
+   * @return this builder
+   */
+  ConfigurationManagerBuilder parallelLoading(boolean enabled);
+
+  /**
+   * Enables parallel loading of the resources that make up a configuration, using the given
+   * executor to fetch and parse them.
+   *
+   * <p>Resources are still merged in their declared order, so override semantics do not change.
+   * The executor is not shut down by the configuration manager.
+   *
+   * @param executor the executor to run resource loads on; must not be {@code null}
+   * @return this builder
+   */
+  ConfigurationManagerBuilder parallelLoading(Executor executor);
+
+  /**
+   * Enables a persistent snapshot of every fully resolved configuration in the given directory.
+   *
+   * <p>The first load of a location in a process checks whether a snapshot written by an earlier
+   * process still matches the location's resources, variables, and environment. If it does, the
+   * snapshot is returned without reading, parsing, merging, or interpolating any resource;
+   * otherwise the location is loaded normally and its snapshot is rewritten. Only locations whose
+   * resources can be fingerprinted without reading them, such as files and archive entries, are
+   * snapshotted. Disabled by default.
+   *
+   * @param directory the directory holding snapshot files; created if missing; must not be
+   *                  {@code null}
+   * @return this builder
+   */
+  ConfigurationManagerBuilder snapshotDirectory(Path directory);
+
+  /**
+   * Enables or disables on-demand parsing of JSON resources.
+   *
+   * <p>When enabled, a JSON resource is only scanned for its structure when loaded; nested objects
+   * and arrays are parsed the first time a key below them is read, and merging and placeholder
+   * interpolation are deferred in the same way. Startup time and heap usage then grow with the
+   * part of the configuration an application actually reads rather than with the size of its
+   * resources. Other formats are always parsed in full. Disabled by default.
+   *
+   * @param enabled {@code true} to parse JSON resources on demand
+   * @return this builder
+   */
+  ConfigurationManagerBuilder lazyJsonParsing(boolean enabled);
+
   /**
    * Builds and returns a new {@link ConfigurationManager} instance using the registered components and any
    * defaults required by the implementation.
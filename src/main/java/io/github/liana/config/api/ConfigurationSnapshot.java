@@ -0,0 +1,35 @@
+/**
+ * Copyright 2025 Leonardo Favio Romero Silva
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.liana.config.api;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable configuration together with the version it was published as.
+ *
+ * <p>Versions start at {@code 1} for the initial load of a {@link ReloadableConfiguration} and
+ * increase by one with every reload that changes at least one value.
+ *
+ * @param version       the version number of this snapshot; positive
+ * @param configuration the configuration of this version; never {@code null}
+ */
+public record ConfigurationSnapshot(long version, Configuration configuration) {
+
+  public ConfigurationSnapshot {
+    if (version < 1) {
+      throw new IllegalArgumentException("version must be positive");
+    }
+    requireNonNull(configuration, "configuration must not be null");
+  }
+}
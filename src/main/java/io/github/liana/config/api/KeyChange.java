@@ -0,0 +1,71 @@
+/**
+ * Copyright 2025 Leonardo Favio Romero Silva
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.liana.config.api;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A single leaf value that differs between two configuration snapshots.
+ *
+ * <p>Paths use the same syntax as {@link Configuration} lookups, for example
+ * {@code db.pool.size} or {@code servers[0].host}. Values are plain Java scalars ({@code String},
+ * {@code Number}, {@code Boolean}) or {@code null}; empty maps and lists are reported as leaves.
+ *
+ * @param path     the path of the value; never {@code null}
+ * @param type     whether the value was added, removed, or changed; never {@code null}
+ * @param oldValue the previous value, or {@code null} if it was added
+ * @param newValue the new value, or {@code null} if it was removed
+ */
+public record KeyChange(String path, Type type, Object oldValue, Object newValue) {
+
+  /**
+   * Kind of change applied to a path.
+   */
+  public enum Type {
+    /** The path did not exist in the previous snapshot. */
+    ADDED,
+    /** The path no longer exists in the new snapshot. */
+    REMOVED,
+    /** The path exists in both snapshots with different values. */
+    CHANGED
+  }
+
+  public KeyChange {
+    requireNonNull(path, "path must not be null");
+    requireNonNull(type, "type must not be null");
+  }
+
+  /**
+   * Returns whether this change is at or below the given key.
+   *
+   * <p>A key matches its own path and every path nested under it, so {@code db.pool} matches
+   * {@code db.pool}, {@code db.pool.size}, and {@code db.pool[0]}, but not {@code db.poolSize}.
+   * The empty key matches every path.
+   *
+   * @param key the key or prefix to test; must not be {@code null}
+   * @return {@code true} if this change is at or below {@code key}
+   * @throws NullPointerException if {@code key} is {@code null}
+   */
+  public boolean isUnder(String key) {
+    requireNonNull(key, "key must not be null");
+    if (key.isEmpty() || path.equals(key)) {
+      return true;
+    }
+    if (!path.startsWith(key) || path.length() == key.length()) {
+      return false;
+    }
+    char next = path.charAt(key.length());
+    return next == '.' || next == '[';
+  }
+}
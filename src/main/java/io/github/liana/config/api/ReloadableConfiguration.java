@@ -0,0 +1,125 @@
+/**
+ * Copyright 2025 Leonardo Favio Romero Silva
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.liana.config.api;
+
+import io.github.liana.config.core.ReloadingConfigKey;
+import io.github.liana.config.core.exception.ConversionException;
+import io.github.liana.config.core.type.TypeOf;
+import java.util.concurrent.Flow;
+
+/**
+ * A live handle to a configuration that is rebuilt whenever one of its backing files changes.
+ *
+ * <p>Each reload produces a new immutable {@link Configuration}, which replaces the previous one
+ * atomically. {@link #get()} never blocks and always returns a fully built snapshot; callers that
+ * need several consistent reads should keep the returned instance rather than calling
+ * {@link #get()} repeatedly.
+ *
+ * <p>Every published configuration carries a version, available through {@link #snapshot()}. A
+ * reload that leaves all values unchanged does not publish a new version. Listeners registered
+ * with {@link #subscribe(String, Flow.Subscriber)} receive the values that changed below a key,
+ * so they can react to, for example, {@code db.pool.size} without comparing configurations
+ * themselves.
+ *
+ * <p>If a reload fails, the previous snapshot stays current. Closing the handle stops watching;
+ * the last snapshot remains available.
+ *
+ * <p>Implementations are thread-safe.
+ */
+public interface ReloadableConfiguration extends AutoCloseable {
+
+  /**
+   * Returns the most recently built configuration.
+   *
+   * @return the current configuration snapshot; never {@code null}
+   */
+  Configuration get();
+
+  /**
+   * Returns the most recently built configuration together with its version.
+   *
+   * @return the current snapshot; never {@code null}
+   */
+  ConfigurationSnapshot snapshot();
+
+  /**
+   * Returns a handle to the given key that follows reloads.
+   *
+   * <p>The handle resolves the key against the current configuration and keeps the result until
+   * a reload publishes a new one, so reads between reloads neither look the key up again nor
+   * allocate. See {@link Configuration#key(String, Class)}.
+   *
+   * @param key   the configuration key to follow; must not be {@code null}
+   * @param clazz the expected class of the value; must not be {@code null}
+   * @param <T>   the target class
+   * @return the key handle
+   * @throws NullPointerException if {@code key} or {@code clazz} is {@code null}
+   * @throws ConversionException  if the current value cannot be converted; after a reload, the
+   *                              first read through the handle throws instead
+   */
+  default <T> ConfigKey<T> key(String key, Class<T> clazz) {
+    return new ReloadingConfigKey<>(key, this::get,
+        configuration -> configuration.key(key, clazz));
+  }
+
+  /**
+   * Returns a handle to the given key, converted to a generic type, that follows reloads.
+   *
+   * @param key  the configuration key to follow; must not be {@code null}
+   * @param type the {@link TypeOf} describing the target type; must not be {@code null}
+   * @param <T>  the target type
+   * @return the key handle
+   * @throws NullPointerException if {@code key} or {@code type} is {@code null}
+   * @throws ConversionException  if the current value cannot be converted; after a reload, the
+   *                              first read through the handle throws instead
+   * @see #key(String, Class)
+   */
+  default <T> ConfigKey<T> key(String key, TypeOf<T> type) {
+    return new ReloadingConfigKey<>(key, this::get,
+        configuration -> configuration.key(key, type));
+  }
+
+  /**
+   * Registers a listener for changes at or below the given key.
+   *
+   * <p>After each reload the subscriber receives a {@link ConfigurationChange} restricted to the
+   * matching paths, as defined by {@link KeyChange#isUnder(String)}; reloads that change nothing
+   * under the key are not delivered. Delivery is asynchronous and respects the demand signalled
+   * through the subscriber's {@link Flow.Subscription}. Changes that would exceed the buffer of a
+   * subscriber that does not keep up are dropped rather than delaying reloads; the latest values
+   * are always available from {@link #get()}.
+   *
+   * <p>The subscriber is completed when this handle is closed, and may cancel its subscription at
+   * any time.
+   *
+   * @param key        the key or prefix to listen to; the empty string listens to every change
+   * @param subscriber the subscriber to notify
+   * @throws NullPointerException if {@code key} or {@code subscriber} is {@code null}
+   */
+  void subscribe(String key, Flow.Subscriber<? super ConfigurationChange> subscriber);
+
+  /**
+   * Returns the location this handle loads.
+   *
+   * @return the watched location
+   */
+  ResourceLocation location();
+
+  /**
+   * Stops watching the location's files and completes all subscribers. Calling this method more
+   * than once has no effect.
+   */
+  @Override
+  void close();
+}
@@ -69,6 +69,19 @@ public interface ResourceLocationBuilder {
    */
   ResourceLocationBuilder addResourceFromList(List<String> resources);
 
+  /**
+   * Adds a resource name to be resolved if it exists.
+   *
+   * <p>A missing optional resource is skipped without being reported as a failure, which makes
+   * it suitable for overlays that only some environments provide. This is equivalent to adding
+   * the name with the {@code optional:} prefix, for example
+   * {@code addResource("optional:file:overrides.yaml")}.
+   *
+   * @param resourceName the resource name; must not be {@code null}
+   * @return this builder for chaining
+   */
+  ResourceLocationBuilder addOptionalResource(String resourceName);
+
   /**
    * Adds a variable binding for placeholder interpolation.
    *
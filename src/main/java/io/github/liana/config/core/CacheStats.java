@@ -0,0 +1,39 @@
+package io.github.liana.config.core;
+
+/**
+ * Point-in-time statistics of a {@link LoadingCache}.
+ *
+ * <p>A lookup that finds an entry, including one another thread is still loading, is a hit; a
+ * lookup that has to load the value itself is a miss. Loads started by a refresh count as loads
+ * but not as misses.
+ *
+ * @param hitCount         the number of lookups that found an entry
+ * @param missCount        the number of lookups that loaded the value
+ * @param loadSuccessCount the number of loads that produced a value, {@code null} included
+ * @param loadFailureCount the number of loads that threw
+ * @param totalLoadTime    the time spent loading, in nanoseconds
+ * @param evictionCount    the number of entries evicted to stay within the size or weight limit
+ */
+public record CacheStats(long hitCount, long missCount, long loadSuccessCount,
+    long loadFailureCount, long totalLoadTime, long evictionCount) {
+
+  /**
+   * Returns the share of lookups that were hits.
+   *
+   * @return the hit rate between {@code 0} and {@code 1}; {@code 1} if there were no lookups
+   */
+  public double hitRate() {
+    long requests = hitCount + missCount;
+    return requests == 0 ? 1.0 : (double) hitCount / requests;
+  }
+
+  /**
+   * Returns the average time spent per load.
+   *
+   * @return the average load time in nanoseconds; {@code 0} if nothing was loaded
+   */
+  public double averageLoadPenalty() {
+    long loads = loadSuccessCount + loadFailureCount;
+    return loads == 0 ? 0.0 : (double) totalLoadTime / loads;
+  }
+}
@@ -0,0 +1,132 @@
+package io.github.liana.config.core;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.api.KeyChange;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Computes the leaf-level differences between two configurations.
+ *
+ * <p>Both configurations are compared as Jackson trees. Trees of {@link JacksonConfiguration}
+ * instances are used directly, and subtrees shared by reference, which the merger and the
+ * {@link FragmentCache} produce for unchanged resources, are skipped without being visited.
+ * Other configurations are converted from their root map first.
+ *
+ * <p>Object fields are compared in sorted order so the result is deterministic; array elements
+ * are compared by index. Keys are reported in the notation {@link KeyPath} parses, with names
+ * holding dots or brackets quoted, so each can be read back from the configuration.
+ *
+ * <p>This class is final and cannot be instantiated.
+ */
+final class ConfigurationDiff {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private ConfigurationDiff() {
+  }
+
+  /**
+   * Returns the leaf values that were added, removed, or changed from {@code before} to
+   * {@code after}.
+   *
+   * @param before the previous configuration; must not be null
+   * @param after  the new configuration; must not be null
+   * @return the changed values, in a deterministic order; never null
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  static List<KeyChange> between(Configuration before, Configuration after) {
+    List<KeyChange> changes = new ArrayList<>();
+    compare("", tree(requireNonNull(before)), tree(requireNonNull(after)), changes);
+    return changes;
+  }
+
+  private static JsonNode tree(Configuration configuration) {
+    if (configuration instanceof JacksonConfiguration jackson) {
+      return jackson.getRootNode();
+    }
+    return MAPPER.valueToTree(configuration.getRootAsMap());
+  }
+
+  private static void compare(String path, JsonNode before, JsonNode after,
+      List<KeyChange> changes) {
+    if (before == after) {
+      return;
+    }
+    if (before.isObject() && after.isObject() && !before.isEmpty() && !after.isEmpty()) {
+      var names = new TreeSet<String>();
+      before.fieldNames().forEachRemaining(names::add);
+      after.fieldNames().forEachRemaining(names::add);
+      for (String name : names) {
+        compare(KeyPath.child(path, name), before.path(name), after.path(name), changes);
+      }
+    } else if (before.isArray() && after.isArray() && !before.isEmpty() && !after.isEmpty()) {
+      for (int i = 0; i < Math.max(before.size(), after.size()); i++) {
+        compare(path + "[" + i + "]", before.path(i), after.path(i), changes);
+      }
+    } else if (before.isMissingNode()) {
+      leaves(path, after, true, changes);
+    } else if (after.isMissingNode()) {
+      leaves(path, before, false, changes);
+    } else if (isContainer(before) && !before.isEmpty()) {
+      leaves(path, before, false, changes);
+      leaves(path, after, true, changes);
+    } else if (isContainer(after) && !after.isEmpty()) {
+      leaves(path, before, false, changes);
+      leaves(path, after, true, changes);
+    } else if (!before.equals(after)) {
+      changes.add(new KeyChange(path, KeyChange.Type.CHANGED, value(before), value(after)));
+    }
+  }
+
+  private static void leaves(String path, JsonNode node, boolean added, List<KeyChange> changes) {
+    if (node.isObject() && !node.isEmpty()) {
+      for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+        Map.Entry<String, JsonNode> field = it.next();
+        leaves(KeyPath.child(path, field.getKey()), field.getValue(), added, changes);
+      }
+    } else if (node.isArray() && !node.isEmpty()) {
+      for (int i = 0; i < node.size(); i++) {
+        leaves(path + "[" + i + "]", node.get(i), added, changes);
+      }
+    } else if (!node.isMissingNode() && !path.isEmpty()) {
+      changes.add(added
+          ? new KeyChange(path, KeyChange.Type.ADDED, null, value(node))
+          : new KeyChange(path, KeyChange.Type.REMOVED, value(node), null));
+    }
+  }
+
+  private static boolean isContainer(JsonNode node) {
+    return node.isObject() || node.isArray();
+  }
+
+  private static Object value(JsonNode node) {
+    if (node == null || node.isNull() || node instanceof MissingNode) {
+      return null;
+    }
+    if (node.isTextual()) {
+      return node.textValue();
+    }
+    if (node.isNumber()) {
+      return node.numberValue();
+    }
+    if (node.isBoolean()) {
+      return node.booleanValue();
+    }
+    if (node.isObject()) {
+      return Map.of();
+    }
+    if (node.isArray()) {
+      return List.of();
+    }
+    return node.asText();
+  }
+}
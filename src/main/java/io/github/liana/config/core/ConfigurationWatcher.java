@@ -0,0 +1,366 @@
+package io.github.liana.config.core;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.api.ConfigurationChange;
+import io.github.liana.config.api.ConfigurationSnapshot;
+import io.github.liana.config.api.KeyChange;
+import io.github.liana.config.api.ReloadableConfiguration;
+import io.github.liana.config.api.ResourceLocation;
+import io.github.liana.config.core.logging.ConsoleLogger;
+import io.github.liana.config.core.logging.Logger;
+import io.github.liana.config.providers.FileSystemProvider;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Watches the files behind configuration locations and reloads them when they change.
+ *
+ * <p>A single daemon thread serves every watched location of a manager. It registers the parent
+ * directory of each source file reported by {@link Pipeline#load(ResourceLocation)} with a
+ * {@link WatchService}, and after the first event of a burst keeps collecting events until the
+ * directory has been quiet for the configured period, so an editor's save sequence triggers one
+ * reload instead of several.
+ *
+ * <p>Besides the source files, the watcher matches events against the candidate files of each
+ * location, the paths its providers probe whether or not they exist. Creating a missing optional
+ * resource, such as a profile overlay next to a watched base file, therefore reloads the location
+ * too. Such a reload waits for {@link FileSystemProvider#DEFAULT_MISSING_FILE_TTL}, so that the
+ * provider no longer reports the file as missing from an earlier probe.
+ *
+ * <p>Reloads run on the given executor, never on the watcher thread. Each reload builds a new
+ * {@link Configuration} and publishes it with a single reference swap, so readers of
+ * {@link ReloadableConfiguration#get()} never block and never see a partially built tree. Reloads
+ * of the same location are serialized; a failed reload is logged and the previous snapshot is
+ * kept.
+ *
+ * <p>A reload that changes at least one leaf value publishes a new {@link ConfigurationSnapshot}
+ * with the next version and notifies the listeners whose key covers a changed path. Every
+ * listener has its own {@link SubmissionPublisher}, and changes are handed over with a
+ * non-blocking {@code offer}: when a listener falls a full buffer behind, further changes for it
+ * are dropped and logged instead of stalling reloads. A reload without changes keeps the current
+ * snapshot and notifies nobody.
+ *
+ * <p>The watcher thread and its {@code WatchService} are created with the first handle and
+ * released when the last handle is closed.
+ *
+ * <p>Instances are thread-safe.
+ */
+final class ConfigurationWatcher {
+
+  static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(100);
+
+  private static final long CREATED_FILE_DELAY_MILLIS =
+      FileSystemProvider.DEFAULT_MISSING_FILE_TTL.toMillis();
+
+  private final Pipeline pipeline;
+  private final Executor executor;
+  private final long quietPeriodMillis;
+  private final Executor delayedExecutor;
+  private final Object lock = new Object();
+  private final Map<Handle, Watched> handles = new LinkedHashMap<>();
+  private final Map<Path, WatchKey> directories = new HashMap<>();
+  private WatchService service;
+
+  /**
+   * Creates a watcher.
+   *
+   * @param pipeline    the pipeline that builds each configuration; must not be null
+   * @param executor    the executor reloads run on; must not be null
+   * @param quietPeriod how long a directory must stay quiet before a burst of events is handled;
+   *                    must not be null
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  ConfigurationWatcher(Pipeline pipeline, Executor executor, Duration quietPeriod) {
+    this.pipeline = requireNonNull(pipeline);
+    this.executor = requireNonNull(executor);
+    this.quietPeriodMillis = requireNonNull(quietPeriod).toMillis();
+    this.delayedExecutor = CompletableFuture.delayedExecutor(CREATED_FILE_DELAY_MILLIS,
+        TimeUnit.MILLISECONDS, executor);
+  }
+
+  /**
+   * Loads the location on the calling thread and starts watching its source and candidate files.
+   *
+   * @param location the location to load and watch; must not be null
+   * @return the handle exposing the latest configuration
+   * @throws NullPointerException if {@code location} is {@code null}
+   * @throws RuntimeException     if the initial load fails
+   */
+  ReloadableConfiguration watch(ResourceLocation location) {
+    requireNonNull(location);
+    LoadResult initial = pipeline.load(location);
+    var handle = new Handle(location, initial.configuration());
+    update(handle, initial);
+    return handle;
+  }
+
+  private void update(Handle handle, LoadResult result) {
+    var watched = new Watched(absolute(result.sources()), absolute(result.candidates()));
+    synchronized (lock) {
+      if (handle.closed.get()) {
+        return;
+      }
+      handles.put(handle, watched);
+      for (Path candidate : watched.candidates()) {
+        register(candidate.getParent(), handle.log);
+      }
+      prune();
+    }
+  }
+
+  private static Set<Path> absolute(Set<Path> files) {
+    Set<Path> result = new HashSet<>();
+    files.forEach(file -> result.add(file.toAbsolutePath().normalize()));
+    return result;
+  }
+
+  private void unregister(Handle handle) {
+    synchronized (lock) {
+      handles.remove(handle);
+      prune();
+    }
+  }
+
+  private void register(Path directory, Logger log) {
+    if (directory == null || directories.containsKey(directory)
+        || !Files.isDirectory(directory)) {
+      return;
+    }
+    try {
+      if (service == null) {
+        WatchService created = FileSystems.getDefault().newWatchService();
+        service = created;
+        Thread thread = new Thread(() -> run(created), "liana-config-watcher");
+        thread.setDaemon(true);
+        thread.start();
+      }
+      directories.put(directory, directory.register(service, ENTRY_CREATE, ENTRY_MODIFY,
+          ENTRY_DELETE));
+    } catch (IOException e) {
+      log.error(() -> "cannot watch " + directory + " for configuration changes", e);
+    }
+  }
+
+  private void prune() {
+    Set<Path> needed = new HashSet<>();
+    handles.values().forEach(watched ->
+        watched.candidates().forEach(candidate -> needed.add(candidate.getParent())));
+    directories.entrySet().removeIf(entry -> {
+      if (needed.contains(entry.getKey())) {
+        return false;
+      }
+      entry.getValue().cancel();
+      return true;
+    });
+
+    if (directories.isEmpty() && service != null) {
+      try {
+        service.close();
+      } catch (IOException ignored) {
+        // the watcher thread exits on ClosedWatchServiceException either way
+      }
+      service = null;
+    }
+  }
+
+  private void run(WatchService watchService) {
+    try {
+      while (true) {
+        Set<Path> changed = new HashSet<>();
+        collect(watchService.take(), changed);
+        WatchKey next;
+        while ((next = watchService.poll(quietPeriodMillis, TimeUnit.MILLISECONDS)) != null) {
+          collect(next, changed);
+        }
+        dispatch(changed);
+      }
+    } catch (ClosedWatchServiceException | InterruptedException e) {
+      // the last handle was closed
+    }
+  }
+
+  private void collect(WatchKey key, Set<Path> changed) {
+    Path directory = (Path) key.watchable();
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        changed.add(directory);
+      } else {
+        changed.add(directory.resolve((Path) event.context()));
+      }
+    }
+    key.reset();
+  }
+
+  private void dispatch(Set<Path> changed) {
+    List<Handle> modified = new ArrayList<>();
+    List<Handle> created = new ArrayList<>();
+    synchronized (lock) {
+      handles.forEach((handle, watched) -> {
+        if (affects(watched.sources(), changed)) {
+          modified.add(handle);
+        } else if (affects(watched.candidates(), changed)) {
+          created.add(handle);
+        }
+      });
+    }
+    modified.forEach(handle -> handle.scheduleReload(executor));
+    created.forEach(handle -> handle.scheduleReload(delayedExecutor));
+  }
+
+  private static boolean affects(Set<Path> files, Set<Path> changed) {
+    return files.stream()
+        .anyMatch(file -> changed.contains(file) || changed.contains(file.getParent()));
+  }
+
+  /**
+   * The files of a watched location, as reported by its last load; every source is a candidate.
+   */
+  private record Watched(Set<Path> sources, Set<Path> candidates) {
+
+  }
+
+  private record Listener(String key, SubmissionPublisher<ConfigurationChange> publisher) {
+
+  }
+
+  private final class Handle implements ReloadableConfiguration {
+
+    private final ResourceLocation location;
+    private final Logger log;
+    private final AtomicReference<ConfigurationSnapshot> current;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Handle(ResourceLocation location, Configuration initial) {
+      this.location = location;
+      this.log = ConsoleLogger.getLogger(location.verboseLogging());
+      this.current = new AtomicReference<>(new ConfigurationSnapshot(1, initial));
+    }
+
+    @Override
+    public Configuration get() {
+      return current.get().configuration();
+    }
+
+    @Override
+    public ConfigurationSnapshot snapshot() {
+      return current.get();
+    }
+
+    @Override
+    public ResourceLocation location() {
+      return location;
+    }
+
+    @Override
+    public void subscribe(String key, Flow.Subscriber<? super ConfigurationChange> subscriber) {
+      requireNonNull(key, "key must not be null");
+      requireNonNull(subscriber, "subscriber must not be null");
+      var publisher = new SubmissionPublisher<ConfigurationChange>(executor,
+          Flow.defaultBufferSize());
+      publisher.subscribe(subscriber);
+      listeners.add(new Listener(key, publisher));
+      if (closed.get()) {
+        closeListeners();
+      }
+    }
+
+    @Override
+    public void close() {
+      if (closed.compareAndSet(false, true)) {
+        unregister(this);
+        closeListeners();
+      }
+    }
+
+    private void closeListeners() {
+      listeners.forEach(listener -> listener.publisher().close());
+      listeners.clear();
+    }
+
+    private void scheduleReload(Executor target) {
+      if (closed.get() || !pending.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        target.execute(this::reload);
+      } catch (RuntimeException e) {
+        pending.set(false);
+        log.error(() -> "cannot schedule configuration reload", e);
+      }
+    }
+
+    private synchronized void reload() {
+      pending.set(false);
+      if (closed.get()) {
+        return;
+      }
+      try {
+        LoadResult result = pipeline.load(location);
+        update(this, result);
+
+        ConfigurationSnapshot previous = current.get();
+        List<KeyChange> changes =
+            ConfigurationDiff.between(previous.configuration(), result.configuration());
+        if (changes.isEmpty()) {
+          log.debug(() -> "configuration reloaded without changes");
+          return;
+        }
+
+        var next = new ConfigurationSnapshot(previous.version() + 1, result.configuration());
+        current.set(next);
+        log.info(() -> String.format("configuration reloaded: version=%d, changes=%d",
+            next.version(), changes.size()));
+        publish(new ConfigurationChange(previous, next, changes));
+      } catch (RuntimeException e) {
+        log.error(() -> "configuration reload failed, keeping previous configuration", e);
+      }
+    }
+
+    private void publish(ConfigurationChange change) {
+      for (Listener listener : listeners) {
+        ConfigurationChange relevant = change.under(listener.key());
+        if (!relevant.isEmpty()) {
+          listener.publisher().offer(relevant, (subscriber, dropped) -> {
+            log.warn(() -> "listener for '" + listener.key() + "' is lagging, dropped version "
+                + dropped.current().version());
+            return false;
+          });
+        }
+        if (!listener.publisher().hasSubscribers()) {
+          listener.publisher().close();
+          listeners.remove(listener);
+        }
+      }
+    }
+  }
+}
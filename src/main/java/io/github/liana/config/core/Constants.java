@@ -17,6 +17,7 @@ final class Constants {
   public static final String BASE_RESOURCE_NAME = "application";
   public static final String BASE_RESOURCE_NAME_PATTERN =
       BASE_RESOURCE_NAME + "-${" + PROFILE_VAR + "}";
+  public static final String OPTIONAL_PREFIX = "optional:";
 
   private Constants() {
   }
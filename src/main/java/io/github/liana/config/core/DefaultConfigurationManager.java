@@ -3,9 +3,16 @@ package io.github.liana.config.core;
 import static java.util.Objects.requireNonNull;
 
 import io.github.liana.config.api.ConfigurationManager;
+import io.github.liana.config.api.ReloadableConfiguration;
 import io.github.liana.config.api.ResourceLocation;
 import io.github.liana.config.api.Configuration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Default implementation of {@link ConfigurationManager} that resolves configurations using a
@@ -13,7 +20,14 @@ import java.util.Map;
  *
  * <p>This class is part of the internal resolution mechanism and is not intended to be subclassed.
  * It delegates all transformation logic to the configured pipeline and adds transparent caching for
- * performance.
+ * performance. The cached entries are futures of the fully built, immutable {@link Configuration}
+ * instances, so the value tree and any lookups already resolved by it are shared across calls.
+ *
+ * <h3>Single-flight loading</h3>
+ * <p>The cache stores the future of a resolution rather than its result. The first caller for a
+ * location installs an incomplete future and runs the pipeline; every concurrent caller, blocking
+ * or asynchronous, receives that same future instead of computing again or blocking inside the
+ * cache. A failed resolution is evicted before its future completes, so the next call retries.
  *
  * <h3>Thread-safety</h3>
  * <p>This implementation is thread-safe only if the provided {@link LoadingCache} and
@@ -24,18 +38,30 @@ import java.util.Map;
  */
 public class DefaultConfigurationManager implements ConfigurationManager {
 
-  private final LoadingCache<ResourceLocation, Map<String, Object>> cache;
+  /**
+   * Number of locations the default cache holds before it evicts the least used ones.
+   */
+  static final int MAXIMUM_CACHED_LOCATIONS = 1024;
+
+  private final LoadingCache<ResourceLocation, CompletableFuture<Configuration>> cache;
   private final Pipeline pipeline;
+  private final ConfigurationWatcher watcher;
 
   /**
    * Creates a new configuration manager with an empty default cache.
    *
+   * <p>The default cache holds up to 1024 resolved locations; beyond that, a location that is
+   * rarely loaded may be evicted and is then resolved again on its next load. A location still
+   * being resolved is never evicted, so concurrent callers keep sharing its single run.
+   *
    * @param pipeline the pipeline that performs loading, merging, and interpolation; must not be
    *                 null
    * @throws NullPointerException if {@code pipeline} is {@code null}
    */
   public DefaultConfigurationManager(Pipeline pipeline) {
-    this(new LoadingCache<>(), pipeline);
+    this(LoadingCache.<ResourceLocation, CompletableFuture<Configuration>>builder()
+        .maximumSize(MAXIMUM_CACHED_LOCATIONS)
+        .build(), pipeline);
   }
 
   /**
@@ -46,32 +72,175 @@ public class DefaultConfigurationManager implements ConfigurationManager {
    * @throws NullPointerException if {@code cache} or {@code pipeline} is {@code null}
    */
   public DefaultConfigurationManager(
-      LoadingCache<ResourceLocation, Map<String, Object>> cache, Pipeline pipeline
+      LoadingCache<ResourceLocation, CompletableFuture<Configuration>> cache, Pipeline pipeline
   ) {
     this.cache = requireNonNull(cache);
     this.pipeline = requireNonNull(pipeline);
+    this.watcher = new ConfigurationWatcher(pipeline, LoadExecutors.parallel(),
+        ConfigurationWatcher.DEFAULT_QUIET_PERIOD);
   }
 
   /**
    * {@inheritDoc}
    *
-   * <p>This implementation uses the provided {@link Pipeline} to resolve the configuration and
-   * stores the result in the internal {@link LoadingCache}. Repeated calls with the same
-   * {@code ResourceLocation} (as determined by its {@code equals} and {@code hashCode}) will return
-   * the same cached result.
+   * <p>This implementation uses the provided {@link Pipeline} to resolve the configuration on the
+   * calling thread and stores the built {@link Configuration} in the internal {@link LoadingCache}.
+   * Repeated calls with the same {@code ResourceLocation} (as determined by its {@code equals} and
+   * {@code hashCode}) return the same cached instance without rebuilding the value tree. If another
+   * thread is already resolving the location, this call waits for that result.
    *
    * <p>The cache key is the {@code ResourceLocation} instance itself, making the cache fully
    * type-safe and avoiding any string-based key construction.
    *
-   * @return a {@link MapConfiguration} wrapping the resolved configuration
+   * @return the cached {@link Configuration} produced by the pipeline
    * @throws NullPointerException if {@code location} is {@code null}
    */
   @Override
   public Configuration load(ResourceLocation location) {
     requireNonNull(location);
 
-    Map<String, Object> result = cache.getOrCompute(location, () -> pipeline.execute(location));
+    return join(resolve(location, LoadExecutors.sequential()));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The default executor runs each resolution on its own virtual thread when the runtime
+   * supports them (JDK 21+), or on a shared pool of daemon threads otherwise.
+   */
+  @Override
+  public CompletableFuture<Configuration> loadAsync(ResourceLocation location) {
+    return loadAsync(location, LoadExecutors.parallel());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned future is a dependent copy of the shared one, so completing or cancelling it
+   * does not affect other callers or the cache.
+   */
+  @Override
+  public CompletableFuture<Configuration> loadAsync(ResourceLocation location, Executor executor) {
+    requireNonNull(location);
+    requireNonNull(executor);
+
+    return resolve(location, executor).copy();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Locations that are already cached or being resolved by another caller are reused. All
+   * remaining locations are resolved together through {@link Pipeline#executeAll(Collection)} on
+   * the calling thread, so resources they have in common are loaded once. Each location is cached
+   * individually, exactly as if it had been loaded through {@link #load(ResourceLocation)}.
+   *
+   * <p>If the batch fails, none of its locations is cached and the failure is rethrown.
+   */
+  @Override
+  public Map<ResourceLocation, Configuration> loadAll(Collection<ResourceLocation> locations) {
+    requireNonNull(locations);
+
+    var futures = new LinkedHashMap<ResourceLocation, CompletableFuture<Configuration>>();
+    var owned = new LinkedHashMap<ResourceLocation, CompletableFuture<Configuration>>();
+    for (ResourceLocation location : locations) {
+      requireNonNull(location);
+      if (futures.containsKey(location)) {
+        continue;
+      }
+
+      CompletableFuture<Configuration> created = new CompletableFuture<>();
+      CompletableFuture<Configuration> future = cache.getOrCompute(location, () -> created);
+      futures.put(location, future);
+      if (future == created) {
+        owned.put(location, created);
+      }
+    }
+
+    if (!owned.isEmpty()) {
+      completeAll(owned);
+    }
+
+    var result = new LinkedHashMap<ResourceLocation, Configuration>();
+    futures.forEach((location, future) -> result.put(location, join(future)));
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The initial load runs on the calling thread and bypasses the cache. A single watcher thread
+   * per manager observes the directories of all watched files; reloads run on the default
+   * asynchronous executor and replace the handle's configuration atomically.
+   */
+  @Override
+  public ReloadableConfiguration watch(ResourceLocation location) {
+    requireNonNull(location);
+
+    return watcher.watch(location);
+  }
+
+  private CompletableFuture<Configuration> resolve(ResourceLocation location, Executor executor) {
+    CompletableFuture<Configuration> created = new CompletableFuture<>();
+    CompletableFuture<Configuration> future = cache.getOrCompute(location, () -> created);
+    if (future != created) {
+      return future;
+    }
+
+    try {
+      executor.execute(() -> complete(location, created));
+    } catch (RuntimeException e) {
+      fail(location, created, e);
+    }
+
+    return created;
+  }
+
+  private void complete(ResourceLocation location, CompletableFuture<Configuration> future) {
+    try {
+      future.complete(pipeline.execute(location));
+    } catch (RuntimeException | Error e) {
+      fail(location, future, e);
+    }
+  }
+
+  private void completeAll(Map<ResourceLocation, CompletableFuture<Configuration>> owned) {
+    Map<ResourceLocation, Configuration> built;
+    try {
+      built = pipeline.executeAll(owned.keySet());
+    } catch (RuntimeException | Error e) {
+      owned.forEach((location, future) -> fail(location, future, e));
+      return;
+    }
+
+    owned.forEach((location, future) -> {
+      Configuration configuration = built.get(location);
+      if (configuration == null) {
+        fail(location, future,
+            new IllegalStateException("pipeline produced no configuration for " + location));
+      } else {
+        future.complete(configuration);
+      }
+    });
+  }
+
+  private Configuration join(CompletableFuture<Configuration> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
 
-    return new MapConfiguration(result);
+  private void fail(ResourceLocation location, CompletableFuture<Configuration> future,
+      Throwable cause) {
+    cache.remove(location, future);
+    future.completeExceptionally(cause);
   }
 }
@@ -7,9 +7,11 @@ import io.github.liana.config.api.ConfigurationManagerBuilder;
 import io.github.liana.config.providers.ClasspathProvider;
 import io.github.liana.config.spi.ResourceLoader;
 import io.github.liana.config.spi.ResourceProvider;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Builder for creating fully configured {@link ConfigurationManager} instances.
@@ -31,6 +33,9 @@ public final class DefaultConfigurationManagerBuilder implements ConfigurationMa
   private final JacksonMappers jacksonMappers = JacksonMappers.create();
   private final List<ResourceProvider> providers = new ArrayList<>();
   private final List<ResourceLoader> loaders = new ArrayList<>();
+  private Executor executor = LoadExecutors.sequential();
+  private Path snapshotDirectory;
+  private boolean lazyJsonParsing;
 
   /**
    * {@inheritDoc}
@@ -66,12 +71,72 @@ public final class DefaultConfigurationManagerBuilder implements ConfigurationMa
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Enabling uses a shared executor backed by virtual threads on JDK 21 and later, or by a
+   * cached pool of daemon threads on earlier runtimes. Disabling restores sequential loading on
+   * the calling thread.
+   *
+   * @param enabled {@code true} to load resources concurrently
+   * @return this builder instance
+   */
+  @Override
+  public ConfigurationManagerBuilder parallelLoading(boolean enabled) {
+    this.executor = enabled ? LoadExecutors.parallel() : LoadExecutors.sequential();
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @param executor the executor to run resource loads on
+   * @return this builder instance
+   * @throws NullPointerException if {@code executor} is {@code null}
+   */
+  @Override
+  public ConfigurationManagerBuilder parallelLoading(Executor executor) {
+    this.executor = requireNonNull(executor, "executor must not be null");
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Snapshots are encoded in the binary Smile format.
+   *
+   * @param directory the directory holding snapshot files
+   * @return this builder instance
+   * @throws NullPointerException if {@code directory} is {@code null}
+   */
+  @Override
+  public ConfigurationManagerBuilder snapshotDirectory(Path directory) {
+    this.snapshotDirectory = requireNonNull(directory, "directory must not be null");
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>JSON resources are then parsed by a {@link LazyJacksonParser}.
+   *
+   * @param enabled whether JSON resources are parsed on demand
+   * @return this builder instance
+   */
+  @Override
+  public ConfigurationManagerBuilder lazyJsonParsing(boolean enabled) {
+    this.lazyJsonParsing = enabled;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    *
    * <p>Builds a {@link DefaultConfigurationManager} using the registered providers and loaders.
    * Internally, {@link JacksonMerger} and {@link JacksonInterpolator} are used for merging and
-   * interpolating configuration data.
+   * interpolating configuration data. The manager's pipeline owns a {@link FragmentCache}, so
+   * resources read by several locations, or re-read with unchanged content, are parsed once.
+   * A {@link SnapshotStore} is attached when a snapshot directory has been set.
    *
    * @return a new {@link ConfigurationManager} instance
    */
@@ -79,9 +144,15 @@ public final class DefaultConfigurationManagerBuilder implements ConfigurationMa
   public ConfigurationManager build() {
     return new DefaultConfigurationManager(
         new DefaultPipeline(new ProvidersRegistry(providers),
-            new LoadersRegistry(loaders, jacksonMappers),
+            new LoadersRegistry(loaders, jacksonMappers, lazyJsonParsing),
             new JacksonMerger(jacksonMappers.getJson()),
-            new JacksonInterpolator(jacksonMappers.getJson())
+            new JacksonInterpolator(jacksonMappers.getJson()),
+            jacksonMappers.getJson(),
+            executor,
+            new FragmentCache(),
+            snapshotDirectory == null
+                ? SnapshotStore.disabled()
+                : new SnapshotStore(snapshotDirectory, jacksonMappers.getSmile())
         ));
   }
 }
@@ -1,9 +1,27 @@
 package io.github.liana.config.core;
 
+import static io.github.liana.config.core.Constants.PROFILE_ENV_VAR;
 import static java.util.Objects.requireNonNull;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.api.Placeholder;
 import io.github.liana.config.api.ResourceLocation;
+import io.github.liana.config.core.logging.ConsoleLogger;
+import io.github.liana.config.core.logging.Logger;
+import io.github.liana.config.internal.ImmutableConfigSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Default implementation of {@link Pipeline} that orchestrates loading, merging, and interpolating
@@ -13,35 +31,147 @@ import java.util.Map;
  * the registered providers and loaders, delegating the actual work to {@code ResourceProcessor},
  * {@code JacksonMerger}, and {@code JacksonInterpolator}.</p>
  *
- * <p>Instances are immutable and thread-safe under the assumption that the
- * supplied registries, merger, and interpolator are themselves thread-safe.</p>
+ * <p>The loaded fragments, the merged result, and the interpolated result all share a single
+ * Jackson tree representation; the final tree is wrapped as a {@link JacksonConfiguration}
+ * without further conversion.</p>
+ *
+ * <p>A pipeline is created once per manager and keeps its collaborators warm across executions:
+ * a single {@code ResourceProcessor} holds the provider and loader resolvers, the active profile
+ * is read from the environment once at construction, and the prepared resource list of each
+ * {@link ResourceLocation} is memoized. Repeated executions therefore only fetch, parse, merge,
+ * and interpolate, and parsing is skipped for resources whose content is unchanged and already
+ * held by the {@link FragmentCache}.</p>
+ *
+ * <p>The last result of each of up to 1024 locations is remembered together with the fragment
+ * instances it was built from. When a later execution yields exactly the same fragments, which is
+ * the case when the fragment cache recognised every resource as unchanged, that result is
+ * returned as is without merging or interpolating again.</p>
+ *
+ * <p>An optional {@link SnapshotStore} carries results across processes: the first execution of
+ * a location in a process is answered from a persisted tree when none of its inputs changed, and
+ * otherwise persists the tree it builds.</p>
+ *
+ * <p>Instances are thread-safe under the assumption that the supplied registries, merger, and
+ * interpolator are themselves thread-safe.</p>
  */
 public class DefaultPipeline implements Pipeline {
 
-  private final ProvidersRegistry providers;
-  private final LoadersRegistry loaders;
+  private final ResourceProcessor processor;
   private final JacksonMerger merger;
   private final JacksonInterpolator interpolator;
+  private final ObjectMapper mapper;
+  private final SnapshotStore snapshots;
+  private final String profile;
+  private final LoadingCache<ResourceLocation, Assembled> assembled =
+      LoadingCache.<ResourceLocation, Assembled>builder()
+          .maximumSize(DefaultConfigurationManager.MAXIMUM_CACHED_LOCATIONS)
+          .build();
+  private final LoadingCache<ResourceLocation, List<ResourceIdentifier>> plans =
+      LoadingCache.<ResourceLocation, List<ResourceIdentifier>>builder()
+          .maximumSize(DefaultConfigurationManager.MAXIMUM_CACHED_LOCATIONS)
+          .build();
+
+  /**
+   * Creates a new {@code DefaultPipeline} that loads resources sequentially on the calling thread.
+   *
+   * @param providers    registry of providers used during resource resolution
+   * @param loaders      registry of loaders for resource fetching
+   * @param merger       strategy to merge raw resource fragments
+   * @param interpolator placeholder interpolator applied after merging
+   * @param mapper       mapper used by the resulting configuration for value conversion
+   * @throws NullPointerException if any argument is null
+   */
+  public DefaultPipeline(
+      ProvidersRegistry providers,
+      LoadersRegistry loaders,
+      JacksonMerger merger,
+      JacksonInterpolator interpolator,
+      ObjectMapper mapper
+  ) {
+    this(providers, loaders, merger, interpolator, mapper, LoadExecutors.sequential());
+  }
 
   /**
-   * Creates a new {@code DefaultPipeline}.
+   * Creates a new {@code DefaultPipeline} that fetches and parses resources on the given executor.
    *
    * @param providers    registry of providers used during resource resolution
    * @param loaders      registry of loaders for resource fetching
    * @param merger       strategy to merge raw resource fragments
    * @param interpolator placeholder interpolator applied after merging
+   * @param mapper       mapper used by the resulting configuration for value conversion
+   * @param executor     executor on which individual resources are loaded
+   * @throws NullPointerException if any argument is null
+   */
+  public DefaultPipeline(
+      ProvidersRegistry providers,
+      LoadersRegistry loaders,
+      JacksonMerger merger,
+      JacksonInterpolator interpolator,
+      ObjectMapper mapper,
+      Executor executor
+  ) {
+    this(providers, loaders, merger, interpolator, mapper, executor, new FragmentCache());
+  }
+
+  /**
+   * Creates a new {@code DefaultPipeline} that loads resources on the given executor and reuses
+   * parsed fragments from the given cache.
+   *
+   * @param providers     registry of providers used during resource resolution
+   * @param loaders       registry of loaders for resource fetching
+   * @param merger        strategy to merge raw resource fragments
+   * @param interpolator  placeholder interpolator applied after merging
+   * @param mapper        mapper used by the resulting configuration for value conversion
+   * @param executor      executor on which individual resources are loaded
+   * @param fragmentCache cache of parsed fragments, possibly shared with other pipelines
+   * @throws NullPointerException if any argument is null
+   */
+  public DefaultPipeline(
+      ProvidersRegistry providers,
+      LoadersRegistry loaders,
+      JacksonMerger merger,
+      JacksonInterpolator interpolator,
+      ObjectMapper mapper,
+      Executor executor,
+      FragmentCache fragmentCache
+  ) {
+    this(providers, loaders, merger, interpolator, mapper, executor, fragmentCache,
+        SnapshotStore.disabled());
+  }
+
+  /**
+   * Creates a new {@code DefaultPipeline} that loads resources on the given executor, reuses
+   * parsed fragments from the given cache, and restores first executions from the given snapshot
+   * store.
+   *
+   * @param providers     registry of providers used during resource resolution
+   * @param loaders       registry of loaders for resource fetching
+   * @param merger        strategy to merge raw resource fragments
+   * @param interpolator  placeholder interpolator applied after merging
+   * @param mapper        mapper used by the resulting configuration for value conversion
+   * @param executor      executor on which individual resources are loaded
+   * @param fragmentCache cache of parsed fragments, possibly shared with other pipelines
+   * @param snapshots     store of persisted configuration trees
    * @throws NullPointerException if any argument is null
    */
   public DefaultPipeline(
       ProvidersRegistry providers,
       LoadersRegistry loaders,
       JacksonMerger merger,
-      JacksonInterpolator interpolator
+      JacksonInterpolator interpolator,
+      ObjectMapper mapper,
+      Executor executor,
+      FragmentCache fragmentCache,
+      SnapshotStore snapshots
   ) {
-    this.providers = requireNonNull(providers);
-    this.loaders = requireNonNull(loaders);
+    this.processor = new ResourceProcessor(requireNonNull(providers), requireNonNull(loaders),
+        new LoadingCache<>(), new LoadingCache<>(), requireNonNull(executor),
+        requireNonNull(fragmentCache));
     this.merger = requireNonNull(merger);
     this.interpolator = requireNonNull(interpolator);
+    this.mapper = requireNonNull(mapper);
+    this.snapshots = requireNonNull(snapshots);
+    this.profile = PropertySources.fromEnv().get(PROFILE_ENV_VAR);
   }
 
   /**
@@ -50,28 +180,188 @@ public class DefaultPipeline implements Pipeline {
    * <p>This implementation performs the following steps:</p>
    * <ol>
    *   <li>validates the resource name using {@code ResourceNameValidator},</li>
-   *   <li>prepares a processing context with {@code ResourcePreparer},</li>
+   *   <li>prepares a processing context with {@code ResourcePreparer} (memoized per
+   *       location),</li>
    *   <li>loads raw fragments via {@code ResourceProcessor},</li>
    *   <li>merges the fragments using {@code JacksonMerger}, and</li>
    *   <li>applies placeholder interpolation using {@code JacksonInterpolator}.</li>
    * </ol>
    *
+   * <p>With an enabled {@link SnapshotStore}, the first execution of a location fingerprints its
+   * resources and returns the persisted tree if its manifest still matches; only otherwise are
+   * the steps above run, and their result is persisted for the next process.</p>
+   *
    * <p>No deep validation of the internal state of {@code ResourceLocation}
    * is performed; it must already obey its own invariants.</p>
    */
   @Override
-  public Map<String, Object> execute(ResourceLocation location) {
+  public Configuration execute(ResourceLocation location) {
     requireNonNull(location);
-    var validator = new ResourceNameValidator(location.baseDirectories());
-    var preparer = new ResourcePreparer(location, validator);
-    var processor = new ResourceProcessor(providers, loaders, preparer);
-    var raw = processor.load(location);
-    var merged = merger.merge(raw);
+    var identifiers = plan(location);
+    Optional<ObjectNode> manifest = manifest(location, identifiers);
+    Optional<Configuration> restored = manifest.flatMap(m -> restore(location, m));
+    if (restored.isPresent()) {
+      return restored.get();
+    }
 
-    return interpolator.interpolate(
+    var raw = processor.load(location, identifiers);
+    return manifest.isPresent()
+        ? assembleAndPersist(location, manifest.get(), raw)
+        : assemble(location, raw);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation runs the same steps as {@link #execute(ResourceLocation)} and reports
+   * every file-backed resource of the location that has been loaded so far, together with every
+   * file its providers probe for the location's resources, found or not.
+   */
+  @Override
+  public LoadResult load(ResourceLocation location) {
+    requireNonNull(location);
+    var identifiers = plan(location);
+    var raw = processor.load(location, identifiers);
+    return new LoadResult(assemble(location, raw), processor.sourceFiles(location, identifiers),
+        processor.candidateFiles(location, identifiers));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation groups the locations by base directories, since those determine how
+   * providers resolve resources. Within each group the union of the prepared resources is loaded
+   * with a single {@code ResourceProcessor} call, so a resource shared by many locations is
+   * fetched and parsed once. Each location is then merged and interpolated from the shared
+   * fragments in its own resource order. Loading runs on the pipeline's executor.</p>
+   *
+   * <p>Locations restored from the {@link SnapshotStore} are left out of loading entirely.</p>
+   */
+  @Override
+  public Map<ResourceLocation, Configuration> executeAll(Collection<ResourceLocation> locations) {
+    requireNonNull(locations);
+    var result = new LinkedHashMap<ResourceLocation, Configuration>();
+    var manifests = new LinkedHashMap<ResourceLocation, ObjectNode>();
+    var groups = new LinkedHashMap<ImmutableConfigSet, List<ResourceLocation>>();
+    for (ResourceLocation location : locations) {
+      requireNonNull(location);
+      if (result.containsKey(location) || manifests.containsKey(location)) {
+        continue;
+      }
+      Optional<ObjectNode> manifest = manifest(location, plan(location));
+      Optional<Configuration> restored = manifest.flatMap(m -> restore(location, m));
+      if (restored.isPresent()) {
+        result.put(location, restored.get());
+        continue;
+      }
+      manifest.ifPresent(m -> manifests.put(location, m));
+      groups.computeIfAbsent(location.baseDirectories(), dirs -> new ArrayList<>()).add(location);
+    }
+
+    for (List<ResourceLocation> group : groups.values()) {
+      var union = new LinkedHashSet<ResourceIdentifier>();
+      group.forEach(location -> union.addAll(plan(location)));
+      var fragments = processor.loadDistinct(group.get(0), union);
+
+      for (ResourceLocation location : group) {
+        if (result.containsKey(location)) {
+          continue;
+        }
+        var raw = new ArrayList<Configuration>();
+        for (ResourceIdentifier identifier : plan(location)) {
+          Optional.ofNullable(fragments.get(identifier)).ifPresent(raw::add);
+        }
+        ObjectNode manifest = manifests.get(location);
+        result.put(location, manifest != null
+            ? assembleAndPersist(location, manifest, raw)
+            : assemble(location, raw));
+      }
+    }
+
+    return Collections.unmodifiableMap(result);
+  }
+
+  private List<ResourceIdentifier> plan(ResourceLocation location) {
+    return plans.getOrCompute(location, () -> prepare(location));
+  }
+
+  private Optional<ObjectNode> manifest(ResourceLocation location,
+      List<ResourceIdentifier> identifiers) {
+    if (!snapshots.isEnabled() || assembled.getIfPresent(location) != null) {
+      return Optional.empty();
+    }
+    return snapshots.manifest(location, profile, identifiers, processor, logger(location));
+  }
+
+  private Optional<Configuration> restore(ResourceLocation location, ObjectNode manifest) {
+    return snapshots.read(manifest, logger(location))
+        .map(tree -> JacksonConfiguration.fromTree(mapper, tree));
+  }
+
+  /**
+   * Builds the configuration of {@code location} while recording the environment variables it
+   * refers to, and persists it under {@code manifest}.
+   */
+  private Configuration assembleAndPersist(ResourceLocation location, ObjectNode manifest,
+      List<Configuration> raw) {
+    Set<String> environment = ConcurrentHashMap.newKeySet();
+    var configuration = build(location, raw,
+        SnapshotStore.recording(location.placeholder(), environment));
+    if (configuration instanceof JacksonConfiguration jackson) {
+      snapshots.write(manifest, jackson.getRootNode(), raw.size(), environment,
+          logger(location));
+    }
+    return configuration;
+  }
+
+  private static Logger logger(ResourceLocation location) {
+    return ConsoleLogger.getLogger(location.verboseLogging());
+  }
+
+  private Configuration assemble(ResourceLocation location, List<Configuration> raw) {
+    Assembled last = assembled.getIfPresent(location);
+    if (last != null && last.isBuiltFrom(raw)) {
+      return last.configuration();
+    }
+    return build(location, raw, location.placeholder());
+  }
+
+  private Configuration build(ResourceLocation location, List<Configuration> raw,
+      Placeholder placeholder) {
+    Assembled last = assembled.getIfPresent(location);
+    var merged = merger.merge(raw);
+    var interpolated = interpolator.interpolate(
         merged,
-        location.placeholder(),
+        placeholder,
         location.variables()
     );
+
+    var configuration = JacksonConfiguration.fromTree(mapper, interpolated);
+    var current = new Assembled(List.copyOf(raw), configuration);
+    if (last != null) {
+      assembled.remove(location, last);
+    }
+    assembled.getOrCompute(location, () -> current);
+    return configuration;
+  }
+
+  private List<ResourceIdentifier> prepare(ResourceLocation location) {
+    var validator = new ResourceNameValidator(location.baseDirectories());
+    return new ResourcePreparer(location, profile, validator).prepare();
+  }
+
+  private record Assembled(List<Configuration> fragments, Configuration configuration) {
+
+    boolean isBuiltFrom(List<Configuration> raw) {
+      if (raw.size() != fragments.size()) {
+        return false;
+      }
+      for (int i = 0; i < raw.size(); i++) {
+        if (raw.get(i) != fragments.get(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
   }
 }
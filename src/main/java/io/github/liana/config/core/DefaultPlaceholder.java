@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -25,6 +26,10 @@ import java.util.function.Supplier;
  * <p>Resolution follows an "all-or-nothing" strategy: if any placeholder cannot be resolved using
  * the provided sources or its fallback value, the operation returns {@code Optional.empty()}.
  *
+ * <p>Two instances are equal when they share the same syntax and the same ordered property
+ * sources, so logically identical placeholders can be used interchangeably as part of cache keys.
+ * The hash code is computed once at construction.
+ *
  * <p>This class is part of the internal implementation surface; consumers typically obtain
  * instances via {@code PlaceholderBuilder}.
  */
@@ -35,6 +40,7 @@ public final class DefaultPlaceholder implements Placeholder {
   private final String suffix;
   private final String delimiter;
   private final char escapeChar;
+  private final int hash;
 
   /**
    * Creates a resolver using the system environment as the default property source.
@@ -64,6 +70,26 @@ public final class DefaultPlaceholder implements Placeholder {
     this.delimiter = requireNonBlank(delimiter, "delimiter must not be null or blank");
     this.escapeChar = escapeChar;
     this.sources = List.copyOf(requireNonNull(sources, "sources must not be null"));
+    this.hash = Objects.hash(prefix, suffix, delimiter, escapeChar, this.sources);
+  }
+
+  /**
+   * Tells whether this placeholder resolves keys against the system environment and nothing else.
+   *
+   * @return {@code true} if the only property source is {@link PropertySources#fromEnv()}
+   */
+  boolean resolvesFromEnvironmentOnly() {
+    return sources.size() == 1 && sources.get(0) == PropertySources.fromEnv();
+  }
+
+  /**
+   * Returns a placeholder with the same syntax that resolves keys against {@code sources}.
+   *
+   * @param sources ordered property sources used to resolve placeholders; must not be null
+   * @return the new placeholder
+   */
+  DefaultPlaceholder withSources(List<PropertySource> sources) {
+    return new DefaultPlaceholder(prefix, suffix, delimiter, escapeChar, sources);
   }
 
   /**
@@ -197,4 +223,33 @@ public final class DefaultPlaceholder implements Placeholder {
 
     return null;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (!(o instanceof DefaultPlaceholder that)) {
+      return false;
+    }
+
+    return hash == that.hash
+        && escapeChar == that.escapeChar
+        && prefix.equals(that.prefix)
+        && suffix.equals(that.suffix)
+        && delimiter.equals(that.delimiter)
+        && sources.equals(that.sources);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return "DefaultPlaceholder[prefix=" + prefix + ", suffix=" + suffix + ", delimiter="
+        + delimiter + ", escapeChar=" + escapeChar + "]";
+  }
 }
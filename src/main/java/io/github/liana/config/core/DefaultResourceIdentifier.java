@@ -14,12 +14,23 @@ import static java.util.Objects.requireNonNull;
  *
  * @param provider     the provider identifier; must not be {@code null}
  * @param resourceName the logical resource name; must not be {@code null}
+ * @param optional     whether the resource may be absent
  */
-public record DefaultResourceIdentifier(String provider, String resourceName) implements
-    ResourceIdentifier {
+public record DefaultResourceIdentifier(String provider, String resourceName, boolean optional)
+    implements ResourceIdentifier {
 
   public DefaultResourceIdentifier {
     requireNonNull(provider, "provider must not be null");
     requireNonNull(resourceName, "resourceName must not be null");
   }
+
+  /**
+   * Creates an identifier for a required resource.
+   *
+   * @param provider     the provider identifier; must not be {@code null}
+   * @param resourceName the logical resource name; must not be {@code null}
+   */
+  public DefaultResourceIdentifier(String provider, String resourceName) {
+    this(provider, resourceName, false);
+  }
 }
@@ -28,6 +28,11 @@ import io.github.liana.config.internal.ImmutableConfigSet;
  * stores the supplied immutable collections and placeholder resolver without applying additional
  * processing or behavioral rules.
  *
+ * <p>Equality is structural: two locations built from the same provider, directories, resource
+ * names, variables, logging flag and placeholder are equal, so they share a single cache entry in
+ * {@link DefaultConfigurationManager}. Every component caches its own hash code, so hashing and
+ * comparing a location does not walk the nested sets and maps.
+ *
  * <p>Instances are fully immutable and therefore thread-safe.
  */
 public record DefaultResourceLocation(
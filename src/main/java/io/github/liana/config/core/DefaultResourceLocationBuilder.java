@@ -1,5 +1,6 @@
 package io.github.liana.config.core;
 
+import static io.github.liana.config.core.Constants.OPTIONAL_PREFIX;
 import static io.github.liana.config.core.Constants.PROVIDER;
 import static io.github.liana.config.internal.MapUtils.of;
 import static java.util.Objects.requireNonNull;
@@ -31,6 +32,7 @@ public final class DefaultResourceLocationBuilder implements ResourceLocationBui
   private static final String RESOURCES_MUST_NOT_BE_NULL = "resources must not be null";
   private static final String VARIABLES_MUST_NOT_BE_NULL = "variables must not be null";
   private static final String PLACEHOLDER_MUST_NOT_BE_NULL = "placeholder must not be null";
+  private static final Placeholder DEFAULT_PLACEHOLDER = Placeholder.builder().build();
   private String provider = "";
   private final Set<String> resourceNames = new LinkedConfigSet();
   private final Set<String> baseDirectories = new LinkedConfigSet();
@@ -74,6 +76,14 @@ public final class DefaultResourceLocationBuilder implements ResourceLocationBui
     return this;
   }
 
+  @Override
+  public ResourceLocationBuilder addOptionalResource(String resourceName) {
+    requireNonNull(resourceName, "resourceName must not be null");
+    resourceNames.add(OPTIONAL_PREFIX + resourceName);
+
+    return this;
+  }
+
   @Override
   public ResourceLocationBuilder addVariable(String key, String value) {
     try {
@@ -132,7 +142,7 @@ public final class DefaultResourceLocationBuilder implements ResourceLocationBui
         ImmutableConfigSet.of(resourceNames),
         ImmutableConfigMap.of(variables),
         verboseLogging,
-        requireNonNullElse(placeholder, Placeholder.builder().build())
+        requireNonNullElse(placeholder, DEFAULT_PLACEHOLDER)
     );
   }
 }
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 
 /**
  * Default implementation of {@link ResourceStream} representing a configuration resource.
@@ -23,15 +25,48 @@ import java.io.InputStream;
  *
  * @param name   the name of the resource for identification and resolution; never {@code null}
  * @param stream the {@link InputStream} providing the resource content; never {@code null}
+ * @param file   the file on disk the content is read from, or {@code null} if not file-backed
+ * @param stamp  the fingerprint of the content, or {@code null} if unknown
  */
-public record DefaultResourceStream(String name, InputStream stream) implements
-    ResourceStream {
+public record DefaultResourceStream(String name, InputStream stream, Path file,
+    ResourceFingerprint stamp) implements ResourceStream {
 
   public DefaultResourceStream {
     requireNonNull(name, "name must not be null");
     requireNonNull(stream, "stream must not be null");
   }
 
+  /**
+   * Creates a resource that is not backed by a file.
+   *
+   * @param name   the name of the resource; never {@code null}
+   * @param stream the {@link InputStream} providing the resource content; never {@code null}
+   */
+  public DefaultResourceStream(String name, InputStream stream) {
+    this(name, stream, null, null);
+  }
+
+  /**
+   * Creates a resource backed by the given file, without a known fingerprint.
+   *
+   * @param name   the name of the resource; never {@code null}
+   * @param stream the {@link InputStream} providing the resource content; never {@code null}
+   * @param file   the file on disk the content is read from, or {@code null} if not file-backed
+   */
+  public DefaultResourceStream(String name, InputStream stream, Path file) {
+    this(name, stream, file, null);
+  }
+
+  @Override
+  public Optional<Path> sourceFile() {
+    return Optional.ofNullable(file);
+  }
+
+  @Override
+  public Optional<ResourceFingerprint> fingerprint() {
+    return Optional.ofNullable(stamp);
+  }
+
   @Override
   public void close() throws IOException {
     stream.close();
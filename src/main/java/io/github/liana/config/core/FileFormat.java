@@ -20,7 +20,8 @@ public enum FileFormat {
   PROPERTIES(of("properties")),
   YAML(of("yaml", "yml")),
   JSON(of("json")),
-  XML(of("xml"));
+  XML(of("xml")),
+  CONFIG_TREE(of("configtree"));
 
   private final Set<String> extensions;
 
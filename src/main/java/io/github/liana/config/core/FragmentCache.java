@@ -0,0 +1,179 @@
+package io.github.liana.config.core;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.core.exception.ResourceLoaderException;
+import io.github.liana.config.spi.ResourceLoader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded cache of parsed configuration fragments, keyed by where a resource came from and what it
+ * contained.
+ *
+ * <p>The cache sits between {@code ResourceProvider.resolveResource} and
+ * {@link ResourceLoader#load}. A resource that reports a {@link ResourceStream#fingerprint()} is
+ * looked up by it without being read; any other resource is read fully into memory and
+ * fingerprinted with a CRC32C checksum. A fragment previously parsed from the same provider,
+ * resolved resource, and fingerprint is returned without parsing again. A file-backed resource is
+ * identified by its absolute path, so equally named files in different base directories never
+ * share a fragment even when their size and modification time match; other resources are
+ * identified by name. Changed content yields a different key, so a stale fragment is never
+ * served.
+ *
+ * <p>Cached fragments are shared between every location and reload that reads the same resource.
+ * They are treated as immutable: the merger and interpolator copy any tree they need to change.
+ *
+ * <p>The number of entries is bounded; when the bound is exceeded the least recently used fragment
+ * is evicted. A cache created with {@link #disabled()} keeps nothing and passes every resource
+ * straight to its loader without buffering.
+ *
+ * <p>Thread Safety: Safe for concurrent access by multiple threads. Parsing happens outside the
+ * lock, so two threads missing on the same key at once may both parse; the first stored fragment
+ * wins and is returned to both.
+ */
+public final class FragmentCache {
+
+  /**
+   * Default maximum number of cached fragments.
+   */
+  public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+  private static final FragmentCache DISABLED = new FragmentCache(0);
+
+  private final int maximumSize;
+  private final Map<Key, Configuration> entries;
+
+  /**
+   * Creates a cache holding up to {@link #DEFAULT_MAXIMUM_SIZE} fragments.
+   */
+  public FragmentCache() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Creates a cache holding up to {@code maximumSize} fragments.
+   *
+   * @param maximumSize the maximum number of fragments kept; {@code 0} disables caching
+   * @throws IllegalArgumentException if {@code maximumSize} is negative
+   */
+  public FragmentCache(int maximumSize) {
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("maximumSize must not be negative");
+    }
+    this.maximumSize = maximumSize;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Configuration> eldest) {
+        return size() > FragmentCache.this.maximumSize;
+      }
+    };
+  }
+
+  /**
+   * Returns a shared cache that never stores fragments.
+   *
+   * @return the disabled cache
+   */
+  public static FragmentCache disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Returns the fragment parsed from {@code resource}, reusing a cached one when the same provider
+   * previously served the same resource name with identical content.
+   *
+   * <p>The caller remains responsible for closing {@code resource}.
+   *
+   * @param provider the key of the provider that resolved the resource; must not be {@code null}
+   * @param resource the resolved resource; must not be {@code null}
+   * @param loader   the loader used on a cache miss; must not be {@code null}
+   * @return the parsed configuration fragment
+   * @throws NullPointerException    if any argument is {@code null}
+   * @throws ResourceLoaderException if the resource cannot be read or parsed
+   */
+  public Configuration getOrLoad(String provider, ResourceStream resource, ResourceLoader loader) {
+    requireNonNull(provider, "provider must not be null");
+    requireNonNull(resource, "resource must not be null");
+    requireNonNull(loader, "loader must not be null");
+    if (maximumSize == 0) {
+      return loader.load(resource);
+    }
+
+    Optional<ResourceFingerprint> known = resource.fingerprint();
+    if (known.isPresent()) {
+      var key = new Key(provider, origin(resource), known.get());
+      Configuration cached = get(key);
+      return cached != null ? cached : putIfAbsent(key, loader.load(resource));
+    }
+
+    byte[] content = readAll(resource);
+    var key = new Key(provider, origin(resource), ResourceFingerprint.ofContent(content));
+    Configuration cached = get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    Configuration loaded = loader.load(
+        new DefaultResourceStream(resource.name(), new ByteArrayInputStream(content)));
+    return putIfAbsent(key, loaded);
+  }
+
+  /**
+   * Returns the number of fragments currently cached.
+   *
+   * @return the number of cached fragments
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Removes every cached fragment.
+   */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  private Configuration get(Key key) {
+    synchronized (entries) {
+      return entries.get(key);
+    }
+  }
+
+  private Configuration putIfAbsent(Key key, Configuration value) {
+    if (value == null) {
+      return null;
+    }
+    synchronized (entries) {
+      Configuration existing = entries.putIfAbsent(key, value);
+      return existing != null ? existing : value;
+    }
+  }
+
+  private static String origin(ResourceStream resource) {
+    return resource.sourceFile()
+        .map(file -> file.toAbsolutePath().normalize().toString())
+        .orElse(resource.name());
+  }
+
+  private static byte[] readAll(ResourceStream resource) {
+    try {
+      return requireNonNull(resource.stream(), "stream must not be null").readAllBytes();
+    } catch (IOException e) {
+      throw new ResourceLoaderException("Error reading config from " + resource.name(), e);
+    }
+  }
+
+  private record Key(String provider, String origin, ResourceFingerprint fingerprint) {
+
+  }
+}
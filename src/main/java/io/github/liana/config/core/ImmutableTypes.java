@@ -0,0 +1,88 @@
+package io.github.liana.config.core;
+
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Tells which conversion target types produce values that can be shared between callers.
+ *
+ * <p>A type qualifies if its instances cannot be modified after conversion: strings, boxed
+ * primitives, big numbers, the {@code java.time} value types, a few other JDK value types,
+ * enums, and records whose components are all of such types. Collections and arrays never
+ * qualify, because Jackson builds them as mutable instances, and neither do parameterized types.
+ *
+ * <p>The decision is computed once per class.
+ */
+final class ImmutableTypes {
+
+  private static final Set<Class<?>> VALUE_TYPES = Set.of(
+      String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class,
+      Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class,
+      Duration.class, Period.class, Instant.class, LocalDate.class, LocalTime.class,
+      LocalDateTime.class, OffsetTime.class, OffsetDateTime.class, ZonedDateTime.class,
+      Year.class, YearMonth.class, MonthDay.class, ZoneOffset.class,
+      UUID.class, URI.class, Locale.class, Pattern.class);
+
+  private static final ClassValue<Boolean> IMMUTABLE = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return isImmutable(type, new HashSet<>());
+    }
+  };
+
+  private ImmutableTypes() {
+  }
+
+  /**
+   * Tells whether values converted to {@code type} are immutable.
+   *
+   * @param type the conversion target type
+   * @return {@code true} if converted values can be shared
+   */
+  static boolean isImmutable(Type type) {
+    return type instanceof Class<?> clazz && IMMUTABLE.get(clazz);
+  }
+
+  private static boolean isImmutable(Class<?> type, Set<Class<?>> visiting) {
+    if (type.isPrimitive() || VALUE_TYPES.contains(type) || type.isEnum()
+        || ZoneId.class.isAssignableFrom(type) || Path.class.isAssignableFrom(type)) {
+      return true;
+    }
+    if (!type.isRecord()) {
+      return false;
+    }
+    if (!visiting.add(type)) {
+      return true;
+    }
+    for (RecordComponent component : type.getRecordComponents()) {
+      if (!(component.getGenericType() instanceof Class<?> componentType)
+          || !isImmutable(componentType, visiting)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -1,26 +1,28 @@
 package io.github.liana.config.core;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.InputStream;
-import java.util.Map;
 
 /**
  * Jackson-based implementation of {@link AbstractConfiguration}.
  *
  * <p>This class reads configuration data from an {@link InputStream} using a provided
- * {@link ObjectMapper}. The parsed data is converted into a {@link Map} and passed to the parent
- * {@link AbstractConfiguration}.
+ * {@link ObjectMapper}, or wraps an already built {@link JsonNode} tree. The tree is kept as-is and
+ * handed to a {@link JacksonValueResolver}; no intermediate {@code Map} is materialized.
  *
  * <p>Instances of this class are immutable once constructed.
  *
  * <p><b>Thread Safety:</b> Instances are thread-safe as long as the provided {@link ObjectMapper}
  * is thread-safe and the input stream is not modified concurrently.
  *
- * <p><b>Responsibilities:</b> Parsing the input stream into a map for configuration retrieval.
+ * <p><b>Responsibilities:</b> Parsing the input stream into a tree for configuration retrieval.
  * Does not perform merging or dynamic updates of the configuration after construction.
  */
 public class JacksonConfiguration extends AbstractConfiguration {
 
+  private final JacksonValueResolver resolver;
+
   /**
    * Creates a new {@code JacksonConfiguration} by reading configuration data from the given
    * {@link InputStream}.
@@ -31,6 +33,35 @@ public class JacksonConfiguration extends AbstractConfiguration {
    * @throws NullPointerException if {@code mapper} or {@code inputStream} are {@code null}
    */
   protected JacksonConfiguration(ObjectMapper mapper, InputStream inputStream) {
-    super(new JacksonValueResolver(mapper, inputStream));
+    this(new JacksonValueResolver(mapper, inputStream));
+  }
+
+  private JacksonConfiguration(JacksonValueResolver resolver) {
+    super(resolver);
+    this.resolver = resolver;
+  }
+
+  /**
+   * Creates a {@code JacksonConfiguration} backed by an existing tree.
+   *
+   * <p>The tree is not copied and must not be modified afterwards.
+   *
+   * @param mapper the {@link ObjectMapper} used for value conversion, must not be {@code null}
+   * @param root   the root node of the configuration, must not be {@code null}
+   * @return a configuration view over {@code root}
+   * @throws NullPointerException if {@code mapper} or {@code root} are {@code null}
+   */
+  static JacksonConfiguration fromTree(ObjectMapper mapper, JsonNode root) {
+    return new JacksonConfiguration(new JacksonValueResolver(mapper, root));
+  }
+
+  /**
+   * Returns the underlying tree so pipeline components can reuse it without a conversion round
+   * trip. The returned node must be treated as read-only.
+   *
+   * @return the root node of this configuration
+   */
+  JsonNode getRootNode() {
+    return resolver.getSourceNode();
   }
 }
@@ -7,38 +7,31 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.github.liana.config.api.Placeholder;
-import io.github.liana.config.core.exception.ConversionException;
 import io.github.liana.config.internal.ImmutableConfigMap;
-import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
-import java.util.function.Consumer;
 
 /**
- * Replaces placeholders in a map with provided variables.
+ * Replaces placeholders in a Jackson tree with provided variables.
  *
- * <p>This class processes a map of values, replacing any placeholders in text
- * (like "${USER}") with corresponding values from a variables map. Nested maps and lists are
- * supported. The original map is not modified; a new map is returned.</p>
+ * <p>This class walks a {@link JsonNode} tree, replacing any placeholders in text
+ * (like "${USER}") with corresponding values from a variables map. Nested objects and arrays are
+ * supported. The input tree is never modified: only the containers on the path to a replaced value
+ * are copied (shallowly), every untouched subtree is shared, and the input itself is returned when
+ * nothing changes.</p>
  *
  * <p>Example:</p>
  *
  * <pre>{@code
- * Map<String, Object> input = Map.of(
- *     "user", "${USER}",
- *     "password", "${PASS}"
- * );
- *
- * Placeholder placeholder = Placeholder.of("${", "}");
- * Map<String, String> vars = Map.of(
+ * // input: { "user": "${USER}", "password": "${PASS}" }
+ * Placeholder placeholder = Placeholder.builder().build();
+ * ImmutableConfigMap vars = ImmutableConfigMap.of(Map.of(
  *     "USER", "Alice",
  *     "PASS", "secret"
- * );
+ * ));
  *
  * JacksonInterpolator interpolator = new JacksonInterpolator(new ObjectMapper());
- * Map<String, Object> result = interpolator.interpolate(input, placeholder, vars);
+ * JsonNode result = interpolator.interpolate(input, placeholder, vars);
  *
  * }</pre>
  */
@@ -47,133 +40,142 @@ public final class JacksonInterpolator extends AbstractJacksonComponent {
   /**
    * Creates a new interpolator with the given {@link ObjectMapper}.
    *
-   * @param mapper the mapper to use for conversions; must not be null
+   * @param mapper the mapper to use for node creation; must not be null
    */
   public JacksonInterpolator(ObjectMapper mapper) {
     super(mapper);
   }
 
   /**
-   * Interpolates all textual values in the given map, replacing placeholders that can be fully
+   * Interpolates all textual values in the given tree, replacing placeholders that can be fully
    * resolved using the provided variables.
    *
-   * <p>If the input map or variable map is empty, the original map is returned as an unmodifiable
-   * view without any modifications.
+   * <p>If the tree or the variable map is empty, or no value changes, the source node itself is
+   * returned.
    *
-   * @param source      the source map to interpolate; must not be null
+   * @param source      the tree to interpolate; must not be null
    * @param placeholder the placeholder definition (prefix/suffix) to use; must not be null
    * @param variables   the variables to resolve placeholders with; must not be null
-   * @return a new unmodifiable map with interpolated values, or the unmodified source if there is
-   * nothing to interpolate
-   * @throws NullPointerException  if {@code source}, {@code placeholder}, or {@code variables} is
-   *                               null
-   * @throws ConversionException   if conversion between map and JSON tree fails
-   * @throws IllegalStateException if the interpolation produces an unexpected null value
+   * @return a tree with interpolated values, sharing every unchanged subtree with {@code source}
+   * @throws NullPointerException if {@code source}, {@code placeholder}, or {@code variables} is
+   *                              null
    */
-  public Map<String, Object> interpolate(Map<String, Object> source, Placeholder placeholder,
+  public JsonNode interpolate(JsonNode source, Placeholder placeholder,
       ImmutableConfigMap variables) {
 
-    requireNonNull(source, "source map must not be null");
+    requireNonNull(source, "source node must not be null");
     requireNonNull(placeholder, "placeholder must not be null");
     requireNonNull(variables, "variables map must not be null");
 
     if (source.isEmpty() || variables.isEmpty()) {
-      return Collections.unmodifiableMap(source);
+      return source;
     }
 
-    JsonNode root = executeWithResult(() -> mapper.convertValue(source, JsonNode.class),
-        "failed to prepare data for interpolation");
-
-    processNode(root, placeholder, variables);
-    return executeWithResult(
-        () -> mapper.convertValue(root, MAP_TYPE),
-        "failed to finalize interpolated data"
-    );
+    return processNode(source, placeholder, variables.toMap());
   }
 
   /**
-   * Recursively processes a JSON node, delegating to object or array processing as appropriate.
+   * Recursively processes a node, delegating to object, array, or text processing as appropriate.
    *
-   * @param node        the node to process; may be null
+   * @param node        the node to process; must not be null
    * @param placeholder the placeholder definition; must not be null
    * @param variables   the variables to resolve placeholders with; must not be null
-   * @throws IllegalStateException if the node is null, indicating an unexpected state in the
-   *                               interpolation process
+   * @return the processed node, or {@code node} itself if nothing changed
    */
-  private void processNode(JsonNode node, Placeholder placeholder,
-      ImmutableConfigMap variables) {
+  private JsonNode processNode(JsonNode node, Placeholder placeholder,
+      Map<String, String> variables) {
+    if (node.isObject()) {
+      return processObject((ObjectNode) node, placeholder, variables);
+    }
 
-    Optional.ofNullable(node)
-        .orElseThrow(() -> new IllegalStateException(
-            "unexpected null value encountered during interpolation"));
+    if (node.isArray()) {
+      return processArray((ArrayNode) node, placeholder, variables);
+    }
 
-    if (node.isObject()) {
-      processObject((ObjectNode) node, placeholder, variables);
-    } else if (node.isArray()) {
-      processArray((ArrayNode) node, placeholder, variables);
+    if (node.isTextual()) {
+      return processText(node, placeholder, variables);
     }
+
+    return node;
   }
 
   /**
-   * Processes all properties of a JSON object node, applying interpolation to textual values and
-   * recursively visiting nested nodes.
+   * Processes all properties of an object node. The node is copied only once the first property
+   * changes.
+   *
+   * <p>An object whose values are parsed on demand is not walked; a lazy view is returned instead
+   * that interpolates each property when it is first read.
    *
    * @param node        the object node to process; must not be null
    * @param placeholder the placeholder definition; must not be null
    * @param variables   the variables to resolve placeholders with; must not be null
+   * @return a copy holding the interpolated properties, or {@code node} if nothing changed
    */
-  private void processObject(ObjectNode node, Placeholder placeholder,
-      ImmutableConfigMap variables) {
-    Set<Map.Entry<String, JsonNode>> properties = node.properties();
-    for (Map.Entry<String, JsonNode> entry : properties) {
-      applyIfTextual(entry.getValue(),
-          interpolated -> node.set(entry.getKey(), textNode(interpolated)),
-          placeholder, variables);
+  private JsonNode processObject(ObjectNode node, Placeholder placeholder,
+      Map<String, String> variables) {
+    if (node instanceof LazyObjectNode) {
+      return LazyObjectNode.mapping(node, value -> processNode(value, placeholder, variables));
     }
+
+    ObjectNode copy = null;
+    for (Map.Entry<String, JsonNode> entry : node.properties()) {
+      JsonNode value = entry.getValue();
+      JsonNode processed = processNode(value, placeholder, variables);
+      if (processed != value) {
+        if (copy == null) {
+          copy = mapper.createObjectNode();
+          copy.setAll(node);
+        }
+        copy.set(entry.getKey(), processed);
+      }
+    }
+
+    return copy == null ? node : copy;
   }
 
   /**
-   * Processes all elements of a JSON array node, applying interpolation to textual values and
-   * recursively visiting nested nodes.
+   * Processes all elements of an array node. The node is copied only once the first element
+   * changes.
    *
    * @param node        the array node to process; must not be null
    * @param placeholder the placeholder definition; must not be null
    * @param variables   the variables to resolve placeholders with; must not be null
+   * @return a copy holding the interpolated elements, or {@code node} if nothing changed
    */
-  private void processArray(ArrayNode node, Placeholder placeholder,
-      ImmutableConfigMap variables) {
+  private JsonNode processArray(ArrayNode node, Placeholder placeholder,
+      Map<String, String> variables) {
+    ArrayNode copy = null;
     for (int i = 0; i < node.size(); i++) {
-      final int index = i;
-      applyIfTextual(node.get(i), interpolated -> node.set(index, textNode(interpolated)),
-          placeholder, variables);
+      JsonNode value = node.get(i);
+      JsonNode processed = processNode(value, placeholder, variables);
+      if (processed != value) {
+        if (copy == null) {
+          copy = mapper.createArrayNode();
+          copy.addAll(node);
+        }
+        copy.set(i, processed);
+      }
     }
+
+    return copy == null ? node : copy;
   }
 
   /**
-   * Applies interpolation to a node if it is textual, or delegates back to recursive processing if
-   * it is an object or array.
+   * Applies interpolation to a textual node.
    *
-   * @param node        the node to evaluate; must not be null
-   * @param consumer    consumer to apply if interpolation produces a new value
+   * @param node        the textual node; must not be null
    * @param placeholder the placeholder definition; must not be null
    * @param variables   the variables to resolve placeholders with; must not be null
+   * @return a new text node if the value changed, or {@code node} otherwise
    */
-  private void applyIfTextual(JsonNode node, Consumer<String> consumer,
-      Placeholder placeholder,
-      ImmutableConfigMap variables) {
-    if (!node.isTextual()) {
-      processNode(node, placeholder, variables);
-      return;
-    }
-
+  private JsonNode processText(JsonNode node, Placeholder placeholder,
+      Map<String, String> variables) {
     String original = node.asText();
     if (original.isEmpty()) {
-      return;
+      return node;
     }
 
-    String interpolated = placeholder.replaceIfAllResolvable(original, variables.toMap()).orElse(original);
-    if (!Objects.equals(interpolated, original)) {
-      consumer.accept(interpolated);
-    }
+    String interpolated = placeholder.replaceIfAllResolvable(original, variables).orElse(original);
+    return Objects.equals(interpolated, original) ? node : textNode(interpolated);
   }
 }
@@ -13,7 +13,8 @@ import java.util.ServiceLoader;
 /**
  * Factory for creating Jackson {@link ObjectMapper} instances.
  *
- * <p>Provides preconfigured mappers for JSON, YAML, XML, and Java Properties.
+ * <p>Provides preconfigured mappers for JSON, YAML, XML, and Java Properties, plus the binary
+ * Smile format used for startup snapshots.
  * Mappers are discovered via {@link ServiceLoader}. If a required format is not available, an
  * {@link IllegalStateException} is thrown.
  *
@@ -29,6 +30,7 @@ public final class JacksonMappers {
   private static final String YAML = "YAML";
   private static final String XML = "XML";
   private static final String PROPERTIES = "java_properties";
+  private static final String SMILE = "Smile";
 
   private final ServiceRegistry<JsonFactory, ObjectMapper> registry;
 
@@ -103,10 +105,20 @@ public final class JacksonMappers {
     return get(PROPERTIES);
   }
 
+  /**
+   * Returns the Smile {@link ObjectMapper}.
+   *
+   * @return Smile mapper
+   * @throws IllegalStateException if Smile support is unavailable
+   */
+  public ObjectMapper getSmile() {
+    return get(SMILE);
+  }
+
   /**
    * Returns the {@link ObjectMapper} for the given format.
    *
-   * @param formatName format name, e.g. "JSON", "YAML", "XML", or "java_properties"
+   * @param formatName format name, e.g. "JSON", "YAML", "XML", "java_properties", or "Smile"
    * @return mapper for the given format
    * @throws IllegalStateException if no mapper supports the format
    */
@@ -125,7 +137,7 @@ public final class JacksonMappers {
    * @param jsonFactory non-null JSON factory
    * @return configured {@link ObjectMapper}
    */
-  private static ObjectMapper configure(JsonFactory jsonFactory) {
+  static ObjectMapper configure(JsonFactory jsonFactory) {
     ObjectMapper mapper = new ObjectMapper(jsonFactory);
     mapper.registerModule(new JavaTimeModule());
     mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
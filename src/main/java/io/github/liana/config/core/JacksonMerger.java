@@ -1,40 +1,42 @@
 package io.github.liana.config.core;
 
-import static java.util.Objects.nonNull;
+import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.liana.config.api.Configuration;
 import io.github.liana.config.core.exception.ConversionException;
-import io.github.liana.config.core.exception.MergeException;
-import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
- * Utility class that merges multiple {@link Map} instances into a single unified structure.
+ * Merges multiple {@link Configuration} fragments into a single Jackson tree.
  *
- * <p>This class converts each input map into a Jackson {@link ObjectNode}, performs a deep merge,
- * and overrides arrays entirely (rather than merging elements individually). When a key appears in
- * multiple maps, the value from the last map wins.
+ * <p>Fragments produced by the built-in loaders already hold a Jackson tree, which is consumed
+ * directly; any other {@link Configuration} is converted once from its root map. Objects are merged
+ * recursively and every other value, arrays included, is overridden entirely by the last fragment
+ * that defines it.
+ *
+ * <p>Input trees are never modified. Only the objects that actually receive values from more than
+ * one fragment are copied (shallowly); all other subtrees are shared with the inputs, so the
+ * returned tree must be treated as read-only. Objects whose values are parsed on demand, as
+ * produced by {@link LazyJacksonParser}, are merged lazily as well: each field is merged when it is
+ * first read, so unread parts of a resource are never parsed.
  *
  * <h2>Usage Example</h2>
  * <pre>{@code
- * ObjectMapper mapper = new ObjectMapper();
  * JacksonMerger merger = new JacksonMerger(mapper);
  *
- * Map<String, Object> first = Map.of("key1", "value1", "key2", List.of(1, 2));
- * Map<String, Object> second = Map.of("key2", List.of(3, 4), "key3", "value3");
- *
- * Map<String, Object> result = merger.merge(List.of(first, second));
+ * // first:  { "key1": "value1", "key2": [1, 2] }
+ * // second: { "key2": [3, 4], "key3": "value3" }
+ * JsonNode result = merger.merge(List.of(first, second));
  *
  * // result:
  * // {
  * //   "key1": "value1",
- * //   "key2": [3, 4],  // overridden by second map
+ * //   "key2": [3, 4],  // overridden by second fragment
  * //   "key3": "value3"
  * // }
  * }</pre>
@@ -55,85 +57,85 @@ public final class JacksonMerger extends AbstractJacksonComponent {
   }
 
   /**
-   * Merges a list of configuration maps into a single immutable result.
+   * Merges a list of configuration fragments into a single tree.
    *
-   * <p>Null and empty maps are ignored. If the list is empty, an empty map is returned.
-   * If the list contains only one map, an unmodifiable view of that map is returned.</p>
+   * <p>Null fragments and fragments whose root is not a non-empty object are ignored. If nothing
+   * remains, an empty object node is returned. If only one fragment remains, its tree is returned
+   * as-is.</p>
    *
-   * @param sources list of maps to merge; must not be null
-   * @return a consolidated and immutable map containing the merged data
+   * @param sources list of fragments to merge, in increasing order of precedence; must not be null
+   * @return the merged tree; never null
    * @throws NullPointerException if {@code sources} is null
-   * @throws ConversionException  if a conversion error occurs during merging
-   * @throws MergeException       if a runtime error occurs while applying updates
+   * @throws ConversionException  if a fragment cannot be converted into a tree
    */
-  public Map<String, Object> merge(List<Map<String, Object>> sources) {
+  public JsonNode merge(List<Configuration> sources) {
     requireNonNull(sources, "sources list must not be null");
 
-    if (sources.isEmpty()) {
-      return Collections.emptyMap();
-    }
-
-    if (sources.size() == 1) {
-      return Optional.ofNullable(sources.get(0))
-          .map(Collections::unmodifiableMap)
-          .orElse(Collections.emptyMap());
-    }
+    ObjectNode merged = null;
+    for (Configuration source : sources) {
+      if (isNull(source)) {
+        continue;
+      }
 
-    ObjectNode mergedNode = mapper.createObjectNode();
+      JsonNode tree = toTree(source);
+      if (!tree.isObject() || tree.isEmpty()) {
+        continue;
+      }
 
-    sources.stream()
-        .filter(source -> nonNull(source) && !source.isEmpty())
-        .forEach(source -> mergeSourceIntoNode(source, mergedNode));
+      merged = isNull(merged) ? (ObjectNode) tree : mergeObjects(merged, (ObjectNode) tree);
+    }
 
-    return Collections.unmodifiableMap(
-        executeWithResult(() -> mapper.convertValue(mergedNode, MAP_TYPE),
-            "failed to finalize merged result"));
+    return isNull(merged) ? mapper.createObjectNode() : merged;
   }
 
   /**
-   * Merges a single source map into the target node.
-   *
-   * <p>This method converts the given map into an {@link ObjectNode}, overrides any
-   * arrays in the target node, and applies the updates. Any conversion or I/O error is wrapped in a
-   * consistent runtime exception.</p>
+   * Returns the tree behind a fragment, reusing it when the fragment is Jackson-backed.
    *
-   * @param source     the map to merge; must not be null
-   * @param mergedNode the target node to update; must not be null
-   * @throws ConversionException if the map cannot be converted to an {@link ObjectNode}
-   * @throws MergeException      if an error occurs while applying updates
+   * @param source the fragment; must not be null
+   * @return the fragment's root node
+   * @throws ConversionException if the fragment cannot be converted into a tree
    */
-  private void mergeSourceIntoNode(Map<String, Object> source, ObjectNode mergedNode) {
-    ObjectNode current = executeWithResult(
-        () -> mapper.convertValue(source, ObjectNode.class),
-        "failed to prepare data for merging");
-
-    overrideArrays(mergedNode, current);
+  private JsonNode toTree(Configuration source) {
+    if (source instanceof JacksonConfiguration jacksonConfiguration) {
+      return jacksonConfiguration.getRootNode();
+    }
 
-    executeAction(() -> mapper.readerForUpdating(mergedNode).readValue(current),
-        "error merging data structures");
+    return executeWithResult(() -> mapper.valueToTree(source.getRootAsMap()),
+        "failed to prepare data for merging");
   }
 
   /**
-   * Replaces any array fields in the target node with the corresponding arrays from the current
-   * node.
+   * Merges {@code overlay} on top of {@code base} without modifying either of them.
    *
-   * <p>This method iterates over all fields in {@code current}. When an array
-   * field is found, its value is copied into {@code mergedNode} and removed from {@code current} so
-   * it will not be processed by the subsequent merge step. This ensures arrays are completely
-   * overridden rather than merged element by element.</p>
+   * <p>The result is a shallow copy of {@code base} in which every field of {@code overlay}
+   * replaces the existing value, except when both values are objects, in which case they are merged
+   * recursively. Field order follows {@code base}, with new fields appended.</p>
    *
-   * @param mergedNode the target node to update; must not be null
-   * @param current    the node containing new values; must not be null
+   * @param base    the lower-precedence object; must not be null
+   * @param overlay the higher-precedence object; must not be null
+   * @return a new object node holding the merged fields
    */
-  private void overrideArrays(ObjectNode mergedNode, ObjectNode current) {
-    Iterator<String> fieldNames = current.fieldNames();
-    while (fieldNames.hasNext()) {
-      String fieldName = fieldNames.next();
-      JsonNode value = current.get(fieldName);
-      if (value.isArray()) {
-        mergedNode.set(fieldName, value);
-        fieldNames.remove();
+  private ObjectNode mergeObjects(ObjectNode base, ObjectNode overlay) {
+    if (base instanceof LazyObjectNode || overlay instanceof LazyObjectNode) {
+      return LazyObjectNode.merging(base, overlay, (current, value) ->
+          current.isObject() && value.isObject()
+              ? mergeObjects((ObjectNode) current, (ObjectNode) value)
+              : value);
+    }
+
+    ObjectNode result = mapper.createObjectNode();
+    result.setAll(base);
+
+    for (Map.Entry<String, JsonNode> field : overlay.properties()) {
+      JsonNode current = result.get(field.getKey());
+      JsonNode value = field.getValue();
+      if (current != null && current.isObject() && value.isObject()) {
+        result.set(field.getKey(), mergeObjects((ObjectNode) current, (ObjectNode) value));
+      } else {
+        result.set(field.getKey(), value);
       }
     }
+
+    return result;
   }
 }
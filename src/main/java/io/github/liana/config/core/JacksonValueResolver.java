@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import io.github.liana.config.core.exception.ConversionException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
@@ -18,8 +19,20 @@ import java.util.Optional;
  * Resolves configuration values from a source map or JSON input using Jackson.
  *
  * <p>This implementation stores the source as a {@link com.fasterxml.jackson.databind.JsonNode}
- * tree,
- * caches resolved nodes, and performs type-safe conversion for single values, lists, and maps.
+ * tree and performs type-safe conversion for single values, lists, and maps. On the first lookup
+ * the tree is walked once to build a flattened index from every key path to its node, so that
+ * each later lookup, whether the key exists or not, is a single hash table probe.
+ *
+ * <p>Scalar values read as {@code String}, {@code int}, {@code long}, {@code double},
+ * {@code boolean}, or {@link java.time.Duration} are converted directly from the node when the
+ * input is unambiguous, following the mapper's coercion rules; Jackson databind is only used for
+ * other inputs and types.
+ *
+ * <p>Values converted to an immutable type, such as a boxed primitive, {@link String},
+ * {@link java.time.Duration}, or a record of such types, are cached per key and target type, so
+ * repeated reads return the same instance without converting again. Values of other types are
+ * converted on every read, because callers may modify them. At most 1024 converted values are
+ * kept, favoring those read most often.
  *
  * <p>Instances are immutable and thread-safe for read operations.
  *
@@ -28,6 +41,7 @@ import java.util.Optional;
  *   <li>From a {@link Map} using the default {@link ObjectMapper}</li>
  *   <li>From a {@link Map} with a custom {@link ObjectMapper}</li>
  *   <li>From a JSON {@link InputStream} with a custom {@link ObjectMapper}</li>
+ *   <li>From an already built {@link JsonNode} tree, which is used as-is without copying</li>
  * </ul>
  *
  * <p>Conversion or parsing failures are wrapped in {@link ConversionException}.
@@ -36,17 +50,24 @@ public final class JacksonValueResolver extends AbstractJacksonComponent impleme
 
   private static final String MSG_SOURCE_NULL = "source must not be null";
   private static final String MSG_INPUT_STREAM_NULL = "inputStream must not be null";
+  private static final String MSG_MAPPER_NULL = "mapper must not be null";
   private static final String MSG_KEY_NULL = "key must not be null";
   private static final String MSG_TARGET_TYPE_NULL = "target type must not be null";
   private static final String MSG_INVALID_TARGET_LIST_TYPE = "invalid or unsupported target list type: %s";
   private static final String MSG_INVALID_TARGET_MAP_TYPE = "invalid or unsupported target map type: %s";
   private static final String MSG_INVALID_TARGET_TYPE = "invalid or unsupported target type: %s";
-  private static final String MSG_INVALID_JSON_POINTER = "invalid JSON pointer generated from key: %s";
+  private static final String MSG_INVALID_KEY = "invalid key: %s";
   private static final String MSG_CONVERT_VALUE =
       "failed to convert value to target type: %s";
-  private static final ObjectMapper DEFAULT_MAPPER = JacksonMappers.create().getJson();
-  private final LoadingCache<String, JsonNode> cache = new LoadingCache<>();
+  private static final int MAXIMUM_CONVERTED = 1024;
+  private static final int MAXIMUM_JAVA_TYPES = 256;
+  private final LoadingCache<Conversion, Object> converted =
+      LoadingCache.<Conversion, Object>builder().maximumSize(MAXIMUM_CONVERTED).build();
+  private final LoadingCache<Type, JavaType> javaTypes =
+      LoadingCache.<Type, JavaType>builder().maximumSize(MAXIMUM_JAVA_TYPES).build();
+  private final ScalarConverter scalars = new ScalarConverter(mapper);
   private final JsonNode source;
+  private volatile PathIndex index;
 
   /**
    * Creates a new resolver using a custom {@link ObjectMapper} and JSON {@link InputStream}.
@@ -71,7 +92,7 @@ public final class JacksonValueResolver extends AbstractJacksonComponent impleme
    * @throws ConversionException  if the source cannot be converted into a JSON tree
    */
   public JacksonValueResolver(Map<String, Object> source) {
-    this(DEFAULT_MAPPER, source);
+    this(DefaultMapper.INSTANCE, source);
   }
 
   /**
@@ -92,6 +113,20 @@ public final class JacksonValueResolver extends AbstractJacksonComponent impleme
         String.format(MSG_CONVERT_VALUE, source.getClass().getTypeName()));
   }
 
+  /**
+   * Creates a new {@code JacksonValueResolver} backed by an existing {@link JsonNode} tree.
+   *
+   * <p>The tree is not copied; callers must not modify it after handing it over.
+   *
+   * @param mapper the {@link ObjectMapper} to use (must not be {@code null})
+   * @param source the root node of the configuration tree (must not be {@code null})
+   * @throws NullPointerException if {@code mapper} or {@code source} is {@code null}
+   */
+  public JacksonValueResolver(ObjectMapper mapper, JsonNode source) {
+    super(requireNonNull(mapper, MSG_MAPPER_NULL));
+    this.source = requireNonNull(source, MSG_SOURCE_NULL);
+  }
+
   @Override
   public boolean containsKey(String key) {
     requireNonNull(key, MSG_KEY_NULL);
@@ -100,6 +135,7 @@ public final class JacksonValueResolver extends AbstractJacksonComponent impleme
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public <T> Optional<T> get(String key, Type targetType) {
     requireNonNull(key, MSG_KEY_NULL);
     requireNonNull(targetType, MSG_TARGET_TYPE_NULL);
@@ -109,7 +145,18 @@ public final class JacksonValueResolver extends AbstractJacksonComponent impleme
       return Optional.empty();
     }
 
-    return Optional.ofNullable(convertValue(node, constructJavaType(targetType)));
+    if (ImmutableTypes.isImmutable(targetType)) {
+      return Optional.ofNullable((T) converted.getOrCompute(new Conversion(key, targetType),
+          () -> convert(node, targetType)));
+    }
+    return Optional.ofNullable((T) convert(node, targetType));
+  }
+
+  private Object convert(JsonNode node, Type targetType) {
+    Object scalar = scalars.convert(node, targetType);
+    return scalar != ScalarConverter.UNSUPPORTED
+        ? scalar
+        : convertValue(node, constructJavaType(targetType));
   }
 
   @Override
@@ -158,37 +205,51 @@ public final class JacksonValueResolver extends AbstractJacksonComponent impleme
   @Override
   public <T> Optional<T> getRootAs(Type targetType) {
     requireNonNull(targetType, MSG_TARGET_TYPE_NULL);
-    JsonNode rootNode = getRootNode();
-
-    if (rootNode.isMissingNode()) {
+    if (source.isMissingNode()) {
       return Optional.empty();
     }
 
-    return Optional.ofNullable(convertValue(rootNode, constructJavaType(targetType)));
+    return Optional.ofNullable(convertValue(source, constructJavaType(targetType)));
+  }
+
+  /**
+   * Returns the underlying tree without copying it.
+   *
+   * <p>Intended for pipeline components that consume the tree directly; the returned node must be
+   * treated as read-only.
+   *
+   * @return the root node of this resolver
+   */
+  JsonNode getSourceNode() {
+    return source;
   }
 
   private JsonNode find(String key) {
-    return cache.getOrCompute(key, () ->
-        executeWithResult(
-            () -> getRootNode().at(toJsonPointer(key)),
-            String.format(MSG_INVALID_JSON_POINTER, key)
-        ));
+    KeyPath path = executeWithResult(() -> KeyPath.compile(key),
+        String.format(MSG_INVALID_KEY, key));
+    JsonNode node = getIndex().find(path);
+    return node == null ? MissingNode.getInstance() : node;
   }
 
-  private JsonNode getRootNode() {
-    return cache.getOrCompute("__ROOT__", () -> source);
+  private PathIndex getIndex() {
+    PathIndex current = index;
+    if (current == null) {
+      synchronized (this) {
+        current = index;
+        if (current == null) {
+          current = PathIndex.build(source);
+          index = current;
+        }
+      }
+    }
+    return current;
   }
 
   private JavaType constructJavaType(Type targetType) {
-    return executeWithResult(
+    return javaTypes.getOrCompute(targetType, () -> executeWithResult(
         () -> mapper.constructType(targetType),
         String.format(MSG_INVALID_TARGET_TYPE, targetType.getTypeName())
-    );
-  }
-
-  private String toJsonPointer(String key) {
-    return "/" + key.replace(".", "/")
-        .replaceAll("\\[(\\d+)]", "/$1");
+    ));
   }
 
   private <T> T convertValue(Object value, JavaType type) {
@@ -196,4 +257,18 @@ public final class JacksonValueResolver extends AbstractJacksonComponent impleme
         () -> mapper.convertValue(value, type),
         String.format(MSG_CONVERT_VALUE, type.getTypeName()));
   }
+
+  /**
+   * Cache key of a converted value.
+   */
+  private record Conversion(String key, Type type) {
+  }
+
+  /**
+   * Holds the mapper used when none is given, so that it is only discovered on first use.
+   */
+  private static final class DefaultMapper {
+
+    private static final ObjectMapper INSTANCE = JacksonMappers.create().getJson();
+  }
 }
@@ -0,0 +1,225 @@
+package io.github.liana.config.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parsed form of a configuration key such as {@code servers[0].host}.
+ *
+ * <p>A key is a sequence of segments separated by dots. A bracketed array index, {@code [0]},
+ * starts a new segment holding the index, so {@code servers[0].host} and
+ * {@code servers.0.host} denote the same path. A segment that starts with a double quote runs to
+ * the matching closing quote and may then contain dots and brackets, as in
+ * {@code logging.level."com.acme"}; within quotes, a backslash escapes the next character. No
+ * other character is special: slashes, tildes, and brackets that do not hold an index are part
+ * of the segment name.
+ *
+ * <p>Each path has a canonical form, in which only names that need it are quoted, so that
+ * equivalent keys share one string. {@link PathIndex} is keyed by canonical form.
+ *
+ * <p>Keys are parsed in a single pass without regular expressions, and {@link #compile(String)}
+ * keeps the parsed paths of up to 4096 frequently read keys, so that such a key is parsed only
+ * once.
+ *
+ * <p>Instances are immutable and thread-safe.
+ */
+final class KeyPath {
+
+  private static final int MAXIMUM_COMPILED = 4096;
+  private static final LoadingCache<String, KeyPath> COMPILED =
+      LoadingCache.<String, KeyPath>builder().maximumSize(MAXIMUM_COMPILED).build();
+
+  private final List<String> segments;
+  private final String canonical;
+
+  private KeyPath(List<String> segments) {
+    this.segments = List.copyOf(segments);
+    this.canonical = render(this.segments.size());
+  }
+
+  /**
+   * Returns the parsed path of {@code key}, parsing it only on first use.
+   *
+   * @param key the key to parse; must not be null
+   * @return the parsed path
+   * @throws NullPointerException     if {@code key} is null
+   * @throws IllegalArgumentException if {@code key} has an unterminated or misplaced quote
+   */
+  static KeyPath compile(String key) {
+    requireNonNull(key, "key must not be null");
+    return COMPILED.getOrCompute(key, () -> parse(key));
+  }
+
+  /**
+   * Parses {@code key} without consulting or filling the cache.
+   *
+   * @param key the key to parse; must not be null
+   * @return the parsed path
+   * @throws IllegalArgumentException if {@code key} has an unterminated or misplaced quote
+   */
+  static KeyPath parse(String key) {
+    List<String> segments = new ArrayList<>();
+    var segment = new StringBuilder();
+    boolean atStart = true;
+    int i = 0;
+    while (i < key.length()) {
+      char c = key.charAt(i);
+      if (c == '"' && atStart) {
+        i = readQuoted(key, i + 1, segment);
+        if (i < key.length() && key.charAt(i) != '.' && indexEnd(key, i) < 0) {
+          throw new IllegalArgumentException(
+              "expected '.' or an index after quoted segment at " + i + " in key: " + key);
+        }
+        atStart = false;
+        continue;
+      }
+      int close = c == '[' ? indexEnd(key, i) : -1;
+      if (c == '.' || close > 0) {
+        segments.add(segment.toString());
+        segment.setLength(0);
+        if (close > 0) {
+          segment.append(key, i + 1, close);
+          i = close + 1;
+          atStart = false;
+        } else {
+          i++;
+          atStart = true;
+        }
+        continue;
+      }
+      segment.append(c);
+      atStart = false;
+      i++;
+    }
+    segments.add(segment.toString());
+    return new KeyPath(segments);
+  }
+
+  private static int readQuoted(String key, int start, StringBuilder segment) {
+    for (int i = start; i < key.length(); i++) {
+      char c = key.charAt(i);
+      if (c == '"') {
+        return i + 1;
+      }
+      if (c == '\\') {
+        if (++i == key.length()) {
+          break;
+        }
+        c = key.charAt(i);
+      }
+      segment.append(c);
+    }
+    throw new IllegalArgumentException("unterminated quote at " + (start - 1) + " in key: " + key);
+  }
+
+  /**
+   * Returns the position of the {@code ]} closing an index that starts at {@code open}, or
+   * {@code -1} if no index starts there.
+   */
+  private static int indexEnd(String key, int open) {
+    if (key.charAt(open) != '[') {
+      return -1;
+    }
+    int i = open + 1;
+    while (i < key.length() && key.charAt(i) >= '0' && key.charAt(i) <= '9') {
+      i++;
+    }
+    return i > open + 1 && i < key.length() && key.charAt(i) == ']' ? i : -1;
+  }
+
+  /**
+   * Returns the canonical key of the member {@code name} of the node at {@code parent}.
+   *
+   * @param parent the canonical key of the parent; empty for the root
+   * @param name   the member name
+   * @return the canonical key of the member
+   */
+  static String child(String parent, String name) {
+    var key = new StringBuilder(parent.length() + name.length() + 1);
+    if (!parent.isEmpty()) {
+      key.append(parent).append('.');
+    }
+    return appendSegment(key, name).toString();
+  }
+
+  /**
+   * Returns {@code name} as a canonical key segment, quoted if it contains dots or brackets.
+   *
+   * @param name the member name
+   * @return the segment
+   */
+  static String segment(String name) {
+    return appendSegment(new StringBuilder(name.length()), name).toString();
+  }
+
+  private static StringBuilder appendSegment(StringBuilder key, String name) {
+    if (name.indexOf('.') < 0 && name.indexOf('[') < 0 && !name.startsWith("\"")) {
+      return key.append(name);
+    }
+    key.append('"');
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c == '"' || c == '\\') {
+        key.append('\\');
+      }
+      key.append(c);
+    }
+    return key.append('"');
+  }
+
+  /**
+   * Returns the unquoted segments of this path; array indices are given in decimal.
+   *
+   * @return the segments, never empty
+   */
+  List<String> segments() {
+    return segments;
+  }
+
+  /**
+   * Returns the canonical key of this path.
+   *
+   * @return the canonical key
+   */
+  String canonical() {
+    return canonical;
+  }
+
+  /**
+   * Returns the canonical key of the first {@code count} segments of this path.
+   *
+   * @param count the number of leading segments
+   * @return the canonical key of the prefix
+   */
+  String prefix(int count) {
+    return count == segments.size() ? canonical : render(count);
+  }
+
+  private String render(int count) {
+    var key = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        key.append('.');
+      }
+      appendSegment(key, segments.get(i));
+    }
+    return key.toString();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof KeyPath other && canonical.equals(other.canonical);
+  }
+
+  @Override
+  public int hashCode() {
+    return canonical.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return canonical;
+  }
+}
@@ -0,0 +1,55 @@
+package io.github.liana.config.core;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.core.exception.ConversionException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * JSON implementation of {@link ResourceParser} that defers parsing of nested values until they
+ * are read.
+ *
+ * <p>The resource is scanned once to index the byte range of each top-level value. Nested
+ * objects and arrays are parsed only when a key below them is first looked up; large nested
+ * objects are indexed the same way, so a lookup parses little more than the path it follows.
+ * Resources smaller than a few kilobytes gain nothing from indexing and are parsed at once.
+ *
+ * <p>The raw bytes of the resource are retained for as long as the configuration is reachable,
+ * so this parser trades memory for startup time and suits large resources of which only a part
+ * is read.
+ *
+ * <p>Instances are immutable and thread-safe as long as the provided {@link ObjectMapper} is
+ * thread-safe.
+ */
+public final class LazyJacksonParser extends AbstractJacksonComponent implements ResourceParser {
+
+  /**
+   * Creates a new {@code LazyJacksonParser} with the given JSON {@link ObjectMapper}.
+   *
+   * @param mapper the JSON object mapper used to parse values; must not be null
+   * @throws NullPointerException if {@code mapper} is null
+   */
+  public LazyJacksonParser(ObjectMapper mapper) {
+    super(mapper);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The stream is read fully and scanned once, so malformed JSON is still reported here, but
+   * nested values are only turned into nodes when first read.
+   *
+   * @throws ConversionException if the content is not valid JSON
+   */
+  @Override
+  public Configuration parse(InputStream inputStream) throws IOException {
+    requireNonNull(inputStream, "inputStream must not be null");
+    byte[] content = inputStream.readAllBytes();
+    return JacksonConfiguration.fromTree(mapper, executeWithResult(
+        () -> LazyObjectNode.index(mapper, content, 0, content.length),
+        "failed to parse JSON resource"));
+  }
+}
@@ -0,0 +1,294 @@
+package io.github.liana.config.core;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.liana.config.core.exception.ConversionException;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Object node whose field values are only built when they are first read.
+ *
+ * <p>The field names are known up front; each value is produced by a loader on first access and
+ * kept from then on. Looking a field up by name, as {@link JsonNode#get(String)} and
+ * {@link JsonNode#at(String)} do, builds that one value only, while iterating the fields builds
+ * every value as it is reached. Because all other behavior is inherited from {@link ObjectNode},
+ * a lazy node can be used wherever a regular tree is expected.
+ *
+ * <p>Three kinds of lazy nodes exist:
+ * <ul>
+ *   <li>{@link #index(ObjectMapper, byte[], int, int)} scans a JSON object once and records the
+ *       byte range of each field value; a value is parsed from its range on first access, nested
+ *       objects again as lazy nodes,</li>
+ *   <li>{@link #merging(ObjectNode, ObjectNode, BiFunction)} overlays one object on another, and
+ *   </li>
+ *   <li>{@link #mapping(ObjectNode, Function)} transforms each value of another object.</li>
+ * </ul>
+ *
+ * <p>Like every tree in the pipeline, lazy nodes are treated as read-only once built. Building a
+ * value is synchronized, so concurrent readers observe the same instance.
+ */
+final class LazyObjectNode extends ObjectNode {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Objects smaller than this many bytes are parsed at once instead of being indexed.
+   */
+  static final int MINIMUM_INDEXED_SIZE = 1024;
+
+  private LazyObjectNode(Set<String> names, Function<String, JsonNode> loader) {
+    super(JsonNodeFactory.instance, new LazyFields(names, loader));
+  }
+
+  /**
+   * Builds a lazy node over the JSON object held in {@code content[offset, offset + length)}.
+   *
+   * <p>The object is scanned once to record where each field value starts and ends. Scalar
+   * values are kept as parsed during the scan; objects and arrays are parsed from their byte
+   * range on first access. The content array is retained and must not be modified.
+   *
+   * @param mapper  the mapper that parses field values; must not be null
+   * @param content the buffer holding UTF-8 encoded JSON; must not be null
+   * @param offset  the offset of the object in {@code content}
+   * @param length  the length of the object in bytes
+   * @return a lazy node, or a fully parsed tree if the content is small or not an object
+   * @throws IOException if the content is not valid JSON
+   */
+  static JsonNode index(ObjectMapper mapper, byte[] content, int offset, int length)
+      throws IOException {
+    if (length < MINIMUM_INDEXED_SIZE) {
+      return mapper.readTree(content, offset, length);
+    }
+
+    try (JsonParser parser = mapper.getFactory().createParser(content, offset, length)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return mapper.readTree(content, offset, length);
+      }
+
+      Map<String, Object> slots = new LinkedHashMap<>();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.currentName();
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+          int start = offset + (int) parser.currentTokenLocation().getByteOffset();
+          parser.skipChildren();
+          int end = offset + (int) parser.currentLocation().getByteOffset();
+          slots.put(name, new Range(start, end - start, token == JsonToken.START_OBJECT));
+        } else {
+          slots.put(name, mapper.readTree(parser));
+        }
+      }
+      if (parser.currentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+        return mapper.readTree(content, offset, length);
+      }
+
+      return new LazyObjectNode(slots.keySet(), name -> {
+        Object slot = slots.get(name);
+        return slot instanceof Range range ? range.parse(mapper, content) : (JsonNode) slot;
+      });
+    }
+  }
+
+  /**
+   * Returns a node holding the fields of {@code base} overlaid with those of {@code overlay}.
+   *
+   * <p>Field order follows {@code base}, with new fields appended. A field defined by both
+   * objects is resolved by {@code combiner}, called with the base and overlay values on first
+   * access; a field defined by only one of them keeps that value.
+   *
+   * @param base     the lower-precedence object; must not be null
+   * @param overlay  the higher-precedence object; must not be null
+   * @param combiner resolves fields defined by both objects; must not be null
+   * @return the lazy merged node
+   */
+  static ObjectNode merging(ObjectNode base, ObjectNode overlay,
+      BiFunction<JsonNode, JsonNode, JsonNode> combiner) {
+    Set<String> names = new LinkedHashSet<>();
+    base.fieldNames().forEachRemaining(names::add);
+    overlay.fieldNames().forEachRemaining(names::add);
+    return new LazyObjectNode(names, name -> {
+      JsonNode over = overlay.get(name);
+      if (over == null) {
+        return base.get(name);
+      }
+      JsonNode under = base.get(name);
+      return under == null ? over : combiner.apply(under, over);
+    });
+  }
+
+  /**
+   * Returns a node holding the fields of {@code source} with each value passed through
+   * {@code function} on first access.
+   *
+   * @param source   the object whose fields are transformed; must not be null
+   * @param function the transformation applied to each value; must not be null
+   * @return the lazy transformed node
+   */
+  static ObjectNode mapping(ObjectNode source, Function<JsonNode, JsonNode> function) {
+    Set<String> names = new LinkedHashSet<>();
+    source.fieldNames().forEachRemaining(names::add);
+    return new LazyObjectNode(names, name -> function.apply(source.get(name)));
+  }
+
+  private record Range(int offset, int length, boolean isObject) {
+
+    JsonNode parse(ObjectMapper mapper, byte[] content) {
+      try {
+        return isObject
+            ? index(mapper, content, offset, length)
+            : mapper.readTree(content, offset, length);
+      } catch (IOException e) {
+        throw new ConversionException("failed to parse configuration subtree", e);
+      }
+    }
+  }
+
+  /**
+   * Field map of a lazy node. Values are built by the loader on first read and cached; fields
+   * written afterwards replace the lazy value.
+   */
+  private static final class LazyFields extends AbstractMap<String, JsonNode> {
+
+    private final Set<String> names;
+    private final Map<String, JsonNode> values = new LinkedHashMap<>();
+    private final Function<String, JsonNode> loader;
+
+    private LazyFields(Set<String> names, Function<String, JsonNode> loader) {
+      this.names = new LinkedHashSet<>(names);
+      this.loader = loader;
+    }
+
+    @Override
+    public synchronized JsonNode get(Object key) {
+      if (!names.contains(key)) {
+        return null;
+      }
+      JsonNode value = values.get(key);
+      if (value == null) {
+        value = loader.apply((String) key);
+        values.put((String) key, value);
+      }
+      return value;
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+      return names.contains(key);
+    }
+
+    @Override
+    public synchronized int size() {
+      return names.size();
+    }
+
+    @Override
+    public synchronized JsonNode put(String key, JsonNode value) {
+      JsonNode previous = names.contains(key) ? get(key) : null;
+      names.add(key);
+      values.put(key, value);
+      return previous;
+    }
+
+    @Override
+    public synchronized JsonNode remove(Object key) {
+      JsonNode previous = names.contains(key) ? get(key) : null;
+      names.remove(key);
+      values.remove(key);
+      return previous;
+    }
+
+    @Override
+    public synchronized void clear() {
+      names.clear();
+      values.clear();
+    }
+
+    @Override
+    public Set<Entry<String, JsonNode>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<String, JsonNode>> iterator() {
+          List<String> snapshot;
+          synchronized (LazyFields.this) {
+            snapshot = new ArrayList<>(names);
+          }
+          Iterator<String> keys = snapshot.iterator();
+          return new Iterator<>() {
+            private String current;
+
+            @Override
+            public boolean hasNext() {
+              return keys.hasNext();
+            }
+
+            @Override
+            public Entry<String, JsonNode> next() {
+              current = keys.next();
+              return new LazyEntry(current);
+            }
+
+            @Override
+            public void remove() {
+              LazyFields.this.remove(current);
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return LazyFields.this.size();
+        }
+      };
+    }
+
+    private final class LazyEntry implements Entry<String, JsonNode> {
+
+      private final String key;
+
+      private LazyEntry(String key) {
+        this.key = key;
+      }
+
+      @Override
+      public String getKey() {
+        return key;
+      }
+
+      @Override
+      public JsonNode getValue() {
+        return get(key);
+      }
+
+      @Override
+      public JsonNode setValue(JsonNode value) {
+        return put(key, value);
+      }
+
+      @Override
+      public boolean equals(Object o) {
+        return o instanceof Entry<?, ?> entry && key.equals(entry.getKey())
+            && getValue().equals(entry.getValue());
+      }
+
+      @Override
+      public int hashCode() {
+        return key.hashCode() ^ getValue().hashCode();
+      }
+    }
+  }
+}
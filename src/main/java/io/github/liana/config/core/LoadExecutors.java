@@ -0,0 +1,70 @@
+package io.github.liana.config.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors used by {@link ResourceProcessor} to fetch and parse resources.
+ *
+ * <p>{@link #sequential()} runs every task on the calling thread, which preserves the original
+ * one-after-another behavior. {@link #parallel()} returns a shared executor intended for blocking
+ * I/O: a virtual-thread-per-task executor when the running JDK provides one (21+), or a cached
+ * pool of daemon threads otherwise.
+ *
+ * <p>This class is final and cannot be instantiated.
+ */
+final class LoadExecutors {
+
+  private static final Executor SEQUENTIAL = Runnable::run;
+
+  private LoadExecutors() {
+  }
+
+  /**
+   * Returns an executor that runs each task immediately on the calling thread.
+   *
+   * @return the sequential executor
+   */
+  static Executor sequential() {
+    return SEQUENTIAL;
+  }
+
+  /**
+   * Returns the shared executor used for parallel loading when none is configured.
+   *
+   * <p>The executor is created on first use and lives for the lifetime of the JVM; its threads
+   * never prevent the JVM from exiting.
+   *
+   * @return the default parallel executor
+   */
+  static Executor parallel() {
+    return ParallelHolder.INSTANCE;
+  }
+
+  private static final class ParallelHolder {
+
+    private static final Executor INSTANCE = create();
+
+    private static Executor create() {
+      try {
+        return (ExecutorService) Executors.class
+            .getMethod("newVirtualThreadPerTaskExecutor")
+            .invoke(null);
+      } catch (ReflectiveOperationException e) {
+        return Executors.newCachedThreadPool(daemonThreads());
+      }
+    }
+
+    private static ThreadFactory daemonThreads() {
+      AtomicInteger counter = new AtomicInteger();
+      return task -> {
+        Thread thread = new Thread(task, "liana-loader-" + counter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      };
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package io.github.liana.config.core;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.liana.config.api.Configuration;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Outcome of a single pipeline run: the built configuration together with the files it was read
+ * from.
+ *
+ * <p>The source files are the ones reported by the providers through
+ * {@link ResourceStream#sourceFile()}; resources that are not file-backed do not contribute any.
+ * Watchers use them to decide which locations to reload when a file changes.
+ *
+ * <p>The candidates additionally include the files that were probed but not found, such as a
+ * missing optional profile overlay, so that creating one of them reloads the location too. Every
+ * source is also a candidate.
+ *
+ * @param configuration the merged and interpolated configuration; never {@code null}
+ * @param sources       the files backing the loaded resources; never {@code null}
+ * @param candidates    the files whose creation, change, or deletion may change the result;
+ *                      never {@code null}
+ */
+public record LoadResult(Configuration configuration, Set<Path> sources, Set<Path> candidates) {
+
+  public LoadResult {
+    requireNonNull(configuration, "configuration must not be null");
+    sources = Set.copyOf(requireNonNull(sources, "sources must not be null"));
+    var all = new LinkedHashSet<>(requireNonNull(candidates, "candidates must not be null"));
+    all.addAll(sources);
+    candidates = Set.copyOf(all);
+  }
+
+  /**
+   * Creates a result whose only candidates are its sources.
+   *
+   * @param configuration the merged and interpolated configuration; never {@code null}
+   * @param sources       the files backing the loaded resources; never {@code null}
+   */
+  public LoadResult(Configuration configuration, Set<Path> sources) {
+    this(configuration, sources, Set.of());
+  }
+}
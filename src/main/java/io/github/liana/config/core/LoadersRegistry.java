@@ -2,6 +2,7 @@ package io.github.liana.config.core;
 
 import static java.util.Objects.requireNonNull;
 
+import io.github.liana.config.loaders.ConfigTreeLoader;
 import io.github.liana.config.loaders.JsonLoader;
 import io.github.liana.config.loaders.PropertiesLoader;
 import io.github.liana.config.loaders.XmlLoader;
@@ -15,8 +16,8 @@ import java.util.stream.Stream;
  * Registry builder for {@link ResourceLoader} instances.
  *
  * <p>This class provides a centralized way to create a {@link StrategyRegistry} that includes
- * both default configuration loaders (properties, YAML, JSON, XML) and custom loaders provided by
- * the user.
+ * both default configuration loaders (properties, YAML, JSON, XML, configuration trees) and custom
+ * loaders provided by the user.
  *
  * <p>It ensures immutability by defensively copying the list of custom loaders. Keys for
  * strategy lookup are normalized to lowercase to enable case-insensitive retrieval.
@@ -28,6 +29,7 @@ public final class LoadersRegistry {
 
   private final List<ResourceLoader> customLoaders;
   private final JacksonMappers jacksonMappers;
+  private final boolean lazyJson;
   private final KeyNormalizer<String> keyNormalizer = key -> key.toLowerCase(Locale.ROOT);
 
   /**
@@ -39,17 +41,32 @@ public final class LoadersRegistry {
    *                              {@code null}
    */
   public LoadersRegistry(List<ResourceLoader> customLoaders, JacksonMappers jacksonMappers) {
+    this(customLoaders, jacksonMappers, false);
+  }
+
+  /**
+   * Creates a new registry builder that optionally parses JSON resources on demand.
+   *
+   * @param customLoaders  list of custom loaders to include; must not be {@code null}
+   * @param jacksonMappers mappers for Jackson parsing of various formats; must not be {@code null}
+   * @param lazyJson       whether the default JSON loader uses a {@link LazyJacksonParser}
+   * @throws NullPointerException if {@code customLoaders} or {@code jacksonMappers} are
+   *                              {@code null}
+   */
+  public LoadersRegistry(List<ResourceLoader> customLoaders, JacksonMappers jacksonMappers,
+      boolean lazyJson) {
     this.customLoaders = List.copyOf(
         requireNonNull(customLoaders, "customLoaders must not be null"));
     this.jacksonMappers = requireNonNull(jacksonMappers, "jacksonMappers must not be null");
+    this.lazyJson = lazyJson;
   }
 
   /**
    * Creates a {@link StrategyRegistry} combining default loaders with custom loaders.
    *
-   * <p>Default loaders include standard configuration formats (properties, YAML, JSON, XML)
-   * initialized via the provided {@link JacksonMappers}. Custom loaders are appended after
-   * default loaders and can override defaults if keys collide.
+   * <p>Default loaders include standard configuration formats (properties, YAML, JSON, XML) and
+   * configuration trees, initialized via the provided {@link JacksonMappers}. Custom loaders are
+   * appended after default loaders and can override defaults if keys collide.
    *
    * @return a new {@link StrategyRegistry} containing all loaders
    */
@@ -57,8 +74,11 @@ public final class LoadersRegistry {
     List<ResourceLoader> defaults = List.of(
         new PropertiesLoader(new JacksonParser(jacksonMappers.getProperties())),
         new YamlLoader(new JacksonParser(jacksonMappers.getYaml())),
-        new JsonLoader(new JacksonParser(jacksonMappers.getJson())),
-        new XmlLoader(new JacksonParser(jacksonMappers.getXml()))
+        new JsonLoader(lazyJson
+            ? new LazyJacksonParser(jacksonMappers.getJson())
+            : new JacksonParser(jacksonMappers.getJson())),
+        new XmlLoader(new JacksonParser(jacksonMappers.getXml())),
+        new ConfigTreeLoader(new JacksonParser(jacksonMappers.getProperties()))
     );
 
     List<ResourceLoader> merged = Stream.concat(defaults.stream(), customLoaders.stream())
@@ -2,45 +2,482 @@ package io.github.liana.config.core;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 /**
  * Thread-safe, in-memory cache that lazily loads values on demand.
  *
- * <p>This class maintains key-value pairs using a {@link ConcurrentHashMap}. If a value for a
- * given key is absent, it is computed using the provided {@link Supplier} and stored for future
- * retrieval.
+ * <p>If a value for a given key is absent, it is computed using the provided {@link Supplier} and
+ * stored for future retrieval. Loaders run outside any lock of the underlying
+ * {@link ConcurrentHashMap}: the first caller for a key installs a placeholder and runs the
+ * loader itself, while concurrent callers for the same key wait for its result. A loader may
+ * therefore take its time, and may read other keys of the same cache, without blocking unrelated
+ * keys. A loader that reads its own key fails with an {@link IllegalStateException} instead of
+ * waiting for itself. Values that are {@code null}, and loads that throw, are not cached.
  *
- * <p>This cache is immutable regarding its structure (keys and values cannot be externally
- * removed or modified except via {@link #getOrCompute}). It does not support expiration, eviction,
- * or refresh policies. Values may remain in memory for the lifetime of the application.
+ * <p>A cache created with {@link #LoadingCache()} is unbounded; entries can be dropped only via
+ * the conditional {@link #remove(Object, Object)}, which lets callers discard a value they know to
+ * be stale or failed. Caches created through {@link #builder()} may additionally:
+ * <ul>
+ *   <li>hold at most a maximum number of entries, or a maximum total weight. When the limit is
+ *       exceeded, entries are evicted by a frequency-aware clock: each hit raises a small per-entry
+ *       counter, and the eviction sweep halves the counter of the entries it passes over and
+ *       evicts the first one whose counter is zero. Entries read repeatedly therefore survive a
+ *       burst of entries read only once. A value that is a {@link CompletableFuture} still in
+ *       progress is neither counted towards the limit nor evicted until it completes, so a load
+ *       that is still running is never evicted; and</li>
+ *   <li>refresh entries on the first read after a given time since they were written. The stale
+ *       value is returned while the loader runs on an executor; it is replaced on success and
+ *       kept if the loader fails or returns {@code null}.</li>
+ * </ul>
+ *
+ * <p>Hits, misses, load outcomes, load time, and evictions are counted, see {@link #stats()}.
  *
  * <p>Thread Safety: Safe for concurrent access by multiple threads. Computation for the same key
- * is performed at most once.
+ * is performed at most once at a time.
  *
  * @param <K> the type of keys maintained by this cache; must not be {@code null}
  * @param <V> the type of mapped values; may be {@code null} if needed
  */
 public final class LoadingCache<K, V> {
 
-  private final ConcurrentHashMap<K, V> cache = new ConcurrentHashMap<>();
+  private static final int MAXIMUM_FREQUENCY = 15;
+
+  private final ConcurrentHashMap<K, Entry<K, V>> cache = new ConcurrentHashMap<>();
+  private final long maximumWeight;
+  private final ToIntFunction<? super V> weigher;
+  private final long refreshNanos;
+  private final Executor refreshExecutor;
+  private final LongSupplier ticker;
+
+  private final Object evictionLock = new Object();
+  private final Entry<K, V> clock = new Entry<>(null);
+  private long totalWeight;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder loadSuccesses = new LongAdder();
+  private final LongAdder loadFailures = new LongAdder();
+  private final LongAdder loadTime = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates an unbounded cache without refresh.
+   */
+  public LoadingCache() {
+    this(new Builder<>());
+  }
+
+  private LoadingCache(Builder<K, V> builder) {
+    this.maximumWeight = builder.maximumWeight;
+    this.weigher = builder.weigher;
+    this.refreshNanos = builder.refreshNanos;
+    this.refreshExecutor = builder.refreshExecutor;
+    this.ticker = builder.ticker;
+    clock.owner = null;
+    clock.previous = clock;
+    clock.next = clock;
+  }
+
+  /**
+   * Returns a builder for a bounded or refreshing cache.
+   *
+   * @param <K> the type of keys
+   * @param <V> the type of values
+   * @return a new builder
+   */
+  public static <K, V> Builder<K, V> builder() {
+    return new Builder<>();
+  }
 
   /**
    * Returns the cached value associated with the given key, computing and storing it if absent.
    *
    * <p>If multiple threads attempt to compute the same key concurrently, only one computation
-   * will be performed; all threads will receive the same cached result.
+   * will be performed; all threads will receive the same result, or the exception the loader
+   * threw.
    *
    * @param key    the key whose associated value is to be returned or computed; must not be
    *               {@code null}
    * @param loader the function to compute a value if absent; must not be {@code null}
    * @return the existing or newly computed value associated with the key; may be {@code null}
-   * @throws NullPointerException if {@code key} or {@code loader} is {@code null}
+   * @throws NullPointerException  if {@code key} or {@code loader} is {@code null}
+   * @throws IllegalStateException if {@code loader} reads {@code key} from this cache
    */
   public V getOrCompute(K key, Supplier<V> loader) {
     requireNonNull(key, "key must not be null");
     requireNonNull(loader, "loader must not be null");
-    return cache.computeIfAbsent(key, k -> loader.get());
+
+    Entry<K, V> entry = cache.get(key);
+    if (entry == null) {
+      var created = new Entry<K, V>(key);
+      entry = cache.putIfAbsent(key, created);
+      if (entry == null) {
+        misses.increment();
+        return load(created, loader);
+      }
+    }
+
+    hits.increment();
+    if (!entry.ready) {
+      if (entry.owner == Thread.currentThread()) {
+        throw new IllegalStateException("recursive load of key " + key);
+      }
+      return await(entry);
+    }
+    if (maximumWeight != Long.MAX_VALUE && entry.frequency < MAXIMUM_FREQUENCY) {
+      entry.frequency++;
+    }
+    if (refreshNanos > 0 && ticker.getAsLong() - entry.writeTime >= refreshNanos) {
+      refresh(entry, loader);
+    }
+    return entry.value;
+  }
+
+  /**
+   * Returns the value cached for the given key without loading it.
+   *
+   * <p>A value still being loaded is not waited for; the lookup counts as a miss in that case.
+   *
+   * @param key the key whose associated value is to be returned; must not be {@code null}
+   * @return the cached value, or {@code null} if none is cached
+   * @throws NullPointerException if {@code key} is {@code null}
+   */
+  public V getIfPresent(K key) {
+    requireNonNull(key, "key must not be null");
+    Entry<K, V> entry = cache.get(key);
+    if (entry == null || !entry.ready) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    if (maximumWeight != Long.MAX_VALUE && entry.frequency < MAXIMUM_FREQUENCY) {
+      entry.frequency++;
+    }
+    return entry.value;
+  }
+
+  /**
+   * Removes the entry for the given key only if it is currently mapped to the given value.
+   *
+   * @param key   the key whose entry is to be removed; must not be {@code null}
+   * @param value the expected value associated with the key
+   * @return {@code true} if the entry was removed
+   * @throws NullPointerException if {@code key} is {@code null}
+   */
+  public boolean remove(K key, V value) {
+    requireNonNull(key, "key must not be null");
+    Entry<K, V> entry = cache.get(key);
+    if (value == null || entry == null || !entry.ready || !value.equals(entry.value)
+        || !cache.remove(key, entry)) {
+      return false;
+    }
+    if (maximumWeight != Long.MAX_VALUE) {
+      synchronized (evictionLock) {
+        if (entry.next != null) {
+          unlink(entry);
+          totalWeight -= entry.weight;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the number of entries currently cached, including entries still being loaded.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * Returns a snapshot of the statistics of this cache.
+   *
+   * @return the statistics; never {@code null}
+   */
+  public CacheStats stats() {
+    return new CacheStats(hits.sum(), misses.sum(), loadSuccesses.sum(), loadFailures.sum(),
+        loadTime.sum(), evictions.sum());
+  }
+
+  private V load(Entry<K, V> entry, Supplier<V> loader) {
+    long start = ticker.getAsLong();
+    V value;
+    try {
+      value = loader.get();
+    } catch (RuntimeException | Error e) {
+      recordLoad(start, false);
+      entry.owner = null;
+      cache.remove(entry.key, entry);
+      entry.future.completeExceptionally(e);
+      throw e;
+    }
+    recordLoad(start, true);
+    entry.owner = null;
+
+    if (value == null) {
+      cache.remove(entry.key, entry);
+    } else {
+      entry.value = value;
+      entry.writeTime = ticker.getAsLong();
+      entry.ready = true;
+      admit(entry);
+    }
+    entry.future.complete(value);
+    return value;
+  }
+
+  private V await(Entry<K, V> entry) {
+    try {
+      return entry.future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private void refresh(Entry<K, V> entry, Supplier<V> loader) {
+    if (!entry.refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      refreshExecutor.execute(() -> {
+        long start = ticker.getAsLong();
+        try {
+          V value = loader.get();
+          recordLoad(start, true);
+          if (value != null && cache.get(entry.key) == entry) {
+            entry.value = value;
+            entry.writeTime = ticker.getAsLong();
+            reweigh(entry);
+          }
+        } catch (RuntimeException e) {
+          recordLoad(start, false);
+        } finally {
+          entry.refreshing.set(false);
+        }
+      });
+    } catch (RuntimeException e) {
+      entry.refreshing.set(false);
+    }
+  }
+
+  private void recordLoad(long start, boolean success) {
+    loadTime.add(ticker.getAsLong() - start);
+    (success ? loadSuccesses : loadFailures).increment();
+  }
+
+  /**
+   * Puts a loaded entry on the clock, or defers that until its value completes if the value is a
+   * future still in progress, so that the eviction sweep never drops an in-flight load.
+   */
+  private void admit(Entry<K, V> entry) {
+    if (maximumWeight == Long.MAX_VALUE) {
+      return;
+    }
+    if (entry.value instanceof CompletableFuture<?> pending && !pending.isDone()) {
+      pending.whenComplete((result, failure) -> admit(entry));
+      return;
+    }
+    synchronized (evictionLock) {
+      if (entry.next != null || cache.get(entry.key) != entry) {
+        return;
+      }
+      entry.weight = weigh(entry.value);
+      totalWeight += entry.weight;
+      linkLast(entry);
+      evict();
+    }
+  }
+
+  private void reweigh(Entry<K, V> entry) {
+    if (maximumWeight == Long.MAX_VALUE) {
+      return;
+    }
+    synchronized (evictionLock) {
+      if (entry.next != null) {
+        int weight = weigh(entry.value);
+        totalWeight += weight - entry.weight;
+        entry.weight = weight;
+        evict();
+      }
+    }
+  }
+
+  private int weigh(V value) {
+    int weight = weigher.applyAsInt(value);
+    if (weight < 0) {
+      throw new IllegalStateException("weigher returned a negative weight: " + weight);
+    }
+    return weight;
+  }
+
+  /**
+   * Sweeps the clock until the total weight is within the limit. Must hold the eviction lock.
+   */
+  private void evict() {
+    while (totalWeight > maximumWeight && clock.next != clock) {
+      Entry<K, V> candidate = clock.next;
+      unlink(candidate);
+      if (candidate.frequency > 0) {
+        candidate.frequency >>= 1;
+        linkLast(candidate);
+        continue;
+      }
+      totalWeight -= candidate.weight;
+      if (cache.remove(candidate.key, candidate)) {
+        evictions.increment();
+      }
+    }
+  }
+
+  /**
+   * Appends {@code entry} to the clock. Must hold the eviction lock.
+   */
+  private void linkLast(Entry<K, V> entry) {
+    entry.previous = clock.previous;
+    entry.next = clock;
+    clock.previous.next = entry;
+    clock.previous = entry;
+  }
+
+  /**
+   * Removes {@code entry} from the clock. Must hold the eviction lock.
+   */
+  private static <K, V> void unlink(Entry<K, V> entry) {
+    entry.previous.next = entry.next;
+    entry.next.previous = entry.previous;
+    entry.previous = null;
+    entry.next = null;
+  }
+
+  /**
+   * A cached value, or the placeholder of a value being loaded.
+   *
+   * <p>Entries on the clock form a circular doubly linked list through {@code previous} and
+   * {@code next}, so that one can be unlinked in constant time; both are {@code null} while the
+   * entry is not on the clock. The list and the weights are guarded by the eviction lock.
+   */
+  private static final class Entry<K, V> {
+
+    private final K key;
+    private volatile Thread owner = Thread.currentThread();
+    private final CompletableFuture<V> future = new CompletableFuture<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile boolean ready;
+    private volatile V value;
+    private volatile long writeTime;
+    private volatile int frequency;
+    private int weight;
+    private Entry<K, V> previous;
+    private Entry<K, V> next;
+
+    private Entry(K key) {
+      this.key = key;
+    }
+  }
+
+  /**
+   * Builder of {@link LoadingCache} instances. Without any option set, the built cache is
+   * unbounded and never refreshes.
+   *
+   * <p>This class is mutable and not thread-safe.
+   *
+   * @param <K> the type of keys
+   * @param <V> the type of values
+   */
+  public static final class Builder<K, V> {
+
+    private long maximumWeight = Long.MAX_VALUE;
+    private ToIntFunction<? super V> weigher = value -> 1;
+    private long refreshNanos;
+    private Executor refreshExecutor;
+    private LongSupplier ticker = System::nanoTime;
+
+    private Builder() {
+    }
+
+    /**
+     * Limits the cache to {@code maximumSize} entries.
+     *
+     * @param maximumSize the maximum number of entries; must not be negative
+     * @return this builder
+     * @throws IllegalArgumentException if {@code maximumSize} is negative
+     */
+    public Builder<K, V> maximumSize(long maximumSize) {
+      return maximumWeight(maximumSize, value -> 1);
+    }
+
+    /**
+     * Limits the total weight of the cached values, as computed by {@code weigher} when each
+     * value is stored.
+     *
+     * @param maximumWeight the maximum total weight; must not be negative
+     * @param weigher       computes the non-negative weight of a value; must not be {@code null}
+     * @return this builder
+     * @throws IllegalArgumentException if {@code maximumWeight} is negative
+     * @throws NullPointerException     if {@code weigher} is {@code null}
+     */
+    public Builder<K, V> maximumWeight(long maximumWeight, ToIntFunction<? super V> weigher) {
+      if (maximumWeight < 0) {
+        throw new IllegalArgumentException("maximum weight must not be negative: " + maximumWeight);
+      }
+      this.maximumWeight = maximumWeight;
+      this.weigher = requireNonNull(weigher, "weigher must not be null");
+      return this;
+    }
+
+    /**
+     * Reloads an entry in the background on the first read once {@code interval} has passed
+     * since it was written.
+     *
+     * @param interval the time after which entries are refreshed; must be positive
+     * @param executor the executor that runs refreshes; must not be {@code null}
+     * @return this builder
+     * @throws IllegalArgumentException if {@code interval} is not positive
+     * @throws NullPointerException     if any argument is {@code null}
+     */
+    public Builder<K, V> refreshAfterWrite(Duration interval, Executor executor) {
+      requireNonNull(interval, "interval must not be null");
+      if (interval.isNegative() || interval.isZero()) {
+        throw new IllegalArgumentException("refresh interval must be positive: " + interval);
+      }
+      this.refreshNanos = interval.toNanos();
+      this.refreshExecutor = requireNonNull(executor, "executor must not be null");
+      return this;
+    }
+
+    /**
+     * Replaces the nanosecond time source, for tests.
+     */
+    Builder<K, V> ticker(LongSupplier ticker) {
+      this.ticker = requireNonNull(ticker, "ticker must not be null");
+      return this;
+    }
+
+    /**
+     * Builds a cache with the current options.
+     *
+     * @return a new, empty cache
+     */
+    public LoadingCache<K, V> build() {
+      return new LoadingCache<>(this);
+    }
   }
 }
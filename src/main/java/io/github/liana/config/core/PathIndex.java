@@ -0,0 +1,167 @@
+package io.github.liana.config.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flattened index from every key path of a configuration tree to its node.
+ *
+ * <p>The tree is walked once and each node is recorded under the canonical form of its
+ * {@link KeyPath}, array elements under their index ({@code servers.0.host}). Entries live in an
+ * open-addressing hash table with linear probing, so looking up a key is a single hash
+ * computation plus, typically, one or two string comparisons, and a missing key costs no more
+ * than a present one and leaves nothing behind.
+ *
+ * <p>Lookups take a parsed {@link KeyPath}, so every notation it accepts, such as
+ * {@code servers[0].host} or {@code logging.level."com.acme"}, is resolved by the same probe.
+ *
+ * <p>Objects whose values are parsed on demand, see {@link LazyObjectNode}, are indexed but not
+ * walked, so that building the index does not parse them. A key below such an object is resolved
+ * by walking down from the deepest indexed lazy object on its path.
+ *
+ * <p>Instances are immutable and thread-safe.
+ */
+final class PathIndex {
+
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private final String[] keys;
+  private final JsonNode[] nodes;
+  private final int mask;
+  private final JsonNode lazyRoot;
+  private final boolean hasLazyNodes;
+
+  private PathIndex(List<String> paths, List<JsonNode> values, JsonNode lazyRoot,
+      boolean hasLazyNodes) {
+    int capacity = Integer.highestOneBit(Math.max(2, (int) (paths.size() / LOAD_FACTOR)) - 1) << 1;
+    this.keys = new String[capacity];
+    this.nodes = new JsonNode[capacity];
+    this.mask = capacity - 1;
+    this.lazyRoot = lazyRoot;
+    this.hasLazyNodes = hasLazyNodes;
+    for (int i = 0; i < paths.size(); i++) {
+      put(paths.get(i), values.get(i));
+    }
+  }
+
+  /**
+   * Walks {@code root} once and indexes every node below it.
+   *
+   * @param root the root of the tree; must not be null
+   * @return the index of the tree
+   */
+  static PathIndex build(JsonNode root) {
+    if (root instanceof LazyObjectNode) {
+      return new PathIndex(List.of(), List.of(), root, true);
+    }
+    var collector = new Collector();
+    collector.children(root, "");
+    return new PathIndex(collector.paths, collector.values, null, collector.hasLazyNodes);
+  }
+
+  /**
+   * Returns the node at {@code path}.
+   *
+   * @param path the parsed key; must not be null
+   * @return the node, or {@code null} if the tree has no node at {@code path}
+   */
+  JsonNode find(KeyPath path) {
+    JsonNode node = get(path.canonical());
+    if (node != null || !hasLazyNodes) {
+      return node;
+    }
+    return findBelowLazyNode(path);
+  }
+
+  private JsonNode get(String path) {
+    for (int i = spread(path.hashCode()) & mask; keys[i] != null; i = (i + 1) & mask) {
+      if (keys[i].equals(path)) {
+        return nodes[i];
+      }
+    }
+    return null;
+  }
+
+  private void put(String path, JsonNode node) {
+    int i = spread(path.hashCode()) & mask;
+    while (keys[i] != null) {
+      i = (i + 1) & mask;
+    }
+    keys[i] = path;
+    nodes[i] = node;
+  }
+
+  private JsonNode findBelowLazyNode(KeyPath path) {
+    for (int count = path.segments().size() - 1; count > 0; count--) {
+      JsonNode node = get(path.prefix(count));
+      if (node != null) {
+        return node instanceof LazyObjectNode ? descend(node, path, count) : null;
+      }
+    }
+    return lazyRoot == null ? null : descend(lazyRoot, path, 0);
+  }
+
+  private static JsonNode descend(JsonNode node, KeyPath path, int start) {
+    JsonNode current = node;
+    List<String> segments = path.segments();
+    for (int i = start; i < segments.size() && current != null; i++) {
+      String segment = segments.get(i);
+      current = current.isArray() ? current.get(toIndex(segment)) : current.get(segment);
+    }
+    return current;
+  }
+
+  private static int toIndex(String segment) {
+    if (segment.isEmpty() || segment.length() > 9
+        || (segment.length() > 1 && segment.charAt(0) == '0')) {
+      return -1;
+    }
+    int index = 0;
+    for (int i = 0; i < segment.length(); i++) {
+      char c = segment.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      index = index * 10 + (c - '0');
+    }
+    return index;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * Collects the key paths of a tree in one depth-first walk.
+   */
+  private static final class Collector {
+
+    private final List<String> paths = new ArrayList<>();
+    private final List<JsonNode> values = new ArrayList<>();
+    private boolean hasLazyNodes;
+
+    private void children(JsonNode node, String prefix) {
+      if (node.isObject()) {
+        for (Map.Entry<String, JsonNode> field : node.properties()) {
+          add(prefix + KeyPath.segment(field.getKey()), field.getValue());
+        }
+      } else if (node.isArray()) {
+        for (int i = 0; i < node.size(); i++) {
+          add(prefix + i, node.get(i));
+        }
+      }
+    }
+
+    private void add(String path, JsonNode node) {
+      paths.add(path);
+      values.add(node);
+      if (node instanceof LazyObjectNode) {
+        hasLazyNodes = true;
+      } else if (node.isContainerNode()) {
+        children(node, path + ".");
+      }
+    }
+  }
+}
@@ -1,7 +1,14 @@
 package io.github.liana.config.core;
 
+import static java.util.Objects.requireNonNull;
+
+import io.github.liana.config.api.Configuration;
 import io.github.liana.config.api.ResourceLocation;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Defines a processing pipeline capable of resolving and loading a resource, merging its content,
@@ -16,9 +23,50 @@ public interface Pipeline {
    * Executes the resource-loading pipeline for the given location.
    *
    * @param location the resource location descriptor; must not be null
-   * @return a merged and interpolated view of the resource as a map
+   * @return a merged and interpolated view of the resource
+   * @throws NullPointerException if {@code location} is null
+   * @throws RuntimeException     if loaders or providers fail during processing
+   */
+  Configuration execute(ResourceLocation location);
+
+  /**
+   * Executes the pipeline for the given location and reports the files it was read from.
+   *
+   * <p>The default implementation delegates to {@link #execute(ResourceLocation)} and reports no
+   * source files, so its results can be loaded but not watched.
+   *
+   * @param location the resource location descriptor; must not be null
+   * @return the configuration and its backing files
    * @throws NullPointerException if {@code location} is null
    * @throws RuntimeException     if loaders or providers fail during processing
    */
-  Map<String, Object> execute(ResourceLocation location);
+  default LoadResult load(ResourceLocation location) {
+    return new LoadResult(execute(location), Set.of());
+  }
+
+  /**
+   * Executes the pipeline for several locations at once.
+   *
+   * <p>Implementations may share work between locations, such as loading a resource common to
+   * several of them only once. The default implementation simply executes each distinct location
+   * in turn.
+   *
+   * @param locations the locations to execute; must not be null nor contain null elements
+   * @return an unmodifiable map from each distinct location to its configuration, in iteration
+   * order of {@code locations}
+   * @throws NullPointerException if {@code locations} or any of its elements is null
+   * @throws RuntimeException     if loaders or providers fail during processing
+   */
+  default Map<ResourceLocation, Configuration> executeAll(Collection<ResourceLocation> locations) {
+    requireNonNull(locations);
+    Map<ResourceLocation, Configuration> result = new LinkedHashMap<>();
+    for (ResourceLocation location : locations) {
+      requireNonNull(location);
+      if (!result.containsKey(location)) {
+        result.put(location, execute(location));
+      }
+    }
+
+    return Collections.unmodifiableMap(result);
+  }
 }
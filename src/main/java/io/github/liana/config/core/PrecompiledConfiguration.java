@@ -0,0 +1,101 @@
+package io.github.liana.config.core;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.liana.config.core.exception.ConversionException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration backed by a tree that was resolved at build time and compiled into Java code.
+ *
+ * <p>Classes generated by the {@code liana-codegen} module build the resolved tree from
+ * constants as nested {@link Map}s and {@link List}s and wrap it in this class. The tree is
+ * converted into the internal node representation by a direct walk: nothing is parsed, no resource
+ * is read, and no mapper is discovered through {@code ServiceLoader} on the way.
+ *
+ * <p>Supported leaf values are {@code null}, {@link String}, {@link Boolean}, {@link Integer},
+ * {@link Long}, {@link Double}, {@link BigInteger}, and {@link BigDecimal}, which are exactly the
+ * values a generated class emits.
+ *
+ * <p><b>Immutability:</b> The tree is copied on construction; later changes to the given maps do
+ * not affect this instance.
+ *
+ * <p><b>Thread Safety:</b> Instances are thread-safe.
+ */
+public final class PrecompiledConfiguration extends AbstractConfiguration {
+
+  private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+  /**
+   * Creates a configuration from a tree built by generated code.
+   *
+   * @param tree the resolved configuration tree; must not be {@code null}
+   * @throws NullPointerException if {@code tree} is {@code null}
+   * @throws ConversionException  if the tree contains an unsupported value type
+   */
+  public PrecompiledConfiguration(Map<String, Object> tree) {
+    super(new JacksonValueResolver(Mapper.INSTANCE,
+        toObject(requireNonNull(tree, "tree must not be null"))));
+  }
+
+  private static ObjectNode toObject(Map<?, ?> map) {
+    ObjectNode node = NODES.objectNode();
+    map.forEach((key, value) -> node.set(String.valueOf(key), toNode(value)));
+    return node;
+  }
+
+  private static JsonNode toNode(Object value) {
+    if (value == null) {
+      return NODES.nullNode();
+    }
+    if (value instanceof String text) {
+      return NODES.textNode(text);
+    }
+    if (value instanceof Boolean bool) {
+      return NODES.booleanNode(bool);
+    }
+    if (value instanceof Integer number) {
+      return NODES.numberNode(number);
+    }
+    if (value instanceof Long number) {
+      return NODES.numberNode(number);
+    }
+    if (value instanceof Double number) {
+      return NODES.numberNode(number);
+    }
+    if (value instanceof BigInteger number) {
+      return NODES.numberNode(number);
+    }
+    if (value instanceof BigDecimal number) {
+      return NODES.numberNode(number);
+    }
+    if (value instanceof Map<?, ?> map) {
+      return toObject(map);
+    }
+    if (value instanceof List<?> list) {
+      ArrayNode array = NODES.arrayNode(list.size());
+      list.forEach(element -> array.add(toNode(element)));
+      return array;
+    }
+    throw new ConversionException(
+        "unsupported value in precompiled configuration: " + value.getClass().getName());
+  }
+
+  /**
+   * Holds the mapper used for value conversion, configured like the mappers of
+   * {@link JacksonMappers} but created without service discovery.
+   */
+  private static final class Mapper {
+
+    private static final ObjectMapper INSTANCE = JacksonMappers.configure(new JsonFactory());
+  }
+}
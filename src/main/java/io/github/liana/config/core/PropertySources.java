@@ -32,18 +32,21 @@ import java.util.function.Function;
  */
 public final class PropertySources {
 
+  private static final PropertySource ENV = System::getenv;
+
   private PropertySources() {
   }
 
   /**
-   * Creates a {@link PropertySource} backed by the system environment variables.
+   * Returns the {@link PropertySource} backed by the system environment variables.
    *
-   * <p>The returned source resolves keys using {@link System#getenv(String)}.
+   * <p>The returned source resolves keys using {@link System#getenv(String)}. The same instance is
+   * returned on every call, so components holding it (for example placeholders) compare equal.
    *
    * @return a property source that retrieves values from environment variables
    */
   public static PropertySource fromEnv() {
-    return from(System::getenv);
+    return ENV;
   }
 
   /**
@@ -3,6 +3,8 @@ package io.github.liana.config.core;
 import static java.util.Objects.requireNonNull;
 
 import io.github.liana.config.providers.ClasspathProvider;
+import io.github.liana.config.providers.ConfigTreeProvider;
+import io.github.liana.config.providers.FileSystemProvider;
 import io.github.liana.config.spi.ResourceProvider;
 import java.util.Collection;
 import java.util.List;
@@ -47,17 +49,21 @@ public final class ProvidersRegistry {
   /**
    * Creates a {@link StrategyRegistry} combining default and custom providers.
    *
-   * <p>The registry will include a default {@link ClasspathProvider} based on the given
-   * {@code baseDirectories} and all previously registered custom providers. All registry keys are
+   * <p>The registry will include a default {@link ClasspathProvider}, {@link FileSystemProvider},
+   * and {@link ConfigTreeProvider} based on the given {@code baseDirectories} and all previously
+   * registered custom providers. All registry keys are
    * normalized to lowercase.
    *
-   * @param baseDirectories the base directories to use for the default classpath provider; must not
-   *                        be {@code null}
+   * @param baseDirectories the base directories to use for the default providers; must not be
+   *                        {@code null}
    * @return a new immutable {@link StrategyRegistry} containing default and custom providers
    * @throws NullPointerException if {@code baseDirectories} is {@code null}
    */
   public StrategyRegistry<String, ResourceProvider> create(Collection<String> baseDirectories) {
-    List<ResourceProvider> defaults = List.of(new ClasspathProvider(baseDirectories));
+    List<ResourceProvider> defaults = List.of(
+        new ClasspathProvider(baseDirectories),
+        new FileSystemProvider(baseDirectories),
+        new ConfigTreeProvider(baseDirectories));
 
     List<ResourceProvider> merged = Stream.concat(defaults.stream(), customProviders.stream())
         .toList();
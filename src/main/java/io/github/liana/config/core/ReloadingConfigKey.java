@@ -0,0 +1,127 @@
+package io.github.liana.config.core;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.liana.config.api.ConfigKey;
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.core.exception.ConversionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link ConfigKey} that follows a configuration which is replaced over time, such as the current
+ * snapshot of a {@code ReloadableConfiguration}.
+ *
+ * <p>Each read compares the current configuration with the one the key was last resolved
+ * against. As long as they are the same instance, the read is served by the resolved key without
+ * allocating; after a reload the key is resolved once against the new configuration.
+ *
+ * <p>Instances are thread-safe. Concurrent readers may resolve the same configuration twice right
+ * after a reload, which is harmless because resolution has no side effects.
+ *
+ * @param <T> the type of the value
+ */
+public final class ReloadingConfigKey<T> implements ConfigKey<T> {
+
+  private final String path;
+  private final Supplier<Configuration> source;
+  private final Function<Configuration, ConfigKey<T>> resolver;
+  private volatile Binding<T> binding;
+
+  /**
+   * Creates a key that resolves {@code path} against the configuration returned by
+   * {@code source}, resolving it against the current configuration right away.
+   *
+   * @param path     the configuration key; must not be {@code null}
+   * @param source   supplies the current configuration; must not be {@code null}
+   * @param resolver resolves the key against a configuration; must not be {@code null}
+   * @throws NullPointerException if any argument is {@code null}, or if {@code resolver} throws
+   *                              it for the current configuration
+   * @throws ConversionException  if the current value cannot be converted
+   */
+  public ReloadingConfigKey(String path, Supplier<Configuration> source,
+      Function<Configuration, ConfigKey<T>> resolver) {
+    this.path = requireNonNull(path, "path must not be null");
+    this.source = requireNonNull(source, "source must not be null");
+    this.resolver = requireNonNull(resolver, "resolver must not be null");
+    current();
+  }
+
+  private ConfigKey<T> current() {
+    Configuration configuration = source.get();
+    Binding<T> bound = binding;
+    if (bound == null || bound.configuration() != configuration) {
+      bound = new Binding<>(configuration, resolver.apply(configuration));
+      binding = bound;
+    }
+    return bound.key();
+  }
+
+  @Override
+  public String path() {
+    return path;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return current().isPresent();
+  }
+
+  @Override
+  public T get() {
+    return current().get();
+  }
+
+  @Override
+  public T orElse(T defaultValue) {
+    return current().orElse(defaultValue);
+  }
+
+  @Override
+  public int getInt() {
+    return current().getInt();
+  }
+
+  @Override
+  public int getInt(int defaultValue) {
+    return current().getInt(defaultValue);
+  }
+
+  @Override
+  public long getLong() {
+    return current().getLong();
+  }
+
+  @Override
+  public long getLong(long defaultValue) {
+    return current().getLong(defaultValue);
+  }
+
+  @Override
+  public double getDouble() {
+    return current().getDouble();
+  }
+
+  @Override
+  public double getDouble(double defaultValue) {
+    return current().getDouble(defaultValue);
+  }
+
+  @Override
+  public boolean getBoolean() {
+    return current().getBoolean();
+  }
+
+  @Override
+  public boolean getBoolean(boolean defaultValue) {
+    return current().getBoolean(defaultValue);
+  }
+
+  @Override
+  public String toString() {
+    return current().toString();
+  }
+
+  private record Binding<T>(Configuration configuration, ConfigKey<T> key) {
+  }
+}
@@ -0,0 +1,159 @@
+package io.github.liana.config.core;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.liana.config.api.ConfigKey;
+import io.github.liana.config.core.exception.ConversionException;
+import io.github.liana.config.core.exception.MissingConfigException;
+
+/**
+ * {@link ConfigKey} holding a value that was converted when the key was created.
+ *
+ * <p>Numeric and boolean values are also kept unboxed, so that the primitive accessors read a
+ * field instead of unboxing or converting on each call.
+ *
+ * <p>Instances are immutable and therefore thread-safe.
+ *
+ * @param <T> the type of the value
+ */
+public final class ResolvedConfigKey<T> implements ConfigKey<T> {
+
+  private final String path;
+  private final T value;
+  private final boolean isNumber;
+  private final long longValue;
+  private final double doubleValue;
+
+  /**
+   * Creates a key holding {@code value}.
+   *
+   * @param path  the configuration key; must not be {@code null}
+   * @param value the converted value, or {@code null} if the key has no value
+   * @throws NullPointerException if {@code path} is {@code null}
+   */
+  public ResolvedConfigKey(String path, T value) {
+    this.path = requireNonNull(path, "path must not be null");
+    this.value = value;
+    this.isNumber = value instanceof Number;
+    this.longValue = value instanceof Number number ? number.longValue() : 0L;
+    this.doubleValue = value instanceof Number number ? number.doubleValue() : 0.0;
+  }
+
+  @Override
+  public String path() {
+    return path;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return value != null;
+  }
+
+  @Override
+  public T get() {
+    if (value == null) {
+      throw missing();
+    }
+    return value;
+  }
+
+  @Override
+  public T orElse(T defaultValue) {
+    return value != null ? value : defaultValue;
+  }
+
+  @Override
+  public int getInt() {
+    if (value == null) {
+      throw missing();
+    }
+    return toInt();
+  }
+
+  @Override
+  public int getInt(int defaultValue) {
+    return value != null ? toInt() : defaultValue;
+  }
+
+  @Override
+  public long getLong() {
+    if (value == null) {
+      throw missing();
+    }
+    return toLong();
+  }
+
+  @Override
+  public long getLong(long defaultValue) {
+    return value != null ? toLong() : defaultValue;
+  }
+
+  @Override
+  public double getDouble() {
+    if (value == null) {
+      throw missing();
+    }
+    return toDouble();
+  }
+
+  @Override
+  public double getDouble(double defaultValue) {
+    return value != null ? toDouble() : defaultValue;
+  }
+
+  @Override
+  public boolean getBoolean() {
+    if (value == null) {
+      throw missing();
+    }
+    return toBoolean();
+  }
+
+  @Override
+  public boolean getBoolean(boolean defaultValue) {
+    return value != null ? toBoolean() : defaultValue;
+  }
+
+  private int toInt() {
+    long number = toLong();
+    if (number != (int) number) {
+      throw new ConversionException("value of " + path + " does not fit an int: " + value);
+    }
+    return (int) number;
+  }
+
+  private long toLong() {
+    if (!isNumber) {
+      throw notA("number");
+    }
+    return longValue;
+  }
+
+  private double toDouble() {
+    if (!isNumber) {
+      throw notA("number");
+    }
+    return doubleValue;
+  }
+
+  private boolean toBoolean() {
+    if (value instanceof Boolean bool) {
+      return bool;
+    }
+    throw notA("boolean");
+  }
+
+  private ConversionException notA(String kind) {
+    return new ConversionException("value of " + path + " is not a " + kind + ": "
+        + value.getClass().getName());
+  }
+
+  private MissingConfigException missing() {
+    return new MissingConfigException("Missing required config: " + path);
+  }
+
+  @Override
+  public String toString() {
+    return "ConfigKey[" + path + "=" + value + "]";
+  }
+}
@@ -0,0 +1,37 @@
+package io.github.liana.config.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.zip.CRC32C;
+
+/**
+ * Cheap summary of a resource's content, used to tell whether it changed since it was last read.
+ *
+ * <p>Providers that can describe a resource without reading it report a fingerprint through
+ * {@link ResourceStream#fingerprint()}: files on disk use their size and modification time, and
+ * archive entries use the size and CRC recorded in the archive. For other resources the content
+ * is read once and fingerprinted with {@link #ofContent(byte[])}.
+ *
+ * <p>Two fingerprints of the same resource are equal only if its content is considered
+ * unchanged. Fingerprints of different resources are not comparable.
+ *
+ * @param length the content length in bytes, or {@code -1} if unknown
+ * @param stamp  a value that changes whenever the content changes, such as a modification time or
+ *               a checksum
+ */
+public record ResourceFingerprint(long length, long stamp) {
+
+  /**
+   * Fingerprints the given content with its length and CRC32C checksum.
+   *
+   * @param content the resource content; must not be {@code null}
+   * @return the fingerprint of {@code content}
+   * @throws NullPointerException if {@code content} is {@code null}
+   */
+  public static ResourceFingerprint ofContent(byte[] content) {
+    requireNonNull(content, "content must not be null");
+    var crc = new CRC32C();
+    crc.update(content, 0, content.length);
+    return new ResourceFingerprint(content.length, crc.getValue());
+  }
+}
@@ -5,4 +5,15 @@ public interface ResourceIdentifier {
   String provider();
 
   String resourceName();
+
+  /**
+   * Tells whether the resource may be absent.
+   *
+   * <p>A missing optional resource is skipped quietly instead of being reported as a failure.
+   *
+   * @return {@code true} if the resource is optional; {@code false} by default
+   */
+  default boolean optional() {
+    return false;
+  }
 }
@@ -11,6 +11,7 @@ package io.github.liana.config.core;
 import static io.github.liana.config.core.Constants.BASE_RESOURCE_NAME;
 import static io.github.liana.config.core.Constants.BASE_RESOURCE_NAME_PATTERN;
 import static io.github.liana.config.core.Constants.DEFAULT_PROFILE;
+import static io.github.liana.config.core.Constants.OPTIONAL_PREFIX;
 import static io.github.liana.config.core.Constants.PROFILE_ENV_VAR;
 import static io.github.liana.config.core.Constants.PROFILE_VAR;
 import static io.github.liana.config.core.Constants.PROVIDER;
@@ -89,6 +90,9 @@ public class ResourcePreparer {
    * Prepares a list of resolved configuration resources based on the location and profile. It
    * determines the appropriate provider, variables, and resource names to construct the list.
    *
+   * <p>Resource names prefixed with {@code optional:} yield optional identifiers, as does the
+   * profile overlay of the default resources, which usually does not exist.
+   *
    * @return a list of {@link ResourceIdentifier} that are ready for use
    */
   public List<ResourceIdentifier> prepare() {
@@ -104,12 +108,14 @@ public class ResourcePreparer {
 
   private ResourceIdentifier getConfigResourceReference(String globalProvider,
       String rawName) {
-    Matcher matcher = PROVIDER_PATTERN.matcher(rawName);
+    boolean optional = rawName.startsWith(OPTIONAL_PREFIX);
+    String name = optional ? rawName.substring(OPTIONAL_PREFIX.length()) : rawName;
+    Matcher matcher = PROVIDER_PATTERN.matcher(name);
     if (matcher.matches()) {
-      return new DefaultResourceIdentifier(matcher.group(1), matcher.group(2));
+      return new DefaultResourceIdentifier(matcher.group(1), matcher.group(2), optional);
     }
 
-    return new DefaultResourceIdentifier(globalProvider, rawName);
+    return new DefaultResourceIdentifier(globalProvider, name, optional);
   }
 
   /**
@@ -168,6 +174,7 @@ public class ResourcePreparer {
     List<String> processedNames = new ArrayList<>();
     processedNames.add(BASE_RESOURCE_NAME);
     placeholder.replaceIfAllResolvable(BASE_RESOURCE_NAME_PATTERN, variableMap)
+        .map(OPTIONAL_PREFIX::concat)
         .ifPresent(processedNames::add);
 
     return Collections.unmodifiableList(processedNames);
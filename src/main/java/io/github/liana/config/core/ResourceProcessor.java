@@ -14,34 +14,57 @@ import io.github.liana.config.internal.FilenameUtils;
 import io.github.liana.config.internal.ImmutableConfigSet;
 import io.github.liana.config.spi.ResourceLoader;
 import io.github.liana.config.spi.ResourceProvider;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Processes configuration resources using registered providers and loaders.
  *
- * <p>This class coordinates the resource preparation phase, the resolution of providers and
- * loaders, and the final loading of configuration maps. It acts as an internal orchestration
+ * <p>This class coordinates the resolution of providers and loaders and the final loading of
+ * configurations for an already prepared list of resources. It acts as an internal orchestration
  * component within the configuration-loading module and is not intended as a public API or SPI.
  *
  * <p><strong>Responsibilities:</strong>
  * <ul>
- *   <li>Invokes {@link ResourcePreparer} to obtain the list of resources to process.</li>
  *   <li>Resolves the appropriate {@link ResourceProvider} for each resource.</li>
  *   <li>Resolves the appropriate {@link ResourceLoader} based on file extension.</li>
- *   <li>Loads each resource into a {@code Map<String,Object>} representation.</li>
+ *   <li>Loads each resource into a {@link Configuration}, keeping the loader's own representation
+ *       (a Jackson tree for the built-in loaders) so no intermediate map is created.</li>
  *   <li>Applies caching for provider and loader strategy resolvers.</li>
+ *   <li>Reuses parsed fragments of unchanged resources through an optional
+ *       {@link FragmentCache}.</li>
  * </ul>
  *
+ * <p>Instances are meant to be long-lived: the provider and loader resolvers are built on first
+ * use and reused by every subsequent load.
+ *
+ * <p><strong>Parallel loading:</strong> each resource is fetched and parsed as a task on the
+ * configured {@link Executor}. With the default sequential executor tasks run one after another on
+ * the calling thread; with a concurrent executor they overlap. Either way the results are
+ * collected in the order of the given identifiers, so merge precedence is unaffected.
+ *
  * <p><strong>Limitations:</strong>
  * <ul>
  *   <li>Errors in individual resources do not stop the pipeline; failing resources are logged
  *       and skipped.</li>
+ *   <li>Missing {@linkplain ResourceIdentifier#optional() optional} resources are looked up
+ *       through {@link ResourceProvider#tryResolveResource(ResourceIdentifier)} and skipped with
+ *       a debug message, without an exception being thrown or logged.</li>
  *   <li>The class does not validate the semantic correctness of the configuration content.</li>
  * </ul>
  *
@@ -51,16 +74,27 @@ import java.util.concurrent.TimeUnit;
  *   <li>It holds thread-safe caches via {@link LoadingCache}, but the class itself is not
  *       explicitly synchronized.</li>
  *   <li>Instances are safe for concurrent use only if all injected components are thread-safe.</li>
+ *   <li>With a concurrent executor, providers and loaders are invoked from several threads at
+ *       once and must therefore be thread-safe.</li>
  * </ul>
  */
 public class ResourceProcessor {
 
+  /**
+   * Fingerprint reported by {@link #fingerprint(ResourceLocation, ResourceIdentifier)} for a
+   * resource that does not exist.
+   */
+  public static final ResourceFingerprint MISSING = new ResourceFingerprint(-1, -1);
+
   private static final String LOADER_CACHE_KEY = "default";
   private final ProvidersRegistry providers;
   private final LoadersRegistry loaders;
   private final LoadingCache<ImmutableConfigSet, StrategyResolver<String, ResourceProvider>> providerCache;
   private final LoadingCache<String, StrategyResolver<String, ResourceLoader>> loaderCache;
-  private final ResourcePreparer resourcePreparer;
+  private final Executor executor;
+  private final FragmentCache fragmentCache;
+  private final Map<ImmutableConfigSet, Map<ResourceIdentifier, Path>> sourceFiles =
+      new ConcurrentHashMap<>();
 
   /**
    * Creates a {@code ResourceProcessor} with default caches.
@@ -69,15 +103,30 @@ public class ResourceProcessor {
    *                         not be null
    * @param loaders          the registry supplying available {@link ResourceLoader} instances; must
    *                         not be null
-   * @param resourcePreparer the preparer used to obtain resource identifiers; must not be null
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  public ResourceProcessor(
+      ProvidersRegistry providers,
+      LoadersRegistry loaders
+  ) {
+    this(providers, loaders, new LoadingCache<>(), new LoadingCache<>());
+  }
+
+  /**
+   * Creates a {@code ResourceProcessor} with default caches that loads resources on the given
+   * executor.
+   *
+   * @param providers        the provider registry; must not be null
+   * @param loaders          the loader registry; must not be null
+   * @param executor         the executor that fetches and parses each resource; must not be null
    * @throws NullPointerException if any argument is {@code null}
    */
   public ResourceProcessor(
       ProvidersRegistry providers,
       LoadersRegistry loaders,
-      ResourcePreparer resourcePreparer
+      Executor executor
   ) {
-    this(providers, loaders, resourcePreparer, new LoadingCache<>(), new LoadingCache<>());
+    this(providers, loaders, new LoadingCache<>(), new LoadingCache<>(), executor);
   }
 
   /**
@@ -85,56 +134,140 @@ public class ResourceProcessor {
    *
    * @param providers        the provider registry; must not be null
    * @param loaders          the loader registry; must not be null
-   * @param resourcePreparer the preparer for resource identifiers; must not be null
    * @param providerCache    cache for provider strategy resolvers; must not be null
    * @param loaderCache      cache for loader strategy resolvers; must not be null
    * @throws NullPointerException if any parameter is {@code null}
    */
   public ResourceProcessor(
       ProvidersRegistry providers, LoadersRegistry loaders,
-      ResourcePreparer resourcePreparer,
       LoadingCache<ImmutableConfigSet, StrategyResolver<String, ResourceProvider>> providerCache,
       LoadingCache<String, StrategyResolver<String, ResourceLoader>> loaderCache
+  ) {
+    this(providers, loaders, providerCache, loaderCache, LoadExecutors.sequential());
+  }
+
+  /**
+   * Creates a {@code ResourceProcessor} with explicit caches and executor.
+   *
+   * @param providers        the provider registry; must not be null
+   * @param loaders          the loader registry; must not be null
+   * @param providerCache    cache for provider strategy resolvers; must not be null
+   * @param loaderCache      cache for loader strategy resolvers; must not be null
+   * @param executor         the executor that fetches and parses each resource; must not be null
+   * @throws NullPointerException if any parameter is {@code null}
+   */
+  public ResourceProcessor(
+      ProvidersRegistry providers, LoadersRegistry loaders,
+      LoadingCache<ImmutableConfigSet, StrategyResolver<String, ResourceProvider>> providerCache,
+      LoadingCache<String, StrategyResolver<String, ResourceLoader>> loaderCache,
+      Executor executor
+  ) {
+    this(providers, loaders, providerCache, loaderCache, executor, FragmentCache.disabled());
+  }
+
+  /**
+   * Creates a {@code ResourceProcessor} with explicit caches, executor, and fragment cache.
+   *
+   * @param providers        the provider registry; must not be null
+   * @param loaders          the loader registry; must not be null
+   * @param providerCache    cache for provider strategy resolvers; must not be null
+   * @param loaderCache      cache for loader strategy resolvers; must not be null
+   * @param executor         the executor that fetches and parses each resource; must not be null
+   * @param fragmentCache    cache of parsed fragments, possibly shared with other processors;
+   *                         must not be null
+   * @throws NullPointerException if any parameter is {@code null}
+   */
+  public ResourceProcessor(
+      ProvidersRegistry providers, LoadersRegistry loaders,
+      LoadingCache<ImmutableConfigSet, StrategyResolver<String, ResourceProvider>> providerCache,
+      LoadingCache<String, StrategyResolver<String, ResourceLoader>> loaderCache,
+      Executor executor,
+      FragmentCache fragmentCache
   ) {
     this.providers = requireNonNull(providers);
     this.loaders = requireNonNull(loaders);
-    this.resourcePreparer = requireNonNull(resourcePreparer);
     this.providerCache = requireNonNull(providerCache);
     this.loaderCache = requireNonNull(loaderCache);
+    this.executor = requireNonNull(executor);
+    this.fragmentCache = requireNonNull(fragmentCache);
   }
 
   /**
-   * Loads all prepared configuration resources using registered providers and loaders.
+   * Loads the given prepared resources using registered providers and loaders.
    *
    * <p>The method logs progress, collects successfully loaded configurations, and skips
-   * resources that fail to load.
+   * resources that fail to load. Resources are loaded on the configured executor and returned in
+   * the order of {@code identifiers} regardless of completion order. A resource listed more than
+   * once is loaded once and appears at each of its positions.
    *
-   * @param location the configuration location providing base directories and logging options; must
-   *                 not be null
-   * @return an unmodifiable list of configuration maps; never null
-   * @throws NullPointerException if {@code location} is {@code null}
+   * @param location    the configuration location providing base directories and logging options;
+   *                    must not be null
+   * @param identifiers the resources to load, as produced by {@link ResourcePreparer}; must not be
+   *                    null
+   * @return an unmodifiable list of loaded configurations, in resource order; never null
+   * @throws NullPointerException if {@code location} or {@code identifiers} is {@code null}
    */
-  public List<Map<String, Object>> load(ResourceLocation location) {
+  public List<Configuration> load(ResourceLocation location, List<ResourceIdentifier> identifiers) {
+    requireNonNull(identifiers);
+    Map<ResourceIdentifier, Configuration> loaded = loadDistinct(location, identifiers);
+
+    var configs = new ArrayList<Configuration>(identifiers.size());
+    for (ResourceIdentifier identifier : identifiers) {
+      Configuration config = loaded.get(identifier);
+      if (config != null) {
+        configs.add(config);
+      }
+    }
+
+    return Collections.unmodifiableList(configs);
+  }
+
+  /**
+   * Loads each distinct resource among {@code identifiers} exactly once.
+   *
+   * <p>This is the building block for loading several locations that share base directories:
+   * callers pass the union of their identifiers and assemble each location's fragment list from
+   * the returned map. Failing resources are logged and absent from the result.
+   *
+   * @param location    a location providing the base directories and logging options shared by all
+   *                    identifiers; must not be null
+   * @param identifiers the resources to load, possibly with duplicates; must not be null
+   * @return an unmodifiable map from identifier to loaded configuration, in first-seen order;
+   * never null
+   * @throws NullPointerException if {@code location} or {@code identifiers} is {@code null}
+   */
+  public Map<ResourceIdentifier, Configuration> loadDistinct(ResourceLocation location,
+      Collection<ResourceIdentifier> identifiers) {
     requireNonNull(location);
+    requireNonNull(identifiers);
     Logger log = ConsoleLogger.getLogger(location.verboseLogging());
     log.debug(() -> "starting configuration load");
 
-    List<ResourceIdentifier> identifiers = resourcePreparer.prepare();
-    var configs = new ArrayList<Map<String, Object>>(identifiers.size());
+    ImmutableConfigSet dirs = location.baseDirectories();
+    var skipped = new LongAdder();
+    var tasks = new LinkedHashMap<ResourceIdentifier, CompletableFuture<Optional<Configuration>>>();
     for (ResourceIdentifier identifier : identifiers) {
-      processSingleResource(identifier, log, location.baseDirectories()).ifPresent(configs::add);
+      if (!tasks.containsKey(identifier)) {
+        tasks.put(identifier, CompletableFuture.supplyAsync(
+            () -> processSingleResource(identifier, log, dirs, skipped), executor));
+      }
     }
 
+    var configs = new LinkedHashMap<ResourceIdentifier, Configuration>();
+    tasks.forEach((identifier, task) ->
+        task.join().ifPresent(config -> configs.put(identifier, config)));
+
+    long missing = skipped.sum();
     log.info(() -> String.format(
-        "configuration load completed: loaded=%d, failed=%d (total=%d)",
-        configs.size(), identifiers.size() - configs.size(), identifiers.size()
+        "configuration load completed: loaded=%d, skipped=%d, failed=%d (total=%d)",
+        configs.size(), missing, tasks.size() - configs.size() - missing, tasks.size()
     ));
 
-    return Collections.unmodifiableList(configs);
+    return Collections.unmodifiableMap(configs);
   }
 
-  private Optional<Map<String, Object>> processSingleResource(
-      ResourceIdentifier identifier, Logger log, ImmutableConfigSet dirs) {
+  private Optional<Configuration> processSingleResource(
+      ResourceIdentifier identifier, Logger log, ImmutableConfigSet dirs, LongAdder skipped) {
 
     if (isNull(identifier) || isBlank(identifier.provider()) || isBlank(identifier.resourceName())) {
       log.debug(() -> "skipping empty provider or resource name");
@@ -145,22 +278,31 @@ public class ResourceProcessor {
       long start = System.nanoTime();
       StrategyResolver<String, ResourceProvider> providerResolver = getProviderResolver(dirs);
       ResourceProvider resourceProvider = providerResolver.resolve(identifier.provider());
+      Optional<ResourceStream> found = identifier.optional()
+          ? resourceProvider.tryResolveResource(identifier)
+          : Optional.of(resourceProvider.resolveResource(identifier));
+      if (found.isEmpty()) {
+        skipped.increment();
+        log.debug(() -> "skipping missing optional resource " + identifier.resourceName());
+        return Optional.empty();
+      }
 
-      try (ResourceStream resource = resourceProvider.resolveResource(identifier)) {
+      try (ResourceStream resource = found.get()) {
         String fileExtension = FilenameUtils.getExtension(resource.name())
             .toLowerCase(Locale.ROOT);
         StrategyResolver<String, ResourceLoader> loaderResolver = getLoaderResolver();
         ResourceLoader resourceLoader = loaderResolver.resolve(fileExtension);
-        Configuration configuration = resourceLoader.load(resource);
-        Map<String, Object> config = configuration.getRootAsMap();
+        Configuration configuration =
+            fragmentCache.getOrLoad(identifier.provider(), resource, resourceLoader);
+        resource.sourceFile().ifPresent(file -> recordSourceFile(dirs, identifier, file));
 
         long durationNs = System.nanoTime() - start;
         long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNs);
         log.debug(() -> String.format(
-            "loaded %s with %d entries in %dms", identifier.resourceName(), config.size(), durationMs
+            "loaded %s in %dms", identifier.resourceName(), durationMs
         ));
 
-        return Optional.of(config);
+        return Optional.of(configuration);
       }
 
     } catch (ResourceProviderException e) {
@@ -174,6 +316,102 @@ public class ResourceProcessor {
     return Optional.empty();
   }
 
+  /**
+   * Resolves a resource without reading it and returns the fingerprint reported by its provider.
+   *
+   * <p>This is used to validate a persisted snapshot before deciding whether to load anything.
+   * The resource's stream is closed without being consumed. A resource that does not exist is
+   * resolved through {@link ResourceProvider#tryResolveResource(ResourceIdentifier)} and reported
+   * as {@link #MISSING}, so probing absent resources such as profile files costs no exception.
+   *
+   * @param location   the location providing the base directories; must not be null
+   * @param identifier the resource to describe; must not be null
+   * @return the resource's fingerprint, {@link #MISSING} if it does not exist, or empty if its
+   * provider cannot describe it without reading it
+   * @throws NullPointerException      if any argument is {@code null}
+   * @throws ResourceProviderException if no provider is registered for the resource
+   */
+  public Optional<ResourceFingerprint> fingerprint(ResourceLocation location,
+      ResourceIdentifier identifier) {
+    requireNonNull(location);
+    requireNonNull(identifier);
+    ResourceProvider provider =
+        getProviderResolver(location.baseDirectories()).resolve(identifier.provider());
+    Optional<ResourceStream> found = provider.tryResolveResource(identifier);
+    if (found.isEmpty()) {
+      return Optional.of(MISSING);
+    }
+    try (ResourceStream resource = found.get()) {
+      return resource.fingerprint();
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Returns the files backing the given resources, as reported by their providers the last time
+   * each was loaded.
+   *
+   * <p>A resource keeps its file after it fails to load, for example because the file was deleted,
+   * so that it can still be watched for re-creation. Resources that were never loaded or are not
+   * file-backed contribute nothing.
+   *
+   * @param location    the location whose base directories the resources were loaded with; must
+   *                    not be null
+   * @param identifiers the resources to look up; must not be null
+   * @return an unmodifiable set of backing files; never null
+   * @throws NullPointerException if {@code location} or {@code identifiers} is {@code null}
+   */
+  public Set<Path> sourceFiles(ResourceLocation location,
+      Collection<ResourceIdentifier> identifiers) {
+    requireNonNull(location);
+    requireNonNull(identifiers);
+    Map<ResourceIdentifier, Path> files = sourceFiles.get(location.baseDirectories());
+    if (files == null) {
+      return Set.of();
+    }
+
+    var result = new LinkedHashSet<Path>();
+    for (ResourceIdentifier identifier : identifiers) {
+      Optional.ofNullable(files.get(identifier)).ifPresent(result::add);
+    }
+    return Collections.unmodifiableSet(result);
+  }
+
+  /**
+   * Returns the local files the providers would read the given resources from, including files
+   * that do not exist.
+   *
+   * <p>Resources whose provider is not registered, or reports no candidates, contribute nothing.
+   *
+   * @param location    the location providing the base directories; must not be null
+   * @param identifiers the resources to look up; must not be null
+   * @return an unmodifiable set of candidate files; never null
+   * @throws NullPointerException if {@code location} or {@code identifiers} is {@code null}
+   * @see ResourceProvider#candidateFiles(ResourceIdentifier)
+   */
+  public Set<Path> candidateFiles(ResourceLocation location,
+      Collection<ResourceIdentifier> identifiers) {
+    requireNonNull(location);
+    requireNonNull(identifiers);
+    StrategyResolver<String, ResourceProvider> providerResolver =
+        getProviderResolver(location.baseDirectories());
+    var result = new LinkedHashSet<Path>();
+    for (ResourceIdentifier identifier : identifiers) {
+      try {
+        result.addAll(providerResolver.resolve(identifier.provider()).candidateFiles(identifier));
+      } catch (ResourceProviderException e) {
+        // no provider, nothing to watch
+      }
+    }
+    return Collections.unmodifiableSet(result);
+  }
+
+  private void recordSourceFile(ImmutableConfigSet dirs, ResourceIdentifier identifier,
+      Path file) {
+    sourceFiles.computeIfAbsent(dirs, key -> new ConcurrentHashMap<>()).put(identifier, file);
+  }
+
   private StrategyResolver<String, ResourceProvider> getProviderResolver(ImmutableConfigSet dirs) {
     return providerCache.getOrCompute(dirs, () -> new StrategyResolver<>(
         providers.create(dirs.toSet()),
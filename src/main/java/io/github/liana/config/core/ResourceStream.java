@@ -2,6 +2,8 @@ package io.github.liana.config.core;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 
 /**
  * Represents a resource that exposes its content through an {@link InputStream}.
@@ -36,6 +38,33 @@ public interface ResourceStream extends AutoCloseable {
    */
   InputStream stream();
 
+  /**
+   * Returns the file on the local file system that backs this resource, if any.
+   *
+   * <p>Providers report the file when the content is read directly from disk, which allows
+   * callers to watch it for changes. Resources served from archives, memory, or the network have
+   * no backing file.
+   *
+   * @return the backing file, or an empty {@link Optional} if the resource is not file-backed
+   */
+  default Optional<Path> sourceFile() {
+    return Optional.empty();
+  }
+
+  /**
+   * Returns a fingerprint of the content that is cheaper to obtain than reading the stream.
+   *
+   * <p>Providers report one when the resource metadata already identifies its content, such as
+   * the size and modification time of a file. The fingerprint must be taken before the stream is
+   * opened, so that a concurrent modification is detected by the next read rather than hidden by
+   * it.
+   *
+   * @return the content fingerprint, or an empty {@link Optional} if none is available
+   */
+  default Optional<ResourceFingerprint> fingerprint() {
+    return Optional.empty();
+  }
+
   /**
    * Closes the underlying stream. Further calls to {@link #stream()} after closing may result in
    * undefined behavior depending on the implementation.
@@ -62,4 +91,32 @@ public interface ResourceStream extends AutoCloseable {
   static ResourceStream from(String name, InputStream stream) {
     return new DefaultResourceStream(name, stream);
   }
+
+  /**
+   * Creates a {@link ResourceStream} backed by the given file.
+   *
+   * @param name   the logical name of the resource; must not be {@code null}
+   * @param stream the input stream providing the resource content; must not be {@code null}
+   * @param file   the file the content is read from; may be {@code null} if not file-backed
+   * @return a {@link ResourceStream} wrapping the given name, stream, and file
+   * @throws NullPointerException if {@code name} or {@code stream} is {@code null}
+   */
+  static ResourceStream from(String name, InputStream stream, Path file) {
+    return new DefaultResourceStream(name, stream, file);
+  }
+
+  /**
+   * Creates a {@link ResourceStream} backed by the given file with a known content fingerprint.
+   *
+   * @param name        the logical name of the resource; must not be {@code null}
+   * @param stream      the input stream providing the resource content; must not be {@code null}
+   * @param file        the file the content is read from; may be {@code null} if not file-backed
+   * @param fingerprint the fingerprint of the content; may be {@code null} if unknown
+   * @return a {@link ResourceStream} wrapping the given values
+   * @throws NullPointerException if {@code name} or {@code stream} is {@code null}
+   */
+  static ResourceStream from(String name, InputStream stream, Path file,
+      ResourceFingerprint fingerprint) {
+    return new DefaultResourceStream(name, stream, file, fingerprint);
+  }
 }
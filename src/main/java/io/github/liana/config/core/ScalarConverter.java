@@ -0,0 +1,211 @@
+package io.github.liana.config.core;
+
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.CoercionAction;
+import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+
+/**
+ * Converts scalar nodes to the common scalar types without going through Jackson databind.
+ *
+ * <p>{@link ObjectMapper#convertValue(Object, com.fasterxml.jackson.databind.JavaType)} writes a
+ * node to a token buffer and reads it back, which dominates the cost of reading a single scalar.
+ * This converter reads {@code String}, {@code int}, {@code long}, {@code double},
+ * {@code boolean}, and {@link Duration} values, boxed or not, straight from the node instead.
+ *
+ * <p>Only inputs whose result is unambiguous are converted here: integral nodes in range,
+ * strictly formatted numbers and booleans in text nodes, and ISO-8601 durations. Text is only
+ * coerced when the mapper's coercion configuration would coerce it too. Anything else, including
+ * null nodes, padded text, and values Jackson would reject, yields {@link #UNSUPPORTED} so the
+ * caller falls back to the mapper, which then produces the same result or error as before.
+ *
+ * <p>The fast paths are disabled entirely for mappers with modules other than
+ * {@link JavaTimeModule}, since such modules may replace the deserializers of these types.
+ *
+ * <p>Instances are immutable and thread-safe.
+ */
+final class ScalarConverter {
+
+  /**
+   * Returned by {@link #convert(JsonNode, Type)} when the conversion is left to Jackson.
+   */
+  static final Object UNSUPPORTED = new Object();
+
+  private static final String JAVA_TIME_MODULE = new JavaTimeModule().getTypeId().toString();
+
+  private final boolean enabled;
+  private final boolean durations;
+  private final boolean textToInteger;
+  private final boolean textToFloat;
+  private final boolean textToBoolean;
+  private final boolean integerToFloat;
+
+  /**
+   * Creates a converter that follows the coercion configuration of {@code mapper}.
+   *
+   * @param mapper the mapper whose behavior the fast paths reproduce; must not be null
+   */
+  ScalarConverter(ObjectMapper mapper) {
+    Set<Object> modules = mapper.getRegisteredModuleIds();
+    DeserializationConfig config = mapper.getDeserializationConfig();
+    this.durations = modules.contains(JAVA_TIME_MODULE);
+    this.enabled = modules.size() == (durations ? 1 : 0);
+    this.textToInteger = allows(config, LogicalType.Integer, Integer.class,
+        CoercionInputShape.String);
+    this.textToFloat = allows(config, LogicalType.Float, Double.class, CoercionInputShape.String);
+    this.textToBoolean = allows(config, LogicalType.Boolean, Boolean.class,
+        CoercionInputShape.String);
+    this.integerToFloat = allows(config, LogicalType.Float, Double.class,
+        CoercionInputShape.Integer);
+  }
+
+  private static boolean allows(DeserializationConfig config, LogicalType type, Class<?> target,
+      CoercionInputShape shape) {
+    return config.findCoercionAction(type, target, shape) == CoercionAction.TryConvert;
+  }
+
+  /**
+   * Converts {@code node} to {@code type} if it has a fast path.
+   *
+   * @param node the node to convert; must not be null
+   * @param type the target type; must not be null
+   * @return the converted value, or {@link #UNSUPPORTED} if Jackson must convert it
+   */
+  Object convert(JsonNode node, Type type) {
+    if (!enabled) {
+      return UNSUPPORTED;
+    }
+    if (type == String.class) {
+      return node.isTextual() ? node.textValue() : UNSUPPORTED;
+    }
+    if (type == Integer.class || type == int.class) {
+      return toInt(node);
+    }
+    if (type == Long.class || type == long.class) {
+      return toLong(node);
+    }
+    if (type == Double.class || type == double.class) {
+      return toDouble(node);
+    }
+    if (type == Boolean.class || type == boolean.class) {
+      return toBoolean(node);
+    }
+    if (type == Duration.class && durations) {
+      return toDuration(node);
+    }
+    return UNSUPPORTED;
+  }
+
+  private Object toInt(JsonNode node) {
+    if (node.isIntegralNumber()) {
+      return node.canConvertToInt() ? (Object) node.intValue() : UNSUPPORTED;
+    }
+    if (textToInteger && node.isTextual() && isInteger(node.textValue())) {
+      try {
+        return Integer.parseInt(node.textValue());
+      } catch (NumberFormatException e) {
+        return UNSUPPORTED;
+      }
+    }
+    return UNSUPPORTED;
+  }
+
+  private Object toLong(JsonNode node) {
+    if (node.isIntegralNumber()) {
+      return node.canConvertToLong() ? (Object) node.longValue() : UNSUPPORTED;
+    }
+    if (textToInteger && node.isTextual() && isInteger(node.textValue())) {
+      try {
+        return Long.parseLong(node.textValue());
+      } catch (NumberFormatException e) {
+        return UNSUPPORTED;
+      }
+    }
+    return UNSUPPORTED;
+  }
+
+  private Object toDouble(JsonNode node) {
+    if (node.isFloatingPointNumber() || (integerToFloat && node.isIntegralNumber())) {
+      return node.doubleValue();
+    }
+    if (textToFloat && node.isTextual() && isDecimal(node.textValue())) {
+      return Double.parseDouble(node.textValue());
+    }
+    return UNSUPPORTED;
+  }
+
+  private Object toBoolean(JsonNode node) {
+    if (node.isBoolean()) {
+      return node.booleanValue();
+    }
+    if (textToBoolean && node.isTextual()) {
+      String text = node.textValue();
+      if ("true".equals(text)) {
+        return Boolean.TRUE;
+      }
+      if ("false".equals(text)) {
+        return Boolean.FALSE;
+      }
+    }
+    return UNSUPPORTED;
+  }
+
+  private static Object toDuration(JsonNode node) {
+    if (!node.isTextual() || !isIsoDuration(node.textValue())) {
+      return UNSUPPORTED;
+    }
+    try {
+      return Duration.parse(node.textValue());
+    } catch (DateTimeParseException e) {
+      return UNSUPPORTED;
+    }
+  }
+
+  /**
+   * Tells whether {@code text} is an optionally signed run of ASCII digits.
+   */
+  static boolean isInteger(String text) {
+    int start = skipSign(text);
+    return start < text.length() && digitsEnd(text, start) == text.length();
+  }
+
+  /**
+   * Tells whether {@code text} is an optionally signed decimal number with at least one digit
+   * before or after an optional point, without exponent or padding.
+   */
+  static boolean isDecimal(String text) {
+    int start = skipSign(text);
+    int end = digitsEnd(text, start);
+    int digits = end - start;
+    if (end < text.length() && text.charAt(end) == '.') {
+      int fractionEnd = digitsEnd(text, end + 1);
+      digits += fractionEnd - end - 1;
+      end = fractionEnd;
+    }
+    return digits > 0 && end == text.length();
+  }
+
+  private static boolean isIsoDuration(String text) {
+    int start = skipSign(text);
+    return start < text.length() && (text.charAt(start) == 'P' || text.charAt(start) == 'p');
+  }
+
+  private static int skipSign(String text) {
+    return !text.isEmpty() && (text.charAt(0) == '-' || text.charAt(0) == '+') ? 1 : 0;
+  }
+
+  private static int digitsEnd(String text, int start) {
+    int i = start;
+    while (i < text.length() && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+      i++;
+    }
+    return i;
+  }
+}
@@ -0,0 +1,322 @@
+package io.github.liana.config.core;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.liana.config.api.Placeholder;
+import io.github.liana.config.api.ResourceLocation;
+import io.github.liana.config.core.exception.ResourceProviderException;
+import io.github.liana.config.core.logging.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Persists fully resolved configuration trees so that a later process can skip the pipeline.
+ *
+ * <p>Each snapshot is stored in its own file under the store's directory, encoded with the given
+ * codec (Smile when built by {@link DefaultConfigurationManagerBuilder}). A snapshot is written
+ * together with a manifest describing everything its tree was derived from:
+ * <ul>
+ *   <li>the base directories, profile, placeholder syntax, variables, and prepared resources of
+ *       the location, which also name the snapshot file,</li>
+ *   <li>the {@link ResourceFingerprint} of every prepared resource, or the fact that it was
+ *       missing.</li>
+ * </ul>
+ * Next to the manifest, the snapshot records the names of the environment variables its
+ * placeholders looked up, see {@link #recording(Placeholder, Set)}, and a digest of their values.
+ *
+ * <p>A snapshot is only returned when a freshly computed manifest equals the stored one and the
+ * recorded variables still have the same values; variables the configuration never referred to
+ * do not matter. A location whose resources cannot all be fingerprinted without reading them, or
+ * whose placeholder consults property sources other than the environment, gets no manifest and
+ * is never snapshotted, since the manifest could not tell whether its inputs changed.
+ *
+ * <p>Snapshots are written to a temporary file and moved into place, so a concurrent reader sees
+ * either the old or the new file. Read and write failures are logged and otherwise ignored: a
+ * broken or outdated snapshot only costs a normal load.
+ *
+ * <p>Instances are thread-safe.
+ */
+public final class SnapshotStore {
+
+  private static final int FORMAT_VERSION = 2;
+  private static final String EXTENSION = ".snapshot";
+  private static final String MISSING = "missing";
+  private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+  private static final SnapshotStore DISABLED = new SnapshotStore();
+
+  private final Path directory;
+  private final ObjectMapper codec;
+
+  /**
+   * Creates a store that keeps snapshots in {@code directory}, encoded with {@code codec}.
+   *
+   * <p>The directory is created on the first write if it does not exist.
+   *
+   * @param directory the directory holding snapshot files; must not be {@code null}
+   * @param codec     the mapper that encodes and decodes snapshot files; must not be {@code null}
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  public SnapshotStore(Path directory, ObjectMapper codec) {
+    this.directory = requireNonNull(directory, "directory must not be null");
+    this.codec = requireNonNull(codec, "codec must not be null");
+  }
+
+  private SnapshotStore() {
+    this.directory = null;
+    this.codec = null;
+  }
+
+  /**
+   * Returns a shared store that never reads or writes snapshots.
+   *
+   * @return the disabled store
+   */
+  public static SnapshotStore disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Returns whether this store reads and writes snapshots.
+   *
+   * @return {@code false} for the {@link #disabled()} store
+   */
+  public boolean isEnabled() {
+    return directory != null;
+  }
+
+  /**
+   * Describes the current inputs of {@code location}.
+   *
+   * <p>Every resource is resolved through {@code processor} without being read. The manifest
+   * must be taken before the resources are loaded, so that a resource changing in between makes
+   * the stored snapshot look outdated rather than current.
+   *
+   * @param location    the location to describe; must not be null
+   * @param profile     the active profile, or {@code null} if none
+   * @param identifiers the prepared resources of the location; must not be null
+   * @param processor   the processor used to fingerprint the resources; must not be null
+   * @param log         the logger of the location; must not be null
+   * @return the manifest, or empty if the store is disabled, the placeholder of the location
+   *     resolves against other sources than the environment, or a resource cannot be
+   *     fingerprinted
+   */
+  Optional<ObjectNode> manifest(ResourceLocation location, String profile,
+      List<ResourceIdentifier> identifiers, ResourceProcessor processor, Logger log) {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+    if (!(location.placeholder() instanceof DefaultPlaceholder placeholder)
+        || !placeholder.resolvesFromEnvironmentOnly()) {
+      log.debug(() -> "no snapshot: the placeholder resolves against other sources than the"
+          + " environment");
+      return Optional.empty();
+    }
+
+    ArrayNode resources = NODES.arrayNode();
+    for (ResourceIdentifier identifier : identifiers) {
+      ObjectNode entry = resources.addObject()
+          .put("provider", identifier.provider())
+          .put("name", identifier.resourceName());
+      try {
+        Optional<ResourceFingerprint> fingerprint = processor.fingerprint(location, identifier);
+        if (fingerprint.isEmpty()) {
+          log.debug(() -> "no snapshot: cannot fingerprint " + identifier.resourceName());
+          return Optional.empty();
+        }
+        entry.put("fingerprint", fingerprint.get() == ResourceProcessor.MISSING
+            ? MISSING
+            : fingerprint.get().length() + ":" + fingerprint.get().stamp());
+      } catch (ResourceProviderException e) {
+        entry.put("fingerprint", MISSING);
+      } catch (RuntimeException e) {
+        log.debug(() -> "no snapshot: cannot fingerprint " + identifier.resourceName());
+        return Optional.empty();
+      }
+    }
+
+    ObjectNode key = NODES.objectNode().put("format", FORMAT_VERSION).put("profile", profile);
+    location.baseDirectories().toSet().forEach(key.putArray("baseDirectories")::add);
+    key.put("placeholder", String.valueOf(location.placeholder()));
+    ObjectNode variables = key.putObject("variables");
+    new TreeMap<>(location.variables().toMap()).forEach(variables::put);
+    ArrayNode names = key.putArray("resources");
+    identifiers.forEach(identifier -> names.add(identifier.provider() + ":"
+        + identifier.resourceName()));
+
+    ObjectNode manifest = NODES.objectNode();
+    manifest.set("location", key);
+    manifest.set("resources", resources);
+    return Optional.of(manifest);
+  }
+
+  /**
+   * Returns a placeholder that resolves like {@code placeholder}, the placeholder of a location
+   * this store has {@link #manifest described}, and adds the name of every environment variable
+   * it looks up to {@code names}.
+   *
+   * <p>The names are to be passed to {@link #write} once the tree interpolated with the returned
+   * placeholder is complete.
+   *
+   * @param placeholder the placeholder of the location; must resolve from the environment only
+   * @param names       receives the names of the variables looked up; must be thread-safe
+   * @return the recording placeholder
+   */
+  static Placeholder recording(Placeholder placeholder, Set<String> names) {
+    requireNonNull(names, "names must not be null");
+    PropertySource environment = PropertySources.fromEnv();
+    return ((DefaultPlaceholder) placeholder).withSources(List.of(name -> {
+      names.add(name);
+      return environment.get(name);
+    }));
+  }
+
+  /**
+   * Returns the snapshot stored for {@code manifest}, if it was written with an identical one.
+   *
+   * @param manifest the current manifest of the location; must not be null
+   * @param log      the logger of the location; must not be null
+   * @return the stored tree, or empty if there is none or it is outdated or unreadable
+   */
+  Optional<JsonNode> read(ObjectNode manifest, Logger log) {
+    Path file = fileFor(manifest);
+    try {
+      JsonNode stored = codec.readTree(Files.readAllBytes(file));
+      if (stored == null || !manifest.equals(stored.get("manifest"))
+          || !stored.path("tree").isObject() || !isCurrent(stored.path("environment"))) {
+        log.debug(() -> "snapshot " + file.getFileName() + " is outdated");
+        return Optional.empty();
+      }
+      log.debug(() -> "restored configuration from snapshot " + file.getFileName());
+      return Optional.of(stored.get("tree"));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException | RuntimeException e) {
+      log.warn(() -> "ignoring unreadable snapshot " + file + ": " + e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Stores {@code tree} as the snapshot for {@code manifest}, replacing any previous one.
+   *
+   * <p>Nothing is stored when fewer fragments were loaded than the manifest lists existing
+   * resources: a resource that failed to load must be retried by the next process rather than
+   * left out of its configuration.
+   *
+   * <p>Values of {@code tree} that are still built on first access are built first, so that
+   * {@code environment} is complete when it is recorded.
+   *
+   * @param manifest    the manifest taken before {@code tree} was loaded; must not be null
+   * @param tree        the fully resolved configuration tree; must not be null
+   * @param fragments   the number of fragments {@code tree} was built from
+   * @param environment the set passed to {@link #recording(Placeholder, Set)} when {@code tree}
+   *                    was interpolated; must not be null
+   * @param log         the logger of the location; must not be null
+   */
+  void write(ObjectNode manifest, JsonNode tree, int fragments, Set<String> environment,
+      Logger log) {
+    Path file = fileFor(manifest);
+    int expected = 0;
+    for (JsonNode resource : manifest.path("resources")) {
+      if (!MISSING.equals(resource.path("fingerprint").asText())) {
+        expected++;
+      }
+    }
+    if (fragments != expected) {
+      log.debug(() -> "not writing snapshot " + file.getFileName() + ": a resource failed to load");
+      return;
+    }
+
+    ObjectNode snapshot = NODES.objectNode();
+    snapshot.set("manifest", manifest);
+    try {
+      materialize(tree);
+      ArrayNode names = NODES.arrayNode();
+      new TreeSet<>(environment).forEach(names::add);
+      snapshot.putObject("environment")
+          .put("digest", digest(names))
+          .set("names", names);
+      snapshot.set("tree", tree);
+      Files.createDirectories(directory);
+      Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+      try {
+        Files.write(temp, codec.writeValueAsBytes(snapshot));
+        move(temp, file);
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+      log.debug(() -> "wrote snapshot " + file.getFileName());
+    } catch (IOException | RuntimeException e) {
+      log.warn(() -> "cannot write snapshot " + file + ": " + e.getMessage());
+    }
+  }
+
+  private Path fileFor(ObjectNode manifest) {
+    byte[] key = manifest.get("location").toString().getBytes(StandardCharsets.UTF_8);
+    return directory.resolve(UUID.nameUUIDFromBytes(key) + EXTENSION);
+  }
+
+  private static void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static void materialize(JsonNode node) {
+    node.elements().forEachRemaining(SnapshotStore::materialize);
+  }
+
+  private static boolean isCurrent(JsonNode environment) {
+    JsonNode names = environment.path("names");
+    return names.isArray() && environment.path("digest").asText().equals(digest(names));
+  }
+
+  /**
+   * Digests the current values of the environment variables {@code names}, telling unset
+   * variables apart from empty ones.
+   */
+  private static String digest(JsonNode names) {
+    MessageDigest digest = sha256();
+    for (JsonNode name : names) {
+      String value = System.getenv(name.asText());
+      digest.update(name.asText().getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      if (value != null) {
+        digest.update((byte) 1);
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+      }
+      digest.update((byte) 0);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -5,4 +5,8 @@ public class ResourceProviderException extends RuntimeException {
   public ResourceProviderException(String message) {
     super(message);
   }
+
+  public ResourceProviderException(String message, Throwable cause) {
+    super(message, cause);
+  }
 }
@@ -20,10 +20,16 @@ import java.util.Objects;
  *     <li>{@link #empty()} to get an empty instance</li>
  *     <li>{@link #of(Map)} to wrap an existing map</li>
  * </ul>
+ *
+ * <p>Equality follows {@link Map#equals(Object)} semantics. The hash code is computed once at
+ * construction so that repeated cache lookups do not re-hash every entry.
  */
 public class ImmutableConfigMap {
 
+  private static final ImmutableConfigMap EMPTY = new ImmutableConfigMap(Collections.emptyMap());
+
   private final Map<String, String> map;
+  private final int hash;
 
   /**
    * Creates a new immutable configuration map from the given map. The internal representation is
@@ -33,6 +39,7 @@ public class ImmutableConfigMap {
    */
   private ImmutableConfigMap(Map<String, String> map) {
     this.map = Collections.unmodifiableMap(map);
+    this.hash = map.hashCode();
   }
 
   /**
@@ -41,7 +48,7 @@ public class ImmutableConfigMap {
    * @return an empty {@code ImmutableConfigMap} instance
    */
   public static ImmutableConfigMap empty() {
-    return new ImmutableConfigMap(Collections.emptyMap());
+    return EMPTY;
   }
 
   /**
@@ -96,12 +103,12 @@ public class ImmutableConfigMap {
       return false;
     }
 
-    return Objects.equals(map, that.map);
+    return hash == that.hash && Objects.equals(map, that.map);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(map);
+    return hash;
   }
 
   @Override
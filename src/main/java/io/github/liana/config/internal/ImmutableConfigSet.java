@@ -1,7 +1,7 @@
 package io.github.liana.config.internal;
 
 import java.util.Collections;
-import java.util.Objects;
+import java.util.Iterator;
 import java.util.Set;
 
 /**
@@ -12,6 +12,11 @@ import java.util.Set;
  *
  * <p>Instances of this class can be created using {@link #empty()} or {@link #of(Set)}.
  *
+ * <p>Equality is order-sensitive: two instances are equal only if they contain the same elements
+ * in the same iteration order, since the order of resource names and base directories determines
+ * resolution and merge precedence. The hash code is computed once at construction, which keeps
+ * instances cheap to use as (part of) cache keys.
+ *
  * <h2>Examples</h2>
  *
  * <pre>{@code
@@ -22,10 +27,14 @@ import java.util.Set;
  */
 public class ImmutableConfigSet {
 
+  private static final ImmutableConfigSet EMPTY = new ImmutableConfigSet(Collections.emptySet());
+
   private final Set<String> set;
+  private final int hash;
 
   private ImmutableConfigSet(Set<String> set) {
     this.set = Collections.unmodifiableSet(set);
+    this.hash = orderedHash(set);
   }
 
   /**
@@ -34,7 +43,7 @@ public class ImmutableConfigSet {
    * @return an empty {@code ImmutableConfigSet}
    */
   public static ImmutableConfigSet empty() {
-    return new ImmutableConfigSet(Collections.emptySet());
+    return EMPTY;
   }
 
   /**
@@ -74,16 +83,34 @@ public class ImmutableConfigSet {
     if (!(o instanceof ImmutableConfigSet that)) {
       return false;
     }
-    return Objects.equals(set, that.set);
+    return hash == that.hash && set.size() == that.set.size() && sameOrder(set, that.set);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(set);
+    return hash;
   }
 
   @Override
   public String toString() {
     return "ImmutableConfigSet" + set.toString();
   }
+
+  private static int orderedHash(Set<String> set) {
+    int result = 1;
+    for (String value : set) {
+      result = 31 * result + value.hashCode();
+    }
+    return result;
+  }
+
+  private static boolean sameOrder(Set<String> first, Set<String> second) {
+    Iterator<String> other = second.iterator();
+    for (String value : first) {
+      if (!value.equals(other.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
@@ -0,0 +1,43 @@
+package io.github.liana.config.loaders;
+
+import static io.github.liana.config.core.FileFormat.CONFIG_TREE;
+
+import io.github.liana.config.core.ResourceParser;
+import io.github.liana.config.spi.ResourceLoader;
+import java.util.Set;
+
+/**
+ * Loads configuration trees served by {@link io.github.liana.config.providers.ConfigTreeProvider}.
+ *
+ * <p>The provider encodes every key of a directory in the Java Properties format, so this loader
+ * is given a Properties {@link ResourceParser}, which maps dotted keys to nested objects. It
+ * implements {@link ResourceLoader} and supports the {@code configtree} extension.
+ *
+ * <p>Instances are immutable. Thread-safety depends on the provided {@link ResourceParser}.
+ * This loader focuses exclusively on parsing configuration trees; it does not merge or interpolate
+ * configurations.
+ */
+public class ConfigTreeLoader extends AbstractResourceLoader {
+
+  /**
+   * Constructs a new loader with the given parser.
+   *
+   * @param parser the {@link ResourceParser} to use for parsing input streams; must not be
+   *               {@code null}
+   * @throws NullPointerException if parser is {@code null}
+   */
+  public ConfigTreeLoader(ResourceParser parser) {
+    super(parser);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Returns the set of extensions this loader supports, as defined by the configuration tree
+   * format.
+   */
+  @Override
+  protected Set<String> getSupportedExtensions() {
+    return CONFIG_TREE.getExtensions();
+  }
+}
@@ -0,0 +1,328 @@
+package io.github.liana.config.providers;
+
+import io.github.liana.config.core.FileFormat;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarInputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * One-time index of the configuration resources a class loader can see below a set of base
+ * directories.
+ *
+ * <p>Archives on the search path are listed once, when the index is built. Directories on the
+ * search path are not listed up front but checked with a single file lookup per query, so files
+ * added to a class path directory at runtime are still seen. Only files with the extension of a
+ * known {@link FileFormat} are indexed; paths with any other extension are never ruled out.
+ *
+ * <p>An index can only be built when the whole search path of the class loader is known: every
+ * loader in its parent chain, up to the platform class loader, must be a {@link URLClassLoader}
+ * or the built-in application class loader running from the class path. Besides {@code file:}
+ * URLs, the search path may hold {@code jar:} URLs of an archive, of a directory inside an
+ * archive, or of an archive nested in another one, in either the {@code jar:file:} or the
+ * {@code jar:nested:} notation used by executable Spring Boot archives. Archives that extend the
+ * search path through a {@code Class-Path} manifest attribute are followed to the archives and
+ * directories it names. Module path deployments, custom class loaders, and remote URLs leave the
+ * search path unknown.
+ *
+ * <p>Instances are immutable and thread-safe.
+ */
+final class ClasspathIndex {
+
+  private static final String NESTED_PREFIX = "nested:";
+  private static final String ARCHIVE_SEPARATOR = "!/";
+  private static final String NESTED_SEPARATOR = "/!";
+  private static final Set<String> INDEXED_EXTENSIONS = Arrays.stream(FileFormat.values())
+      .flatMap(format -> format.getExtensions().stream())
+      .collect(Collectors.toUnmodifiableSet());
+
+  private final Set<String> archiveEntries;
+  private final List<Path> directories;
+
+  private ClasspathIndex(Set<String> archiveEntries, List<Path> directories) {
+    this.archiveEntries = archiveEntries;
+    this.directories = directories;
+  }
+
+  /**
+   * Builds an index of the resources {@code classLoader} can see below
+   * {@code baseDirectories}.
+   *
+   * @param classLoader     the class loader whose search path is indexed
+   * @param baseDirectories the base directories whose resources are indexed; a blank directory
+   *                        stands for the root of the search path
+   * @return the index, or empty if the search path of the class loader cannot be enumerated
+   */
+  static Optional<ClasspathIndex> build(ClassLoader classLoader,
+      Collection<String> baseDirectories) {
+    List<Root> roots = new ArrayList<>();
+    for (ClassLoader loader = classLoader;
+        loader != null && loader != ClassLoader.getPlatformClassLoader();
+        loader = loader.getParent()) {
+      if (!addRoots(loader, roots)) {
+        return Optional.empty();
+      }
+    }
+
+    List<String> prefixes = baseDirectories.stream()
+        .map(directory -> directory.isBlank() ? "" : directory + "/")
+        .toList();
+    var collector = new Collector(prefixes);
+    try {
+      for (Root root : roots) {
+        if (!collector.add(root)) {
+          return Optional.empty();
+        }
+      }
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+    return Optional.of(new ClasspathIndex(Collections.unmodifiableSet(collector.archiveEntries),
+        List.copyOf(collector.directories)));
+  }
+
+  private static boolean addRoots(ClassLoader loader, List<Root> roots) {
+    if (loader instanceof URLClassLoader urlClassLoader) {
+      for (URL url : urlClassLoader.getURLs()) {
+        Root root = Root.of(url);
+        if (root == null) {
+          return false;
+        }
+        roots.add(root);
+      }
+      return true;
+    }
+    if (loader == ClassLoader.getSystemClassLoader()
+        && loader.getClass().getName().startsWith("jdk.internal.loader.")
+        && System.getProperty("jdk.module.path") == null) {
+      String classPath = System.getProperty("java.class.path", "");
+      for (String entry : classPath.split(File.pathSeparator)) {
+        try {
+          roots.add(new Root(Path.of(entry.isEmpty() ? "." : entry), ""));
+        } catch (InvalidPathException e) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private static boolean isIndexable(String name) {
+    int dot = name.lastIndexOf('.');
+    return dot >= 0 && name.lastIndexOf('/') < dot
+        && INDEXED_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Tells whether the class loader may have a resource at {@code path}.
+   *
+   * @param path the resource path, relative to the root of the search path
+   * @return {@code false} if the resource is definitely absent
+   */
+  boolean mayContain(String path) {
+    if (!isIndexable(path) || archiveEntries.contains(path)) {
+      return true;
+    }
+    for (Path directory : directories) {
+      try {
+        if (Files.isRegularFile(directory.resolve(path))) {
+          return true;
+        }
+      } catch (InvalidPathException e) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the paths, relative to {@code baseDirectory}, of every indexed resource below it.
+   *
+   * @param baseDirectory the base directory to list; blank for the root of the search path
+   * @return the resource paths, using {@code /} as separator
+   * @throws UncheckedIOException if a class path directory cannot be listed
+   */
+  Set<String> list(String baseDirectory) {
+    String prefix = baseDirectory.isBlank() ? "" : baseDirectory + "/";
+    Set<String> names = new LinkedHashSet<>();
+    archiveEntries.stream()
+        .filter(entry -> entry.startsWith(prefix))
+        .map(entry -> entry.substring(prefix.length()))
+        .sorted()
+        .forEach(names::add);
+    for (Path directory : directories) {
+      Path base = directory.resolve(prefix);
+      if (!Files.isDirectory(base)) {
+        continue;
+      }
+      try (Stream<Path> files = Files.walk(base)) {
+        files.filter(Files::isRegularFile)
+            .map(file -> base.relativize(file).toString().replace(File.separatorChar, '/'))
+            .filter(ClasspathIndex::isIndexable)
+            .sorted()
+            .forEach(names::add);
+      } catch (IOException e) {
+        throw new UncheckedIOException("cannot list class path directory " + base, e);
+      }
+    }
+    return names;
+  }
+
+  /**
+   * An entry of the search path: a directory or archive on disk, or, if {@code entry} is not
+   * empty, a directory inside the archive (ending with {@code /}) or an archive nested in it.
+   */
+  private record Root(Path path, String entry) {
+
+    /**
+     * Returns the root a class loader URL stands for, or {@code null} if it is not on disk.
+     */
+    static Root of(URL url) {
+      try {
+        return switch (url.getProtocol()) {
+          case "file" -> new Root(Path.of(url.toURI()), "");
+          case "jar" -> ofArchive(url.getPath());
+          default -> null;
+        };
+      } catch (URISyntaxException | IllegalArgumentException e) {
+        return null;
+      }
+    }
+
+    private static Root ofArchive(String spec) throws URISyntaxException {
+      String location = spec.endsWith(ARCHIVE_SEPARATOR)
+          ? spec.substring(0, spec.length() - ARCHIVE_SEPARATOR.length())
+          : spec;
+      if (location.startsWith(NESTED_PREFIX)) {
+        String nested = location.substring(NESTED_PREFIX.length());
+        int separator = nested.indexOf(NESTED_SEPARATOR);
+        String archive = separator < 0 ? nested : nested.substring(0, separator);
+        String entry = separator < 0 ? "" : nested.substring(separator + 2);
+        return new Root(Path.of(new URI("file://" + archive)), directoryOrArchive(entry));
+      }
+      if (location.startsWith("file:")) {
+        int separator = location.indexOf(ARCHIVE_SEPARATOR);
+        String archive = separator < 0 ? location : location.substring(0, separator);
+        String entry = separator < 0 ? "" : location.substring(separator + 2);
+        return new Root(Path.of(new URI(archive)), directoryOrArchive(entry));
+      }
+      return null;
+    }
+
+    private static String directoryOrArchive(String entry) {
+      return entry.isEmpty() || entry.endsWith("/") || entry.endsWith(".jar")
+          ? entry
+          : entry + "/";
+    }
+  }
+
+  /**
+   * Collects the indexed archive entries and the directories of a search path, following the
+   * {@code Class-Path} attribute of archives on disk.
+   */
+  private static final class Collector {
+
+    private final List<String> prefixes;
+    private final Set<String> archiveEntries = new HashSet<>();
+    private final List<Path> directories = new ArrayList<>();
+    private final Set<Root> visited = new HashSet<>();
+
+    private Collector(List<String> prefixes) {
+      this.prefixes = prefixes;
+    }
+
+    /**
+     * Adds the resources of {@code root}; returns {@code false} if the search path it leads to
+     * cannot be enumerated.
+     */
+    boolean add(Root root) throws IOException {
+      Path path = root.path().toAbsolutePath().normalize();
+      if (!visited.add(new Root(path, root.entry()))) {
+        return true;
+      }
+      if (root.entry().isEmpty() && Files.isDirectory(path)) {
+        directories.add(path);
+        return true;
+      }
+      if (!Files.isRegularFile(path)) {
+        return true;
+      }
+      try (var jar = new JarFile(path.toFile())) {
+        if (root.entry().isEmpty()) {
+          addEntries(jar.stream().map(JarEntry::getName), "");
+          return followClassPath(path, jar.getManifest());
+        }
+        if (root.entry().endsWith("/")) {
+          addEntries(jar.stream().map(JarEntry::getName), root.entry());
+          return true;
+        }
+        JarEntry nested = jar.getJarEntry(root.entry());
+        if (nested != null) {
+          try (var in = new JarInputStream(jar.getInputStream(nested))) {
+            List<String> names = new ArrayList<>();
+            for (JarEntry entry; (entry = in.getNextJarEntry()) != null; ) {
+              names.add(entry.getName());
+            }
+            addEntries(names.stream(), "");
+          }
+        }
+        return true;
+      }
+    }
+
+    private void addEntries(Stream<String> names, String root) {
+      names.filter(name -> name.startsWith(root))
+          .map(name -> name.substring(root.length()))
+          .filter(name -> isIndexable(name) && prefixes.stream().anyMatch(name::startsWith))
+          .forEach(archiveEntries::add);
+    }
+
+    private boolean followClassPath(Path archive, Manifest manifest) throws IOException {
+      String classPath = manifest == null
+          ? null
+          : manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+      if (classPath == null) {
+        return true;
+      }
+      URI base = archive.toUri();
+      for (String reference : classPath.trim().split("\\s+")) {
+        if (reference.isEmpty()) {
+          continue;
+        }
+        try {
+          URI uri = base.resolve(reference);
+          if (!"file".equals(uri.getScheme()) || !add(new Root(Path.of(uri), ""))) {
+            return false;
+          }
+        } catch (IllegalArgumentException e) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -5,18 +5,29 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
 
 import io.github.liana.config.core.DefaultResourceStream;
+import io.github.liana.config.core.ResourceFingerprint;
 import io.github.liana.config.core.ResourceIdentifier;
 import io.github.liana.config.core.ResourceStream;
 import io.github.liana.config.core.exception.ResourceProviderException;
 import io.github.liana.config.spi.ResourceProvider;
 import io.github.liana.config.internal.StringUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
 
 /**
  * Provides configuration resources from the classpath.
@@ -25,7 +36,20 @@ import java.util.Set;
  * from one or more base directories in the classpath. If a resource name does not have an
  * extension, a set of default extensions ("properties", "yaml", "yml") is attempted in order.
  *
- * <p>Instances are immutable and thread-safe.
+ * <p>Resources found in a class path directory, rather than inside an archive, report their file
+ * through {@link ResourceStream#sourceFile()} so they can be watched for changes. Resources also
+ * carry a {@link ResourceStream#fingerprint()} when one is available, taken before the stream is
+ * opened: the size and modification time for files, or the size and CRC recorded in the archive
+ * for jar entries.
+ *
+ * <p>On first use the provider indexes the resources the class loader can see below the base
+ * directories, listing every archive on the class path once. Candidate paths that the index rules
+ * out are skipped without asking the class loader, whose lookups scan every class path entry
+ * before reporting a miss. When the search path of the class loader cannot be enumerated, see
+ * {@link ClasspathIndex}, every candidate is probed through the class loader as before.
+ *
+ * <p>Instances are thread-safe; apart from the index, built once on first use, they are
+ * immutable.
  *
  * <p>Responsibilities:
  * <ul>
@@ -46,6 +70,7 @@ public class ClasspathProvider implements ResourceProvider {
 
   private final ClassLoader classLoader;
   private final Set<String> baseDirectories;
+  private volatile Optional<ClasspathIndex> index;
 
   /**
    * Creates a new classpath provider using the current thread's context class loader.
@@ -102,26 +127,133 @@ public class ClasspathProvider implements ResourceProvider {
               new ResourceProviderException("config resource not found: " + resourceName));
     }
 
-    return DEFAULT_EXTENSIONS.stream()
-        .map(ext -> getResource(resourceName + "." + ext))
-        .flatMap(Optional::stream)
-        .findFirst()
+    return getResourceWithDefaultExtension(resourceName)
         .orElseThrow(() -> new ResourceProviderException(
             "config resource not found with any default extension: " + resourceName
         ));
   }
 
+  @Override
+  public Optional<ResourceStream> tryResolveResource(ResourceIdentifier resource) {
+    validateResource(resource);
+    String resourceName = resource.resourceName();
+    return hasExtension(resourceName)
+        ? getResource(resourceName)
+        : getResourceWithDefaultExtension(resourceName);
+  }
+
+  private Optional<ResourceStream> getResourceWithDefaultExtension(String resourceName) {
+    return DEFAULT_EXTENSIONS.stream()
+        .map(ext -> getResource(resourceName + "." + ext))
+        .flatMap(Optional::stream)
+        .findFirst();
+  }
+
+  /**
+   * Returns the paths of the resources available below the base directories, relative to the
+   * base directory they were found in, such as {@code application.yaml} and
+   * {@code application-dev.yaml}.
+   *
+   * <p>The result can be used to discover which profiles have resources. Only files with the
+   * extension of a known configuration format are included.
+   *
+   * @return the resource paths in base directory order, or empty if the search path of the class
+   *     loader cannot be enumerated
+   */
+  public Optional<Set<String>> availableResources() {
+    return index().map(classpathIndex -> {
+      Set<String> names = new LinkedHashSet<>();
+      baseDirectories.forEach(directory -> names.addAll(classpathIndex.list(directory)));
+      return Collections.unmodifiableSet(names);
+    });
+  }
+
+  private Optional<ClasspathIndex> index() {
+    Optional<ClasspathIndex> current = index;
+    if (current == null) {
+      synchronized (this) {
+        current = index;
+        if (current == null) {
+          current = ClasspathIndex.build(classLoader, baseDirectories);
+          index = current;
+        }
+      }
+    }
+    return current;
+  }
+
   private boolean hasExtension(String resourceName) {
     return !StringUtils.isBlank(getExtension(resourceName));
   }
 
   private Optional<ResourceStream> getResource(String resourceName) {
-    return baseDirectories.stream()
-        .map(directory -> buildPath(directory, resourceName))
-        .map(classLoader::getResourceAsStream)
-        .filter(Objects::nonNull)
-        .findFirst()
-        .map(inputStream -> new DefaultResourceStream(resourceName, inputStream));
+    Optional<ClasspathIndex> classpathIndex = index();
+    for (String directory : baseDirectories) {
+      String path = buildPath(directory, resourceName);
+      if (classpathIndex.isPresent() && !classpathIndex.get().mayContain(path)) {
+        continue;
+      }
+      URL url = classLoader.getResource(path);
+      if (url == null) {
+        continue;
+      }
+      Optional<ResourceStream> resource = open(resourceName, url);
+      if (resource.isPresent()) {
+        return resource;
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Opens the resource found at {@code url} together with its fingerprint, connecting to a jar
+   * entry only once for both. A resource that cannot be opened is treated as absent, as
+   * {@link ClassLoader#getResourceAsStream(String)} does.
+   */
+  private Optional<ResourceStream> open(String resourceName, URL url) {
+    try {
+      Path file = toFile(url);
+      if (file != null) {
+        return Optional.of(new DefaultResourceStream(resourceName, url.openStream(), file,
+            fingerprint(file)));
+      }
+      URLConnection connection = url.openConnection();
+      ResourceFingerprint fingerprint = connection instanceof JarURLConnection jar
+          ? fingerprint(jar.getJarEntry())
+          : null;
+      return Optional.of(
+          new DefaultResourceStream(resourceName, connection.getInputStream(), null, fingerprint));
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private Path toFile(URL url) {
+    if (!"file".equals(url.getProtocol())) {
+      return null;
+    }
+    try {
+      return Path.of(url.toURI());
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private ResourceFingerprint fingerprint(Path file) {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      return new ResourceFingerprint(attributes.size(),
+          attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS));
+    } catch (IOException e) {
+      // no fingerprint; the content is checksummed when it is read instead
+      return null;
+    }
+  }
+
+  private ResourceFingerprint fingerprint(JarEntry entry) {
+    return entry != null && entry.getCrc() != -1
+        ? new ResourceFingerprint(entry.getSize(), entry.getCrc())
+        : null;
   }
 
   private String buildPath(String directory, String resourceName) {
@@ -0,0 +1,214 @@
+package io.github.liana.config.providers;
+
+import static io.github.liana.config.core.FileFormat.CONFIG_TREE;
+import static java.util.Objects.isNull;
+
+import io.github.liana.config.core.DefaultResourceStream;
+import io.github.liana.config.core.ResourceFingerprint;
+import io.github.liana.config.core.ResourceIdentifier;
+import io.github.liana.config.core.ResourceNameValidator;
+import io.github.liana.config.core.ResourceStream;
+import io.github.liana.config.core.exception.ResourceProviderException;
+import io.github.liana.config.internal.ImmutableConfigSet;
+import io.github.liana.config.spi.ResourceProvider;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Provides configuration trees: directories that hold one file per configuration key, as
+ * Kubernetes mounts ConfigMaps and Secrets.
+ *
+ * <p>A resource names a directory, resolved against the base directories like the resources of
+ * {@link FileSystemProvider}. The directory is read in a single scan and served as one resource
+ * holding every key, to be parsed by the {@code ConfigTreeLoader}:
+ * <ul>
+ *   <li>each regular file becomes a key named after the file, with the file's UTF-8 content as
+ *       its value; a single trailing line break is removed,</li>
+ *   <li>each subdirectory contributes its files with the subdirectory name and a dot as prefix,
+ *       and</li>
+ *   <li>entries whose name starts with a dot are skipped.</li>
+ * </ul>
+ * Dots in key names denote nesting, so files {@code db.url} and {@code db.password} become the
+ * object {@code db} with two fields.
+ *
+ * <p>Kubernetes updates a mounted volume by atomically swapping the {@code ..data} symbolic link to
+ * a new timestamped directory. When the directory has such a link, its target identifies the
+ * content: resolving the directory again costs a single {@code readlink}, and the directory is
+ * only scanned again after the link has been swapped. The link is also reported as
+ * {@link ResourceStream#sourceFile()}, so the swap triggers a reload when the configuration is
+ * watched. Directories without the link are scanned on every resolution.
+ *
+ * <p>The provider is registered under the key {@code configtree}, so a directory is read when the
+ * resource is named {@code configtree:secrets}.
+ *
+ * <p>Instances are thread-safe.
+ */
+public class ConfigTreeProvider implements ResourceProvider {
+
+  /**
+   * The symbolic link Kubernetes swaps to publish a new version of a mounted volume.
+   */
+  static final String DATA_LINK = "..data";
+
+  private static final String EXTENSION = CONFIG_TREE.getExtensions().iterator().next();
+
+  private final List<Directory> directories;
+  private final ConcurrentMap<Path, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new config tree provider.
+   *
+   * @param baseDirectories collection of base directories to search; if null or empty, defaults to
+   *                        ["", "config"], where "" is the working directory
+   * @throws NullPointerException if baseDirectories contains null elements
+   */
+  public ConfigTreeProvider(Collection<String> baseDirectories) {
+    Set<String> names = new LinkedHashSet<>(
+        isNull(baseDirectories) || baseDirectories.isEmpty()
+            ? List.of("", "config")
+            : baseDirectories);
+    this.directories = names.stream()
+        .map(name -> name.isBlank() ? "." : name)
+        .map(Directory::new)
+        .toList();
+  }
+
+  @Override
+  public Set<String> getKeys() {
+    return Collections.singleton("configtree");
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation resolves the resource name to a directory below one of the configured
+   * base directories. The returned resource is named after the directory with the
+   * {@code configtree} extension, so that it is handed to the matching loader.
+   */
+  @Override
+  public ResourceStream resolveResource(ResourceIdentifier resource) {
+    return tryResolveResource(resource).orElseThrow(() ->
+        new ResourceProviderException("config tree not found: " + resource.resourceName()));
+  }
+
+  @Override
+  public Optional<ResourceStream> tryResolveResource(ResourceIdentifier resource) {
+    validateResource(resource);
+    String resourceName = resource.resourceName();
+    for (Directory directory : directories) {
+      if (!directory.validator().isSafeResourceName(resourceName)) {
+        continue;
+      }
+      Path tree = directory.path().resolve(resourceName).normalize();
+      if (Files.isDirectory(tree)) {
+        Snapshot snapshot = snapshot(tree);
+        return Optional.of(new DefaultResourceStream(resourceName + "." + EXTENSION,
+            new ByteArrayInputStream(snapshot.content()), snapshot.sourceFile(),
+            snapshot.fingerprint()));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private Snapshot snapshot(Path tree) {
+    Path link = tree.resolve(DATA_LINK);
+    Optional<String> version = readLink(link);
+    if (version.isEmpty()) {
+      snapshots.remove(tree);
+      return new Snapshot(null, scan(tree), null);
+    }
+
+    Snapshot cached = snapshots.get(tree);
+    if (cached != null && version.get().equals(cached.version())) {
+      return cached;
+    }
+    Snapshot snapshot = new Snapshot(version.get(), scan(tree), link);
+    snapshots.put(tree, snapshot);
+    return snapshot;
+  }
+
+  private static Optional<String> readLink(Path link) {
+    try {
+      return Optional.of(Files.readSymbolicLink(link).toString());
+    } catch (IOException | UnsupportedOperationException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Reads every key below {@code tree} and encodes them in the properties format.
+   */
+  private static byte[] scan(Path tree) {
+    var properties = new Properties();
+    try {
+      scan(tree, "", properties);
+      var out = new ByteArrayOutputStream();
+      properties.store(out, null);
+      return out.toByteArray();
+    } catch (IOException e) {
+      throw new ResourceProviderException("cannot read config tree: " + tree, e);
+    }
+  }
+
+  private static void scan(Path directory, String prefix, Properties properties)
+      throws IOException {
+    try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+      for (Path entry : entries) {
+        String name = entry.getFileName().toString();
+        if (name.startsWith(".")) {
+          continue;
+        }
+        if (Files.isDirectory(entry)) {
+          scan(entry, prefix + name + ".", properties);
+        } else if (Files.isRegularFile(entry)) {
+          properties.setProperty(prefix + name, value(Files.readAllBytes(entry)));
+        }
+      }
+    }
+  }
+
+  private static String value(byte[] content) {
+    String value = new String(content, StandardCharsets.UTF_8);
+    if (value.endsWith("\r\n")) {
+      return value.substring(0, value.length() - 2);
+    }
+    return value.endsWith("\n") ? value.substring(0, value.length() - 1) : value;
+  }
+
+  /**
+   * A base directory together with the validator that keeps resource names inside it.
+   */
+  private record Directory(Path path, ResourceNameValidator validator) {
+
+    private Directory(String name) {
+      this(Path.of(name).toAbsolutePath().normalize(),
+          new ResourceNameValidator(ImmutableConfigSet.of(Set.of(name))));
+    }
+  }
+
+  /**
+   * The encoded content of a config tree, and the {@code ..data} link target it was read from.
+   */
+  private record Snapshot(String version, byte[] content, Path sourceFile) {
+
+    ResourceFingerprint fingerprint() {
+      return version == null
+          ? null
+          : ResourceFingerprint.ofContent(version.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -0,0 +1,362 @@
+package io.github.liana.config.providers;
+
+import static io.github.liana.config.internal.FilenameUtils.getExtension;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import io.github.liana.config.core.DefaultResourceStream;
+import io.github.liana.config.core.ResourceFingerprint;
+import io.github.liana.config.core.ResourceIdentifier;
+import io.github.liana.config.core.ResourceNameValidator;
+import io.github.liana.config.core.ResourceStream;
+import io.github.liana.config.core.exception.ResourceProviderException;
+import io.github.liana.config.internal.ImmutableConfigSet;
+import io.github.liana.config.internal.StringUtils;
+import io.github.liana.config.spi.ResourceProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Provides configuration resources from the local file system.
+ *
+ * <p>This implementation of {@link ResourceProvider} resolves resource names against one or more
+ * base directories, relative to the working directory unless absolute, in the same way
+ * {@link ClasspathProvider} resolves them against the classpath. If a resource name does not have
+ * an extension, a set of default extensions ("properties", "yaml", "yml") is attempted in order.
+ * Names that escape a base directory, such as {@code ../secret.yaml} or absolute paths, are
+ * rejected by a {@link ResourceNameValidator} before the file system is touched.
+ *
+ * <p>Files of {@value #MAPPING_THRESHOLD} bytes or more are memory-mapped rather than read: the
+ * returned stream reads straight from the mapping into the parser's own buffer, so the content is
+ * never copied onto the heap as a whole. Smaller files are read in a single call, which is cheaper
+ * than setting up a mapping. Resolving a file only reads its attributes; the content is read or
+ * mapped when the returned stream is first read from, so a caller that only needs the
+ * fingerprint never opens the file. Content is never held by the provider, so memory use does not
+ * grow with the number of files served and a mapping is released together with the stream it
+ * backs.
+ *
+ * <p>The provider keeps only the attributes of the files it has served, and a marker for files
+ * that were not found. A file that was not found is not looked up again until the missing-file
+ * TTL has elapsed, so probing extensions and absent profile files stays cheap when many locations
+ * are resolved. Resources report their file through {@link ResourceStream#sourceFile()} and a
+ * fingerprint of its size, modification time, and file key (the inode on POSIX systems) through
+ * {@link ResourceStream#fingerprint()}, so that callers can skip parsing unchanged content.
+ *
+ * <p>The provider is registered under the key {@code file}, so a resource is read from disk when
+ * it is named {@code file:application.yaml} or when a location selects the {@code file}
+ * provider.
+ *
+ * <p>Instances are thread-safe.
+ *
+ * <p>Exposed exceptions:
+ * <ul>
+ *   <li>{@link ResourceProviderException} if a resource cannot be found.</li>
+ *   <li>{@link IOException} from the resource's stream if its content cannot be read.</li>
+ *   <li>{@link NullPointerException} if a resource identifier is null.</li>
+ * </ul>
+ */
+public class FileSystemProvider implements ResourceProvider {
+
+  /**
+   * How long a file that was not found is reported missing without looking it up again.
+   */
+  public static final Duration DEFAULT_MISSING_FILE_TTL = Duration.ofSeconds(1);
+
+  /**
+   * Files of at least this many bytes are memory-mapped instead of read.
+   */
+  public static final int MAPPING_THRESHOLD = 64 * 1024;
+
+  private static final List<String> DEFAULT_EXTENSIONS = List.of("properties", "yaml", "yml");
+
+  private final List<Directory> directories;
+  private final long missingFileTtl;
+  private final LongSupplier ticker;
+  private final ConcurrentMap<Path, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new file system provider that remembers missing files for
+   * {@link #DEFAULT_MISSING_FILE_TTL}.
+   *
+   * @param baseDirectories collection of base directories to search; if null or empty, defaults to
+   *                        ["", "config"], where "" is the working directory
+   * @throws NullPointerException if baseDirectories contains null elements
+   */
+  public FileSystemProvider(Collection<String> baseDirectories) {
+    this(baseDirectories, DEFAULT_MISSING_FILE_TTL);
+  }
+
+  /**
+   * Creates a new file system provider.
+   *
+   * @param baseDirectories collection of base directories to search; if null or empty, defaults to
+   *                        ["", "config"], where "" is the working directory
+   * @param missingFileTtl  how long a file that was not found is reported missing without looking
+   *                        it up again; {@link Duration#ZERO} looks it up every time; must not be
+   *                        {@code null} or negative
+   * @throws NullPointerException     if {@code missingFileTtl} is null or baseDirectories contains
+   *                                  null elements
+   * @throws IllegalArgumentException if {@code missingFileTtl} is negative
+   */
+  public FileSystemProvider(Collection<String> baseDirectories, Duration missingFileTtl) {
+    this(baseDirectories, missingFileTtl, System::nanoTime);
+  }
+
+  FileSystemProvider(Collection<String> baseDirectories, Duration missingFileTtl,
+      LongSupplier ticker) {
+    requireNonNull(missingFileTtl, "missingFileTtl must not be null");
+    if (missingFileTtl.isNegative()) {
+      throw new IllegalArgumentException("missingFileTtl must not be negative");
+    }
+    Set<String> names = new LinkedHashSet<>(
+        isNull(baseDirectories) || baseDirectories.isEmpty()
+            ? List.of("", "config")
+            : baseDirectories);
+    this.directories = names.stream()
+        .map(name -> name.isBlank() ? "." : name)
+        .map(Directory::new)
+        .toList();
+    this.missingFileTtl = missingFileTtl.toNanos();
+    this.ticker = requireNonNull(ticker, "ticker must not be null");
+  }
+
+  @Override
+  public Set<String> getKeys() {
+    return Collections.singleton("file");
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation attempts to resolve the resource from the configured base directories.
+   * If the resource has no extension, it tries default extensions: "properties", "yaml", "yml".
+   */
+  @Override
+  public ResourceStream resolveResource(ResourceIdentifier resource) {
+    validateResource(resource);
+    String resourceName = resource.resourceName();
+    if (hasExtension(resourceName)) {
+      return getResource(resourceName)
+          .orElseThrow(() ->
+              new ResourceProviderException("config resource not found: " + resourceName));
+    }
+
+    return getResourceWithDefaultExtension(resourceName)
+        .orElseThrow(() -> new ResourceProviderException(
+            "config resource not found with any default extension: " + resourceName
+        ));
+  }
+
+  @Override
+  public Optional<ResourceStream> tryResolveResource(ResourceIdentifier resource) {
+    validateResource(resource);
+    String resourceName = resource.resourceName();
+    return hasExtension(resourceName)
+        ? getResource(resourceName)
+        : getResourceWithDefaultExtension(resourceName);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation reports the resource name, or the name with each default extension if
+   * it has none, resolved against every base directory that may contain it.
+   */
+  @Override
+  public List<Path> candidateFiles(ResourceIdentifier resource) {
+    validateResource(resource);
+    String resourceName = resource.resourceName();
+    List<String> names = hasExtension(resourceName)
+        ? List.of(resourceName)
+        : DEFAULT_EXTENSIONS.stream().map(ext -> resourceName + "." + ext).toList();
+    List<Path> candidates = new ArrayList<>();
+    for (String name : names) {
+      for (Directory directory : directories) {
+        if (directory.validator().isSafeResourceName(name)) {
+          candidates.add(directory.path().resolve(name).normalize());
+        }
+      }
+    }
+    return Collections.unmodifiableList(candidates);
+  }
+
+  private Optional<ResourceStream> getResourceWithDefaultExtension(String resourceName) {
+    return DEFAULT_EXTENSIONS.stream()
+        .map(ext -> getResource(resourceName + "." + ext))
+        .flatMap(Optional::stream)
+        .findFirst();
+  }
+
+  private boolean hasExtension(String resourceName) {
+    return !StringUtils.isBlank(getExtension(resourceName));
+  }
+
+  private Optional<ResourceStream> getResource(String resourceName) {
+    for (Directory directory : directories) {
+      if (!directory.validator().isSafeResourceName(resourceName)) {
+        continue;
+      }
+      Path file = directory.path().resolve(resourceName).normalize();
+      Metadata metadata = lookup(file);
+      if (metadata != null) {
+        return Optional.of(new DefaultResourceStream(resourceName,
+            new FileContent(file, metadata), file, metadata.fingerprint()));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the attributes of {@code file}, or {@code null} if it is not a regular file or was
+   * found missing less than the missing-file TTL ago.
+   */
+  private Metadata lookup(Path file) {
+    Entry entry = entries.get(file);
+    long now = ticker.getAsLong();
+    if (entry instanceof Missing missing && now - missing.since() < missingFileTtl) {
+      return null;
+    }
+
+    Metadata metadata = Metadata.of(file);
+    if (metadata == null) {
+      entries.put(file, new Missing(now));
+      return null;
+    }
+    if (!metadata.equals(entry)) {
+      entries.put(file, metadata);
+    }
+    return metadata;
+  }
+
+
+  /**
+   * A base directory together with the validator that keeps resource names inside it.
+   */
+  private record Directory(Path path, ResourceNameValidator validator) {
+
+    private Directory(String name) {
+      this(Path.of(name).toAbsolutePath().normalize(),
+          new ResourceNameValidator(ImmutableConfigSet.of(Set.of(name))));
+    }
+  }
+
+  /**
+   * The attributes of a regular file that identify its content.
+   */
+  private record Metadata(long size, long modified, Object fileKey) implements Entry {
+
+    static Metadata of(Path file) {
+      try {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        if (!attributes.isRegularFile()) {
+          return null;
+        }
+        return new Metadata(attributes.size(),
+            attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS), attributes.fileKey());
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    ResourceFingerprint fingerprint() {
+      return new ResourceFingerprint(size, 31 * modified + Objects.hashCode(fileKey));
+    }
+  }
+
+  /**
+   * The content of a resolved file, read or mapped on first use.
+   *
+   * <p>Resolving a file only takes its attributes, so that a caller that needs no more than the
+   * fingerprint never opens it. The file is read in one call, or mapped if it reaches the mapping
+   * threshold, when the stream is first read from.
+   */
+  private static final class FileContent extends InputStream {
+
+    private final Path file;
+    private final Metadata metadata;
+    private InputStream content;
+    private boolean closed;
+
+    FileContent(Path file, Metadata metadata) {
+      this.file = file;
+      this.metadata = metadata;
+    }
+
+    private InputStream content() throws IOException {
+      if (closed) {
+        throw new IOException("stream closed: " + file);
+      }
+      if (content == null) {
+        content = new ByteBufferBackedInputStream(load());
+      }
+      return content;
+    }
+
+    private ByteBuffer load() throws IOException {
+      if (metadata.size() < MAPPING_THRESHOLD) {
+        return ByteBuffer.wrap(Files.readAllBytes(file)).asReadOnlyBuffer();
+      }
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        if (channel.size() > Integer.MAX_VALUE) {
+          throw new IOException("config resource too large: " + file);
+        }
+        return channel.map(MapMode.READ_ONLY, 0, channel.size());
+      }
+    }
+
+    @Override
+    public int read() throws IOException {
+      return content().read();
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      return content().read(buffer, offset, length);
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+      return content().skip(count);
+    }
+
+    @Override
+    public int available() throws IOException {
+      return content().available();
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+      content = null;
+    }
+  }
+
+  private interface Entry {
+
+  }
+
+  private record Missing(long since) implements Entry {
+
+  }
+}
@@ -22,6 +22,9 @@ import io.github.liana.config.core.ResourceIdentifier;
 import io.github.liana.config.core.ResourceStream;
 import io.github.liana.config.core.Strategy;
 import io.github.liana.config.core.exception.ResourceProviderException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Provides configuration resources from different sources.
@@ -34,7 +37,9 @@ import io.github.liana.config.core.exception.ResourceProviderException;
  * return a non-null, unmodifiable set of unique identifiers representing the provider.
  *
  * <p>Implementations are expected to validate resources and may throw exceptions if resolution
- * fails. Providers should be thread-safe if shared across multiple threads.
+ * fails. Resources that are expected to be missing, such as optional profile overlays, are
+ * resolved through {@link #tryResolveResource(ResourceIdentifier)}, which reports a missing
+ * resource without throwing. Providers should be thread-safe if shared across multiple threads.
  */
 public interface ResourceProvider extends Strategy<String> {
 
@@ -48,6 +53,46 @@ public interface ResourceProvider extends Strategy<String> {
    */
   ResourceStream resolveResource(ResourceIdentifier resource);
 
+  /**
+   * Resolves a configuration resource identifier, reporting a missing resource as an empty
+   * result instead of an exception.
+   *
+   * <p>The default implementation delegates to {@link #resolveResource(ResourceIdentifier)} and
+   * maps a {@link ResourceProviderException} to an empty result. Providers should override it so
+   * that a missing resource costs neither an exception nor a stack trace; failures other than the
+   * resource not existing, such as an unreadable file, are still thrown.
+   *
+   * @param resource the resource identifier to resolve; must not be {@code null}
+   * @return the resolved {@link ResourceStream}, or empty if the resource does not exist
+   * @throws NullPointerException      if {@code resource} is {@code null}
+   * @throws ResourceProviderException if the resource exists but cannot be accessed
+   */
+  default Optional<ResourceStream> tryResolveResource(ResourceIdentifier resource) {
+    requireNonNull(resource, "resource must not be null");
+    try {
+      return Optional.of(resolveResource(resource));
+    } catch (ResourceProviderException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Returns the local files that would back the resource, whether or not they exist.
+   *
+   * <p>Watchers use these paths to notice a resource appearing, such as an optional profile
+   * overlay created after the configuration was loaded. Providers that read from the local file
+   * system should report every path they probe, in the order they probe them. The default
+   * implementation reports none, so resources of the provider are only watched once found.
+   *
+   * @param resource the resource identifier; must not be {@code null}
+   * @return the candidate files, possibly empty; never {@code null}
+   * @throws NullPointerException if {@code resource} is {@code null}
+   */
+  default List<Path> candidateFiles(ResourceIdentifier resource) {
+    requireNonNull(resource, "resource must not be null");
+    return List.of();
+  }
+
   /**
    * Validates the basic requirements of a configuration resource identifier.
    *
@@ -0,0 +1,59 @@
+package io.github.liana.config.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.liana.config.api.KeyChange.Type;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeyChangeTest {
+
+  @Test
+  @DisplayName("should match the key itself and paths nested under it")
+  void shouldMatchKeyAndNestedPaths() {
+    assertTrue(new KeyChange("db.pool", Type.ADDED, null, 1).isUnder("db.pool"));
+    assertTrue(new KeyChange("db.pool.size", Type.ADDED, null, 1).isUnder("db.pool"));
+    assertTrue(new KeyChange("db.pool[0]", Type.ADDED, null, 1).isUnder("db.pool"));
+    assertTrue(new KeyChange("db.pool.size", Type.ADDED, null, 1).isUnder(""));
+  }
+
+  @Test
+  @DisplayName("should not match sibling keys sharing a prefix")
+  void shouldNotMatchSiblingKeys() {
+    assertFalse(new KeyChange("db.poolSize", Type.ADDED, null, 1).isUnder("db.pool"));
+    assertFalse(new KeyChange("db", Type.ADDED, null, 1).isUnder("db.pool"));
+  }
+
+  @Test
+  @DisplayName("should group and filter the changes of a configuration change")
+  void shouldGroupAndFilterChanges() {
+    var previous = new ConfigurationSnapshot(1, Configuration.from(Map.of()));
+    var current = new ConfigurationSnapshot(2, Configuration.from(Map.of()));
+    var added = new KeyChange("db.user", Type.ADDED, null, "u");
+    var removed = new KeyChange("cache.size", Type.REMOVED, 5, null);
+    var changed = new KeyChange("db.pool.size", Type.CHANGED, 5, 8);
+    var change = new ConfigurationChange(previous, current, List.of(added, removed, changed));
+
+    assertEquals(List.of(added), change.added());
+    assertEquals(List.of(removed), change.removed());
+    assertEquals(List.of(changed), change.changed());
+    assertEquals(List.of(added, changed), change.under("db").changes());
+    assertTrue(change.under("logging").isEmpty());
+  }
+
+  @Test
+  @DisplayName("should reject invalid arguments")
+  void shouldRejectInvalidArguments() {
+    assertThrows(NullPointerException.class, () -> new KeyChange(null, Type.ADDED, null, 1));
+    assertThrows(NullPointerException.class, () -> new KeyChange("a", null, null, 1));
+    assertThrows(NullPointerException.class,
+        () -> new KeyChange("a", Type.ADDED, null, 1).isUnder(null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ConfigurationSnapshot(0, Configuration.from(Map.of())));
+  }
+}
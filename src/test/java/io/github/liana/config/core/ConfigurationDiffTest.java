@@ -0,0 +1,98 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.api.KeyChange;
+import io.github.liana.config.api.KeyChange.Type;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationDiffTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  private Configuration tree(String json) throws Exception {
+    return JacksonConfiguration.fromTree(mapper, mapper.readTree(json));
+  }
+
+  @Test
+  @DisplayName("should report no changes for equal configurations")
+  void shouldReportNoChangesForEqualConfigurations() throws Exception {
+    assertTrue(ConfigurationDiff.between(
+        tree("{\"db\":{\"port\":1},\"hosts\":[\"a\"]}"),
+        tree("{\"db\":{\"port\":1},\"hosts\":[\"a\"]}")).isEmpty());
+  }
+
+  @Test
+  @DisplayName("should report added, removed, and changed leaf paths with their values")
+  void shouldReportLeafChanges() throws Exception {
+    List<KeyChange> changes = ConfigurationDiff.between(
+        tree("{\"db\":{\"pool\":{\"size\":5},\"url\":\"x\"},\"old\":true}"),
+        tree("{\"db\":{\"pool\":{\"size\":8},\"url\":\"x\",\"user\":\"u\"}}"));
+
+    assertEquals(List.of(
+        new KeyChange("db.pool.size", Type.CHANGED, 5, 8),
+        new KeyChange("db.user", Type.ADDED, null, "u"),
+        new KeyChange("old", Type.REMOVED, true, null)), changes);
+  }
+
+  @Test
+  @DisplayName("should compare arrays element by element")
+  void shouldCompareArraysByIndex() throws Exception {
+    List<KeyChange> changes = ConfigurationDiff.between(
+        tree("{\"list\":[1,2,3]}"),
+        tree("{\"list\":[1,4]}"));
+
+    assertEquals(List.of(
+        new KeyChange("list[1]", Type.CHANGED, 2, 4),
+        new KeyChange("list[2]", Type.REMOVED, 3, null)), changes);
+  }
+
+  @Test
+  @DisplayName("should quote field names that contain dots")
+  void shouldQuoteDottedNames() throws Exception {
+    List<KeyChange> changes = ConfigurationDiff.between(
+        tree("{\"level\":{\"com.acme\":\"INFO\"}}"),
+        tree("{\"level\":{\"com.acme\":\"DEBUG\"}}"));
+
+    assertEquals(List.of(
+        new KeyChange("level.\"com.acme\"", Type.CHANGED, "INFO", "DEBUG")), changes);
+  }
+
+  @Test
+  @DisplayName("should replace every leaf when a value changes between scalar and object")
+  void shouldReplaceLeavesWhenShapeChanges() throws Exception {
+    List<KeyChange> changes = ConfigurationDiff.between(
+        tree("{\"server\":{\"port\":80}}"),
+        tree("{\"server\":\"disabled\"}"));
+
+    assertEquals(List.of(
+        new KeyChange("server.port", Type.REMOVED, 80, null),
+        new KeyChange("server", Type.ADDED, null, "disabled")), changes);
+  }
+
+  @Test
+  @DisplayName("should compare configurations that are not backed by a Jackson tree")
+  void shouldCompareMapConfigurations() {
+    List<KeyChange> changes = ConfigurationDiff.between(
+        Configuration.from(Map.of("name", "a")),
+        Configuration.from(Map.of("name", "b")));
+
+    assertEquals(List.of(new KeyChange("name", Type.CHANGED, "a", "b")), changes);
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException for null arguments")
+  void shouldThrowForNullArguments() {
+    Configuration config = Configuration.from(Map.of());
+
+    assertThrows(NullPointerException.class, () -> ConfigurationDiff.between(null, config));
+    assertThrows(NullPointerException.class, () -> ConfigurationDiff.between(config, null));
+  }
+}
@@ -0,0 +1,273 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.api.ConfigurationChange;
+import io.github.liana.config.api.ConfigurationSnapshot;
+import io.github.liana.config.api.KeyChange;
+import io.github.liana.config.api.ReloadableConfiguration;
+import io.github.liana.config.api.ResourceLocation;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigurationWatcherTest {
+
+  @TempDir
+  Path directory;
+
+  @Mock
+  private Pipeline pipeline;
+
+  @Mock
+  private ResourceLocation location;
+
+  private Path file;
+  private ConfigurationWatcher watcher;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    file = Files.writeString(directory.resolve("app.properties"), "one");
+    watcher = new ConfigurationWatcher(pipeline, LoadExecutors.parallel(), Duration.ofMillis(50));
+  }
+
+  private LoadResult readFile() {
+    try {
+      return new LoadResult(
+          Configuration.from(Map.of("value", Files.readString(file))), Set.of(file));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "condition not met in time");
+      Thread.sleep(10);
+    }
+  }
+
+  @Test
+  @DisplayName("should publish a new configuration when a source file changes")
+  void shouldReloadWhenSourceFileChanges() throws Exception {
+    when(pipeline.load(location)).thenAnswer(inv -> readFile());
+
+    try (ReloadableConfiguration handle = watcher.watch(location)) {
+      assertEquals("one", handle.get().getString("value"));
+      assertSame(location, handle.location());
+
+      Files.writeString(file, "two");
+
+      await(() -> "two".equals(handle.get().getString("value")));
+    }
+  }
+
+  @Test
+  @DisplayName("should keep the previous configuration when a reload fails")
+  void shouldKeepPreviousConfigurationWhenReloadFails() throws Exception {
+    AtomicBoolean failed = new AtomicBoolean();
+    when(pipeline.load(location))
+        .thenAnswer(inv -> readFile())
+        .thenAnswer(inv -> {
+          failed.set(true);
+          throw new IllegalStateException("broken");
+        });
+
+    try (ReloadableConfiguration handle = watcher.watch(location)) {
+      Configuration initial = handle.get();
+
+      Files.writeString(file, "two");
+
+      await(failed::get);
+      assertSame(initial, handle.get());
+    }
+  }
+
+  @Test
+  @DisplayName("should stop reloading once the handle is closed")
+  void shouldStopReloadingAfterClose() throws Exception {
+    when(pipeline.load(location)).thenAnswer(inv -> readFile());
+
+    ReloadableConfiguration handle = watcher.watch(location);
+    handle.close();
+    handle.close();
+    Files.writeString(file, "two");
+    Thread.sleep(300);
+
+    assertEquals("one", handle.get().getString("value"));
+    verify(pipeline, times(1)).load(location);
+  }
+
+  @Test
+  @DisplayName("should serve several handles from the same directory")
+  void shouldServeSeveralHandles() throws Exception {
+    ResourceLocation other = mock(ResourceLocation.class);
+    when(pipeline.load(location)).thenAnswer(inv -> readFile());
+    when(pipeline.load(other)).thenAnswer(inv -> readFile());
+
+    try (ReloadableConfiguration first = watcher.watch(location);
+        ReloadableConfiguration second = watcher.watch(other)) {
+      Files.writeString(file, "two");
+
+      await(() -> "two".equals(first.get().getString("value"))
+          && "two".equals(second.get().getString("value")));
+    }
+    verify(pipeline, atLeast(2)).load(other);
+  }
+
+  @Test
+  @DisplayName("should keep the current version when a reload changes nothing")
+  void shouldKeepVersionWhenReloadChangesNothing() throws Exception {
+    AtomicInteger runs = new AtomicInteger();
+    when(pipeline.load(location)).thenAnswer(inv -> {
+      runs.incrementAndGet();
+      return readFile();
+    });
+
+    try (ReloadableConfiguration handle = watcher.watch(location)) {
+      ConfigurationSnapshot initial = handle.snapshot();
+
+      Files.writeString(file, "one");
+
+      await(() -> runs.get() >= 2);
+      assertSame(initial, handle.snapshot());
+      assertEquals(1, initial.version());
+    }
+  }
+
+  @Test
+  @DisplayName("should notify listeners of the changes under their key")
+  void shouldNotifyListenersOfChangesUnderTheirKey() throws Exception {
+    when(pipeline.load(location)).thenAnswer(inv -> readFile());
+    var matching = new CollectingSubscriber();
+    var other = new CollectingSubscriber();
+
+    try (ReloadableConfiguration handle = watcher.watch(location)) {
+      handle.subscribe("value", matching);
+      handle.subscribe("other", other);
+
+      Files.writeString(file, "two");
+
+      ConfigurationChange change = matching.changes.poll(10, TimeUnit.SECONDS);
+      assertNotNull(change);
+      assertEquals(List.of(new KeyChange("value", KeyChange.Type.CHANGED, "one", "two")),
+          change.changes());
+      assertEquals(1, change.previous().version());
+      assertEquals(2, change.current().version());
+      assertSame(handle.snapshot(), change.current());
+    }
+
+    assertTrue(other.completed.await(10, TimeUnit.SECONDS));
+    assertTrue(other.changes.isEmpty());
+  }
+
+  @Test
+  @DisplayName("should reload when a missing candidate file is created")
+  void shouldReloadWhenCandidateFileIsCreated() throws Exception {
+    Path overlay = directory.resolve("app-prod.properties");
+    when(pipeline.load(location)).thenAnswer(inv -> {
+      if (!Files.exists(overlay)) {
+        return new LoadResult(readFile().configuration(), Set.of(file), Set.of(overlay));
+      }
+      return new LoadResult(Configuration.from(Map.of("value", Files.readString(overlay))),
+          Set.of(file, overlay));
+    });
+    var subscriber = new CollectingSubscriber();
+
+    try (ReloadableConfiguration handle = watcher.watch(location)) {
+      handle.subscribe("value", subscriber);
+
+      Files.writeString(overlay, "prod");
+
+      ConfigurationChange change = subscriber.changes.poll(10, TimeUnit.SECONDS);
+      assertNotNull(change);
+      assertEquals(List.of(new KeyChange("value", KeyChange.Type.CHANGED, "one", "prod")),
+          change.changes());
+      assertEquals("prod", handle.get().getString("value"));
+    }
+  }
+
+  private static final class CollectingSubscriber implements Flow.Subscriber<ConfigurationChange> {
+
+    private final BlockingQueue<ConfigurationChange> changes = new LinkedBlockingQueue<>();
+    private final CountDownLatch completed = new CountDownLatch(1);
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(ConfigurationChange item) {
+      changes.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      completed.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+      completed.countDown();
+    }
+  }
+
+  @Test
+  @DisplayName("should propagate a failure of the initial load")
+  void shouldPropagateInitialLoadFailure() {
+    when(pipeline.load(location)).thenThrow(new IllegalStateException("missing"));
+
+    assertThrows(IllegalStateException.class, () -> watcher.watch(location));
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException for null arguments")
+  void shouldThrowForNullArguments() {
+    assertThrows(NullPointerException.class, () -> watcher.watch(null));
+    when(pipeline.load(location)).thenAnswer(inv -> readFile());
+    try (ReloadableConfiguration handle = watcher.watch(location)) {
+      assertThrows(NullPointerException.class,
+          () -> handle.subscribe(null, new CollectingSubscriber()));
+      assertThrows(NullPointerException.class, () -> handle.subscribe("value", null));
+    }
+    assertThrows(NullPointerException.class,
+        () -> new ConfigurationWatcher(null, LoadExecutors.parallel(), Duration.ZERO));
+    assertThrows(NullPointerException.class,
+        () -> new ConfigurationWatcher(pipeline, null, Duration.ZERO));
+    assertThrows(NullPointerException.class,
+        () -> new ConfigurationWatcher(pipeline, LoadExecutors.parallel(), null));
+  }
+}
@@ -10,9 +10,12 @@ import io.github.liana.config.api.ConfigurationManager;
 import io.github.liana.config.api.ConfigurationManagerBuilder;
 import io.github.liana.config.spi.ResourceLoader;
 import io.github.liana.config.spi.ResourceProvider;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class DefaultConfigurationManagerBuilderTest {
 
@@ -78,6 +81,40 @@ class DefaultConfigurationManagerBuilderTest {
     assertThrows(NullPointerException.class, () -> builder.addLoaders((ResourceLoader[]) null));
   }
 
+  @Test
+  @DisplayName("should return same builder instance when configuring parallel loading")
+  void shouldReturnSameBuilderInstanceWhenConfiguringParallelLoading() {
+    assertSame(builder, builder.parallelLoading(true));
+    assertSame(builder, builder.parallelLoading(Runnable::run));
+    assertNotNull(builder.build());
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when parallel loading executor is null")
+  void shouldThrowWhenParallelLoadingExecutorIsNull() {
+    assertThrows(NullPointerException.class, () -> builder.parallelLoading((Executor) null));
+  }
+
+  @Test
+  @DisplayName("should return same builder instance when configuring a snapshot directory")
+  void shouldReturnSameBuilderInstanceWhenConfiguringSnapshotDirectory(@TempDir Path directory) {
+    assertSame(builder, builder.snapshotDirectory(directory));
+    assertNotNull(builder.build());
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when snapshot directory is null")
+  void shouldThrowWhenSnapshotDirectoryIsNull() {
+    assertThrows(NullPointerException.class, () -> builder.snapshotDirectory(null));
+  }
+
+  @Test
+  @DisplayName("should return same builder instance when configuring lazy JSON parsing")
+  void shouldReturnSameBuilderInstanceWhenConfiguringLazyJsonParsing() {
+    assertSame(builder, builder.lazyJsonParsing(true));
+    assertNotNull(builder.build());
+  }
+
   @Test
   @DisplayName("should create independent ConfigurationManager instances on multiple builds")
   void shouldCreateIndependentInstancesOnMultipleBuilds() {
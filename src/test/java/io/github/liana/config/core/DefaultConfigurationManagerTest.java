@@ -1,17 +1,31 @@
 package io.github.liana.config.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.github.liana.config.api.ResourceLocation;
 import io.github.liana.config.api.Configuration;
+import io.github.liana.config.api.ReloadableConfiguration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,7 +38,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class DefaultConfigurationManagerTest {
 
   @Mock
-  private LoadingCache<ResourceLocation, Map<String, Object>> cache;
+  private LoadingCache<ResourceLocation, CompletableFuture<Configuration>> cache;
 
   @Mock
   private Pipeline pipeline;
@@ -67,16 +81,16 @@ class DefaultConfigurationManagerTest {
   }
 
   @Test
-  @DisplayName("should load configuration from cache when available")
+  @DisplayName("should return cached configuration instance when available")
   void shouldLoadFromCacheWhenAvailable() {
-    Map<String, Object> cached = Map.of("port", 8080);
+    Configuration cached = Configuration.from(Map.of("port", 8080));
 
-    when(cache.getOrCompute(eq(location), any())).thenReturn(cached);
+    when(cache.getOrCompute(eq(location), any()))
+        .thenReturn(CompletableFuture.completedFuture(cached));
 
     Configuration config = manager.load(location);
 
-    assertNotNull(config);
-    assertEquals(cached, config.getRootAsMap());
+    assertSame(cached, config);
 
     verify(cache).getOrCompute(eq(location), any());
     verifyNoInteractions(pipeline);
@@ -85,20 +99,34 @@ class DefaultConfigurationManagerTest {
   @Test
   @DisplayName("should compute configuration using pipeline when not cached")
   void shouldComputeConfigurationWhenNotCached() {
-    Map<String, Object> pipelineResult = Map.of("name", "resolved");
+    Configuration pipelineResult = Configuration.from(Map.of("name", "resolved"));
 
     when(cache.getOrCompute(eq(location), any()))
-        .thenAnswer(inv -> inv.<Supplier<Map<String, Object>>>getArgument(1).get());
+        .thenAnswer(inv -> inv.<Supplier<CompletableFuture<Configuration>>>getArgument(1).get());
 
     when(pipeline.execute(location)).thenReturn(pipelineResult);
 
     Configuration config = manager.load(location);
 
-    assertEquals(pipelineResult, config.getRootAsMap());
+    assertSame(pipelineResult, config);
 
     verify(pipeline).execute(location);
   }
 
+  @Test
+  @DisplayName("should run pipeline once and reuse the same instance for repeated loads")
+  void shouldReuseSameInstanceForRepeatedLoads() {
+    DefaultConfigurationManager cachingManager = new DefaultConfigurationManager(pipeline);
+    when(pipeline.execute(location)).thenReturn(Configuration.from(Map.of("port", 8080)));
+
+    Configuration first = cachingManager.load(location);
+    Configuration second = cachingManager.load(location);
+
+    assertSame(first, second);
+    assertEquals(8080, second.getInt("port"));
+    verify(pipeline, times(1)).execute(location);
+  }
+
   @Test
   @DisplayName("should propagate exception thrown by cache supplier")
   void shouldPropagateExceptionFromCacheSupplier() {
@@ -107,4 +135,148 @@ class DefaultConfigurationManagerTest {
 
     assertThrows(RuntimeException.class, () -> manager.load(location));
   }
+
+  @Test
+  @DisplayName("should rethrow pipeline failure and retry on the next load")
+  void shouldRethrowPipelineFailureAndRetry() {
+    DefaultConfigurationManager cachingManager = new DefaultConfigurationManager(pipeline);
+    Configuration resolved = Configuration.from(Map.of("port", 8080));
+    when(pipeline.execute(location))
+        .thenThrow(new IllegalStateException("load failed"))
+        .thenReturn(resolved);
+
+    assertThrows(IllegalStateException.class, () -> cachingManager.load(location));
+    assertSame(resolved, cachingManager.load(location));
+    verify(pipeline, times(2)).execute(location);
+  }
+
+  @Test
+  @DisplayName("should load asynchronously on the given executor")
+  void shouldLoadAsynchronouslyOnGivenExecutor() {
+    DefaultConfigurationManager cachingManager = new DefaultConfigurationManager(pipeline);
+    Configuration resolved = Configuration.from(Map.of("port", 8080));
+    List<Runnable> submitted = new ArrayList<>();
+    when(pipeline.execute(location)).thenReturn(resolved);
+
+    CompletableFuture<Configuration> future = cachingManager.loadAsync(location, submitted::add);
+
+    assertFalse(future.isDone());
+    assertEquals(1, submitted.size());
+    submitted.get(0).run();
+    assertSame(resolved, future.join());
+  }
+
+  @Test
+  @DisplayName("should share one in-flight load between concurrent callers")
+  void shouldShareInFlightLoadBetweenCallers() {
+    DefaultConfigurationManager cachingManager = new DefaultConfigurationManager(pipeline);
+    Configuration resolved = Configuration.from(Map.of("port", 8080));
+    List<Runnable> submitted = new ArrayList<>();
+    when(pipeline.execute(location)).thenReturn(resolved);
+
+    CompletableFuture<Configuration> first = cachingManager.loadAsync(location, submitted::add);
+    CompletableFuture<Configuration> second = cachingManager.loadAsync(location, submitted::add);
+    submitted.forEach(Runnable::run);
+
+    assertEquals(1, submitted.size());
+    assertSame(first.join(), second.join());
+    assertSame(resolved, cachingManager.load(location));
+    verify(pipeline, times(1)).execute(location);
+  }
+
+  @Test
+  @DisplayName("should not let callers complete the shared future")
+  void shouldNotLetCallersCompleteSharedFuture() {
+    DefaultConfigurationManager cachingManager = new DefaultConfigurationManager(pipeline);
+    Configuration resolved = Configuration.from(Map.of("port", 8080));
+    List<Runnable> submitted = new ArrayList<>();
+    when(pipeline.execute(location)).thenReturn(resolved);
+
+    cachingManager.loadAsync(location, submitted::add).cancel(true);
+    submitted.forEach(Runnable::run);
+
+    assertSame(resolved, cachingManager.loadAsync(location, submitted::add).join());
+  }
+
+  @Test
+  @DisplayName("should complete exceptionally and evict when executor rejects the load")
+  void shouldCompleteExceptionallyWhenExecutorRejects() {
+    DefaultConfigurationManager cachingManager = new DefaultConfigurationManager(pipeline);
+    Executor rejecting = task -> {
+      throw new RejectedExecutionException("saturated");
+    };
+
+    CompletableFuture<Configuration> future = cachingManager.loadAsync(location, rejecting);
+
+    CompletionException ex = assertThrows(CompletionException.class, future::join);
+    assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+    verifyNoInteractions(pipeline);
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when async arguments are null")
+  void shouldThrowWhenAsyncArgumentsAreNull() {
+    assertThrows(NullPointerException.class, () -> manager.loadAsync(null));
+    assertThrows(NullPointerException.class, () -> manager.loadAsync(location, null));
+  }
+
+  @Test
+  @DisplayName("should load uncached locations in one batch and reuse cached ones")
+  void shouldLoadUncachedLocationsInOneBatch() {
+    DefaultConfigurationManager cachingManager = new DefaultConfigurationManager(pipeline);
+    ResourceLocation second = mock(ResourceLocation.class);
+    ResourceLocation third = mock(ResourceLocation.class);
+    Configuration cached = Configuration.from(Map.of("name", "cached"));
+    Configuration secondResult = Configuration.from(Map.of("name", "second"));
+    Configuration thirdResult = Configuration.from(Map.of("name", "third"));
+    when(pipeline.execute(location)).thenReturn(cached);
+    when(pipeline.executeAll(anyCollection()))
+        .thenReturn(Map.of(second, secondResult, third, thirdResult));
+
+    cachingManager.load(location);
+    Map<ResourceLocation, Configuration> result =
+        cachingManager.loadAll(List.of(third, location, second, third));
+
+    assertEquals(List.of(third, location, second), List.copyOf(result.keySet()));
+    assertSame(cached, result.get(location));
+    assertSame(secondResult, result.get(second));
+    assertSame(thirdResult, result.get(third));
+    assertSame(secondResult, cachingManager.load(second));
+    verify(pipeline).executeAll(Set.of(third, second));
+  }
+
+  @Test
+  @DisplayName("should rethrow batch failure without caching any location")
+  void shouldRethrowBatchFailureWithoutCaching() {
+    DefaultConfigurationManager cachingManager = new DefaultConfigurationManager(pipeline);
+    Configuration resolved = Configuration.from(Map.of("port", 8080));
+    when(pipeline.executeAll(anyCollection())).thenThrow(new IllegalStateException("failed"));
+    when(pipeline.execute(location)).thenReturn(resolved);
+
+    assertThrows(IllegalStateException.class, () -> cachingManager.loadAll(List.of(location)));
+    assertSame(resolved, cachingManager.load(location));
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when batch locations are null")
+  void shouldThrowWhenBatchLocationsAreNull() {
+    List<ResourceLocation> withNull = new ArrayList<>();
+    withNull.add(null);
+
+    assertThrows(NullPointerException.class, () -> manager.loadAll(null));
+    assertThrows(NullPointerException.class, () -> manager.loadAll(withNull));
+  }
+
+  @Test
+  @DisplayName("should watch a location starting from a fresh pipeline load")
+  void shouldWatchLocationFromFreshLoad() {
+    Configuration resolved = Configuration.from(Map.of("port", 8080));
+    when(pipeline.load(location)).thenReturn(new LoadResult(resolved, Set.of()));
+
+    try (ReloadableConfiguration handle = manager.watch(location)) {
+      assertSame(resolved, handle.get());
+    }
+    verifyNoInteractions(cache);
+    assertThrows(NullPointerException.class, () -> manager.watch(null));
+  }
 }
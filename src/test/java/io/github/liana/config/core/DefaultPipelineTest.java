@@ -1,23 +1,36 @@
 package io.github.liana.config.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.liana.config.api.Configuration;
 import io.github.liana.config.api.Placeholder;
 import io.github.liana.config.api.ResourceLocation;
 import io.github.liana.config.internal.ImmutableConfigMap;
 import io.github.liana.config.internal.ImmutableConfigSet;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
@@ -41,12 +54,14 @@ class DefaultPipelineTest {
   @Mock
   private ResourceLocation location;
 
+  private final ObjectMapper mapper = new ObjectMapper();
+
   @Test
   @DisplayName("constructor should throw NullPointerException when providers is null")
   void shouldThrowWhenProvidersIsNull() {
     assertThrows(
         NullPointerException.class,
-        () -> new DefaultPipeline(null, loaders, merger, interpolator)
+        () -> new DefaultPipeline(null, loaders, merger, interpolator, mapper)
     );
   }
 
@@ -55,7 +70,7 @@ class DefaultPipelineTest {
   void shouldThrowWhenLoadersIsNull() {
     assertThrows(
         NullPointerException.class,
-        () -> new DefaultPipeline(providers, null, merger, interpolator)
+        () -> new DefaultPipeline(providers, null, merger, interpolator, mapper)
     );
   }
 
@@ -64,7 +79,7 @@ class DefaultPipelineTest {
   void shouldThrowWhenMergerIsNull() {
     assertThrows(
         NullPointerException.class,
-        () -> new DefaultPipeline(providers, loaders, null, interpolator)
+        () -> new DefaultPipeline(providers, loaders, null, interpolator, mapper)
     );
   }
 
@@ -73,23 +88,32 @@ class DefaultPipelineTest {
   void shouldThrowWhenInterpolatorIsNull() {
     assertThrows(
         NullPointerException.class,
-        () -> new DefaultPipeline(providers, loaders, merger, null)
+        () -> new DefaultPipeline(providers, loaders, merger, null, mapper)
+    );
+  }
+
+  @Test
+  @DisplayName("constructor should throw NullPointerException when mapper is null")
+  void shouldThrowWhenMapperIsNull() {
+    assertThrows(
+        NullPointerException.class,
+        () -> new DefaultPipeline(providers, loaders, merger, interpolator, null)
     );
   }
 
   @Test
   @DisplayName("should throw NullPointerException when location is null")
   void shouldThrowWhenLocationIsNull() {
-    var pipeline = new DefaultPipeline(providers, loaders, merger, interpolator);
+    var pipeline = new DefaultPipeline(providers, loaders, merger, interpolator, mapper);
     assertThrows(NullPointerException.class, () -> pipeline.execute(null));
   }
 
   @Test
   @DisplayName("should load, merge, and interpolate configuration successfully")
   void shouldExecutePipelineSuccessfully() {
-    var raw = List.<Map<String, Object>>of(Map.of("port", 8080));
-    var merged = Map.<String, Object>of("port", 8080);
-    var finalResult = Map.<String, Object>of("port", 8080);
+    var raw = List.of(mock(Configuration.class));
+    var merged = mapper.createObjectNode().put("port", 8080);
+    var finalResult = mapper.createObjectNode().put("port", 8080);
 
     var placeholder = mock(Placeholder.class);
 
@@ -98,16 +122,17 @@ class DefaultPipelineTest {
     when(location.placeholder()).thenReturn(placeholder);
 
     try (var construction = mockConstruction(ResourceProcessor.class,
-        (mock, context) -> when(mock.load(location)).thenReturn(raw))) {
+        (mock, context) -> when(mock.load(eq(location), anyList())).thenReturn(raw))) {
 
       when(merger.merge(raw)).thenReturn(merged);
       when(interpolator.interpolate(eq(merged), eq(placeholder), eq(ImmutableConfigMap.empty())))
           .thenReturn(finalResult);
 
-      var pipeline = new DefaultPipeline(providers, loaders, merger, interpolator);
+      var pipeline = new DefaultPipeline(providers, loaders, merger, interpolator, mapper);
       var result = pipeline.execute(location);
 
-      assertEquals(finalResult, result);
+      assertEquals(8080, result.get("port", Integer.class).orElseThrow());
+      assertSame(finalResult, ((JacksonConfiguration) result).getRootNode());
 
       InOrder order = inOrder(merger, interpolator);
       order.verify(merger).merge(raw);
@@ -120,14 +145,211 @@ class DefaultPipelineTest {
   @Test
   @DisplayName("should propagate exceptions thrown by ResourceProcessor.load")
   void shouldPropagateProcessorException() {
+    when(location.baseDirectories()).thenReturn(ImmutableConfigSet.of(Set.of("config")));
+
     try (MockedConstruction<ResourceProcessor> ignored =
         mockConstruction(ResourceProcessor.class,
-            (mock, context) -> when(mock.load(location))
+            (mock, context) -> when(mock.load(eq(location), anyList()))
                 .thenThrow(new RuntimeException("load failed")))) {
 
-      var pipeline = new DefaultPipeline(providers, loaders, merger, interpolator);
+      var pipeline = new DefaultPipeline(providers, loaders, merger, interpolator, mapper);
 
       assertThrows(RuntimeException.class, () -> pipeline.execute(location));
     }
   }
+
+  @Test
+  @DisplayName("should reuse the processor and prepared resources across executions")
+  void shouldReusePreparedResourcesAcrossExecutions() {
+    List<ResourceIdentifier> identifiers =
+        List.of(new DefaultResourceIdentifier("classpath", "app.yaml"));
+    var merged = mapper.createObjectNode();
+
+    when(location.baseDirectories()).thenReturn(ImmutableConfigSet.of(Set.of("config")));
+    when(location.variables()).thenReturn(ImmutableConfigMap.empty());
+    when(merger.merge(List.of())).thenReturn(merged);
+    when(interpolator.interpolate(eq(merged), any(), any())).thenReturn(merged);
+
+    try (var processors = mockConstruction(ResourceProcessor.class,
+        (mock, context) -> when(mock.load(location, identifiers)).thenReturn(List.of()));
+        var preparers = mockConstruction(ResourcePreparer.class,
+            (mock, context) -> when(mock.prepare()).thenReturn(identifiers))) {
+
+      var pipeline = new DefaultPipeline(providers, loaders, merger, interpolator, mapper);
+      pipeline.execute(location);
+      pipeline.execute(location);
+
+      assertEquals(1, processors.constructed().size());
+      assertEquals(1, preparers.constructed().size());
+      verify(processors.constructed().get(0), times(2)).load(location, identifiers);
+    }
+  }
+
+  @Test
+  @DisplayName("should load resources shared by several locations only once")
+  void shouldLoadSharedResourcesOnceAcrossLocations() {
+    var other = mock(ResourceLocation.class);
+    var dirs = ImmutableConfigSet.of(Set.of("config"));
+    var shared = new DefaultResourceIdentifier("classpath", "common.yaml");
+    var own = new DefaultResourceIdentifier("classpath", "own.yaml");
+    var sharedConfig = mock(Configuration.class);
+    var ownConfig = mock(Configuration.class);
+    var merged = mapper.createObjectNode();
+
+    when(location.baseDirectories()).thenReturn(dirs);
+    when(location.variables()).thenReturn(ImmutableConfigMap.empty());
+    when(other.baseDirectories()).thenReturn(dirs);
+    when(other.variables()).thenReturn(ImmutableConfigMap.empty());
+    when(merger.merge(anyList())).thenReturn(merged);
+    when(interpolator.interpolate(eq(merged), any(), any())).thenReturn(merged);
+
+    try (var processors = mockConstruction(ResourceProcessor.class,
+        (mock, context) -> when(mock.loadDistinct(eq(location), any()))
+            .thenReturn(Map.of(shared, sharedConfig, own, ownConfig)));
+        var preparers = mockConstruction(ResourcePreparer.class,
+            (mock, context) -> when(mock.prepare()).thenReturn(
+                context.arguments().get(0) == location ? List.of(shared) : List.of(shared, own)))) {
+
+      var pipeline = new DefaultPipeline(providers, loaders, merger, interpolator, mapper);
+      var result = pipeline.executeAll(List.of(location, other, location));
+
+      assertEquals(List.of(location, other), List.copyOf(result.keySet()));
+      verify(processors.constructed().get(0))
+          .loadDistinct(location, new LinkedHashSet<>(List.of(shared, own)));
+      verify(merger).merge(List.of(sharedConfig));
+      verify(merger).merge(List.of(sharedConfig, ownConfig));
+      assertEquals(2, preparers.constructed().size());
+    }
+  }
+
+  @Test
+  @DisplayName("should report the source and candidate files of the loaded resources")
+  void shouldReportSourceFilesOfLoadedResources() {
+    List<ResourceIdentifier> identifiers =
+        List.of(new DefaultResourceIdentifier("classpath", "app.yaml"));
+    Path file = Path.of("config", "app.yaml");
+    Path overlay = Path.of("config", "app-prod.yaml");
+    var merged = mapper.createObjectNode();
+
+    when(location.baseDirectories()).thenReturn(ImmutableConfigSet.of(Set.of("config")));
+    when(location.variables()).thenReturn(ImmutableConfigMap.empty());
+    when(merger.merge(List.of())).thenReturn(merged);
+    when(interpolator.interpolate(eq(merged), any(), any())).thenReturn(merged);
+
+    try (var processors = mockConstruction(ResourceProcessor.class, (mock, context) -> {
+      when(mock.load(location, identifiers)).thenReturn(List.of());
+      when(mock.sourceFiles(location, identifiers)).thenReturn(Set.of(file));
+      when(mock.candidateFiles(location, identifiers)).thenReturn(Set.of(overlay));
+    });
+        var preparers = mockConstruction(ResourcePreparer.class,
+            (mock, context) -> when(mock.prepare()).thenReturn(identifiers))) {
+
+      var pipeline = new DefaultPipeline(providers, loaders, merger, interpolator, mapper);
+      LoadResult result = pipeline.load(location);
+
+      assertSame(merged, ((JacksonConfiguration) result.configuration()).getRootNode());
+      assertEquals(Set.of(file), result.sources());
+      assertEquals(Set.of(file, overlay), result.candidates());
+    }
+  }
+
+  @Test
+  @DisplayName("should return the previous result without merging when fragments are unchanged")
+  void shouldShortCircuitWhenFragmentsAreUnchanged() {
+    List<ResourceIdentifier> identifiers =
+        List.of(new DefaultResourceIdentifier("classpath", "app.yaml"));
+    Configuration unchanged = mock(Configuration.class);
+    Configuration changed = mock(Configuration.class);
+    var merged = mapper.createObjectNode();
+
+    when(location.baseDirectories()).thenReturn(ImmutableConfigSet.of(Set.of("config")));
+    when(location.variables()).thenReturn(ImmutableConfigMap.empty());
+    when(merger.merge(anyList())).thenReturn(merged);
+    when(interpolator.interpolate(eq(merged), any(), any())).thenReturn(merged);
+
+    try (var processors = mockConstruction(ResourceProcessor.class,
+        (mock, context) -> when(mock.load(location, identifiers))
+            .thenReturn(List.of(unchanged))
+            .thenReturn(List.of(unchanged))
+            .thenReturn(List.of(changed)));
+        var preparers = mockConstruction(ResourcePreparer.class,
+            (mock, context) -> when(mock.prepare()).thenReturn(identifiers))) {
+
+      var pipeline = new DefaultPipeline(providers, loaders, merger, interpolator, mapper);
+      Configuration first = pipeline.execute(location);
+      Configuration second = pipeline.execute(location);
+      Configuration third = pipeline.execute(location);
+
+      assertSame(first, second);
+      assertNotSame(second, third);
+      verify(merger, times(1)).merge(List.of(unchanged));
+      verify(merger, times(1)).merge(List.of(changed));
+    }
+  }
+
+  @Test
+  @DisplayName("should restore the first execution of a later pipeline from its snapshot")
+  void shouldRestoreFromSnapshot(@TempDir Path directory) {
+    List<ResourceIdentifier> identifiers =
+        List.of(new DefaultResourceIdentifier("classpath", "app.yaml"));
+    var merged = mapper.createObjectNode().put("key", "value");
+    var snapshots = new SnapshotStore(directory, mapper);
+
+    when(location.placeholder()).thenReturn(Placeholder.builder().build());
+    when(location.baseDirectories()).thenReturn(ImmutableConfigSet.of(Set.of("config")));
+    when(location.variables()).thenReturn(ImmutableConfigMap.empty());
+    when(merger.merge(anyList())).thenReturn(merged);
+    when(interpolator.interpolate(eq(merged), any(), any())).thenReturn(merged);
+
+    try (var processors = mockConstruction(ResourceProcessor.class, (mock, context) -> {
+      when(mock.fingerprint(eq(location), any()))
+          .thenReturn(Optional.of(new ResourceFingerprint(10, 1)));
+      when(mock.load(location, identifiers)).thenReturn(List.of(mock(Configuration.class)));
+    });
+        var preparers = mockConstruction(ResourcePreparer.class,
+            (mock, context) -> when(mock.prepare()).thenReturn(identifiers))) {
+
+      new DefaultPipeline(providers, loaders, merger, interpolator, mapper,
+          LoadExecutors.sequential(), new FragmentCache(), snapshots).execute(location);
+      Configuration restored = new DefaultPipeline(providers, loaders, merger, interpolator, mapper,
+          LoadExecutors.sequential(), new FragmentCache(), snapshots).execute(location);
+
+      assertEquals("value", restored.getString("key"));
+      verify(processors.constructed().get(0)).load(location, identifiers);
+      verify(processors.constructed().get(1), never()).load(any(), any());
+      verify(merger, times(1)).merge(anyList());
+    }
+  }
+
+  @Test
+  @DisplayName("should load normally when a resource changed since the snapshot was written")
+  void shouldIgnoreOutdatedSnapshot(@TempDir Path directory) {
+    List<ResourceIdentifier> identifiers =
+        List.of(new DefaultResourceIdentifier("classpath", "app.yaml"));
+    var merged = mapper.createObjectNode().put("key", "value");
+    var snapshots = new SnapshotStore(directory, mapper);
+
+    when(location.placeholder()).thenReturn(Placeholder.builder().build());
+    when(location.baseDirectories()).thenReturn(ImmutableConfigSet.of(Set.of("config")));
+    when(location.variables()).thenReturn(ImmutableConfigMap.empty());
+    when(merger.merge(anyList())).thenReturn(merged);
+    when(interpolator.interpolate(eq(merged), any(), any())).thenReturn(merged);
+
+    try (var processors = mockConstruction(ResourceProcessor.class, (mock, context) -> {
+      when(mock.fingerprint(eq(location), any()))
+          .thenReturn(Optional.of(new ResourceFingerprint(10, context.getCount())));
+      when(mock.load(location, identifiers)).thenReturn(List.of(mock(Configuration.class)));
+    });
+        var preparers = mockConstruction(ResourcePreparer.class,
+            (mock, context) -> when(mock.prepare()).thenReturn(identifiers))) {
+
+      new DefaultPipeline(providers, loaders, merger, interpolator, mapper,
+          LoadExecutors.sequential(), new FragmentCache(), snapshots).execute(location);
+      new DefaultPipeline(providers, loaders, merger, interpolator, mapper,
+          LoadExecutors.sequential(), new FragmentCache(), snapshots).execute(location);
+
+      verify(processors.constructed().get(1)).load(location, identifiers);
+      verify(merger, times(2)).merge(anyList());
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package io.github.liana.config.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -338,4 +339,29 @@ class DefaultPlaceholderTest {
     Optional<String> result = customResolver.replaceIfAllResolvable(TEMPLATE);
     assertEquals(Optional.empty(), result);
   }
+
+  @Test
+  @DisplayName("should be equal when syntax and sources are the same")
+  void shouldBeEqualWhenSyntaxAndSourcesAreTheSame() {
+    Placeholder other = new DefaultPlaceholder("${", "}", ":", '\\',
+        List.of(envSource, mapSource));
+
+    assertEquals(resolver, other);
+    assertEquals(resolver.hashCode(), other.hashCode());
+  }
+
+  @Test
+  @DisplayName("should be equal when built with the default environment source")
+  void shouldBeEqualWhenBuiltWithDefaultSource() {
+    assertEquals(Placeholder.builder().build(), Placeholder.builder().build());
+  }
+
+  @Test
+  @DisplayName("should not be equal when syntax differs")
+  void shouldNotBeEqualWhenSyntaxDiffers() {
+    Placeholder other = new DefaultPlaceholder("#{", "}", ":", '\\',
+        List.of(envSource, mapSource));
+
+    assertNotEquals(resolver, other);
+  }
 }
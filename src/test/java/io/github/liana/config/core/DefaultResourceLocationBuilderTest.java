@@ -1,5 +1,7 @@
 package io.github.liana.config.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -83,6 +85,22 @@ class DefaultResourceLocationBuilderTest {
     assertThrows(NullPointerException.class, () -> builder.addResourceFromList(null));
   }
 
+  @Test
+  @DisplayName("should add optional resource with the optional prefix")
+  void shouldAddOptionalResourceWithPrefix() {
+    ResourceLocationBuilder returned = builder.addOptionalResource("file:overrides.yaml");
+
+    assertSame(builder, returned);
+    assertEquals(List.of("optional:file:overrides.yaml"),
+        List.copyOf(builder.build().resourceNames().toSet()));
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when optional resource is null")
+  void shouldThrowWhenOptionalResourceIsNull() {
+    assertThrows(NullPointerException.class, () -> builder.addOptionalResource(null));
+  }
+
   @Test
   @DisplayName("should add variable key-value pair and return same builder instance")
   void shouldAddVariableKeyValuePair() {
@@ -191,4 +209,35 @@ class DefaultResourceLocationBuilderTest {
 
     assertNotNull(result);
   }
+
+  @Test
+  @DisplayName("should build equal locations with equal hash codes from identical settings")
+  void shouldBuildEqualLocationsFromIdenticalSettings() {
+    ResourceLocation first = new DefaultResourceLocationBuilder()
+        .baseDirectories("config")
+        .addResources("app.yaml", "app-dev.yaml")
+        .addVariable("env", "dev")
+        .build();
+    ResourceLocation second = new DefaultResourceLocationBuilder()
+        .baseDirectories("config")
+        .addResources("app.yaml", "app-dev.yaml")
+        .addVariable("env", "dev")
+        .build();
+
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+  }
+
+  @Test
+  @DisplayName("should build different locations when resource order differs")
+  void shouldBuildDifferentLocationsWhenResourceOrderDiffers() {
+    ResourceLocation first = new DefaultResourceLocationBuilder()
+        .addResources("app.yaml", "app-dev.yaml")
+        .build();
+    ResourceLocation second = new DefaultResourceLocationBuilder()
+        .addResources("app-dev.yaml", "app.yaml")
+        .build();
+
+    assertNotEquals(first, second);
+  }
 }
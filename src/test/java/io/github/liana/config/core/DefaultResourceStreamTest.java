@@ -9,6 +9,8 @@ import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -65,4 +67,26 @@ class DefaultResourceStreamTest {
     IOException exception = assertThrows(IOException.class, resource::close);
     assertEquals("fail", exception.getMessage());
   }
+
+  @Test
+  @DisplayName("should report the backing file only when one is given")
+  void shouldReportBackingFile() {
+    InputStream mockStream = mock(InputStream.class);
+    Path file = Path.of("config", "app.yaml");
+
+    assertEquals(Optional.of(file),
+        new DefaultResourceStream("app.yaml", mockStream, file).sourceFile());
+    assertEquals(Optional.empty(), new DefaultResourceStream("app.yaml", mockStream).sourceFile());
+  }
+
+  @Test
+  @DisplayName("should report the fingerprint only when one is given")
+  void shouldReportFingerprint() {
+    InputStream mockStream = mock(InputStream.class);
+    var fingerprint = new ResourceFingerprint(10, 42);
+
+    assertEquals(Optional.of(fingerprint),
+        new DefaultResourceStream("app.yaml", mockStream, null, fingerprint).fingerprint());
+    assertEquals(Optional.empty(), new DefaultResourceStream("app.yaml", mockStream).fingerprint());
+  }
 }
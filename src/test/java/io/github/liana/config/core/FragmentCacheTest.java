@@ -0,0 +1,234 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.core.exception.ResourceLoaderException;
+import io.github.liana.config.spi.ResourceLoader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FragmentCacheTest {
+
+  @Mock
+  private ResourceLoader loader;
+
+  private FragmentCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new FragmentCache(2);
+  }
+
+  private static ResourceStream resource(String name, String content) {
+    return new DefaultResourceStream(name,
+        new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  @DisplayName("should parse unchanged content only once")
+  void shouldParseUnchangedContentOnce() {
+    Configuration parsed = mock(Configuration.class);
+    when(loader.load(any())).thenReturn(parsed);
+
+    Configuration first = cache.getOrLoad("classpath", resource("app.yaml", "a: 1"), loader);
+    Configuration second = cache.getOrLoad("classpath", resource("app.yaml", "a: 1"), loader);
+
+    assertSame(parsed, first);
+    assertSame(first, second);
+    verify(loader, times(1)).load(any());
+  }
+
+  @Test
+  @DisplayName("should pass the full content to the loader on a miss")
+  void shouldPassFullContentToLoader() {
+    when(loader.load(any())).thenAnswer(inv -> {
+      ResourceStream stream = inv.getArgument(0);
+      assertEquals("app.yaml", stream.name());
+      assertEquals("a: 1", new String(stream.stream().readAllBytes(), StandardCharsets.UTF_8));
+      return mock(Configuration.class);
+    });
+
+    cache.getOrLoad("classpath", resource("app.yaml", "a: 1"), loader);
+
+    verify(loader).load(any());
+  }
+
+  @Test
+  @DisplayName("should parse again when the content changes")
+  void shouldParseAgainWhenContentChanges() {
+    when(loader.load(any()))
+        .thenReturn(mock(Configuration.class))
+        .thenReturn(mock(Configuration.class));
+
+    Configuration before = cache.getOrLoad("classpath", resource("app.yaml", "a: 1"), loader);
+    Configuration after = cache.getOrLoad("classpath", resource("app.yaml", "a: 2"), loader);
+
+    assertNotSame(before, after);
+    verify(loader, times(2)).load(any());
+  }
+
+  @Test
+  @DisplayName("should keep fragments of different providers apart")
+  void shouldKeepProvidersApart() {
+    when(loader.load(any()))
+        .thenReturn(mock(Configuration.class))
+        .thenReturn(mock(Configuration.class));
+
+    Configuration classpath = cache.getOrLoad("classpath", resource("app.yaml", "a: 1"), loader);
+    Configuration other = cache.getOrLoad("custom", resource("app.yaml", "a: 1"), loader);
+
+    assertNotSame(classpath, other);
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  @DisplayName("should evict the least recently used fragment when full")
+  void shouldEvictLeastRecentlyUsed() {
+    when(loader.load(any())).thenAnswer(inv -> mock(Configuration.class));
+
+    Configuration first = cache.getOrLoad("classpath", resource("a.yaml", "a"), loader);
+    cache.getOrLoad("classpath", resource("b.yaml", "b"), loader);
+    cache.getOrLoad("classpath", resource("a.yaml", "a"), loader);
+    cache.getOrLoad("classpath", resource("c.yaml", "c"), loader);
+
+    assertEquals(2, cache.size());
+    assertSame(first, cache.getOrLoad("classpath", resource("a.yaml", "a"), loader));
+    cache.getOrLoad("classpath", resource("b.yaml", "b"), loader);
+    verify(loader, times(4)).load(any());
+  }
+
+  @Test
+  @DisplayName("should look up fingerprinted resources without reading them")
+  void shouldUseFingerprintWithoutReading() throws Exception {
+    InputStream unread = mock(InputStream.class);
+    var fingerprint = new ResourceFingerprint(10, 1234);
+    var first = new DefaultResourceStream("app.yaml", unread, null, fingerprint);
+    var second = new DefaultResourceStream("app.yaml", unread, null, fingerprint);
+    Configuration parsed = mock(Configuration.class);
+    when(loader.load(first)).thenReturn(parsed);
+
+    assertSame(parsed, cache.getOrLoad("classpath", first, loader));
+    assertSame(parsed, cache.getOrLoad("classpath", second, loader));
+
+    verify(loader, times(1)).load(any());
+    verifyNoInteractions(unread);
+  }
+
+  @Test
+  @DisplayName("should parse again when the fingerprint changes")
+  void shouldParseAgainWhenFingerprintChanges() {
+    InputStream unread = InputStream.nullInputStream();
+    when(loader.load(any()))
+        .thenReturn(mock(Configuration.class))
+        .thenReturn(mock(Configuration.class));
+
+    Configuration before = cache.getOrLoad("classpath",
+        new DefaultResourceStream("app.yaml", unread, null, new ResourceFingerprint(10, 1)),
+        loader);
+    Configuration after = cache.getOrLoad("classpath",
+        new DefaultResourceStream("app.yaml", unread, null, new ResourceFingerprint(10, 2)),
+        loader);
+
+    assertNotSame(before, after);
+  }
+
+  @Test
+  @DisplayName("should not share fragments between files with the same name and metadata")
+  void shouldSeparateEquallyNamedFilesInDifferentDirectories(@TempDir Path temp)
+      throws IOException {
+    Path first = temp.resolve("one/app.yaml");
+    Path second = temp.resolve("two/app.yaml");
+    Files.createDirectories(first.getParent());
+    Files.createDirectories(second.getParent());
+    Files.writeString(first, "a: 1");
+    Files.writeString(second, "a: 2");
+    var fingerprint = new ResourceFingerprint(4, 0);
+    Configuration one = mock(Configuration.class);
+    Configuration two = mock(Configuration.class);
+    when(loader.load(any())).thenReturn(one).thenReturn(two);
+
+    Configuration loadedFirst = cache.getOrLoad("classpath", new DefaultResourceStream(
+        "app.yaml", Files.newInputStream(first), first, fingerprint), loader);
+    Configuration loadedSecond = cache.getOrLoad("classpath", new DefaultResourceStream(
+        "app.yaml", Files.newInputStream(second), second, fingerprint), loader);
+
+    assertSame(one, loadedFirst);
+    assertSame(two, loadedSecond);
+    verify(loader, times(2)).load(any());
+  }
+
+  @Test
+  @DisplayName("should hand the original resource to the loader when disabled")
+  void shouldPassThroughWhenDisabled() {
+    ResourceStream resource = resource("app.yaml", "a: 1");
+    Configuration parsed = mock(Configuration.class);
+    when(loader.load(resource)).thenReturn(parsed);
+
+    FragmentCache disabled = FragmentCache.disabled();
+
+    assertSame(parsed, disabled.getOrLoad("classpath", resource, loader));
+    assertSame(parsed, disabled.getOrLoad("classpath", resource, loader));
+    assertEquals(0, disabled.size());
+    verify(loader, times(2)).load(resource);
+  }
+
+  @Test
+  @DisplayName("should wrap read failures in ResourceLoaderException")
+  void shouldWrapReadFailures() {
+    InputStream failing = new InputStream() {
+      @Override
+      public int read() throws IOException {
+        throw new IOException("boom");
+      }
+    };
+
+    ResourceLoaderException ex = assertThrows(ResourceLoaderException.class,
+        () -> cache.getOrLoad("classpath", new DefaultResourceStream("app.yaml", failing), loader));
+
+    assertEquals("boom", ex.getCause().getMessage());
+  }
+
+  @Test
+  @DisplayName("should drop every fragment on clear")
+  void shouldDropEveryFragmentOnClear() {
+    when(loader.load(any())).thenAnswer(inv -> mock(Configuration.class));
+    cache.getOrLoad("classpath", resource("app.yaml", "a: 1"), loader);
+
+    cache.clear();
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  @DisplayName("should reject invalid arguments")
+  void shouldRejectInvalidArguments() {
+    ResourceStream resource = resource("app.yaml", "a: 1");
+
+    assertThrows(IllegalArgumentException.class, () -> new FragmentCache(-1));
+    assertThrows(NullPointerException.class, () -> cache.getOrLoad(null, resource, loader));
+    assertThrows(NullPointerException.class, () -> cache.getOrLoad("classpath", null, loader));
+    assertThrows(NullPointerException.class, () -> cache.getOrLoad("classpath", resource, null));
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImmutableTypesTest {
+
+  record Limits(int requests, Duration window, TimeUnit unit) {
+  }
+
+  record Chain(String name, Chain next) {
+  }
+
+  record Tagged(String name, List<String> tags) {
+  }
+
+  record Holder(Tagged tagged) {
+  }
+
+  static final class Settings {
+
+    public String name;
+  }
+
+  @Test
+  @DisplayName("should treat JDK value types and enums as immutable")
+  void shouldTreatValueTypesAsImmutable() {
+    assertTrue(ImmutableTypes.isImmutable(String.class));
+    assertTrue(ImmutableTypes.isImmutable(Integer.class));
+    assertTrue(ImmutableTypes.isImmutable(int.class));
+    assertTrue(ImmutableTypes.isImmutable(BigDecimal.class));
+    assertTrue(ImmutableTypes.isImmutable(Duration.class));
+    assertTrue(ImmutableTypes.isImmutable(ZoneId.class));
+    assertTrue(ImmutableTypes.isImmutable(TimeUnit.class));
+  }
+
+  @Test
+  @DisplayName("should treat records of immutable components as immutable")
+  void shouldTreatRecordsOfImmutableComponentsAsImmutable() {
+    assertTrue(ImmutableTypes.isImmutable(Limits.class));
+    assertTrue(ImmutableTypes.isImmutable(Chain.class));
+  }
+
+  @Test
+  @DisplayName("should treat collections, mutable classes, and records holding them as mutable")
+  void shouldTreatMutableTypesAsMutable() {
+    assertFalse(ImmutableTypes.isImmutable(List.class));
+    assertFalse(ImmutableTypes.isImmutable(String[].class));
+    assertFalse(ImmutableTypes.isImmutable(Object.class));
+    assertFalse(ImmutableTypes.isImmutable(Settings.class));
+    assertFalse(ImmutableTypes.isImmutable(Tagged.class));
+    assertFalse(ImmutableTypes.isImmutable(Holder.class));
+    assertFalse(ImmutableTypes.isImmutable(new TypeReference<Map<String, String>>() {
+    }.getType()));
+  }
+}
@@ -3,9 +3,11 @@ package io.github.liana.config.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
@@ -101,4 +103,21 @@ class JacksonConfigurationTest {
   void shouldThrowExceptionWhenInputIsNull() {
     assertThrows(NullPointerException.class, () -> new JacksonConfiguration(mapper, null));
   }
+
+  @Test
+  @DisplayName("should wrap an existing tree without copying it")
+  void shouldWrapExistingTreeWithoutCopying() throws Exception {
+    JsonNode root = mapper.readTree("{\"app\": {\"name\": \"liana\"}}");
+
+    JacksonConfiguration config = JacksonConfiguration.fromTree(mapper, root);
+
+    assertSame(root, config.getRootNode());
+    assertEquals("liana", config.get("app.name", String.class).orElse(null));
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when tree is null")
+  void shouldThrowExceptionWhenTreeIsNull() {
+    assertThrows(NullPointerException.class, () -> JacksonConfiguration.fromTree(mapper, null));
+  }
 }
@@ -1,19 +1,19 @@
 package io.github.liana.config.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.github.liana.config.api.Placeholder;
 import io.github.liana.config.internal.ImmutableConfigMap;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class JacksonInterpolatorTest {
 
+  private ObjectMapper mapper;
   private JacksonInterpolator interpolator;
 
   @Mock
@@ -34,40 +35,43 @@ class JacksonInterpolatorTest {
 
   @BeforeEach
   void setUp() {
-    interpolator = new JacksonInterpolator(new ObjectMapper());
+    mapper = new ObjectMapper();
+    interpolator = new JacksonInterpolator(mapper);
+  }
+
+  private JsonNode node(Map<String, Object> source) {
+    return mapper.valueToTree(source);
   }
 
   @Test
-  @DisplayName("should return unmodifiable empty map when source is empty")
-  void shouldReturnUnmodifiableEmptyMapWhenSourceIsEmpty() {
-    Map<String, Object> source = Collections.emptyMap();
+  @DisplayName("should return the source node when source is empty")
+  void shouldReturnSourceWhenSourceIsEmpty() {
+    JsonNode source = mapper.createObjectNode();
     var vars = ImmutableConfigMap.of(Map.of("VAR", "value"));
 
-    Map<String, Object> result = interpolator.interpolate(source, placeholder, vars);
+    JsonNode result = interpolator.interpolate(source, placeholder, vars);
 
-    assertTrue(result.isEmpty());
-    assertThrows(UnsupportedOperationException.class, () -> result.put("key", "value"));
+    assertSame(source, result);
   }
 
   @Test
-  @DisplayName("should return unmodifiable map when variables are empty")
-  void shouldReturnUnmodifiableMapWhenVariablesAreEmpty() {
-    Map<String, Object> source = Map.of("key", "value");
+  @DisplayName("should return the source node when variables are empty")
+  void shouldReturnSourceWhenVariablesAreEmpty() {
+    JsonNode source = node(Map.of("key", "value"));
     var vars = ImmutableConfigMap.empty();
 
-    Map<String, Object> result = interpolator.interpolate(source, placeholder, vars);
+    JsonNode result = interpolator.interpolate(source, placeholder, vars);
 
-    assertEquals(source, result);
-    assertThrows(UnsupportedOperationException.class, () -> result.put("key2", "value2"));
+    assertSame(source, result);
   }
 
   @Test
-  @DisplayName("should interpolate simple map values using placeholder")
-  void shouldInterpolateSimpleMapValues() {
-    Map<String, Object> source = Map.of(
+  @DisplayName("should interpolate simple object values using placeholder")
+  void shouldInterpolateSimpleObjectValues() {
+    JsonNode source = node(Map.of(
         "user", "${USER}",
         "password", "${PASS}"
-    );
+    ));
 
     Map<String, String> vars = Map.of(
         "USER", "Alice",
@@ -77,92 +81,85 @@ class JacksonInterpolatorTest {
     when(placeholder.replaceIfAllResolvable("${USER}", vars)).thenReturn(Optional.of("Alice"));
     when(placeholder.replaceIfAllResolvable("${PASS}", vars)).thenReturn(Optional.of("secret"));
 
-    Map<String, Object> result = interpolator.interpolate(source, placeholder,
-        ImmutableConfigMap.of(vars));
+    JsonNode result = interpolator.interpolate(source, placeholder, ImmutableConfigMap.of(vars));
 
-    assertEquals("Alice", result.get("user"));
-    assertEquals("secret", result.get("password"));
+    assertEquals("Alice", result.get("user").asText());
+    assertEquals("secret", result.get("password").asText());
   }
 
   @Test
-  @DisplayName("should handle unresolved placeholders without change")
-  void shouldHandleUnresolvedPlaceholdersWithoutChange() {
-    Map<String, Object> source = Map.of("key", "${UNKNOWN}");
+  @DisplayName("should return the source node when placeholders are unresolved")
+  void shouldReturnSourceWhenPlaceholdersAreUnresolved() {
+    JsonNode source = node(Map.of("key", "${UNKNOWN}"));
     Map<String, String> vars = Map.of("SOME_VAR", "value");
 
     when(placeholder.replaceIfAllResolvable("${UNKNOWN}", vars)).thenReturn(Optional.empty());
 
-    Map<String, Object> result = interpolator.interpolate(source, placeholder,
-        ImmutableConfigMap.of(vars));
+    JsonNode result = interpolator.interpolate(source, placeholder, ImmutableConfigMap.of(vars));
 
-    assertEquals("${UNKNOWN}", result.get("key"));
+    assertSame(source, result);
+    assertEquals("${UNKNOWN}", result.get("key").asText());
   }
 
   @Test
-  @DisplayName("should interpolate nested maps")
-  void shouldInterpolateNestedMaps() {
-    Map<String, Object> source = Map.of(
+  @DisplayName("should interpolate nested objects")
+  void shouldInterpolateNestedObjects() {
+    JsonNode source = node(Map.of(
         "level1", Map.of(
             "level2", "${VAR}"
         )
-    );
+    ));
 
     Map<String, String> vars = Map.of("VAR", "value");
 
     when(placeholder.replaceIfAllResolvable("${VAR}", vars)).thenReturn(Optional.of("value"));
 
-    Map<String, Object> result = interpolator.interpolate(source, placeholder,
-        ImmutableConfigMap.of(vars));
+    JsonNode result = interpolator.interpolate(source, placeholder, ImmutableConfigMap.of(vars));
 
-    Map<String, Object> level1 = (Map<String, Object>) result.get("level1");
-    assertEquals("value", level1.get("level2"));
+    assertEquals("value", result.at("/level1/level2").asText());
   }
 
   @Test
-  @DisplayName("should interpolate arrays in map")
-  void shouldInterpolateArraysInMap() {
-    Map<String, Object> source = Map.of(
+  @DisplayName("should interpolate arrays")
+  void shouldInterpolateArrays() {
+    JsonNode source = node(Map.of(
         "list", List.of("${A}", "${B}", 123)
-    );
+    ));
     Map<String, String> vars = Map.of("A", "one", "B", "two");
 
     when(placeholder.replaceIfAllResolvable("${A}", vars)).thenReturn(Optional.of("one"));
     when(placeholder.replaceIfAllResolvable("${B}", vars)).thenReturn(Optional.of("two"));
 
-    Map<String, Object> result = interpolator.interpolate(source, placeholder,
-        ImmutableConfigMap.of(vars));
+    JsonNode result = interpolator.interpolate(source, placeholder, ImmutableConfigMap.of(vars));
 
-    List<Object> list = (List<Object>) result.get("list");
-    assertEquals(List.of("one", "two", 123), list);
+    assertEquals(mapper.valueToTree(List.of("one", "two", 123)), result.get("list"));
   }
 
   @Test
-  @DisplayName("should interpolate arrays of maps")
-  void shouldInterpolateArraysOfMaps() {
-    Map<String, Object> source = Map.of(
+  @DisplayName("should interpolate arrays of objects")
+  void shouldInterpolateArraysOfObjects() {
+    JsonNode source = node(Map.of(
         "users", List.of(
             Map.of("name", "${USER1}"),
             Map.of("name", "${USER2}")
         )
-    );
+    ));
 
     Map<String, String> vars = Map.of("USER1", "Alice", "USER2", "Bob");
 
     when(placeholder.replaceIfAllResolvable("${USER1}", vars)).thenReturn(Optional.of("Alice"));
     when(placeholder.replaceIfAllResolvable("${USER2}", vars)).thenReturn(Optional.of("Bob"));
 
-    Map<String, Object> result = interpolator.interpolate(source, placeholder,
-        ImmutableConfigMap.of(vars));
-    List<Map<String, Object>> users = (List<Map<String, Object>>) result.get("users");
+    JsonNode result = interpolator.interpolate(source, placeholder, ImmutableConfigMap.of(vars));
 
-    assertEquals("Alice", users.get(0).get("name"));
-    assertEquals("Bob", users.get(1).get("name"));
+    assertEquals("Alice", result.at("/users/0/name").asText());
+    assertEquals("Bob", result.at("/users/1/name").asText());
   }
 
   @Test
   @DisplayName("should throw NullPointerException for null arguments")
   void shouldThrowNullPointerExceptionForNullArguments() {
-    Map<String, Object> source = Map.of();
+    JsonNode source = mapper.createObjectNode();
     var vars = ImmutableConfigMap.empty();
 
     assertThrows(NullPointerException.class,
@@ -174,43 +171,48 @@ class JacksonInterpolatorTest {
   }
 
   @Test
-  @DisplayName("should not modify the original map")
-  void shouldNotModifyTheOriginalMap() {
-    Map<String, Object> source = new HashMap<>();
-    source.put("key", "${VAR}");
+  @DisplayName("should not modify the original tree and share unchanged subtrees")
+  void shouldNotModifyTheOriginalTree() {
+    JsonNode source = node(Map.of(
+        "key", "${VAR}",
+        "untouched", Map.of("port", 8080)
+    ));
     Map<String, String> vars = Map.of("VAR", "value");
 
     when(placeholder.replaceIfAllResolvable("${VAR}", vars)).thenReturn(Optional.of("value"));
 
-    Map<String, Object> result = interpolator.interpolate(source, placeholder,
-        ImmutableConfigMap.of(vars));
+    JsonNode result = interpolator.interpolate(source, placeholder, ImmutableConfigMap.of(vars));
 
-    assertEquals("${VAR}", source.get("key"));
-    assertEquals("value", result.get("key"));
+    assertEquals("${VAR}", source.get("key").asText());
+    assertEquals("value", result.get("key").asText());
+    assertSame(source.get("untouched"), result.get("untouched"));
   }
 
   @Test
-  @DisplayName("should handle null node returned by convert")
-  void shouldHandleNullNodeFromConvert() {
-    JacksonInterpolator interpolator = spy(new JacksonInterpolator(new ObjectMapper()));
+  @DisplayName("should interpolate lazily when the source is parsed on demand")
+  void shouldInterpolateLazilyWhenSourceIsParsedOnDemand() {
+    ObjectNode source = LazyObjectNode.mapping(
+        (ObjectNode) node(Map.of("key", "${VAR}", "other", "${OTHER}")), value -> value);
+    Map<String, String> vars = Map.of("VAR", "value");
 
-    doReturn(null).when(interpolator).executeWithResult(any(), anyString());
+    when(placeholder.replaceIfAllResolvable("${VAR}", vars)).thenReturn(Optional.of("value"));
 
-    Map<String, Object> source = Map.of("key", "value");
-    var vars = ImmutableConfigMap.of(Map.of("VAR", "value"));
+    JsonNode result = interpolator.interpolate(source, placeholder, ImmutableConfigMap.of(vars));
 
-    assertThrows(IllegalStateException.class,
-        () -> interpolator.interpolate(source, placeholder, vars));
+    assertInstanceOf(LazyObjectNode.class, result);
+    verify(placeholder, never()).replaceIfAllResolvable("${VAR}", vars);
+    assertEquals("value", result.get("key").asText());
+    verify(placeholder, never()).replaceIfAllResolvable("${OTHER}", vars);
   }
 
   @Test
   @DisplayName("should skip empty string values")
   void shouldSkipEmptyStringValues() {
-    Map<String, Object> source = Map.of("key", "");
+    JsonNode source = node(Map.of("key", ""));
     var vars = ImmutableConfigMap.of(Map.of("VAR", "value"));
 
-    Map<String, Object> result = interpolator.interpolate(source, placeholder, vars);
+    JsonNode result = interpolator.interpolate(source, placeholder, vars);
 
-    assertEquals("", result.get("key"));
+    assertTrue(result.get("key").asText().isEmpty());
   }
 }
@@ -109,6 +109,26 @@ class JacksonMappersTest {
     }
   }
 
+  @Test
+  @DisplayName("should return Smile ObjectMapper when Smile factory is present in ServiceLoader")
+  void shouldReturnSmileMapperWhenSmileFactoryPresent() {
+    when(loader.iterator()).thenReturn(iterator);
+    when(iterator.hasNext()).thenReturn(true, false);
+    when(iterator.next()).thenReturn(factory);
+    when(factory.getFormatName()).thenReturn("Smile");
+
+    try (var mockedStatic = mockStatic(ServiceLoader.class)) {
+
+      mockedStatic.when(() -> ServiceLoader.load(JsonFactory.class))
+          .thenReturn(loader);
+
+      JacksonMappers mappers = JacksonMappers.create();
+
+      ObjectMapper mapper = mappers.getSmile();
+      assertNotNull(mapper);
+    }
+  }
+
   @Test
   @DisplayName("should throw IllegalStateException when JSON factory is missing")
   void shouldThrowWhenJsonFactoryMissing() {
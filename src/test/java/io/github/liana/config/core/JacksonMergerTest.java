@@ -1,39 +1,42 @@
 package io.github.liana.config.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.liana.config.api.Configuration;
 import io.github.liana.config.core.exception.ConversionException;
-import io.github.liana.config.core.exception.MergeException;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 
 class JacksonMergerTest {
 
+  private ObjectMapper mapper;
   private JacksonMerger merger;
 
   @BeforeEach
   void setUp() {
-    merger = new JacksonMerger(new ObjectMapper());
+    mapper = new ObjectMapper();
+    merger = new JacksonMerger(mapper);
+  }
+
+  private Configuration tree(String json) throws Exception {
+    return JacksonConfiguration.fromTree(mapper, mapper.readTree(json));
   }
 
   @Test
@@ -43,188 +46,163 @@ class JacksonMergerTest {
   }
 
   @Test
-  @DisplayName("should return unmodifiable empty map when sources is empty")
-  void shouldReturnUnmodifiableEmptyMapWhenSourcesIsEmpty() {
-    Map<String, Object> result = merger.merge(Collections.emptyList());
+  @DisplayName("should return empty object when sources is empty")
+  void shouldReturnEmptyObjectWhenSourcesIsEmpty() {
+    JsonNode result = merger.merge(Collections.emptyList());
+    assertTrue(result.isObject());
     assertTrue(result.isEmpty());
-    assertThrows(UnsupportedOperationException.class, () -> result.put("another", "test"));
   }
 
   @Test
-  @DisplayName("should return unmodifiable map with single entry when single non-empty map is provided")
-  void shouldReturnUnmodifiableMapWhenSingleMapProvided() {
-    Map<String, Object> input = Map.of("key", "value");
-    Map<String, Object> result = merger.merge(List.of(input));
+  @DisplayName("should return the fragment tree itself when a single Jackson fragment is provided")
+  void shouldReuseTreeWhenSingleJacksonFragmentProvided() throws Exception {
+    JsonNode root = mapper.readTree("{\"key\":\"value\"}");
+
+    JsonNode result = merger.merge(List.of(JacksonConfiguration.fromTree(mapper, root)));
 
-    assertEquals("value", result.get("key"));
-    assertThrows(UnsupportedOperationException.class, () -> result.put("another", "test"));
+    assertSame(root, result);
   }
 
   @Test
-  @DisplayName("should return unmodifiable empty map when single element is null")
-  void shouldReturnUnmodifiableEmptyMapWhenSingleElementIsNull() {
-    Map<String, Object> result = merger.merge(Collections.singletonList(null));
+  @DisplayName("should convert non-Jackson fragments from their root map")
+  void shouldConvertNonJacksonFragments() {
+    JsonNode result = merger.merge(List.of(Configuration.from(Map.of("key", "value"))));
+
+    assertEquals("value", result.get("key").asText());
+  }
+
+  @Test
+  @DisplayName("should return empty object when single element is null")
+  void shouldReturnEmptyObjectWhenSingleElementIsNull() {
+    JsonNode result = merger.merge(Collections.singletonList(null));
     assertTrue(result.isEmpty());
-    assertThrows(UnsupportedOperationException.class, () -> result.put("another", "test"));
   }
 
   @Test
-  @DisplayName("should merge multiple maps with overriding behavior and return an unmodifiable map")
-  void shouldMergeMultipleMapsWithOverridingBehaviorAndReturnUnmodifiableMap() {
-    Map<String, Object> first = Map.of("key1", "value1", "key2", List.of(1, 2));
-    Map<String, Object> second = Map.of("key2", List.of(3, 4), "key3", "value3");
+  @DisplayName("should merge multiple fragments with overriding behavior")
+  void shouldMergeMultipleFragmentsWithOverridingBehavior() throws Exception {
+    Configuration first = tree("{\"key1\":\"value1\",\"key2\":[1,2]}");
+    Configuration second = tree("{\"key2\":[3,4],\"key3\":\"value3\"}");
 
-    Map<String, Object> result = merger.merge(List.of(first, second));
+    JsonNode result = merger.merge(List.of(first, second));
 
-    assertEquals("value1", result.get("key1"));
-    assertEquals(List.of(3, 4), result.get("key2"));
-    assertEquals("value3", result.get("key3"));
-    assertThrows(UnsupportedOperationException.class, () -> result.put("another", "test"));
+    assertEquals(mapper.readTree("{\"key1\":\"value1\",\"key2\":[3,4],\"key3\":\"value3\"}"),
+        result);
   }
 
   @Test
-  @DisplayName("should ignore null and empty maps in the list")
-  void shouldIgnoreNullAndEmptyMaps() {
-    Map<String, Object> empty = Collections.emptyMap();
-    var sources = new ArrayList<Map<String, Object>>();
+  @DisplayName("should ignore null and empty fragments in the list")
+  void shouldIgnoreNullAndEmptyFragments() throws Exception {
+    var sources = new ArrayList<Configuration>();
     sources.add(null);
-    sources.add(empty);
-    sources.add(Map.of("key1", "value1"));
+    sources.add(tree("{}"));
+    sources.add(tree("{\"key1\":\"value1\"}"));
 
-    Map<String, Object> result = merger.merge(sources);
+    JsonNode result = merger.merge(sources);
 
-    assertEquals("value1", result.get("key1"));
+    assertEquals("value1", result.get("key1").asText());
     assertEquals(1, result.size());
   }
 
   @Test
-  @DisplayName("should keep non-array values unchanged")
-  void shouldKeepNonArrayValuesUnchanged() {
-    Map<String, Object> first = Map.of("env", "stage");
-    Map<String, Object> result = merger.merge(List.of(first, Collections.emptyMap()));
-    assertEquals("stage", result.get("env"));
-  }
-
-  @Test
-  @DisplayName("should deeply merge nested maps")
-  void shouldDeeplyMergeNestedMaps() {
-    Map<String, Object> first = Map.of("config", Map.of("timeout", 10, "retries", 3));
-    Map<String, Object> second = Map.of("config", Map.of("timeout", 20));
-
-    Map<String, Object> result = merger.merge(List.of(first, second));
+  @DisplayName("should deeply merge nested objects")
+  void shouldDeeplyMergeNestedObjects() throws Exception {
+    Configuration first = tree("{\"config\":{\"timeout\":10,\"retries\":3}}");
+    Configuration second = tree("{\"config\":{\"timeout\":20}}");
 
-    Map<String, Object> config = (Map<String, Object>) result.get("config");
+    JsonNode result = merger.merge(List.of(first, second));
 
-    assertEquals(20, config.get("timeout"));
-    assertEquals(3, config.get("retries"));
+    assertEquals(20, result.at("/config/timeout").asInt());
+    assertEquals(3, result.at("/config/retries").asInt());
   }
 
   @Test
-  @DisplayName("should throw ConversionException when source map cannot be converted")
-  void shouldThrowConversionExceptionWhenSourceMapCannotBeConverted() {
-    var objectMapper = spy(new ObjectMapper());
-    var merger = new JacksonMerger(objectMapper);
-
-    doThrow(IllegalArgumentException.class).when(objectMapper)
-        .convertValue(any(Map.class), eq(ObjectNode.class));
+  @DisplayName("should override nested arrays entirely")
+  void shouldOverrideNestedArraysEntirely() throws Exception {
+    Configuration first = tree("{\"server\":{\"hosts\":[\"a\",\"b\"]}}");
+    Configuration second = tree("{\"server\":{\"hosts\":[\"c\"]}}");
 
-    Map<String, Object> source = new HashMap<>();
-    source.put("key", "value");
+    JsonNode result = merger.merge(List.of(first, second));
 
-    List<Map<String, Object>> sources = List.of(source, Collections.emptyMap());
-
-    ConversionException ex = assertThrows(ConversionException.class, () -> merger.merge(sources));
-    assertTrue(ex.getMessage().contains("failed to prepare data for merging"));
-    assertNotNull(ex.getCause());
+    assertEquals(mapper.readTree("[\"c\"]"), result.at("/server/hosts"));
   }
 
   @Test
-  @DisplayName("should throw MergeException when merging data structures fails")
-  void shouldThrowMergeExceptionWhenMergingFails() throws IOException {
-    var objectMapper = spy(new ObjectMapper());
-    var merger = new JacksonMerger(objectMapper);
-    var mergedNode = objectMapper.createObjectNode();
-    var readerSpy = spy(objectMapper.readerForUpdating(mergedNode));
-
-    doThrow(IOException.class).when(readerSpy).readValue(any(ObjectNode.class));
-    doReturn(readerSpy).when(objectMapper).readerForUpdating(mergedNode);
-
-    Map<String, Object> source = Map.of("key", "value");
-    List<Map<String, Object>> sources = List.of(source, Collections.emptyMap());
-
-    MergeException ex = assertThrows(MergeException.class, () -> merger.merge(sources));
-
-    assertTrue(ex.getMessage().contains("error merging data structures"));
-    assertNotNull(ex.getCause());
-    assertEquals(IOException.class, ex.getCause().getClass());
+  @DisplayName("should not modify input trees and share untouched subtrees")
+  void shouldNotModifyInputTrees() throws Exception {
+    JsonNode firstRoot = mapper.readTree("{\"db\":{\"port\":1},\"cache\":{\"size\":5}}");
+    JsonNode secondRoot = mapper.readTree("{\"db\":{\"port\":2}}");
+    JsonNode firstCopy = firstRoot.deepCopy();
+    JsonNode secondCopy = secondRoot.deepCopy();
+
+    JsonNode result = merger.merge(List.of(
+        JacksonConfiguration.fromTree(mapper, firstRoot),
+        JacksonConfiguration.fromTree(mapper, secondRoot)));
+
+    assertEquals(firstCopy, firstRoot);
+    assertEquals(secondCopy, secondRoot);
+    assertEquals(2, result.at("/db/port").asInt());
+    assertSame(firstRoot.get("cache"), result.get("cache"));
   }
 
   @Test
-  @DisplayName("should throw ConversionException when finalizing merged result fails")
-  void shouldThrowConversionExceptionWhenFinalizingMergedResultFails() {
-    var objectMapper = spy(new ObjectMapper());
-    var merger = new JacksonMerger(objectMapper);
-
-    doReturn(objectMapper.createObjectNode()).when(objectMapper)
-        .convertValue(any(Map.class), eq(ObjectNode.class));
-
-    doThrow(IllegalArgumentException.class)
-        .when(objectMapper)
-        .convertValue(any(ObjectNode.class), Mockito.<TypeReference<Map<String, Object>>>any());
-
-    Map<String, Object> source = Map.of("key", "value");
-    List<Map<String, Object>> sources = List.of(source, Collections.emptyMap());
+  @DisplayName("should merge lazily when a fragment is parsed on demand")
+  void shouldMergeLazilyWhenFragmentIsParsedOnDemand() throws Exception {
+    ObjectNode base = (ObjectNode) mapper.readTree(
+        "{\"db\": {\"host\": \"a\", \"port\": 1}, \"cache\": {\"ttl\": 5}}");
+    ObjectNode overlay = (ObjectNode) mapper.readTree(
+        "{\"db\": {\"port\": 2}, \"name\": \"app\"}");
+    JsonNode expected = merger.merge(List.of(
+        JacksonConfiguration.fromTree(mapper, base),
+        JacksonConfiguration.fromTree(mapper, overlay)));
+    AtomicInteger reads = new AtomicInteger();
+    ObjectNode lazyBase = LazyObjectNode.mapping(base, value -> {
+      reads.incrementAndGet();
+      return value;
+    });
 
-    ConversionException ex = assertThrows(ConversionException.class, () -> merger.merge(sources));
+    JsonNode result = merger.merge(List.of(
+        JacksonConfiguration.fromTree(mapper, lazyBase),
+        JacksonConfiguration.fromTree(mapper, overlay)));
 
-    assertTrue(ex.getMessage().contains("failed to finalize merged result"));
-    assertEquals(IllegalArgumentException.class, ex.getCause().getClass());
+    assertInstanceOf(LazyObjectNode.class, result);
+    assertEquals(0, reads.get());
+    assertEquals(2, result.at("/db/port").asInt());
+    assertEquals("a", result.at("/db/host").asText());
+    assertEquals(1, reads.get());
+    assertEquals(expected, result);
   }
 
   @Test
-  @DisplayName("should be thread-safe when merging simple values from multiple threads")
-  void shouldBeThreadSafeWhenMergingSimpleValuesFromMultipleThreads() {
-    Map<String, Object> first = Map.of("env", "stage");
-    Map<String, Object> second = Map.of("env", "prod");
-    List<Map<String, Object>> sources = List.of(first, second);
+  @DisplayName("should throw ConversionException when a fragment cannot be converted")
+  void shouldThrowConversionExceptionWhenFragmentCannotBeConverted() {
+    Configuration source = mock(Configuration.class);
+    when(source.getRootAsMap()).thenThrow(new IllegalArgumentException("boom"));
 
-    List<Map<String, Object>> results =
-        IntStream.range(0, 50)
-            .parallel()
-            .mapToObj(i -> merger.merge(sources))
-            .toList();
+    ConversionException ex = assertThrows(ConversionException.class,
+        () -> merger.merge(List.of(source)));
 
-    results.forEach(result -> {
-      assertEquals("prod", result.get("env"));
-      assertThrows(UnsupportedOperationException.class, () -> result.put("env", "dev"));
-    });
+    assertTrue(ex.getMessage().contains("failed to prepare data for merging"));
+    assertNotNull(ex.getCause());
   }
 
   @Test
   @DisplayName("should be thread-safe when called from multiple threads")
-  void shouldBeThreadSafeWhenCalledFromMultipleThreads() {
-    Map<String, Object> first = Map.of("key1", List.of(3, 4));
-    Map<String, Object> second = Map.of("key1", List.of(5, 6));
-    List<Map<String, Object>> sources = List.of(first, second);
+  void shouldBeThreadSafeWhenCalledFromMultipleThreads() throws Exception {
+    List<Configuration> sources = List.of(
+        tree("{\"env\":\"stage\",\"key1\":[3,4]}"),
+        tree("{\"env\":\"prod\",\"key1\":[5,6]}"));
 
-    List<Map<String, Object>> results =
+    List<JsonNode> results =
         IntStream.range(0, 50)
             .parallel()
             .mapToObj(i -> merger.merge(sources))
             .toList();
 
     results.forEach(result -> {
-      assertEquals(List.of(5, 6), result.get("key1"));
-      assertThrows(UnsupportedOperationException.class, () -> result.put("key1", List.of(7, 8)));
+      assertEquals("prod", result.get("env").asText());
+      assertEquals(2, result.get("key1").size());
+      assertEquals(5, result.get("key1").get(0).asInt());
     });
   }
-
-  @Test
-  @DisplayName("should throw on remove and clear to enforce immutability")
-  void shouldThrowOnRemoveAndClear() {
-    Map<String, Object> first = Map.of("key1", List.of(3, 4));
-    Map<String, Object> result = merger.merge(List.of(first));
-    assertThrows(UnsupportedOperationException.class, () -> result.remove("key1"));
-    assertThrows(UnsupportedOperationException.class, result::clear);
-  }
 }
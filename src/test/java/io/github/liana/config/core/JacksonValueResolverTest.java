@@ -2,6 +2,7 @@ package io.github.liana.config.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
@@ -9,9 +10,14 @@ import static org.mockito.Mockito.spy;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.CoercionAction;
+import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
 import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.github.liana.config.core.exception.ConversionException;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -361,4 +367,80 @@ class JacksonValueResolverTest {
       }
     }
   }
+
+  record Limits(int requests, String window) {
+  }
+
+  @Test
+  @DisplayName("should return the same instance for repeated reads of an immutable type")
+  void shouldReuseConvertedImmutableValues() {
+    var resolver = new JacksonValueResolver(objectMapper, Map.of(
+        "name", "liana",
+        "limits", Map.of("requests", 100, "window", "PT1S")));
+
+    Optional<Limits> first = resolver.get("limits", Limits.class);
+    Optional<Limits> second = resolver.get("limits", Limits.class);
+
+    assertEquals(Optional.of(new Limits(100, "PT1S")), first);
+    assertSame(first.orElseThrow(), second.orElseThrow());
+    assertSame(resolver.get("name", String.class).orElseThrow(),
+        resolver.get("name", String.class).orElseThrow());
+    assertEquals(Optional.of("100"), resolver.get("limits.requests", String.class));
+    assertEquals(Optional.of(100L), resolver.get("limits.requests", Long.class));
+  }
+
+  @Test
+  @DisplayName("should return the same instance for repeated reads of a duration")
+  void shouldReuseConvertedDurations() {
+    objectMapper.registerModule(new JavaTimeModule());
+    var resolver = new JacksonValueResolver(objectMapper, Map.of("timeout", "PT30S"));
+
+    Optional<Duration> first = resolver.get("timeout", Duration.class);
+    Optional<Duration> second = resolver.get("timeout", Duration.class);
+
+    assertEquals(Optional.of(Duration.ofSeconds(30)), first);
+    assertSame(first.orElseThrow(), second.orElseThrow());
+  }
+
+  @Test
+  @DisplayName("should convert mutable types again on every read")
+  void shouldConvertMutableValuesOnEveryRead() {
+    var resolver = new JacksonValueResolver(objectMapper,
+        Map.of("tags", List.of("a", "b")));
+    Type type = new TypeReference<List<String>>() {
+    }.getType();
+
+    List<String> first = resolver.<List<String>>get("tags", type).orElseThrow();
+    first.add("c");
+
+    assertEquals(List.of("a", "b"), resolver.get("tags", type).orElseThrow());
+  }
+
+  @Test
+  @DisplayName("should keep the mapper's coercion rules for scalar values")
+  void shouldKeepCoercionRulesForScalars() {
+    objectMapper.coercionConfigFor(LogicalType.Integer)
+        .setCoercion(CoercionInputShape.String, CoercionAction.Fail);
+    var resolver = new JacksonValueResolver(objectMapper,
+        Map.of("port", 8080, "text", "8080", "ratio", "0.5", "enabled", "true"));
+
+    assertEquals(Optional.of(8080), resolver.get("port", Integer.class));
+    assertEquals(Optional.of(0.5), resolver.get("ratio", double.class));
+    assertEquals(Optional.of(true), resolver.get("enabled", Boolean.class));
+    assertThrows(ConversionException.class, () -> resolver.get("text", Integer.class));
+  }
+
+  @Test
+  @DisplayName("should resolve quoted keys and keep slashes in names")
+  void shouldResolveQuotedKeys() {
+    var resolver = new JacksonValueResolver(objectMapper, Map.of(
+        "logging", Map.of("level", Map.of("com.acme", "DEBUG")),
+        "paths", Map.of("/api/v1", "enabled")));
+
+    assertEquals(Optional.of("DEBUG"),
+        resolver.get("logging.level.\"com.acme\"", String.class));
+    assertEquals(Optional.of("enabled"), resolver.get("paths./api/v1", String.class));
+    assertFalse(resolver.containsKey("logging.level.com.acme"));
+    assertThrows(ConversionException.class, () -> resolver.containsKey("logging.\"level"));
+  }
 }
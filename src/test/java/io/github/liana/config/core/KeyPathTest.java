@@ -0,0 +1,68 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeyPathTest {
+
+  @Test
+  @DisplayName("should split keys at dots and bracketed indices")
+  void shouldSplitKeys() {
+    assertEquals(List.of("server", "port"), KeyPath.parse("server.port").segments());
+    assertEquals(List.of("servers", "0", "host"), KeyPath.parse("servers[0].host").segments());
+    assertEquals(List.of("matrix", "1", "2"), KeyPath.parse("matrix[1][2]").segments());
+    assertEquals(List.of("", "0"), KeyPath.parse("[0]").segments());
+    assertEquals(List.of("a", "", "b"), KeyPath.parse("a..b").segments());
+    assertEquals(List.of(""), KeyPath.parse("").segments());
+  }
+
+  @Test
+  @DisplayName("should keep slashes, tildes, and non-index brackets as part of the name")
+  void shouldKeepOtherCharactersLiteral() {
+    assertEquals(List.of("path/to~1", "x"), KeyPath.parse("path/to~1.x").segments());
+    assertEquals(List.of("a[x]", "1"), KeyPath.parse("a[x][1]").segments());
+    assertEquals(List.of("a[]"), KeyPath.parse("a[]").segments());
+    assertEquals(List.of("a\"b"), KeyPath.parse("a\"b").segments());
+  }
+
+  @Test
+  @DisplayName("should read quoted segments with escapes")
+  void shouldReadQuotedSegments() {
+    assertEquals(List.of("logging", "level", "com.acme"),
+        KeyPath.parse("logging.level.\"com.acme\"").segments());
+    assertEquals(List.of("say \"hi\"", "0"), KeyPath.parse("\"say \\\"hi\\\"\"[0]").segments());
+    assertEquals(List.of("a\\b", ""), KeyPath.parse("\"a\\\\b\".\"\"").segments());
+  }
+
+  @Test
+  @DisplayName("should reject unterminated and misplaced quotes")
+  void shouldRejectInvalidQuotes() {
+    assertThrows(IllegalArgumentException.class, () -> KeyPath.parse("a.\"b"));
+    assertThrows(IllegalArgumentException.class, () -> KeyPath.parse("a.\"b\\"));
+    assertThrows(IllegalArgumentException.class, () -> KeyPath.parse("\"a\"b"));
+  }
+
+  @Test
+  @DisplayName("should give equivalent keys the same canonical form")
+  void shouldCanonicalizeKeys() {
+    assertEquals("servers.0.host", KeyPath.parse("servers[0].host").canonical());
+    assertEquals(KeyPath.parse("servers.0.host"), KeyPath.parse("servers[0].host"));
+    assertEquals("level.\"com.acme\"", KeyPath.parse("\"level\".\"com.acme\"").canonical());
+    assertEquals("\"a[0]\".\"\\\"q\"", KeyPath.parse("\"a[0]\".\"\\\"q\"").canonical());
+    assertEquals("level", KeyPath.parse("level.\"com.acme\"").prefix(1));
+    assertEquals("a.\"b.c\"", KeyPath.child("a", "b.c"));
+    assertEquals("x", KeyPath.child("", "x"));
+  }
+
+  @Test
+  @DisplayName("should parse each key only once when compiled")
+  void shouldCacheCompiledPaths() {
+    assertSame(KeyPath.compile("cached.key[3]"), KeyPath.compile("cached.key[3]"));
+    assertThrows(NullPointerException.class, () -> KeyPath.compile(null));
+  }
+}
@@ -0,0 +1,80 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.core.exception.ConversionException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LazyJacksonParserTest {
+
+  private LazyJacksonParser parser;
+
+  @BeforeEach
+  void setUp() {
+    parser = new LazyJacksonParser(new ObjectMapper());
+  }
+
+  private static ByteArrayInputStream input(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when ObjectMapper is null")
+  void shouldThrowNullPointerExceptionWhenObjectMapperIsNull() {
+    assertThrows(NullPointerException.class, () -> new LazyJacksonParser(null));
+  }
+
+  @Test
+  @DisplayName("should resolve values of a large resource")
+  void shouldResolveValuesOfLargeResource() throws IOException {
+    var json = new StringBuilder("{\"app\": {\"name\": \"liana\"}, \"items\": {");
+    for (int i = 0; i < 200; i++) {
+      json.append(i == 0 ? "" : ", ").append("\"item").append(i).append("\": [").append(i)
+          .append("]");
+    }
+    json.append("}}");
+
+    Configuration configuration = parser.parse(input(json.toString()));
+
+    assertInstanceOf(JacksonConfiguration.class, configuration);
+    assertInstanceOf(LazyObjectNode.class,
+        ((JacksonConfiguration) configuration).getRootNode());
+    assertEquals("liana", configuration.get("app.name", String.class).orElse(null));
+    assertEquals(List.of(150), configuration.getList("items.item150", Integer.class));
+    assertTrue(configuration.containsKey("items.item199"));
+  }
+
+  @Test
+  @DisplayName("should resolve values of a small resource")
+  void shouldResolveValuesOfSmallResource() throws IOException {
+    Configuration configuration = parser.parse(input("{\"app\": {\"version\": 1}}"));
+
+    assertEquals(1, configuration.get("app.version", Integer.class).orElse(-1));
+  }
+
+  @Test
+  @DisplayName("should throw ConversionException when input JSON is invalid")
+  void shouldThrowConversionExceptionWhenInputJsonIsInvalid() {
+    String invalid = "{\"key\": \"" + "x".repeat(LazyObjectNode.MINIMUM_INDEXED_SIZE) + "\", ";
+
+    assertThrows(ConversionException.class, () -> parser.parse(input(invalid)));
+    assertThrows(ConversionException.class, () -> parser.parse(input("{ invalid json ")));
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when input is null")
+  void shouldThrowExceptionWhenInputIsNull() {
+    assertThrows(NullPointerException.class, () -> parser.parse(null));
+  }
+}
@@ -0,0 +1,205 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LazyObjectNodeTest {
+
+  private ObjectMapper mapper;
+
+  @BeforeEach
+  void setUp() {
+    mapper = new ObjectMapper();
+  }
+
+  private static byte[] largeJson() {
+    var json = new StringBuilder("{\"name\": \"liana\", \"port\": 8080, \"services\": {");
+    for (int i = 0; i < 100; i++) {
+      json.append(i == 0 ? "" : ", ")
+          .append("\"service").append(i).append("\": {\"url\": \"http://host/").append(i)
+          .append("\", \"retries\": [").append(i).append(", ").append(i + 1).append("]}");
+    }
+    json.append("}, \"hosts\": [\"a\", \"b\"], \"empty\": null}");
+    return json.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private ObjectNode object(String json) throws Exception {
+    return (ObjectNode) mapper.readTree(json);
+  }
+
+  @Test
+  @DisplayName("should parse small content at once")
+  void shouldParseSmallContentAtOnce() throws Exception {
+    byte[] content = "{\"key\": {\"nested\": 1}}".getBytes(StandardCharsets.UTF_8);
+
+    JsonNode node = LazyObjectNode.index(mapper, content, 0, content.length);
+
+    assertFalse(node instanceof LazyObjectNode);
+    assertEquals(mapper.readTree(content), node);
+  }
+
+  @Test
+  @DisplayName("should parse content that is not an object at once")
+  void shouldParseNonObjectContentAtOnce() throws Exception {
+    byte[] content = ("[" + "1, ".repeat(LazyObjectNode.MINIMUM_INDEXED_SIZE) + "1]")
+        .getBytes(StandardCharsets.UTF_8);
+
+    JsonNode node = LazyObjectNode.index(mapper, content, 0, content.length);
+
+    assertTrue(node.isArray());
+    assertEquals(mapper.readTree(content), node);
+  }
+
+  @Test
+  @DisplayName("should expose the same tree as a full parse")
+  void shouldExposeSameTreeAsFullParse() throws Exception {
+    byte[] content = largeJson();
+
+    JsonNode node = LazyObjectNode.index(mapper, content, 0, content.length);
+
+    assertInstanceOf(LazyObjectNode.class, node);
+    assertEquals(mapper.readTree(content), node);
+    assertEquals(mapper.writeValueAsString(mapper.readTree(content)),
+        mapper.writeValueAsString(node));
+    assertEquals("http://host/42", node.at("/services/service42/url").asText());
+    assertEquals(43, node.at("/services/service42/retries/1").asInt());
+    assertEquals("b", node.at("/hosts/1").asText());
+    assertTrue(node.get("empty").isNull());
+    assertTrue(node.at("/services/missing").isMissingNode());
+  }
+
+  @Test
+  @DisplayName("should index large nested objects lazily as well")
+  void shouldIndexLargeNestedObjects() throws Exception {
+    byte[] content = largeJson();
+
+    JsonNode node = LazyObjectNode.index(mapper, content, 0, content.length);
+
+    assertInstanceOf(LazyObjectNode.class, node.get("services"));
+    assertFalse(node.at("/services/service1") instanceof LazyObjectNode);
+  }
+
+  @Test
+  @DisplayName("should index content located at an offset of the buffer")
+  void shouldIndexContentAtOffset() throws Exception {
+    byte[] content = largeJson();
+    byte[] buffer = new byte[content.length + 20];
+    System.arraycopy(content, 0, buffer, 10, content.length);
+
+    JsonNode node = LazyObjectNode.index(mapper, buffer, 10, content.length);
+
+    assertEquals(mapper.readTree(content), node);
+  }
+
+  @Test
+  @DisplayName("should parse nested values only when first read and only once")
+  void shouldParseNestedValuesOnDemand() throws Exception {
+    ObjectMapper spied = spy(mapper);
+    byte[] content = largeJson();
+
+    JsonNode node = LazyObjectNode.index(spied, content, 0, content.length);
+
+    assertEquals(5, node.size());
+    assertTrue(node.has("hosts"));
+    verify(spied, never()).readTree(any(byte[].class), anyInt(), anyInt());
+
+    JsonNode hosts = node.get("hosts");
+
+    assertSame(hosts, node.get("hosts"));
+    verify(spied, times(1)).readTree(any(byte[].class), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("should not parse values when only field names are listed")
+  void shouldListFieldNamesWithoutParsing() throws Exception {
+    ObjectMapper spied = spy(mapper);
+    byte[] content = largeJson();
+    JsonNode node = LazyObjectNode.index(spied, content, 0, content.length);
+
+    List<String> names = new ArrayList<>();
+    node.fieldNames().forEachRemaining(names::add);
+
+    assertEquals(List.of("name", "port", "services", "hosts", "empty"), names);
+    verify(spied, never()).readTree(any(byte[].class), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("should overlay fields and combine shared fields on access")
+  void shouldMergeFieldsOnAccess() throws Exception {
+    ObjectNode base = object("{\"a\": 1, \"b\": {\"x\": 1}, \"c\": 3}");
+    ObjectNode overlay = object("{\"b\": {\"y\": 2}, \"c\": 4, \"d\": 5}");
+    AtomicInteger combined = new AtomicInteger();
+
+    ObjectNode merged = LazyObjectNode.merging(base, overlay, (under, over) -> {
+      combined.incrementAndGet();
+      return over;
+    });
+
+    assertEquals(List.of("a", "b", "c", "d"), fieldNames(merged));
+    assertEquals(0, combined.get());
+    assertEquals(1, merged.get("a").asInt());
+    assertEquals(5, merged.get("d").asInt());
+    assertEquals(0, combined.get());
+    assertEquals(4, merged.get("c").asInt());
+    assertEquals(object("{\"y\": 2}"), merged.get("b"));
+    assertEquals(2, combined.get());
+  }
+
+  @Test
+  @DisplayName("should transform each value once when first read")
+  void shouldMapValuesOnAccess() throws Exception {
+    ObjectNode source = object("{\"a\": 1, \"b\": 2}");
+    AtomicInteger calls = new AtomicInteger();
+
+    ObjectNode mapped = LazyObjectNode.mapping(source, value -> {
+      calls.incrementAndGet();
+      return mapper.getNodeFactory().numberNode(value.asInt() * 10);
+    });
+
+    assertEquals(2, mapped.size());
+    assertEquals(0, calls.get());
+    assertEquals(10, mapped.get("a").asInt());
+    assertEquals(10, mapped.get("a").asInt());
+    assertEquals(1, calls.get());
+    assertEquals(object("{\"a\": 10, \"b\": 20}"), mapped);
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  @DisplayName("should accept writes like a regular object node")
+  void shouldAcceptWrites() throws Exception {
+    ObjectNode node = LazyObjectNode.mapping(object("{\"a\": 1, \"b\": 2}"), value -> value);
+
+    node.put("c", 3);
+    node.put("a", 0);
+    node.remove("b");
+
+    assertEquals(object("{\"a\": 0, \"c\": 3}"), node);
+  }
+
+  private static List<String> fieldNames(JsonNode node) {
+    List<String> names = new ArrayList<>();
+    node.fieldNames().forEachRemaining(names::add);
+    return names;
+  }
+}
@@ -0,0 +1,34 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LoadExecutorsTest {
+
+  @Test
+  @DisplayName("should run tasks on the calling thread when sequential")
+  void shouldRunTasksOnCallingThreadWhenSequential() {
+    AtomicReference<Thread> runner = new AtomicReference<>();
+
+    LoadExecutors.sequential().execute(() -> runner.set(Thread.currentThread()));
+
+    assertSame(Thread.currentThread(), runner.get());
+  }
+
+  @Test
+  @DisplayName("should return a shared parallel executor that runs tasks off the calling thread")
+  void shouldReturnSharedParallelExecutor() {
+    Executor executor = LoadExecutors.parallel();
+
+    Thread runner = CompletableFuture.supplyAsync(Thread::currentThread, executor).join();
+
+    assertSame(executor, LoadExecutors.parallel());
+    assertNotSame(Thread.currentThread(), runner);
+  }
+}
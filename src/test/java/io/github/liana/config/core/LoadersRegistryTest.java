@@ -41,7 +41,8 @@ class LoadersRegistryTest {
   @Test
   @DisplayName("should create registry containing default loaders and custom ones")
   void shouldCreateRegistryContainingDefaultAndCustomLoaders() {
-    List<String> expected = List.of("properties", "yaml", "yml", "json", "xml", "toml");
+    List<String> expected =
+        List.of("properties", "yaml", "yml", "json", "xml", "configtree", "toml");
     ResourceLoader customLoader = mock(ResourceLoader.class);
     ObjectMapper objectMapper = mock(ObjectMapper.class);
 
@@ -59,14 +60,14 @@ class LoadersRegistryTest {
     StrategyRegistry<String, ResourceLoader> registry = loadersRegistry.create();
 
     assertNotNull(registry);
-    assertEquals(6, registry.getAllKeys().size());
+    assertEquals(7, registry.getAllKeys().size());
     assertIterableEquals(expected, registry.getAllKeys());
   }
 
   @Test
   @DisplayName("should create registry containing only default loaders when no custom loaders provided")
   void shouldCreateRegistryWithOnlyDefaultLoadersWhenCustomEmpty() {
-    List<String> expected = List.of("properties", "yaml", "yml", "json", "xml");
+    List<String> expected = List.of("properties", "yaml", "yml", "json", "xml", "configtree");
     ObjectMapper objectMapper = mock(ObjectMapper.class);
 
     when(jacksonMappers.getProperties()).thenReturn(objectMapper);
@@ -82,7 +83,24 @@ class LoadersRegistryTest {
     StrategyRegistry<String, ResourceLoader> registry = loadersRegistry.create();
 
     assertNotNull(registry);
-    assertEquals(5, registry.getAllKeys().size());
+    assertEquals(6, registry.getAllKeys().size());
+    assertIterableEquals(expected, registry.getAllKeys());
+  }
+
+  @Test
+  @DisplayName("should create registry with the same loaders when JSON is parsed on demand")
+  void shouldCreateRegistryWithLazyJsonParsing() {
+    List<String> expected = List.of("properties", "yaml", "yml", "json", "xml", "configtree");
+    ObjectMapper objectMapper = mock(ObjectMapper.class);
+
+    when(jacksonMappers.getProperties()).thenReturn(objectMapper);
+    when(jacksonMappers.getYaml()).thenReturn(objectMapper);
+    when(jacksonMappers.getJson()).thenReturn(objectMapper);
+    when(jacksonMappers.getXml()).thenReturn(objectMapper);
+
+    StrategyRegistry<String, ResourceLoader> registry =
+        new LoadersRegistry(List.of(), jacksonMappers, true).create();
+
     assertIterableEquals(expected, registry.getAllKeys());
   }
 }
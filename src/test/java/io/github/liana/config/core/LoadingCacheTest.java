@@ -1,9 +1,19 @@
 package io.github.liana.config.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -79,4 +89,213 @@ class LoadingCacheTest {
     assertEquals(1, computeCount.get());
     assertEquals("value", cache.getOrCompute("shared-key", loader));
   }
+
+  @Test
+  @DisplayName("should remove entry only when mapped to the given value")
+  void shouldRemoveEntryOnlyWhenMappedToGivenValue() {
+    cache.getOrCompute("key", () -> "first");
+
+    assertFalse(cache.remove("key", "other"));
+    assertTrue(cache.remove("key", "first"));
+    assertEquals("second", cache.getOrCompute("key", () -> "second"));
+  }
+
+  @Test
+  @DisplayName("should return a cached value without loading an absent one")
+  void shouldGetIfPresentWithoutLoading() {
+    assertNull(cache.getIfPresent("key"));
+
+    cache.getOrCompute("key", () -> "value");
+
+    assertEquals("value", cache.getIfPresent("key"));
+    assertEquals(1, cache.size());
+    assertThrows(NullPointerException.class, () -> cache.getIfPresent(null));
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when removing a null key")
+  void shouldThrowWhenRemovingNullKey() {
+    assertThrows(NullPointerException.class, () -> cache.remove(null, "value"));
+  }
+
+  @Test
+  @DisplayName("should not cache null values or failed loads")
+  void shouldNotCacheNullValuesOrFailures() {
+    AtomicInteger computeCount = new AtomicInteger();
+
+    assertNull(cache.getOrCompute("null", () -> {
+      computeCount.incrementAndGet();
+      return null;
+    }));
+    assertThrows(IllegalStateException.class, () -> cache.getOrCompute("failed", () -> {
+      throw new IllegalStateException("boom");
+    }));
+
+    assertEquals("value", cache.getOrCompute("null", () -> "value"));
+    assertEquals("value", cache.getOrCompute("failed", () -> "value"));
+    assertEquals(1, computeCount.get());
+    assertEquals(1, cache.stats().loadFailureCount());
+  }
+
+  @Test
+  @DisplayName("should let a loader read other keys but not its own")
+  void shouldRejectRecursiveLoadOfSameKey() {
+    assertEquals("outer-inner",
+        cache.getOrCompute("outer", () -> "outer-" + cache.getOrCompute("inner", () -> "inner")));
+    assertThrows(IllegalStateException.class,
+        () -> cache.getOrCompute("self", () -> cache.getOrCompute("self", () -> "value")));
+  }
+
+  @Test
+  @DisplayName("should not block other keys while a loader runs")
+  void shouldLoadOutsideTheMapLock() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    Thread slow = new Thread(() -> cache.getOrCompute("slow", () -> {
+      started.countDown();
+      await(release);
+      return "slow";
+    }));
+    slow.start();
+    started.await();
+
+    assertEquals("fast", cache.getOrCompute("fast", () -> "fast"));
+
+    release.countDown();
+    slow.join();
+    assertEquals("slow", cache.getOrCompute("slow", () -> "other"));
+  }
+
+  @Test
+  @DisplayName("should evict entries read once before entries read often")
+  void shouldEvictInfrequentEntriesFirst() {
+    LoadingCache<String, String> bounded = LoadingCache.<String, String>builder()
+        .maximumSize(3)
+        .build();
+    bounded.getOrCompute("hot", () -> "hot");
+    for (int i = 0; i < 5; i++) {
+      bounded.getOrCompute("hot", () -> "reloaded");
+    }
+
+    for (int i = 0; i < 10; i++) {
+      String key = "scan-" + i;
+      bounded.getOrCompute(key, () -> key);
+    }
+
+    assertEquals(3, bounded.size());
+    assertEquals("hot", bounded.getOrCompute("hot", () -> "reloaded"));
+    assertEquals(8, bounded.stats().evictionCount());
+  }
+
+  @Test
+  @DisplayName("should not evict a future value before it completes")
+  void shouldNotEvictIncompleteFutures() {
+    LoadingCache<String, CompletableFuture<String>> bounded =
+        LoadingCache.<String, CompletableFuture<String>>builder()
+            .maximumSize(1)
+            .build();
+    CompletableFuture<String> inFlight = new CompletableFuture<>();
+    bounded.getOrCompute("in-flight", () -> inFlight);
+
+    for (int i = 0; i < 5; i++) {
+      String key = "done-" + i;
+      bounded.getOrCompute(key, () -> CompletableFuture.completedFuture(key));
+    }
+
+    assertSame(inFlight, bounded.getIfPresent("in-flight"));
+    assertEquals(2, bounded.size());
+
+    inFlight.complete("value");
+
+    assertEquals(1, bounded.size());
+    assertEquals(5, bounded.stats().evictionCount());
+  }
+
+  @Test
+  @DisplayName("should remove entries and keep evicting in clock order")
+  void shouldRemoveEntriesFromTheClock() {
+    LoadingCache<String, String> bounded = LoadingCache.<String, String>builder()
+        .maximumSize(2)
+        .build();
+    bounded.getOrCompute("a", () -> "a");
+    bounded.getOrCompute("b", () -> "b");
+
+    assertTrue(bounded.remove("a", "a"));
+    bounded.getOrCompute("c", () -> "c");
+    bounded.getOrCompute("d", () -> "d");
+
+    assertEquals(2, bounded.size());
+    assertNull(bounded.getIfPresent("b"));
+    assertEquals("c", bounded.getIfPresent("c"));
+    assertEquals("d", bounded.getIfPresent("d"));
+    assertEquals(1, bounded.stats().evictionCount());
+  }
+
+  @Test
+  @DisplayName("should keep the total weight within the maximum weight")
+  void shouldBoundTotalWeight() {
+    LoadingCache<String, String> bounded = LoadingCache.<String, String>builder()
+        .maximumWeight(10, String::length)
+        .build();
+
+    bounded.getOrCompute("a", () -> "aaaa");
+    bounded.getOrCompute("b", () -> "bbbb");
+    bounded.getOrCompute("c", () -> "cccc");
+
+    assertEquals(2, bounded.size());
+    assertEquals("cccc", bounded.getOrCompute("c", () -> "other"));
+    assertThrows(IllegalArgumentException.class,
+        () -> LoadingCache.builder().maximumSize(-1));
+  }
+
+  @Test
+  @DisplayName("should refresh stale entries in the background and keep the old value on failure")
+  void shouldRefreshAfterWrite() {
+    AtomicLong now = new AtomicLong();
+    List<Runnable> tasks = new ArrayList<>();
+    LoadingCache<String, String> refreshing = LoadingCache.<String, String>builder()
+        .refreshAfterWrite(Duration.ofSeconds(1), tasks::add)
+        .ticker(now::get)
+        .build();
+    refreshing.getOrCompute("key", () -> "v1");
+
+    now.addAndGet(Duration.ofSeconds(2).toNanos());
+    assertEquals("v1", refreshing.getOrCompute("key", () -> "v2"));
+    assertEquals("v1", refreshing.getOrCompute("key", () -> "v3"));
+    assertEquals(1, tasks.size());
+    tasks.remove(0).run();
+    assertEquals("v2", refreshing.getOrCompute("key", () -> "v4"));
+
+    now.addAndGet(Duration.ofSeconds(2).toNanos());
+    refreshing.getOrCompute("key", () -> {
+      throw new IllegalStateException("boom");
+    });
+    tasks.remove(0).run();
+    assertEquals("v2", refreshing.getOrCompute("key", () -> "v5"));
+  }
+
+  @Test
+  @DisplayName("should count hits, misses, and loads")
+  void shouldRecordStats() {
+    cache.getOrCompute("a", () -> "a");
+    cache.getOrCompute("a", () -> "a");
+    cache.getOrCompute("a", () -> "a");
+    cache.getOrCompute("b", () -> "b");
+
+    CacheStats stats = cache.stats();
+
+    assertEquals(2, stats.hitCount());
+    assertEquals(2, stats.missCount());
+    assertEquals(2, stats.loadSuccessCount());
+    assertEquals(0.5, stats.hitRate());
+    assertTrue(stats.totalLoadTime() >= 0);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
 }
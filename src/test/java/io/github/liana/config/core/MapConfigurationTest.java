@@ -1,9 +1,13 @@
 package io.github.liana.config.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.github.liana.config.api.ConfigKey;
+import io.github.liana.config.core.type.TypeOf;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -30,4 +34,19 @@ class MapConfigurationTest {
 
     assertTrue(config.get("missing", String.class).isEmpty());
   }
+
+  @Test
+  @DisplayName("should resolve precompiled keys against nested values")
+  void shouldResolvePrecompiledKeys() {
+    MapConfiguration config = new MapConfiguration(
+        Map.of("server", Map.of("port", "8080", "hosts", List.of("a", "b"))));
+
+    ConfigKey<Integer> port = config.key("server.port", Integer.class);
+    ConfigKey<List<String>> hosts = config.key("server.hosts", new TypeOf<>() {
+    });
+
+    assertEquals(8080, port.getInt());
+    assertEquals(List.of("a", "b"), hosts.get());
+    assertFalse(config.key("server.missing", Integer.class).isPresent());
+  }
 }
@@ -0,0 +1,70 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PathIndexTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("should find every node by its dotted or bracketed key path")
+  void shouldFindNodesByKeyPath() throws IOException {
+    JsonNode root = mapper.readTree("""
+        {"server": {"port": 8080, "hosts": [{"name": "a"}, {"name": "b"}]},
+         "empty": null, "0": "zero"}""");
+    var index = PathIndex.build(root);
+
+    assertSame(root.get("server"), index.find(KeyPath.parse("server")));
+    assertEquals(8080, index.find(KeyPath.parse("server.port")).intValue());
+    assertEquals("b", index.find(KeyPath.parse("server.hosts[1].name")).textValue());
+    assertEquals("b", index.find(KeyPath.parse("server.hosts.1.name")).textValue());
+    assertTrue(index.find(KeyPath.parse("empty")).isNull());
+    assertEquals("zero", index.find(KeyPath.parse("0")).textValue());
+  }
+
+  @Test
+  @DisplayName("should return null for keys without a node")
+  void shouldReturnNullForMissingKeys() throws IOException {
+    JsonNode root = mapper.readTree("""
+        {"server": {"port": 8080, "hosts": ["a"]}, "a.b": 1}""");
+    var index = PathIndex.build(root);
+
+    assertNull(index.find(KeyPath.parse("server.missing")));
+    assertNull(index.find(KeyPath.parse("server.port.value")));
+    assertNull(index.find(KeyPath.parse("server.hosts[1]")));
+    assertNull(index.find(KeyPath.parse("server.hosts.01")));
+    assertNull(index.find(KeyPath.parse("a.b")));
+    assertEquals(1, index.find(KeyPath.parse("\"a.b\"")).intValue());
+    assertNull(index.find(KeyPath.parse("")));
+  }
+
+  @Test
+  @DisplayName("should resolve keys below lazily parsed objects without indexing them")
+  void shouldResolveKeysBelowLazyNodes() throws IOException {
+    String padding = "x".repeat(LazyObjectNode.MINIMUM_INDEXED_SIZE);
+    byte[] content = ("{\"nested\": {\"inner\": {\"list\": [1, 2]}}, \"padding\": \"" + padding
+        + "\"}").getBytes(StandardCharsets.UTF_8);
+    JsonNode lazy = LazyObjectNode.index(mapper, content, 0, content.length);
+    var root = mapper.createObjectNode();
+    root.set("app", lazy);
+
+    var nested = PathIndex.build(root);
+    var direct = PathIndex.build(lazy);
+
+    assertSame(lazy, nested.find(KeyPath.parse("app")));
+    assertEquals(2, nested.find(KeyPath.parse("app.nested.inner.list[1]")).intValue());
+    assertNull(nested.find(KeyPath.parse("app.nested.missing")));
+    assertEquals(1, direct.find(KeyPath.parse("nested.inner.list.0")).intValue());
+    assertNull(direct.find(KeyPath.parse("missing")));
+  }
+}
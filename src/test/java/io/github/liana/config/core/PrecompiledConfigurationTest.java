@@ -0,0 +1,79 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.liana.config.core.exception.ConversionException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PrecompiledConfigurationTest {
+
+  @Test
+  @DisplayName("should expose scalar, nested, and list values of the tree")
+  void shouldExposeTreeValues() {
+    Map<String, Object> server = new LinkedHashMap<>();
+    server.put("port", 8080);
+    server.put("timeout", "PT5S");
+    server.put("ratio", new BigDecimal("0.75"));
+    server.put("hosts", List.of("a", "b"));
+    Map<String, Object> tree = new LinkedHashMap<>();
+    tree.put("server", server);
+    tree.put("enabled", true);
+    tree.put("big", 5_000_000_000L);
+
+    var config = new PrecompiledConfiguration(tree);
+
+    assertEquals(Optional.of(8080), config.get("server.port", Integer.class));
+    assertEquals(Optional.of(Duration.ofSeconds(5)), config.get("server.timeout", Duration.class));
+    assertEquals(Optional.of(new BigDecimal("0.75")), config.get("server.ratio", BigDecimal.class));
+    assertEquals(List.of("a", "b"), config.getList("server.hosts", String.class));
+    assertEquals(Optional.of("b"), config.get("server.hosts[1]", String.class));
+    assertEquals(Optional.of(true), config.get("enabled", Boolean.class));
+    assertEquals(Optional.of(5_000_000_000L), config.get("big", Long.class));
+  }
+
+  @Test
+  @DisplayName("should keep null values as present keys")
+  void shouldKeepNullValues() {
+    Map<String, Object> tree = new LinkedHashMap<>();
+    tree.put("empty", null);
+    tree.put("list", new ArrayList<>(Arrays.asList("a", null)));
+
+    var config = new PrecompiledConfiguration(tree);
+
+    assertTrue(config.containsKey("empty"));
+    assertEquals(Optional.empty(), config.get("empty", String.class));
+    assertFalse(config.containsKey("missing"));
+  }
+
+  @Test
+  @DisplayName("should not be affected by later changes to the given tree")
+  void shouldCopyTree() {
+    Map<String, Object> tree = new LinkedHashMap<>();
+    tree.put("key", "before");
+    var config = new PrecompiledConfiguration(tree);
+
+    tree.put("key", "after");
+
+    assertEquals(Optional.of("before"), config.get("key", String.class));
+  }
+
+  @Test
+  @DisplayName("should reject unsupported values and null trees")
+  void shouldRejectInvalidTrees() {
+    assertThrows(ConversionException.class,
+        () -> new PrecompiledConfiguration(Map.of("key", new Object())));
+    assertThrows(NullPointerException.class, () -> new PrecompiledConfiguration(null));
+  }
+}
@@ -27,7 +27,7 @@ class ProvidersRegistryTest {
   @DisplayName("should create registry containing default and custom providers")
   void shouldCreateRegistryContainingDefaultAndCustomProviders() {
     List<String> directories = List.of("", "config");
-    List<String> expected = List.of("classpath", "filesystem");
+    List<String> expected = List.of("classpath", "file", "configtree", "filesystem");
     ResourceProvider customProvider = mock(ResourceProvider.class);
 
     when(customProvider.getKeys()).thenReturn(Set.of("filesystem"));
@@ -37,12 +37,12 @@ class ProvidersRegistryTest {
     StrategyRegistry<String, ResourceProvider> registry = providersRegistry.create(directories);
 
     assertNotNull(registry);
-    assertEquals(2, registry.getAllKeys().size());
+    assertEquals(4, registry.getAllKeys().size());
     assertIterableEquals(expected, registry.getAllKeys());
   }
 
   @Test
-  @DisplayName("should return registry with only default provider when no custom providers are given")
+  @DisplayName("should return only default providers when no custom providers are given")
   void shouldReturnRegistryWithOnlyDefaultProviderWhenNoCustomProvidersGiven() {
     List<String> directories = List.of("", "config");
     ProvidersRegistry providersRegistry = new ProvidersRegistry(Collections.emptyList());
@@ -50,7 +50,7 @@ class ProvidersRegistryTest {
     StrategyRegistry<String, ResourceProvider> registry = providersRegistry.create(directories);
 
     assertNotNull(registry);
-    assertEquals(1, registry.getAllKeys().size());
-    assertIterableEquals(List.of("classpath"), registry.getAllKeys());
+    assertEquals(3, registry.getAllKeys().size());
+    assertIterableEquals(List.of("classpath", "file", "configtree"), registry.getAllKeys());
   }
 }
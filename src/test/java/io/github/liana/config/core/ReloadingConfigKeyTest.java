@@ -0,0 +1,66 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.liana.config.api.ConfigKey;
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.core.exception.ConversionException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReloadingConfigKeyTest {
+
+  @Test
+  @DisplayName("should resolve once per configuration and again after it is replaced")
+  void shouldResolveOncePerConfiguration() {
+    var current = new AtomicReference<Configuration>(
+        new MapConfiguration(Map.of("limit", 10)));
+    var resolutions = new AtomicInteger();
+
+    ConfigKey<Integer> key = new ReloadingConfigKey<>("limit", current::get, configuration -> {
+      resolutions.incrementAndGet();
+      return configuration.key("limit", Integer.class);
+    });
+
+    assertEquals(10, key.getInt());
+    assertEquals(10, key.get());
+    assertEquals(1, resolutions.get());
+
+    current.set(new MapConfiguration(Map.of("limit", 20)));
+
+    assertEquals(20, key.getInt());
+    assertEquals(20, key.getInt(0));
+    assertEquals(2, resolutions.get());
+
+    current.set(new MapConfiguration(Map.of()));
+
+    assertFalse(key.isPresent());
+    assertEquals(5, key.getInt(5));
+    assertEquals("limit", key.path());
+  }
+
+  @Test
+  @DisplayName("should fail on creation when the current value cannot be converted")
+  void shouldFailOnCreationWhenValueIsNotConvertible() {
+    Configuration configuration = new MapConfiguration(Map.of("limit", "many"));
+
+    assertThrows(ConversionException.class, () -> new ReloadingConfigKey<>("limit",
+        () -> configuration, c -> c.key("limit", Integer.class)));
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when any argument is null")
+  void shouldThrowWhenArgumentIsNull() {
+    assertThrows(NullPointerException.class,
+        () -> new ReloadingConfigKey<>(null, () -> null, c -> null));
+    assertThrows(NullPointerException.class,
+        () -> new ReloadingConfigKey<>("key", null, c -> null));
+    assertThrows(NullPointerException.class,
+        () -> new ReloadingConfigKey<>("key", () -> null, null));
+  }
+}
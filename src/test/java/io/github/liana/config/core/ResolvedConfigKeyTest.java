@@ -0,0 +1,82 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.liana.config.api.ConfigKey;
+import io.github.liana.config.core.exception.ConversionException;
+import io.github.liana.config.core.exception.MissingConfigException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResolvedConfigKeyTest {
+
+  @Test
+  @DisplayName("should serve a present value through every accessor")
+  void shouldServePresentValue() {
+    ConfigKey<Integer> key = ConfigKey.of("server.port", 8080);
+
+    assertEquals("server.port", key.path());
+    assertTrue(key.isPresent());
+    assertEquals(8080, key.get());
+    assertEquals(8080, key.orElse(1));
+    assertEquals(8080, key.getInt());
+    assertEquals(8080, key.getInt(1));
+    assertEquals(8080L, key.getLong());
+    assertEquals(8080.0, key.getDouble());
+  }
+
+  @Test
+  @DisplayName("should return the same instance for object values")
+  void shouldReturnSameInstance() {
+    var value = new BigDecimal("0.75");
+    ConfigKey<BigDecimal> key = ConfigKey.of("ratio", value);
+
+    assertSame(value, key.get());
+    assertEquals(0.75, key.getDouble());
+  }
+
+  @Test
+  @DisplayName("should fall back to defaults and throw on required reads when absent")
+  void shouldHandleAbsentValue() {
+    ConfigKey<Boolean> key = ConfigKey.of("feature.enabled", null);
+
+    assertFalse(key.isPresent());
+    assertNull(key.orElse(null));
+    assertTrue(key.getBoolean(true));
+    assertEquals(3, key.getInt(3));
+    assertEquals(4L, key.getLong(4L));
+    assertEquals(5.0, key.getDouble(5.0));
+    MissingConfigException e = assertThrows(MissingConfigException.class, key::get);
+    assertEquals("Missing required config: feature.enabled", e.getMessage());
+    assertThrows(MissingConfigException.class, key::getBoolean);
+    assertThrows(MissingConfigException.class, key::getInt);
+  }
+
+  @Test
+  @DisplayName("should reject primitive reads that do not match the value")
+  void shouldRejectMismatchedPrimitiveReads() {
+    ConfigKey<String> text = ConfigKey.of("name", "liana");
+    ConfigKey<Long> large = ConfigKey.of("size", 5_000_000_000L);
+    ConfigKey<Boolean> flag = ConfigKey.of("flag", true);
+
+    assertThrows(ConversionException.class, text::getInt);
+    assertThrows(ConversionException.class, () -> text.getDouble(1.0));
+    assertThrows(ConversionException.class, text::getBoolean);
+    assertThrows(ConversionException.class, large::getInt);
+    assertEquals(5_000_000_000L, large.getLong());
+    assertTrue(flag.getBoolean());
+    assertThrows(ConversionException.class, flag::getLong);
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when path is null")
+  void shouldThrowWhenPathIsNull() {
+    assertThrows(NullPointerException.class, () -> ConfigKey.of(null, 1));
+  }
+}
@@ -0,0 +1,42 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResourceFingerprintTest {
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @DisplayName("should produce equal fingerprints for equal content")
+  void shouldProduceEqualFingerprintsForEqualContent() {
+    assertEquals(ResourceFingerprint.ofContent(bytes("a: 1")),
+        ResourceFingerprint.ofContent(bytes("a: 1")));
+  }
+
+  @Test
+  @DisplayName("should produce different fingerprints for different content")
+  void shouldProduceDifferentFingerprintsForDifferentContent() {
+    assertNotEquals(ResourceFingerprint.ofContent(bytes("a: 1")),
+        ResourceFingerprint.ofContent(bytes("a: 2")));
+  }
+
+  @Test
+  @DisplayName("should record the content length")
+  void shouldRecordContentLength() {
+    assertEquals(4, ResourceFingerprint.ofContent(bytes("a: 1")).length());
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when content is null")
+  void shouldThrowWhenContentIsNull() {
+    assertThrows(NullPointerException.class, () -> ResourceFingerprint.ofContent(null));
+  }
+}
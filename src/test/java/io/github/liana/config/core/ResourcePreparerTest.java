@@ -499,4 +499,37 @@ class ResourcePreparerTest {
         .anyMatch(resource -> "config/application.yaml".equals(resource.resourceName()) &&
             GLOBAL_PROVIDER.equals(resource.provider())));
   }
+
+  @Test
+  @DisplayName("should mark resources with the optional prefix as optional")
+  void shouldMarkPrefixedResourcesAsOptional() {
+    var resourceNames = new LinkedHashSet<String>();
+    resourceNames.add("application.yaml");
+    resourceNames.add("optional:file:overrides.yaml");
+    resourceNames.add("optional:local.yaml");
+
+    when(resourceLocation.provider()).thenReturn("classpath");
+    when(resourceLocation.resourceNames()).thenReturn(ImmutableConfigSet.of(resourceNames));
+    when(resourceNameValidator.isSafeResourceName(anyString())).thenReturn(true);
+
+    List<ResourceIdentifier> result = preparer.prepare();
+
+    assertEquals(List.of(
+        new DefaultResourceIdentifier("classpath", "application.yaml", false),
+        new DefaultResourceIdentifier("file", "overrides.yaml", true),
+        new DefaultResourceIdentifier("classpath", "local.yaml", true)), result);
+  }
+
+  @Test
+  @DisplayName("should treat the profile overlay of the default resources as optional")
+  void shouldTreatDefaultProfileOverlayAsOptional() {
+    ResourcePreparer preparer = new ResourcePreparer(resourceLocation, "dev",
+        resourceNameValidator);
+
+    List<ResourceIdentifier> result = preparer.prepare();
+
+    assertEquals(List.of(
+        new DefaultResourceIdentifier("classpath", "application", false),
+        new DefaultResourceIdentifier("classpath", "application-dev", true)), result);
+  }
 }
@@ -1,10 +1,12 @@
 package io.github.liana.config.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -15,10 +17,17 @@ import io.github.liana.config.api.Configuration;
 import io.github.liana.config.internal.ImmutableConfigSet;
 import io.github.liana.config.spi.ResourceLoader;
 import io.github.liana.config.spi.ResourceProvider;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,9 +51,6 @@ class ResourceProcessorTest {
   @Mock
   private LoadingCache<String, StrategyResolver<String, ResourceLoader>> loaderCache;
 
-  @Mock
-  private ResourcePreparer resourcePreparer;
-
   @Mock
   private ResourceLocation location;
 
@@ -73,52 +79,62 @@ class ResourceProcessorTest {
 
   @BeforeEach
   void setUp() {
-    processor = new ResourceProcessor(providers, loaders, resourcePreparer);
+    processor = new ResourceProcessor(providers, loaders);
   }
 
   @Test
   @DisplayName("should throw NullPointerException when provider is null")
   void shouldThrowWhenProviderIsNull() {
     assertThrows(NullPointerException.class,
-        () -> new ResourceProcessor(null, loaders, resourcePreparer, providerCache,
-            loaderCache));
+        () -> new ResourceProcessor(null, loaders, providerCache, loaderCache));
   }
 
   @Test
   @DisplayName("should throw NullPointerException when loader is null")
   void shouldThrowWhenLoaderIsNull() {
     assertThrows(NullPointerException.class,
-        () -> new ResourceProcessor(providers, null, resourcePreparer, providerCache,
-            loaderCache));
+        () -> new ResourceProcessor(providers, null, providerCache, loaderCache));
   }
 
   @Test
-  @DisplayName("should throw NullPointerException when resourcePreparer is null")
-  void shouldThrowWhenConfigResourcePreparerIsNull() {
-    assertThrows(NullPointerException.class,
-        () -> new ResourceProcessor(providers, loaders, null, providerCache, loaderCache));
+  @DisplayName("should throw NullPointerException when identifiers is null")
+  void shouldThrowWhenIdentifiersIsNull() {
+    assertThrows(NullPointerException.class, () -> processor.load(location, null));
   }
 
   @Test
   @DisplayName("should throw NullPointerException when providerCache is null")
   void shouldThrowWhenProviderCacheIsNull() {
     assertThrows(NullPointerException.class,
-        () -> new ResourceProcessor(providers, loaders, resourcePreparer, null,
-            loaderCache));
+        () -> new ResourceProcessor(providers, loaders, null, loaderCache));
   }
 
   @Test
   @DisplayName("should throw NullPointerException when loaderCache is null")
   void shouldThrowWhenLoaderCacheIsNull() {
     assertThrows(NullPointerException.class,
-        () -> new ResourceProcessor(providers, loaders, resourcePreparer, providerCache,
-            null));
+        () -> new ResourceProcessor(providers, loaders, providerCache, null));
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when executor is null")
+  void shouldThrowWhenExecutorIsNull() {
+    assertThrows(NullPointerException.class,
+        () -> new ResourceProcessor(providers, loaders, providerCache, loaderCache, null));
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when fragmentCache is null")
+  void shouldThrowWhenFragmentCacheIsNull() {
+    assertThrows(NullPointerException.class,
+        () -> new ResourceProcessor(providers, loaders, providerCache, loaderCache,
+            LoadExecutors.sequential(), null));
   }
 
   @Test
   @DisplayName("should throw NullPointerException when location is null")
   void shouldThrowExceptionWhenLocationIsNull() {
-    assertThrows(NullPointerException.class, () -> processor.load(null));
+    assertThrows(NullPointerException.class, () -> processor.load(null, List.of()));
   }
 
   @Test
@@ -127,9 +143,7 @@ class ResourceProcessorTest {
     List<ResourceIdentifier> identifiers = new ArrayList<>();
     identifiers.add(null);
 
-    when(resourcePreparer.prepare()).thenReturn(identifiers);
-
-    List<Map<String, Object>> result = processor.load(location);
+    List<Configuration> result = processor.load(location, identifiers);
 
     assertTrue(result.isEmpty());
   }
@@ -138,10 +152,10 @@ class ResourceProcessorTest {
   @DisplayName("should skip identifier when provider is blank")
   void shouldSkipWhenProviderBlank() {
     when(location.verboseLogging()).thenReturn(true);
-    when(resourcePreparer.prepare()).thenReturn(List.of(resourceIdentifier));
+    List<ResourceIdentifier> identifiers = List.of(resourceIdentifier);
     when(resourceIdentifier.provider()).thenReturn("  ");
 
-    List<Map<String, Object>> result = processor.load(location);
+    List<Configuration> result = processor.load(location, identifiers);
     assertTrue(result.isEmpty());
   }
 
@@ -149,23 +163,22 @@ class ResourceProcessorTest {
   @DisplayName("should skip when resourceName is blank")
   void shouldSkipWhenResourceNameBlank() {
     when(location.verboseLogging()).thenReturn(true);
-    when(resourcePreparer.prepare()).thenReturn(List.of(resourceIdentifier));
+    List<ResourceIdentifier> identifiers = List.of(resourceIdentifier);
     when(resourceIdentifier.provider()).thenReturn("classpath");
     when(resourceIdentifier.resourceName()).thenReturn("");
 
-    List<Map<String, Object>> result = processor.load(location);
+    List<Configuration> result = processor.load(location, identifiers);
     assertTrue(result.isEmpty());
   }
 
   @Test
   @DisplayName("should call providerCache.getOrCompute and loaderCache.getOrCompute and cache their values")
   void shouldUseProviderAndLoaderCache() throws Exception {
-    var processor = new ResourceProcessor(providers, loaders, resourcePreparer,
-        providerCache, loaderCache);
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache);
     ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("config"));
     when(location.baseDirectories()).thenReturn(dirs);
     when(location.verboseLogging()).thenReturn(true);
-    when(resourcePreparer.prepare()).thenReturn(List.of(resourceIdentifier));
+    List<ResourceIdentifier> identifiers = List.of(resourceIdentifier);
     when(resourceIdentifier.provider()).thenReturn("classpath");
     when(resourceIdentifier.resourceName()).thenReturn("app.yaml");
     when(provider.getKeys()).thenReturn(Set.of("classpath"));
@@ -185,10 +198,11 @@ class ResourceProcessorTest {
         .thenAnswer(
             inv -> inv.<Supplier<StrategyResolver<String, ResourceLoader>>>getArgument(1).get());
     when(loader.load(resource)).thenReturn(configuration);
-    when(configuration.getRootAsMap()).thenReturn(Map.of());
 
-    processor.load(location);
+    List<Configuration> result = processor.load(location, identifiers);
 
+    assertEquals(List.of(configuration), result);
+    verify(configuration, never()).getRootAsMap();
     verify(providerCache, times(1)).getOrCompute(eq(dirs), any());
     verify(loaderCache, times(1)).getOrCompute(eq("default"), any());
     verify(resource, times(1)).close();
@@ -197,13 +211,12 @@ class ResourceProcessorTest {
   @Test
   @DisplayName("should NOT recreate resolvers when value already cached")
   void shouldNotRecreateResolversWhenCacheHits() throws Exception {
-    var processor = new ResourceProcessor(providers, loaders, resourcePreparer,
-        providerCache, loaderCache);
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache);
     ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("base"));
     when(location.baseDirectories()).thenReturn(dirs);
     when(location.verboseLogging()).thenReturn(true);
 
-    when(resourcePreparer.prepare()).thenReturn(List.of(resourceIdentifier));
+    List<ResourceIdentifier> identifiers = List.of(resourceIdentifier);
     when(resourceIdentifier.provider()).thenReturn("classpath");
     when(resourceIdentifier.resourceName()).thenReturn("app.yaml");
 
@@ -219,10 +232,9 @@ class ResourceProcessorTest {
 
     when(loaderResolver.resolve("yaml")).thenReturn(loader);
     when(loader.load(resource)).thenReturn(configuration);
-    when(configuration.getRootAsMap()).thenReturn(Map.of());
 
-    processor.load(location);
-    processor.load(location);
+    processor.load(location, identifiers);
+    processor.load(location, identifiers);
 
     verify(providerCache, times(2)).getOrCompute(eq(dirs), any());
     verify(providerResolver, times(2)).resolve("classpath");
@@ -232,12 +244,11 @@ class ResourceProcessorTest {
   @Test
   @DisplayName("should return empty list when providerResolver fails to resolve provider")
   void shouldReturnEmptyWhenProviderResolverFails() {
-    var processor = new ResourceProcessor(providers, loaders, resourcePreparer,
-        providerCache, loaderCache);
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache);
     ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("config"));
     when(location.baseDirectories()).thenReturn(dirs);
     when(location.verboseLogging()).thenReturn(true);
-    when(resourcePreparer.prepare()).thenReturn(List.of(resourceIdentifier));
+    List<ResourceIdentifier> identifiers = List.of(resourceIdentifier);
     when(resourceIdentifier.provider()).thenReturn("file");
     when(resourceIdentifier.resourceName()).thenReturn("app.yaml");
     when(provider.getKeys()).thenReturn(Set.of("classpath"));
@@ -247,7 +258,7 @@ class ResourceProcessorTest {
     when(providerCache.getOrCompute(eq(dirs), any()))
         .thenAnswer(
             inv -> inv.<Supplier<StrategyResolver<String, ResourceProvider>>>getArgument(1).get());
-    List<Map<String, Object>> result = processor.load(location);
+    List<Configuration> result = processor.load(location, identifiers);
 
     assertTrue(result.isEmpty());
   }
@@ -256,11 +267,10 @@ class ResourceProcessorTest {
   @DisplayName("should return empty list when loaderResolver fails to resolve provider")
   void shouldReturnEmptyWhenLoaderResolverFails() throws Exception {
     ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("config"));
-    var processor = new ResourceProcessor(providers, loaders, resourcePreparer,
-        providerCache, loaderCache);
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache);
     when(location.baseDirectories()).thenReturn(dirs);
     when(location.verboseLogging()).thenReturn(true);
-    when(resourcePreparer.prepare()).thenReturn(List.of(resourceIdentifier));
+    List<ResourceIdentifier> identifiers = List.of(resourceIdentifier);
     when(resourceIdentifier.provider()).thenReturn("classpath");
     when(resourceIdentifier.resourceName()).thenReturn("app.yaml");
     when(provider.getKeys()).thenReturn(Set.of("classpath"));
@@ -282,7 +292,7 @@ class ResourceProcessorTest {
         .thenAnswer(
             inv -> inv.<Supplier<StrategyResolver<String, ResourceLoader>>>getArgument(1).get());
 
-    processor.load(location);
+    processor.load(location, identifiers);
 
     verify(providerCache, times(1)).getOrCompute(eq(dirs), any());
     verify(loaderCache, times(1)).getOrCompute(eq("default"), any());
@@ -293,13 +303,12 @@ class ResourceProcessorTest {
   @Test
   @DisplayName("should return empty when resolveResource throws")
   void shouldHandleExceptionOnResolveResource() {
-    var processor = new ResourceProcessor(providers, loaders, resourcePreparer,
-        providerCache, loaderCache);
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache);
     ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("base"));
     when(location.baseDirectories()).thenReturn(dirs);
     when(location.verboseLogging()).thenReturn(false);
 
-    when(resourcePreparer.prepare()).thenReturn(List.of(resourceIdentifier));
+    List<ResourceIdentifier> identifiers = List.of(resourceIdentifier);
     when(resourceIdentifier.provider()).thenReturn("classpath");
     when(resourceIdentifier.resourceName()).thenReturn("app.yaml");
 
@@ -310,20 +319,19 @@ class ResourceProcessorTest {
     when(provider.resolveResource(resourceIdentifier))
         .thenThrow(new RuntimeException("resolve failed"));
 
-    List<Map<String, Object>> result = processor.load(location);
+    List<Configuration> result = processor.load(location, identifiers);
     assertTrue(result.isEmpty());
   }
 
   @Test
   @DisplayName("should close resource when loader throws unexpected exception")
   void shouldCloseResourceOnUnexpectedLoaderException() throws Exception {
-    var processor = new ResourceProcessor(providers, loaders, resourcePreparer,
-        providerCache, loaderCache);
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache);
     ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("config"));
     when(location.baseDirectories()).thenReturn(dirs);
     when(location.verboseLogging()).thenReturn(false);
 
-    when(resourcePreparer.prepare()).thenReturn(List.of(resourceIdentifier));
+    List<ResourceIdentifier> identifiers = List.of(resourceIdentifier);
 
     when(resourceIdentifier.provider()).thenReturn("classpath");
     when(resourceIdentifier.resourceName()).thenReturn("app.yaml");
@@ -339,7 +347,7 @@ class ResourceProcessorTest {
 
     when(loader.load(resource)).thenThrow(new RuntimeException("unknown error"));
 
-    List<Map<String, Object>> result = processor.load(location);
+    List<Configuration> result = processor.load(location, identifiers);
 
     assertTrue(result.isEmpty());
     verify(resource, times(1)).close();
@@ -349,23 +357,22 @@ class ResourceProcessorTest {
   @DisplayName("should return unmodifiable list")
   void shouldReturnUnmodifiableList() {
     when(location.verboseLogging()).thenReturn(false);
-    when(resourcePreparer.prepare()).thenReturn(List.of());
+    List<ResourceIdentifier> identifiers = List.of();
 
-    List<Map<String, Object>> result = processor.load(location);
+    List<Configuration> result = processor.load(location, identifiers);
 
-    assertThrows(UnsupportedOperationException.class, () -> result.add(Map.of()));
+    assertThrows(UnsupportedOperationException.class, () -> result.add(configuration));
   }
 
   @Test
   @DisplayName("should return empty when provider returns a null resource")
   void shouldReturnEmptyWhenResourceIsNull() {
-    var processor = new ResourceProcessor(providers, loaders, resourcePreparer,
-        providerCache, loaderCache);
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache);
     ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("base"));
     when(location.baseDirectories()).thenReturn(dirs);
     when(location.verboseLogging()).thenReturn(false);
 
-    when(resourcePreparer.prepare()).thenReturn(List.of(resourceIdentifier));
+    List<ResourceIdentifier> identifiers = List.of(resourceIdentifier);
     when(resourceIdentifier.provider()).thenReturn("classpath");
     when(resourceIdentifier.resourceName()).thenReturn("app.yaml");
 
@@ -375,9 +382,196 @@ class ResourceProcessorTest {
     when(providerResolver.resolve("classpath")).thenReturn(provider);
     when(provider.resolveResource(resourceIdentifier)).thenReturn(null);
 
-    List<Map<String, Object>> result = processor.load(location);
+    List<Configuration> result = processor.load(location, identifiers);
     assertTrue(result.isEmpty());
     verify(loaders, never()).create();
   }
+  @Test
+  @DisplayName("should keep prepared order when resources complete out of order in parallel")
+  void shouldKeepPreparedOrderWhenLoadingInParallel() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      var processor = new ResourceProcessor(providers, loaders,
+          providerCache, loaderCache, executor);
+      ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("base"));
+      var first = new DefaultResourceIdentifier("classpath", "first.yaml");
+      var second = new DefaultResourceIdentifier("classpath", "second.yaml");
+      var firstStream = new DefaultResourceStream("first.yaml", InputStream.nullInputStream());
+      var secondStream = new DefaultResourceStream("second.yaml", InputStream.nullInputStream());
+      var firstConfig = mock(Configuration.class);
+      var secondConfig = mock(Configuration.class);
+      var secondLoaded = new CountDownLatch(1);
+
+      when(location.baseDirectories()).thenReturn(dirs);
+      when(location.verboseLogging()).thenReturn(false);
+      List<ResourceIdentifier> identifiers = List.of(first, second);
+      when(providerCache.getOrCompute(eq(dirs), any())).thenReturn(providerResolver);
+      when(providerResolver.resolve("classpath")).thenReturn(provider);
+      when(provider.resolveResource(first)).thenAnswer(inv -> {
+        assertTrue(secondLoaded.await(5, TimeUnit.SECONDS));
+        return firstStream;
+      });
+      when(provider.resolveResource(second)).thenReturn(secondStream);
+      when(loaderCache.getOrCompute(eq("default"), any())).thenReturn(loaderResolver);
+      when(loaderResolver.resolve("yaml")).thenReturn(loader);
+      when(loader.load(firstStream)).thenReturn(firstConfig);
+      when(loader.load(secondStream)).thenAnswer(inv -> {
+        secondLoaded.countDown();
+        return secondConfig;
+      });
+
+      List<Configuration> result = processor.load(location, identifiers);
+
+      assertEquals(List.of(firstConfig, secondConfig), result);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("should load a repeated identifier once and keep each of its positions")
+  void shouldLoadRepeatedIdentifierOnce() throws Exception {
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache);
+    ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("base"));
+    var shared = new DefaultResourceIdentifier("classpath", "shared.yaml");
+    var own = new DefaultResourceIdentifier("classpath", "own.yaml");
+    var sharedStream = new DefaultResourceStream("shared.yaml", InputStream.nullInputStream());
+    var ownStream = new DefaultResourceStream("own.yaml", InputStream.nullInputStream());
+    var sharedConfig = mock(Configuration.class);
+    var ownConfig = mock(Configuration.class);
+
+    when(location.baseDirectories()).thenReturn(dirs);
+    when(providerCache.getOrCompute(eq(dirs), any())).thenReturn(providerResolver);
+    when(providerResolver.resolve("classpath")).thenReturn(provider);
+    when(provider.resolveResource(shared)).thenReturn(sharedStream);
+    when(provider.resolveResource(own)).thenReturn(ownStream);
+    when(loaderCache.getOrCompute(eq("default"), any())).thenReturn(loaderResolver);
+    when(loaderResolver.resolve("yaml")).thenReturn(loader);
+    when(loader.load(sharedStream)).thenReturn(sharedConfig);
+    when(loader.load(ownStream)).thenReturn(ownConfig);
+
+    List<Configuration> result = processor.load(location, List.of(shared, own, shared));
+
+    assertEquals(List.of(sharedConfig, ownConfig, sharedConfig), result);
+    verify(provider, times(1)).resolveResource(shared);
+    verify(loader, times(1)).load(sharedStream);
+  }
 
+  @Test
+  @DisplayName("should return distinct loaded fragments keyed by identifier")
+  void shouldReturnDistinctFragmentsByIdentifier() throws Exception {
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache);
+    ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("base"));
+    var found = new DefaultResourceIdentifier("classpath", "found.yaml");
+    var missing = new DefaultResourceIdentifier("classpath", "missing.yaml");
+    var stream = new DefaultResourceStream("found.yaml", InputStream.nullInputStream());
+
+    when(location.baseDirectories()).thenReturn(dirs);
+    when(providerCache.getOrCompute(eq(dirs), any())).thenReturn(providerResolver);
+    when(providerResolver.resolve("classpath")).thenReturn(provider);
+    when(provider.resolveResource(found)).thenReturn(stream);
+    when(provider.resolveResource(missing)).thenReturn(null);
+    when(loaderCache.getOrCompute(eq("default"), any())).thenReturn(loaderResolver);
+    when(loaderResolver.resolve("yaml")).thenReturn(loader);
+    when(loader.load(stream)).thenReturn(configuration);
+
+    Map<ResourceIdentifier, Configuration> result =
+        processor.loadDistinct(location, List.of(missing, found, missing));
+
+    assertEquals(Map.of(found, configuration), result);
+    assertThrows(UnsupportedOperationException.class, () -> result.remove(found));
+  }
+
+  @Test
+  @DisplayName("should reuse the parsed fragment of an unchanged resource across loads")
+  void shouldReuseParsedFragmentAcrossLoads() {
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache,
+        LoadExecutors.sequential(), new FragmentCache());
+    ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("base"));
+    var identifier = new DefaultResourceIdentifier("classpath", "app.yaml");
+
+    when(location.baseDirectories()).thenReturn(dirs);
+    when(providerCache.getOrCompute(eq(dirs), any())).thenReturn(providerResolver);
+    when(providerResolver.resolve("classpath")).thenReturn(provider);
+    when(provider.resolveResource(identifier)).thenAnswer(inv ->
+        new DefaultResourceStream("app.yaml", new ByteArrayInputStream(new byte[]{'a'})));
+    when(loaderCache.getOrCompute(eq("default"), any())).thenReturn(loaderResolver);
+    when(loaderResolver.resolve("yaml")).thenReturn(loader);
+    when(loader.load(any())).thenReturn(configuration);
+
+    List<Configuration> first = processor.load(location, List.of(identifier));
+    List<Configuration> second = processor.load(location, List.of(identifier));
+
+    assertEquals(List.of(configuration), first);
+    assertEquals(first, second);
+    verify(provider, times(2)).resolveResource(identifier);
+    verify(loader, times(1)).load(any());
+  }
+
+  @Test
+  @DisplayName("should skip a missing optional resource without resolving it as required")
+  void shouldSkipMissingOptionalResource() throws Exception {
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache);
+    ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("base"));
+    var required = new DefaultResourceIdentifier("classpath", "app.yaml");
+    var missing = new DefaultResourceIdentifier("classpath", "app-dev.yaml", true);
+    var stream = new DefaultResourceStream("app.yaml", InputStream.nullInputStream());
+
+    when(location.baseDirectories()).thenReturn(dirs);
+    when(location.verboseLogging()).thenReturn(false);
+    when(providerCache.getOrCompute(eq(dirs), any())).thenReturn(providerResolver);
+    when(providerResolver.resolve("classpath")).thenReturn(provider);
+    when(provider.resolveResource(required)).thenReturn(stream);
+    when(provider.tryResolveResource(missing)).thenReturn(Optional.empty());
+    when(loaderCache.getOrCompute(eq("default"), any())).thenReturn(loaderResolver);
+    when(loaderResolver.resolve("yaml")).thenReturn(loader);
+    when(loader.load(stream)).thenReturn(configuration);
+
+    List<Configuration> result = processor.load(location, List.of(required, missing));
+
+    assertEquals(List.of(configuration), result);
+    verify(provider, never()).resolveResource(missing);
+  }
+
+  @Test
+  @DisplayName("should load an optional resource that exists")
+  void shouldLoadExistingOptionalResource() throws Exception {
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache);
+    ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("base"));
+    var present = new DefaultResourceIdentifier("classpath", "app-dev.yaml", true);
+    var stream = new DefaultResourceStream("app-dev.yaml", InputStream.nullInputStream());
+
+    when(location.baseDirectories()).thenReturn(dirs);
+    when(location.verboseLogging()).thenReturn(false);
+    when(providerCache.getOrCompute(eq(dirs), any())).thenReturn(providerResolver);
+    when(providerResolver.resolve("classpath")).thenReturn(provider);
+    when(provider.tryResolveResource(present)).thenReturn(Optional.of(stream));
+    when(loaderCache.getOrCompute(eq("default"), any())).thenReturn(loaderResolver);
+    when(loaderResolver.resolve("yaml")).thenReturn(loader);
+    when(loader.load(stream)).thenReturn(configuration);
+
+    assertEquals(List.of(configuration), processor.load(location, List.of(present)));
+  }
+
+  @Test
+  @DisplayName("should fingerprint a missing resource as missing without resolving it strictly")
+  void shouldFingerprintMissingResourceAsMissing() {
+    var processor = new ResourceProcessor(providers, loaders, providerCache, loaderCache);
+    ImmutableConfigSet dirs = ImmutableConfigSet.of(Set.of("base"));
+    var missing = new DefaultResourceIdentifier("classpath", "app-dev.yaml");
+    var present = new DefaultResourceIdentifier("classpath", "app.yaml");
+    var fingerprint = new ResourceFingerprint(10, 1);
+    var stream = new DefaultResourceStream("app.yaml", InputStream.nullInputStream(), null,
+        fingerprint);
+
+    when(location.baseDirectories()).thenReturn(dirs);
+    when(providerCache.getOrCompute(eq(dirs), any())).thenReturn(providerResolver);
+    when(providerResolver.resolve("classpath")).thenReturn(provider);
+    when(provider.tryResolveResource(missing)).thenReturn(Optional.empty());
+    when(provider.tryResolveResource(present)).thenReturn(Optional.of(stream));
+
+    assertEquals(Optional.of(ResourceProcessor.MISSING), processor.fingerprint(location, missing));
+    assertEquals(Optional.of(fingerprint), processor.fingerprint(location, present));
+    verify(provider, never()).resolveResource(any());
+  }
 }
@@ -0,0 +1,121 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.CoercionAction;
+import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ScalarConverterTest {
+
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+  private final ScalarConverter converter = new ScalarConverter(mapper);
+
+  @Test
+  @DisplayName("should convert scalar nodes like Jackson does")
+  void shouldConvertLikeJackson() {
+    List<JsonNode> nodes = List.of(
+        TextNode.valueOf("text"), TextNode.valueOf("42"), TextNode.valueOf("+7"),
+        TextNode.valueOf("-0"), TextNode.valueOf("1.5"), TextNode.valueOf(".5"),
+        TextNode.valueOf("true"), TextNode.valueOf("false"), TextNode.valueOf("PT5S"),
+        TextNode.valueOf("-PT1M"), IntNode.valueOf(8080), LongNode.valueOf(5_000_000_000L),
+        BigIntegerNode.valueOf(BigInteger.TEN), DoubleNode.valueOf(0.25),
+        DecimalNode.valueOf(new BigDecimal("0.1")), BooleanNode.TRUE);
+    List<Type> types = List.of(String.class, Integer.class, int.class, Long.class, long.class,
+        Double.class, double.class, Boolean.class, boolean.class, Duration.class);
+
+    int converted = 0;
+    for (JsonNode node : nodes) {
+      for (Type type : types) {
+        Object value = converter.convert(node, type);
+        if (value != ScalarConverter.UNSUPPORTED) {
+          converted++;
+          assertEquals(mapper.convertValue(node, mapper.constructType(type)), value,
+              node + " as " + type);
+        }
+      }
+    }
+    assertTrue(converted > nodes.size());
+  }
+
+  @Test
+  @DisplayName("should leave ambiguous or invalid inputs to Jackson")
+  void shouldLeaveAmbiguousInputsToJackson() {
+    assertSame(ScalarConverter.UNSUPPORTED, converter.convert(TextNode.valueOf(" 42"), int.class));
+    assertSame(ScalarConverter.UNSUPPORTED, converter.convert(TextNode.valueOf("1e3"), int.class));
+    assertSame(ScalarConverter.UNSUPPORTED,
+        converter.convert(TextNode.valueOf("99999999999"), Integer.class));
+    assertSame(ScalarConverter.UNSUPPORTED,
+        converter.convert(LongNode.valueOf(5_000_000_000L), int.class));
+    assertSame(ScalarConverter.UNSUPPORTED, converter.convert(DoubleNode.valueOf(1.5), int.class));
+    assertSame(ScalarConverter.UNSUPPORTED,
+        converter.convert(TextNode.valueOf("True"), Boolean.class));
+    assertSame(ScalarConverter.UNSUPPORTED,
+        converter.convert(TextNode.valueOf("P5X"), Duration.class));
+    assertSame(ScalarConverter.UNSUPPORTED, converter.convert(IntNode.valueOf(5), String.class));
+    assertSame(ScalarConverter.UNSUPPORTED, converter.convert(NullNode.instance, Integer.class));
+    assertSame(ScalarConverter.UNSUPPORTED,
+        converter.convert(TextNode.valueOf("5"), BigDecimal.class));
+  }
+
+  @Test
+  @DisplayName("should not coerce text when the mapper disables the coercion")
+  void shouldFollowCoercionConfig() {
+    var strict = new ObjectMapper();
+    strict.coercionConfigFor(LogicalType.Integer)
+        .setCoercion(CoercionInputShape.String, CoercionAction.Fail);
+    var strictConverter = new ScalarConverter(strict);
+
+    assertSame(ScalarConverter.UNSUPPORTED,
+        strictConverter.convert(TextNode.valueOf("42"), Integer.class));
+    assertEquals(42, strictConverter.convert(IntNode.valueOf(42), Integer.class));
+  }
+
+  @Test
+  @DisplayName("should defer to Jackson when the mapper has custom modules")
+  void shouldDeferWhenMapperHasCustomModules() {
+    var custom = new ObjectMapper().registerModule(new SimpleModule("custom"));
+    var withoutTime = new ScalarConverter(new ObjectMapper());
+
+    assertSame(ScalarConverter.UNSUPPORTED,
+        new ScalarConverter(custom).convert(IntNode.valueOf(42), Integer.class));
+    assertSame(ScalarConverter.UNSUPPORTED,
+        withoutTime.convert(TextNode.valueOf("PT5S"), Duration.class));
+    assertEquals(42, withoutTime.convert(IntNode.valueOf(42), Integer.class));
+  }
+
+  @Test
+  @DisplayName("should recognize strictly formatted numbers only")
+  void shouldRecognizeStrictNumbers() {
+    assertTrue(ScalarConverter.isInteger("-12"));
+    assertFalse(ScalarConverter.isInteger("+"));
+    assertFalse(ScalarConverter.isInteger("1_000"));
+    assertTrue(ScalarConverter.isDecimal("1."));
+    assertTrue(ScalarConverter.isDecimal("-.5"));
+    assertFalse(ScalarConverter.isDecimal("."));
+    assertFalse(ScalarConverter.isDecimal("1.5.2"));
+    assertFalse(ScalarConverter.isDecimal("NaN"));
+  }
+}
@@ -0,0 +1,251 @@
+package io.github.liana.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.liana.config.api.Placeholder;
+import io.github.liana.config.api.ResourceLocation;
+import io.github.liana.config.core.exception.ResourceProviderException;
+import io.github.liana.config.core.logging.Logger;
+import io.github.liana.config.internal.ImmutableConfigMap;
+import io.github.liana.config.internal.ImmutableConfigSet;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotStoreTest {
+
+  private static final ResourceIdentifier APP =
+      new DefaultResourceIdentifier("classpath", "app.yaml");
+  private static final ResourceIdentifier PROFILE =
+      new DefaultResourceIdentifier("classpath", "app-dev.yaml");
+
+  private static final Placeholder PLACEHOLDER = Placeholder.builder().build();
+
+  @TempDir
+  Path directory;
+
+  @Mock
+  private ResourceLocation location;
+
+  @Mock
+  private ResourceProcessor processor;
+
+  private final Logger log = mock(Logger.class);
+  private final ObjectMapper mapper = new ObjectMapper();
+  private SnapshotStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new SnapshotStore(directory, mapper);
+  }
+
+  private void stubLocation(Map<String, String> variables) {
+    when(location.placeholder()).thenReturn(PLACEHOLDER);
+    when(location.baseDirectories()).thenReturn(ImmutableConfigSet.of(Set.of("config")));
+    when(location.variables()).thenReturn(ImmutableConfigMap.of(variables));
+  }
+
+  private ObjectNode manifest() {
+    return store.manifest(location, "dev", List.of(APP, PROFILE), processor, log).orElseThrow();
+  }
+
+  @Test
+  @DisplayName("should read back a tree written with an identical manifest")
+  void shouldReadBackTree() {
+    stubLocation(Map.of("region", "eu"));
+    when(processor.fingerprint(location, APP))
+        .thenReturn(Optional.of(new ResourceFingerprint(10, 1)));
+    when(processor.fingerprint(location, PROFILE))
+        .thenThrow(new ResourceProviderException("config resource not found: app-dev.yaml"));
+    JsonNode tree = mapper.createObjectNode().put("key", "value");
+
+    store.write(manifest(), tree, 1, Set.of(), log);
+
+    assertEquals(Optional.of(tree), store.read(manifest(), log));
+  }
+
+  @Test
+  @DisplayName("should treat a snapshot as outdated when a resource fingerprint changes")
+  void shouldTreatChangedFingerprintAsOutdated() {
+    stubLocation(Map.of());
+    when(processor.fingerprint(location, APP))
+        .thenReturn(Optional.of(new ResourceFingerprint(10, 1)))
+        .thenReturn(Optional.of(new ResourceFingerprint(10, 2)));
+    when(processor.fingerprint(location, PROFILE))
+        .thenReturn(Optional.of(new ResourceFingerprint(5, 1)));
+
+    store.write(manifest(), mapper.createObjectNode().put("key", "value"), 2, Set.of(), log);
+
+    assertEquals(Optional.empty(), store.read(manifest(), log));
+  }
+
+  @Test
+  @DisplayName("should treat a snapshot as outdated when a missing resource appears")
+  void shouldTreatAppearedResourceAsOutdated() {
+    stubLocation(Map.of());
+    when(processor.fingerprint(location, APP))
+        .thenReturn(Optional.of(new ResourceFingerprint(10, 1)));
+    when(processor.fingerprint(location, PROFILE))
+        .thenThrow(new ResourceProviderException("config resource not found: app-dev.yaml"))
+        .thenReturn(Optional.of(new ResourceFingerprint(5, 1)));
+
+    store.write(manifest(), mapper.createObjectNode().put("key", "value"), 1, Set.of(), log);
+
+    assertEquals(Optional.empty(), store.read(manifest(), log));
+  }
+
+  @Test
+  @DisplayName("should keep locations with different variables in different files")
+  void shouldSeparateLocationsByVariables() throws Exception {
+    when(processor.fingerprint(location, APP))
+        .thenReturn(Optional.of(new ResourceFingerprint(10, 1)));
+    when(processor.fingerprint(location, PROFILE))
+        .thenReturn(Optional.of(new ResourceFingerprint(5, 1)));
+    stubLocation(Map.of("region", "eu"));
+    ObjectNode eu = manifest();
+    stubLocation(Map.of("region", "us"));
+    ObjectNode us = manifest();
+
+    store.write(eu, mapper.createObjectNode().put("region", "eu"), 2, Set.of(), log);
+    store.write(us, mapper.createObjectNode().put("region", "us"), 2, Set.of(), log);
+
+    assertNotEquals(eu, us);
+    assertEquals("eu", store.read(eu, log).orElseThrow().get("region").asText());
+    assertEquals("us", store.read(us, log).orElseThrow().get("region").asText());
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(2, files.count());
+    }
+  }
+
+  @Test
+  @DisplayName("should not write a snapshot when an existing resource failed to load")
+  void shouldNotWriteIncompleteSnapshot() throws Exception {
+    stubLocation(Map.of());
+    when(processor.fingerprint(location, APP))
+        .thenReturn(Optional.of(new ResourceFingerprint(10, 1)));
+    when(processor.fingerprint(location, PROFILE))
+        .thenReturn(Optional.of(new ResourceFingerprint(5, 1)));
+    ObjectNode manifest = manifest();
+
+    store.write(manifest, mapper.createObjectNode().put("key", "value"), 1, Set.of(), log);
+
+    assertEquals(Optional.empty(), store.read(manifest, log));
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  @DisplayName("should not describe a location with a resource that cannot be fingerprinted")
+  void shouldNotDescribeUnfingerprintableLocation() {
+    when(location.placeholder()).thenReturn(PLACEHOLDER);
+    when(processor.fingerprint(location, APP)).thenReturn(Optional.empty());
+
+    assertTrue(store.manifest(location, "dev", List.of(APP, PROFILE), processor, log).isEmpty());
+  }
+
+  @Test
+  @DisplayName("should not describe a location whose placeholder reads more than the environment")
+  void shouldNotDescribeLocationWithOtherPropertySources() {
+    when(location.placeholder()).thenReturn(new DefaultPlaceholder("${", "}", ":", '\\',
+        List.of(PropertySources.fromEnv(), PropertySources.fromMap(Map.of("key", "value")))));
+
+    assertTrue(store.manifest(location, "dev", List.of(APP, PROFILE), processor, log).isEmpty());
+    verifyNoInteractions(processor);
+  }
+
+  @Test
+  @DisplayName("should record the environment variables a placeholder looks up")
+  void shouldRecordEnvironmentVariables() {
+    Set<String> names = new HashSet<>();
+    Placeholder recording = SnapshotStore.recording(PLACEHOLDER, names);
+
+    assertEquals(Optional.of("fallback"),
+        recording.replaceIfAllResolvable("${LIANA_SNAPSHOT_TEST_UNSET:fallback}", Map.of()));
+    assertEquals(Set.of("LIANA_SNAPSHOT_TEST_UNSET"), names);
+  }
+
+  @Test
+  @DisplayName("should treat a snapshot as outdated when a recorded variable changed")
+  void shouldTreatChangedEnvironmentAsOutdated() throws Exception {
+    stubLocation(Map.of());
+    when(processor.fingerprint(location, APP))
+        .thenReturn(Optional.of(new ResourceFingerprint(10, 1)));
+    when(processor.fingerprint(location, PROFILE))
+        .thenReturn(Optional.of(new ResourceFingerprint(5, 1)));
+    ObjectNode manifest = manifest();
+
+    store.write(manifest, mapper.createObjectNode().put("key", "value"), 2,
+        Set.of("LIANA_SNAPSHOT_TEST_UNSET"), log);
+    assertTrue(store.read(manifest, log).isPresent());
+
+    try (Stream<Path> files = Files.list(directory)) {
+      Path file = files.findFirst().orElseThrow();
+      ObjectNode stored = (ObjectNode) mapper.readTree(file.toFile());
+      ((ObjectNode) stored.get("environment")).put("digest", "recorded in another environment");
+      mapper.writeValue(file.toFile(), stored);
+    }
+
+    assertEquals(Optional.empty(), store.read(manifest, log));
+  }
+
+  @Test
+  @DisplayName("should ignore a missing or corrupt snapshot file")
+  void shouldIgnoreMissingOrCorruptFile() throws Exception {
+    stubLocation(Map.of());
+    when(processor.fingerprint(location, APP))
+        .thenReturn(Optional.of(new ResourceFingerprint(10, 1)));
+    when(processor.fingerprint(location, PROFILE))
+        .thenReturn(Optional.of(new ResourceFingerprint(5, 1)));
+    ObjectNode manifest = manifest();
+
+    assertEquals(Optional.empty(), store.read(manifest, log));
+
+    store.write(manifest, mapper.createObjectNode().put("key", "value"), 2, Set.of(), log);
+    try (Stream<Path> files = Files.list(directory)) {
+      Files.writeString(files.findFirst().orElseThrow(), "{ not json");
+    }
+
+    assertEquals(Optional.empty(), store.read(manifest, log));
+  }
+
+  @Test
+  @DisplayName("should do nothing when disabled")
+  void shouldDoNothingWhenDisabled() {
+    SnapshotStore disabled = SnapshotStore.disabled();
+
+    assertFalse(disabled.isEnabled());
+    assertTrue(disabled.manifest(location, "dev", List.of(APP), processor, log).isEmpty());
+    verifyNoInteractions(processor);
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException for null constructor arguments")
+  void shouldThrowForNullArguments() {
+    assertThrows(NullPointerException.class, () -> new SnapshotStore(null, mapper));
+    assertThrows(NullPointerException.class, () -> new SnapshotStore(directory, null));
+  }
+}
@@ -3,11 +3,13 @@ package io.github.liana.config.internal;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.github.liana.config.internal.ImmutableConfigSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -62,6 +64,21 @@ class ImmutableConfigSetTest {
     assertNotEquals(set1, set2);
   }
 
+  @Test
+  @DisplayName("should not be equal when sets contain the same elements in a different order")
+  void shouldReturnFalseForEqualsWhenOrderDiffers() {
+    ImmutableConfigSet set1 = ImmutableConfigSet.of(new LinkedHashSet<>(List.of("alpha", "beta")));
+    ImmutableConfigSet set2 = ImmutableConfigSet.of(new LinkedHashSet<>(List.of("beta", "alpha")));
+
+    assertNotEquals(set1, set2);
+  }
+
+  @Test
+  @DisplayName("should return the shared instance for empty()")
+  void shouldReturnSharedEmptyInstance() {
+    assertSame(ImmutableConfigSet.empty(), ImmutableConfigSet.empty());
+  }
+
   @Test
   @DisplayName("should return false for equals() when compared with null or different type")
   void shouldReturnFalseForEqualsWhenComparedWithNullOrDifferentType() {
@@ -0,0 +1,69 @@
+package io.github.liana.config.loaders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.liana.config.api.Configuration;
+import io.github.liana.config.core.DefaultResourceStream;
+import io.github.liana.config.core.FileFormat;
+import io.github.liana.config.core.ResourceParser;
+import io.github.liana.config.core.exception.ResourceLoaderException;
+import io.github.liana.config.spi.ResourceLoader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigTreeLoaderTest {
+
+  @Mock
+  private ResourceParser resourceParser;
+
+  private ResourceLoader loader;
+
+  @BeforeEach
+  void setUp() {
+    loader = new ConfigTreeLoader(resourceParser);
+  }
+
+  @Test
+  @DisplayName("should throw NullPointerException when ResourceParser is null")
+  void shouldThrowExceptionWhenParserIsNull() {
+    assertThrows(NullPointerException.class, () -> new ConfigTreeLoader(null));
+  }
+
+  @Test
+  @DisplayName("should return config tree as supported file format")
+  void shouldReturnConfigTreeAsSupportedFileFormat() {
+    assertEquals(FileFormat.CONFIG_TREE.getExtensions(), loader.getKeys());
+  }
+
+  @Test
+  @DisplayName("should parse the encoded tree with the given parser")
+  void shouldParseEncodedTree() throws IOException {
+    InputStream input = new ByteArrayInputStream("db.url=jdbc".getBytes());
+    Configuration configuration = mock(Configuration.class);
+    when(resourceParser.parse(input)).thenReturn(configuration);
+
+    assertSame(configuration, loader.load(new DefaultResourceStream("app.configtree", input)));
+  }
+
+  @Test
+  @DisplayName("should throw ResourceLoaderException when the tree cannot be parsed")
+  void shouldThrowWhenTreeCannotBeParsed() throws IOException {
+    InputStream input = new ByteArrayInputStream(new byte[0]);
+    when(resourceParser.parse(input)).thenThrow(new IOException("malformed"));
+
+    assertThrows(ResourceLoaderException.class,
+        () -> loader.load(new DefaultResourceStream("app.configtree", input)));
+  }
+}
@@ -0,0 +1,193 @@
+package io.github.liana.config.providers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClasspathIndexTest {
+
+  @TempDir
+  Path root;
+
+  private Path jar(String name, Manifest manifest, String... entries) throws IOException {
+    Path jar = root.resolve(name);
+    try (var out = manifest == null
+        ? new JarOutputStream(Files.newOutputStream(jar))
+        : new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+      for (String entry : entries) {
+        out.putNextEntry(new JarEntry(entry));
+        out.write("key: value".getBytes());
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  private static Manifest classPath(String value) {
+    var manifest = new Manifest();
+    manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+    manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, value);
+    return manifest;
+  }
+
+  private static URL url(String spec) throws IOException {
+    return new URL(null, spec, new URLStreamHandler() {
+      @Override
+      protected URLConnection openConnection(URL url) {
+        throw new UnsupportedOperationException();
+      }
+    });
+  }
+
+  private static URLClassLoader loader(Path... roots) throws IOException {
+    URL[] urls = new URL[roots.length];
+    for (int i = 0; i < roots.length; i++) {
+      urls[i] = roots[i].toUri().toURL();
+    }
+    return new URLClassLoader(urls, null);
+  }
+
+  @Test
+  @DisplayName("should rule out paths that no archive or directory on the class path holds")
+  void shouldRuleOutMissingPaths() throws IOException {
+    Path jar = jar("app.jar", null, "config/app.yaml", "app.properties", "com/example/App.class");
+    Path classes = Files.createDirectories(root.resolve("classes/config"));
+    Files.writeString(classes.resolve("local.yaml"), "key: value");
+
+    try (var loader = loader(jar, root.resolve("classes"))) {
+      ClasspathIndex index = ClasspathIndex.build(loader, List.of("config")).orElseThrow();
+
+      assertTrue(index.mayContain("config/app.yaml"));
+      assertTrue(index.mayContain("config/local.yaml"));
+      assertFalse(index.mayContain("config/app.yml"));
+      assertFalse(index.mayContain("app.properties"));
+      assertFalse(index.mayContain("com/example/app.yaml"));
+    }
+  }
+
+  @Test
+  @DisplayName("should see files added to a class path directory after the index was built")
+  void shouldSeeFilesAddedToDirectoryLater() throws IOException {
+    Path classes = Files.createDirectories(root.resolve("classes"));
+
+    try (var loader = loader(classes)) {
+      ClasspathIndex index = ClasspathIndex.build(loader, List.of("")).orElseThrow();
+      assertFalse(index.mayContain("app.yaml"));
+
+      Files.writeString(classes.resolve("app.yaml"), "key: value");
+
+      assertTrue(index.mayContain("app.yaml"));
+    }
+  }
+
+  @Test
+  @DisplayName("should list resources relative to their base directory")
+  void shouldListResourcesBelowBaseDirectory() throws IOException {
+    Path jar = jar("app.jar", null, "config/app.yaml", "config/app-dev.yaml", "other.yaml");
+    Path classes = Files.createDirectories(root.resolve("classes/config/profiles"));
+    Files.writeString(classes.resolve("app-test.yaml"), "key: value");
+
+    try (var loader = loader(jar, root.resolve("classes"))) {
+      ClasspathIndex index = ClasspathIndex.build(loader, List.of("config")).orElseThrow();
+
+      assertEquals(Set.of("app.yaml", "app-dev.yaml", "profiles/app-test.yaml"),
+          index.list("config"));
+    }
+  }
+
+  @Test
+  @DisplayName("should index only files with a configuration extension")
+  void shouldIndexOnlyConfigurationFiles() throws IOException {
+    Path jar = jar("app.jar", null, "config/app.yaml", "config/notes.txt", "config/App.class");
+
+    try (var loader = loader(jar)) {
+      ClasspathIndex index = ClasspathIndex.build(loader, List.of("config")).orElseThrow();
+
+      assertEquals(Set.of("app.yaml"), index.list("config"));
+      assertFalse(index.mayContain("config/app.json"));
+      assertTrue(index.mayContain("config/notes.txt"));
+    }
+  }
+
+  @Test
+  @DisplayName("should follow the Class-Path attribute of archives on the search path")
+  void shouldFollowManifestClassPath() throws IOException {
+    Files.createDirectories(root.resolve("lib"));
+    jar("lib/other.jar", null, "config/other.yaml");
+    Path classes = Files.createDirectories(root.resolve("classes/config"));
+    Files.writeString(classes.resolve("local.yaml"), "key: value");
+    Path pathing = jar("pathing.jar", classPath("lib/other.jar classes/ lib/missing.jar"));
+
+    try (var loader = loader(pathing)) {
+      ClasspathIndex index = ClasspathIndex.build(loader, List.of("config")).orElseThrow();
+
+      assertTrue(index.mayContain("config/other.yaml"));
+      assertTrue(index.mayContain("config/local.yaml"));
+      assertFalse(index.mayContain("config/app.yaml"));
+    }
+  }
+
+  @Test
+  @DisplayName("should index the nested archives and classes of an executable archive")
+  void shouldIndexNestedArchives() throws IOException {
+    byte[] library = Files.readAllBytes(jar("library.jar", null, "config/library.yaml"));
+    Path fat = root.resolve("fat.jar");
+    try (var out = new JarOutputStream(Files.newOutputStream(fat))) {
+      out.putNextEntry(new JarEntry("BOOT-INF/classes/config/app.yaml"));
+      out.write("key: value".getBytes());
+      out.closeEntry();
+      out.putNextEntry(new JarEntry("BOOT-INF/lib/library.jar"));
+      out.write(library);
+      out.closeEntry();
+    }
+    String path = fat.toUri().getRawPath();
+
+    try (var nested = new URLClassLoader(new URL[]{
+        url("jar:nested:" + path + "/!BOOT-INF/classes/!/"),
+        url("jar:nested:" + path + "/!BOOT-INF/lib/library.jar!/")}, null);
+        var legacy = new URLClassLoader(new URL[]{
+            url("jar:file:" + path + "!/BOOT-INF/classes!/"),
+            url("jar:file:" + path + "!/BOOT-INF/lib/library.jar!/")}, null)) {
+      for (URLClassLoader loader : List.of(nested, legacy)) {
+        ClasspathIndex index = ClasspathIndex.build(loader, List.of("config")).orElseThrow();
+
+        assertTrue(index.mayContain("config/app.yaml"));
+        assertTrue(index.mayContain("config/library.yaml"));
+        assertFalse(index.mayContain("config/app.yml"));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("should not build an index when the search path cannot be enumerated")
+  void shouldNotBuildIndexForUnknownSearchPath() throws IOException {
+    Path jar = jar("app.jar", classPath("http://localhost/other.jar"), "app.yaml");
+    var custom = new ClassLoader(null) {
+    };
+
+    try (var loader = loader(jar);
+        var remote = new URLClassLoader(new URL[]{new URL("http://localhost/app.jar")}, null)) {
+      assertEquals(Optional.empty(), ClasspathIndex.build(loader, List.of("")));
+      assertEquals(Optional.empty(), ClasspathIndex.build(remote, List.of("")));
+      assertEquals(Optional.empty(), ClasspathIndex.build(custom, List.of("")));
+    }
+  }
+}
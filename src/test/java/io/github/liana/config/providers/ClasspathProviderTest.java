@@ -1,6 +1,7 @@
 package io.github.liana.config.providers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -8,17 +9,33 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.github.liana.config.core.ResourceFingerprint;
 import io.github.liana.config.core.ResourceIdentifier;
 import io.github.liana.config.core.ResourceStream;
 import io.github.liana.config.core.exception.ResourceProviderException;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -38,6 +55,32 @@ class ClasspathProviderTest {
     classpathProvider = new ClasspathProvider(classLoader, List.of(""));
   }
 
+  /**
+   * Returns a URL whose connection serves {@code stream}, as a class loader would return for a
+   * resource outside the file system.
+   */
+  private static URL url(InputStream stream) {
+    try {
+      return new URL(null, "memory:resource", new URLStreamHandler() {
+        @Override
+        protected URLConnection openConnection(URL url) {
+          return new URLConnection(url) {
+            @Override
+            public void connect() {
+            }
+
+            @Override
+            public InputStream getInputStream() {
+              return stream;
+            }
+          };
+        }
+      });
+    } catch (MalformedURLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   @Test
   @DisplayName("should return singleton key 'classpath'")
   void shouldReturnClasspathKey() {
@@ -53,7 +96,7 @@ class ClasspathProviderTest {
     InputStream expectedStream = new ByteArrayInputStream("content".getBytes());
 
     when(resourceIdentifier.resourceName()).thenReturn(resourceName);
-    when(classLoader.getResourceAsStream(resourceName)).thenReturn(expectedStream);
+    when(classLoader.getResource(resourceName)).thenReturn(url(expectedStream));
 
     ResourceStream result = classpathProvider.resolveResource(resourceIdentifier);
 
@@ -61,7 +104,7 @@ class ClasspathProviderTest {
     assertEquals(resourceName, result.name());
     assertSame(expectedStream, result.stream());
 
-    verify(classLoader).getResourceAsStream(resourceName);
+    verify(classLoader).getResource(resourceName);
   }
 
   @Test
@@ -72,17 +115,17 @@ class ClasspathProviderTest {
     String resolved = "test.yaml";
 
     when(resourceIdentifier.resourceName()).thenReturn(resourceName);
-    when(classLoader.getResourceAsStream("test.properties")).thenReturn(null);
-    when(classLoader.getResourceAsStream("test.yaml"))
-        .thenReturn(new ByteArrayInputStream("abc".getBytes()));
+    when(classLoader.getResource("test.properties")).thenReturn(null);
+    when(classLoader.getResource("test.yaml"))
+        .thenReturn(url(new ByteArrayInputStream("abc".getBytes())));
 
     ResourceStream result = classpathProvider.resolveResource(resourceIdentifier);
 
     assertNotNull(result);
     assertEquals(resolved, result.name());
 
-    verify(classLoader).getResourceAsStream("test.properties");
-    verify(classLoader).getResourceAsStream("test.yaml");
+    verify(classLoader).getResource("test.properties");
+    verify(classLoader).getResource("test.yaml");
   }
 
   @Test
@@ -92,7 +135,7 @@ class ClasspathProviderTest {
     String resourceName = "notfound.yml";
 
     when(resourceIdentifier.resourceName()).thenReturn(resourceName);
-    when(classLoader.getResourceAsStream(resourceName)).thenReturn(null);
+    when(classLoader.getResource(resourceName)).thenReturn(null);
 
     ResourceProviderException ex = assertThrows(
         ResourceProviderException.class,
@@ -101,7 +144,32 @@ class ClasspathProviderTest {
 
     assertEquals("config resource not found: " + resourceName, ex.getMessage());
 
-    verify(classLoader).getResourceAsStream(resourceName);
+    verify(classLoader).getResource(resourceName);
+  }
+
+  @Test
+  @DisplayName("should report a missing resource as empty when resolved optionally")
+  void shouldReportMissingResourceAsEmpty() {
+    when(resourceIdentifier.resourceName()).thenReturn("missing");
+
+    assertEquals(Optional.empty(), classpathProvider.tryResolveResource(resourceIdentifier));
+
+    verify(classLoader).getResource("missing.properties");
+    verify(classLoader).getResource("missing.yaml");
+    verify(classLoader).getResource("missing.yml");
+  }
+
+  @Test
+  @SuppressWarnings("resource")
+  @DisplayName("should return the resource when resolved optionally and found")
+  void shouldReturnResourceWhenResolvedOptionally() {
+    InputStream expectedStream = new ByteArrayInputStream("content".getBytes());
+    when(resourceIdentifier.resourceName()).thenReturn("test.yml");
+    when(classLoader.getResource("test.yml")).thenReturn(url(expectedStream));
+
+    Optional<ResourceStream> result = classpathProvider.tryResolveResource(resourceIdentifier);
+
+    assertSame(expectedStream, result.orElseThrow().stream());
   }
 
   @Test
@@ -144,13 +212,13 @@ class ClasspathProviderTest {
       InputStream stream = new ByteArrayInputStream("x".getBytes());
 
       when(resourceIdentifier.resourceName()).thenReturn(resourceName);
-      when(classLoader.getResourceAsStream(resourceName)).thenReturn(stream);
+      when(classLoader.getResource(resourceName)).thenReturn(url(stream));
 
       ResourceStream result = providerUsingThreadCL.resolveResource(resourceIdentifier);
 
       assertNotNull(result);
       assertSame(stream, result.stream());
-      verify(classLoader).getResourceAsStream(resourceName);
+      verify(classLoader).getResource(resourceName);
 
     } finally {
       Thread.currentThread().setContextClassLoader(original);
@@ -166,13 +234,13 @@ class ClasspathProviderTest {
 
     when(resourceIdentifier.resourceName()).thenReturn("test.yml");
 
-    when(loader.getResourceAsStream("config/test.yml")).thenReturn(null);
-    when(loader.getResourceAsStream("app/test.yml")).thenReturn(null);
+    when(loader.getResource("config/test.yml")).thenReturn(null);
+    when(loader.getResource("app/test.yml")).thenReturn(null);
 
     assertThrows(ResourceProviderException.class, () -> provider.resolveResource(resourceIdentifier));
 
-    verify(loader).getResourceAsStream("config/test.yml");
-    verify(loader).getResourceAsStream("app/test.yml");
+    verify(loader).getResource("config/test.yml");
+    verify(loader).getResource("app/test.yml");
   }
 
   @Test
@@ -183,13 +251,13 @@ class ClasspathProviderTest {
     ClasspathProvider provider = new ClasspathProvider(loader, null);
 
     when(resourceIdentifier.resourceName()).thenReturn("file.yml");
-    when(loader.getResourceAsStream("file.yml")).thenReturn(null);
-    when(loader.getResourceAsStream("config/file.yml")).thenReturn(null);
+    when(loader.getResource("file.yml")).thenReturn(null);
+    when(loader.getResource("config/file.yml")).thenReturn(null);
 
     assertThrows(ResourceProviderException.class, () -> provider.resolveResource(resourceIdentifier));
 
-    verify(loader).getResourceAsStream("file.yml");
-    verify(loader).getResourceAsStream("config/file.yml");
+    verify(loader).getResource("file.yml");
+    verify(loader).getResource("config/file.yml");
   }
 
   @Test
@@ -200,13 +268,13 @@ class ClasspathProviderTest {
     ClasspathProvider provider = new ClasspathProvider(loader, List.of());
 
     when(resourceIdentifier.resourceName()).thenReturn("file.yml");
-    when(loader.getResourceAsStream("file.yml")).thenReturn(null);
-    when(loader.getResourceAsStream("config/file.yml")).thenReturn(null);
+    when(loader.getResource("file.yml")).thenReturn(null);
+    when(loader.getResource("config/file.yml")).thenReturn(null);
 
     assertThrows(ResourceProviderException.class, () -> provider.resolveResource(resourceIdentifier));
 
-    verify(loader).getResourceAsStream("file.yml");
-    verify(loader).getResourceAsStream("config/file.yml");
+    verify(loader).getResource("file.yml");
+    verify(loader).getResource("config/file.yml");
   }
 
   @Test
@@ -216,9 +284,9 @@ class ClasspathProviderTest {
     String resourceName = "missing";
 
     when(resourceIdentifier.resourceName()).thenReturn(resourceName);
-    when(classLoader.getResourceAsStream("missing.properties")).thenReturn(null);
-    when(classLoader.getResourceAsStream("missing.yaml")).thenReturn(null);
-    when(classLoader.getResourceAsStream("missing.yml")).thenReturn(null);
+    when(classLoader.getResource("missing.properties")).thenReturn(null);
+    when(classLoader.getResource("missing.yaml")).thenReturn(null);
+    when(classLoader.getResource("missing.yml")).thenReturn(null);
 
     ResourceProviderException ex = assertThrows(ResourceProviderException.class,
         () -> classpathProvider.resolveResource(resourceIdentifier));
@@ -228,8 +296,124 @@ class ClasspathProviderTest {
         ex.getMessage()
     );
 
-    verify(classLoader).getResourceAsStream("missing.properties");
-    verify(classLoader).getResourceAsStream("missing.yaml");
-    verify(classLoader).getResourceAsStream("missing.yml");
+    verify(classLoader).getResource("missing.properties");
+    verify(classLoader).getResource("missing.yaml");
+    verify(classLoader).getResource("missing.yml");
+  }
+
+  @Test
+  @DisplayName("should report the backing file of a resource found in a class path directory")
+  void shouldReportBackingFileForDirectoryResource(@TempDir Path root) throws Exception {
+    Path file = Files.writeString(root.resolve("app.yaml"), "key: value");
+
+    try (var loader = new URLClassLoader(new URL[]{root.toUri().toURL()}, null)) {
+      var provider = new ClasspathProvider(loader, List.of(""));
+      when(resourceIdentifier.resourceName()).thenReturn("app.yaml");
+
+      try (ResourceStream result = provider.resolveResource(resourceIdentifier)) {
+        assertEquals(Optional.of(file.toRealPath()), result.sourceFile().map(this::realPath));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("should not report a backing file when the class loader has no file URL")
+  void shouldNotReportBackingFileWithoutFileUrl() throws Exception {
+    when(resourceIdentifier.resourceName()).thenReturn("test.yml");
+    when(classLoader.getResource("test.yml"))
+        .thenReturn(url(new ByteArrayInputStream("content".getBytes())));
+
+    try (ResourceStream result = classpathProvider.resolveResource(resourceIdentifier)) {
+      assertEquals(Optional.empty(), result.sourceFile());
+    }
+  }
+
+  private Path realPath(Path path) {
+    try {
+      return path.toRealPath();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Test
+  @DisplayName("should fingerprint a file resource by size and modification time")
+  void shouldFingerprintFileResource(@TempDir Path root) throws Exception {
+    Path file = Files.writeString(root.resolve("app.yaml"), "key: value");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+
+    try (var loader = new URLClassLoader(new URL[]{root.toUri().toURL()}, null)) {
+      var provider = new ClasspathProvider(loader, List.of(""));
+      when(resourceIdentifier.resourceName()).thenReturn("app.yaml");
+
+      ResourceFingerprint before;
+      try (ResourceStream result = provider.resolveResource(resourceIdentifier)) {
+        before = result.fingerprint().orElseThrow();
+      }
+      Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000));
+      ResourceFingerprint after;
+      try (ResourceStream result = provider.resolveResource(resourceIdentifier)) {
+        after = result.fingerprint().orElseThrow();
+      }
+
+      assertEquals(10, before.length());
+      assertNotEquals(before, after);
+    }
+  }
+
+  @Test
+  @DisplayName("should fingerprint a jar entry by its recorded size and CRC")
+  void shouldFingerprintJarEntry(@TempDir Path root) throws Exception {
+    byte[] content = "key: value".getBytes();
+    Path jar = root.resolve("config.jar");
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new JarEntry("app.yaml"));
+      out.write(content);
+      out.closeEntry();
+    }
+    var crc = new CRC32();
+    crc.update(content);
+
+    try (var loader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+      var provider = new ClasspathProvider(loader, List.of(""));
+      when(resourceIdentifier.resourceName()).thenReturn("app.yaml");
+
+      try (ResourceStream result = provider.resolveResource(resourceIdentifier)) {
+        assertEquals(Optional.of(new ResourceFingerprint(content.length, crc.getValue())),
+            result.fingerprint());
+        assertEquals(Optional.empty(), result.sourceFile());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("should resolve resources through the class path index")
+  void shouldResolveThroughIndex(@TempDir Path root) throws Exception {
+    Path jar = root.resolve("config.jar");
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      for (String name : List.of("config/app.yml", "config/app-dev.yml", "readme.txt")) {
+        out.putNextEntry(new JarEntry(name));
+        out.write("key: value".getBytes());
+        out.closeEntry();
+      }
+    }
+
+    try (var loader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+      var provider = new ClasspathProvider(loader, List.of("", "config"));
+      when(resourceIdentifier.resourceName()).thenReturn("app");
+
+      try (ResourceStream result = provider.resolveResource(resourceIdentifier)) {
+        assertEquals("app.yml", result.name());
+        assertEquals("key: value", new String(result.stream().readAllBytes()));
+      }
+      assertEquals(Optional.of(Set.of("readme.txt", "config/app.yml", "config/app-dev.yml",
+          "app.yml", "app-dev.yml")), provider.availableResources().map(Set::copyOf));
+    }
+  }
+
+  @Test
+  @DisplayName("should not list resources when the class loader cannot be enumerated")
+  void shouldNotListResourcesForUnknownClassLoader() {
+    assertEquals(Optional.empty(), classpathProvider.availableResources());
   }
 }
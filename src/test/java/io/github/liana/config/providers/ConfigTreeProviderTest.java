@@ -0,0 +1,175 @@
+package io.github.liana.config.providers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.liana.config.core.DefaultResourceIdentifier;
+import io.github.liana.config.core.ResourceFingerprint;
+import io.github.liana.config.core.ResourceStream;
+import io.github.liana.config.core.exception.ResourceProviderException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigTreeProviderTest {
+
+  @TempDir
+  Path directory;
+
+  private ConfigTreeProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    provider = new ConfigTreeProvider(List.of(directory.toString()));
+  }
+
+  private static DefaultResourceIdentifier resource(String name) {
+    return new DefaultResourceIdentifier("configtree", name);
+  }
+
+  private static Properties read(ResourceStream stream) throws IOException {
+    try (stream) {
+      var properties = new Properties();
+      properties.load(stream.stream());
+      return properties;
+    }
+  }
+
+  /**
+   * Lays out {@code tree} the way Kubernetes mounts a volume: the files live in a timestamped
+   * directory, {@code ..data} links to it, and each key is a link through {@code ..data}.
+   */
+  private static void mount(Path tree, String version, Map<String, String> files)
+      throws IOException {
+    Path target = Files.createDirectories(tree.resolve(version));
+    for (Map.Entry<String, String> file : files.entrySet()) {
+      Files.writeString(target.resolve(file.getKey()), file.getValue());
+    }
+    Path staging = tree.resolve("..data_tmp");
+    Files.createSymbolicLink(staging, Path.of(version));
+    Files.move(staging, tree.resolve(ConfigTreeProvider.DATA_LINK),
+        java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+    for (String key : files.keySet()) {
+      Path link = tree.resolve(key);
+      if (!Files.exists(link, java.nio.file.LinkOption.NOFOLLOW_LINKS)) {
+        Files.createSymbolicLink(link, Path.of(ConfigTreeProvider.DATA_LINK, key));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("should return singleton key 'configtree'")
+  void shouldReturnConfigTreeKey() {
+    assertEquals(Set.of("configtree"), provider.getKeys());
+  }
+
+  @Test
+  @DisplayName("should read one key per file, prefixing keys of subdirectories")
+  void shouldReadOneKeyPerFile() throws IOException {
+    Path tree = Files.createDirectories(directory.resolve("app"));
+    Files.writeString(tree.resolve("db.url"), "jdbc:h2:mem\n");
+    Files.writeString(tree.resolve("db.password"), "s3cr3t");
+    Files.writeString(tree.resolve("banner"), "line 1\nline 2\r\n");
+    Files.writeString(tree.resolve(".hidden"), "ignored");
+    Files.createDirectories(tree.resolve("cache"));
+    Files.writeString(tree.resolve("cache/ttl"), "30");
+
+    ResourceStream result = provider.resolveResource(resource("app"));
+
+    assertEquals("app.configtree", result.name());
+    Properties properties = read(result);
+    assertEquals(4, properties.size());
+    assertEquals("jdbc:h2:mem", properties.getProperty("db.url"));
+    assertEquals("s3cr3t", properties.getProperty("db.password"));
+    assertEquals("line 1\nline 2", properties.getProperty("banner"));
+    assertEquals("30", properties.getProperty("cache.ttl"));
+  }
+
+  @Test
+  @DisplayName("should scan a plain directory on every resolution")
+  void shouldScanPlainDirectoryEveryTime() throws IOException {
+    Path tree = Files.createDirectories(directory.resolve("app"));
+    Files.writeString(tree.resolve("key"), "before");
+
+    ResourceStream first = provider.resolveResource(resource("app"));
+
+    assertEquals(Optional.empty(), first.fingerprint());
+    assertEquals(Optional.empty(), first.sourceFile());
+    assertEquals("before", read(first).getProperty("key"));
+
+    Files.writeString(tree.resolve("key"), "after");
+
+    assertEquals("after", read(provider.resolveResource(resource("app"))).getProperty("key"));
+  }
+
+  @Test
+  @DisplayName("should scan a mounted volume again only after its data link is swapped")
+  void shouldRescanMountedVolumeOnlyAfterSwap() throws IOException {
+    Path tree = Files.createDirectories(directory.resolve("app"));
+    mount(tree, "..2024_01_01", Map.of("db.url", "first"));
+
+    ResourceStream first = provider.resolveResource(resource("app"));
+    ResourceFingerprint fingerprint = first.fingerprint().orElseThrow();
+
+    assertEquals(Optional.of(tree.resolve(ConfigTreeProvider.DATA_LINK)), first.sourceFile());
+    assertEquals("first", read(first).getProperty("db.url"));
+
+    Files.writeString(tree.resolve("..2024_01_01/db.url"), "edited in place");
+    ResourceStream unchanged = provider.resolveResource(resource("app"));
+
+    assertEquals(fingerprint, unchanged.fingerprint().orElseThrow());
+    assertEquals("first", read(unchanged).getProperty("db.url"));
+
+    mount(tree, "..2024_01_02", Map.of("db.url", "second"));
+    ResourceStream swapped = provider.resolveResource(resource("app"));
+
+    assertNotEquals(fingerprint, swapped.fingerprint().orElseThrow());
+    assertEquals("second", read(swapped).getProperty("db.url"));
+  }
+
+  @Test
+  @DisplayName("should throw ResourceProviderException when the directory does not exist")
+  void shouldThrowWhenDirectoryDoesNotExist() throws IOException {
+    Files.writeString(directory.resolve("file"), "not a directory");
+
+    assertThrows(ResourceProviderException.class,
+        () -> provider.resolveResource(resource("missing")));
+    assertThrows(ResourceProviderException.class,
+        () -> provider.resolveResource(resource("file")));
+  }
+
+  @Test
+  @DisplayName("should report a missing directory as empty when resolved optionally")
+  void shouldReportMissingDirectoryAsEmpty() throws IOException {
+    Files.writeString(Files.createDirectories(directory.resolve("app")).resolve("key"), "value");
+
+    assertEquals(Optional.empty(), provider.tryResolveResource(resource("missing")));
+    assertEquals("value",
+        read(provider.tryResolveResource(resource("app")).orElseThrow()).getProperty("key"));
+  }
+
+  @Test
+  @DisplayName("should reject names that escape the base directory")
+  void shouldRejectNamesOutsideBaseDirectory() throws IOException {
+    Path base = Files.createDirectories(directory.resolve("base"));
+    Files.createDirectories(directory.resolve("secrets"));
+    var scoped = new ConfigTreeProvider(List.of(base.toString()));
+
+    assertThrows(ResourceProviderException.class,
+        () -> scoped.resolveResource(resource("../secrets")));
+    assertFalse(Files.exists(base.resolve("secrets")));
+    assertTrue(Files.isDirectory(directory.resolve("secrets")));
+  }
+}
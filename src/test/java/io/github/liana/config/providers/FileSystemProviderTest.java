@@ -0,0 +1,299 @@
+package io.github.liana.config.providers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.liana.config.core.DefaultResourceIdentifier;
+import io.github.liana.config.core.ResourceFingerprint;
+import io.github.liana.config.core.ResourceStream;
+import io.github.liana.config.core.exception.ResourceProviderException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSystemProviderTest {
+
+  @TempDir
+  Path directory;
+
+  private FileSystemProvider provider(Path... directories) {
+    return new FileSystemProvider(List.of(directories).stream().map(Path::toString).toList());
+  }
+
+  private static DefaultResourceIdentifier resource(String name) {
+    return new DefaultResourceIdentifier("file", name);
+  }
+
+  private static String read(ResourceStream stream) throws IOException {
+    try (stream) {
+      return new String(stream.stream().readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  @Test
+  @DisplayName("should return singleton key 'file'")
+  void shouldReturnFileKey() {
+    assertEquals(Set.of("file"), provider(directory).getKeys());
+  }
+
+  @Test
+  @DisplayName("should read a file resolved against a base directory")
+  void shouldReadFileFromBaseDirectory() throws IOException {
+    Path file = Files.writeString(directory.resolve("app.yaml"), "key: value");
+
+    ResourceStream result = provider(directory).resolveResource(resource("app.yaml"));
+
+    assertEquals("app.yaml", result.name());
+    assertEquals(Optional.of(file), result.sourceFile());
+    assertEquals(Files.size(file), result.fingerprint().orElseThrow().length());
+    assertEquals("key: value", read(result));
+  }
+
+  @Test
+  @DisplayName("should read files in subdirectories of a base directory")
+  void shouldReadFileInSubdirectory() throws IOException {
+    Files.createDirectories(directory.resolve("nested"));
+    Files.writeString(directory.resolve("nested/app.json"), "{}");
+
+    ResourceStream result = provider(directory).resolveResource(resource("nested/app.json"));
+
+    assertEquals("{}", read(result));
+  }
+
+  @Test
+  @DisplayName("should read empty and large files")
+  void shouldReadEmptyAndLargeFiles() throws IOException {
+    byte[] large = new byte[1 << 20];
+    for (int i = 0; i < large.length; i++) {
+      large[i] = (byte) ('a' + i % 26);
+    }
+    Files.write(directory.resolve("large.properties"), large);
+    Files.write(directory.resolve("empty.properties"), new byte[0]);
+    FileSystemProvider provider = provider(directory);
+
+    try (ResourceStream result = provider.resolveResource(resource("large.properties"))) {
+      assertArrayEquals(large, result.stream().readAllBytes());
+    }
+    assertEquals("", read(provider.resolveResource(resource("empty.properties"))));
+  }
+
+  @Test
+  @DisplayName("should try default extensions in order when the name has no extension")
+  void shouldTryDefaultExtensions() throws IOException {
+    Files.writeString(directory.resolve("app.yml"), "from: yml");
+    Files.writeString(directory.resolve("app.yaml"), "from: yaml");
+
+    ResourceStream result = provider(directory).resolveResource(resource("app"));
+
+    assertEquals("app.yaml", result.name());
+    assertEquals("from: yaml", read(result));
+  }
+
+  @Test
+  @DisplayName("should search base directories in order")
+  void shouldSearchBaseDirectoriesInOrder() throws IOException {
+    Path first = Files.createDirectories(directory.resolve("first"));
+    Path second = Files.createDirectories(directory.resolve("second"));
+    Files.writeString(second.resolve("app.yaml"), "from: second");
+
+    FileSystemProvider provider = new FileSystemProvider(
+        List.of(first.toString(), second.toString()), Duration.ZERO);
+
+    assertEquals("from: second", read(provider.resolveResource(resource("app.yaml"))));
+
+    Files.writeString(first.resolve("app.yaml"), "from: first");
+
+    assertEquals("from: first", read(provider.resolveResource(resource("app.yaml"))));
+  }
+
+  @Test
+  @DisplayName("should reject names that escape the base directory")
+  void shouldRejectNamesOutsideBaseDirectory() throws IOException {
+    Path base = Files.createDirectories(directory.resolve("base"));
+    Path secret = Files.writeString(directory.resolve("secret.yaml"), "key: secret");
+    FileSystemProvider provider = provider(base);
+
+    assertThrows(ResourceProviderException.class,
+        () -> provider.resolveResource(resource("../secret.yaml")));
+    assertThrows(ResourceProviderException.class,
+        () -> provider.resolveResource(resource(secret.toString())));
+  }
+
+  @Test
+  @DisplayName("should throw ResourceProviderException when the file does not exist")
+  void shouldThrowWhenFileDoesNotExist() throws IOException {
+    Files.createDirectories(directory.resolve("app.yaml"));
+    FileSystemProvider provider = provider(directory);
+
+    assertThrows(ResourceProviderException.class,
+        () -> provider.resolveResource(resource("missing.yaml")));
+    assertThrows(ResourceProviderException.class,
+        () -> provider.resolveResource(resource("app.yaml")));
+    assertThrows(ResourceProviderException.class,
+        () -> provider.resolveResource(resource("missing")));
+  }
+
+  @Test
+  @DisplayName("should report a missing file as empty when resolved optionally")
+  void shouldReportMissingFileAsEmpty() throws IOException {
+    Files.writeString(directory.resolve("app.yaml"), "key: value");
+    FileSystemProvider provider = provider(directory);
+
+    assertEquals(Optional.empty(), provider.tryResolveResource(resource("missing.yaml")));
+    assertEquals(Optional.empty(), provider.tryResolveResource(resource("missing")));
+    assertEquals("key: value",
+        read(provider.tryResolveResource(resource("app")).orElseThrow()));
+  }
+
+  @Test
+  @DisplayName("should report every probed file as a candidate, found or not")
+  void shouldReportCandidateFiles() throws IOException {
+    Path first = Files.createDirectories(directory.resolve("first"));
+    Path second = directory.resolve("second");
+    FileSystemProvider provider = new FileSystemProvider(
+        List.of(first.toString(), second.toString()));
+
+    assertEquals(List.of(first.resolve("app-prod.yaml"), second.resolve("app-prod.yaml")),
+        provider.candidateFiles(resource("app-prod.yaml")));
+    assertEquals(List.of(first.resolve("app.properties"), second.resolve("app.properties"),
+            first.resolve("app.yaml"), second.resolve("app.yaml"),
+            first.resolve("app.yml"), second.resolve("app.yml")),
+        provider.candidateFiles(resource("app")));
+    assertEquals(List.of(), provider.candidateFiles(resource("../secret.yaml")));
+  }
+
+  @Test
+  @DisplayName("should throw when the resource identifier is invalid")
+  void shouldThrowWhenResourceIsInvalid() {
+    FileSystemProvider provider = provider(directory);
+
+    assertThrows(NullPointerException.class, () -> provider.resolveResource(null));
+    assertThrows(IllegalArgumentException.class,
+        () -> provider.resolveResource(resource(" ")));
+  }
+
+  @Test
+  @DisplayName("should default to the working directory and config when no directories are given")
+  void shouldDefaultBaseDirectories() {
+    assertTrue(new FileSystemProvider(null).getKeys().contains("file"));
+    assertTrue(new FileSystemProvider(List.of()).getKeys().contains("file"));
+  }
+
+  @Test
+  @DisplayName("should read the content anew while reporting an unchanged fingerprint")
+  void shouldReadContentOnEveryResolution() throws IOException {
+    Path file = Files.writeString(directory.resolve("app.yaml"), "key: before");
+    FileTime modified = Files.getLastModifiedTime(file);
+    FileSystemProvider provider = provider(directory);
+    ResourceFingerprint first = provider.resolveResource(resource("app.yaml")).fingerprint()
+        .orElseThrow();
+
+    Files.writeString(file, "key: after!");
+    Files.setLastModifiedTime(file, modified);
+    ResourceStream unchanged = provider.resolveResource(resource("app.yaml"));
+
+    assertEquals(first, unchanged.fingerprint().orElseThrow());
+    assertEquals("key: after!", read(unchanged));
+  }
+
+  @Test
+  @DisplayName("should not open the file until its stream is read")
+  void shouldNotOpenFileWhenResolving() throws IOException {
+    Path small = Files.writeString(directory.resolve("app.yaml"), "key: value");
+    Path large = Files.write(directory.resolve("large.yaml"),
+        new byte[FileSystemProvider.MAPPING_THRESHOLD]);
+    FileSystemProvider provider = provider(directory);
+    ResourceStream first = provider.resolveResource(resource("app.yaml"));
+    ResourceStream second = provider.resolveResource(resource("large.yaml"));
+
+    Files.delete(small);
+    Files.delete(large);
+
+    assertEquals(10, first.fingerprint().orElseThrow().length());
+    assertEquals(FileSystemProvider.MAPPING_THRESHOLD,
+        second.fingerprint().orElseThrow().length());
+    assertThrows(IOException.class, () -> read(first));
+    assertThrows(IOException.class, () -> read(second));
+  }
+
+  @Test
+  @DisplayName("should read the file again when its attributes change")
+  void shouldReadAgainWhenAttributesChange() throws IOException {
+    Path file = Files.writeString(directory.resolve("app.yaml"), "key: before");
+    FileTime modified = Files.getLastModifiedTime(file);
+    FileSystemProvider provider = provider(directory);
+    ResourceFingerprint first = provider.resolveResource(resource("app.yaml")).fingerprint()
+        .orElseThrow();
+
+    Path replacement = Files.writeString(directory.resolve("app.yaml.tmp"), "key: after!");
+    Files.setLastModifiedTime(replacement, modified);
+    Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING);
+    ResourceStream replaced = provider.resolveResource(resource("app.yaml"));
+
+    assertNotEquals(first, replaced.fingerprint().orElseThrow());
+    assertEquals("key: after!", read(replaced));
+
+    Files.writeString(file, "key: changed");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 5000));
+
+    assertEquals("key: changed", read(provider.resolveResource(resource("app.yaml"))));
+  }
+
+  @Test
+  @DisplayName("should report a missing file as missing until the TTL elapses")
+  void shouldRememberMissingFilesUntilTtlElapses() throws IOException {
+    AtomicLong now = new AtomicLong();
+    FileSystemProvider provider = new FileSystemProvider(List.of(directory.toString()),
+        Duration.ofSeconds(1), now::get);
+
+    assertThrows(ResourceProviderException.class,
+        () -> provider.resolveResource(resource("app-dev.yaml")));
+    Files.writeString(directory.resolve("app-dev.yaml"), "key: value");
+    now.addAndGet(Duration.ofMillis(999).toNanos());
+
+    assertThrows(ResourceProviderException.class,
+        () -> provider.resolveResource(resource("app-dev.yaml")));
+
+    now.addAndGet(Duration.ofMillis(1).toNanos());
+
+    assertEquals("key: value", read(provider.resolveResource(resource("app-dev.yaml"))));
+  }
+
+  @Test
+  @DisplayName("should look missing files up every time when the TTL is zero")
+  void shouldNotRememberMissingFilesWhenTtlIsZero() throws IOException {
+    FileSystemProvider provider = new FileSystemProvider(List.of(directory.toString()),
+        Duration.ZERO);
+
+    assertThrows(ResourceProviderException.class,
+        () -> provider.resolveResource(resource("app-dev.yaml")));
+    Files.writeString(directory.resolve("app-dev.yaml"), "key: value");
+
+    assertEquals("key: value", read(provider.resolveResource(resource("app-dev.yaml"))));
+  }
+
+  @Test
+  @DisplayName("should reject a null or negative missing-file TTL")
+  void shouldRejectInvalidMissingFileTtl() {
+    List<String> directories = List.of(directory.toString());
+
+    assertThrows(NullPointerException.class,
+        () -> new FileSystemProvider(directories, null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new FileSystemProvider(directories, Duration.ofSeconds(-1)));
+  }
+}